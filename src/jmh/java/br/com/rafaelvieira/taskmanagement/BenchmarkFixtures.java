@@ -0,0 +1,73 @@
+package br.com.rafaelvieira.taskmanagement;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.Priority;
+import br.com.rafaelvieira.taskmanagement.domain.enums.Role;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Category;
+import br.com.rafaelvieira.taskmanagement.domain.model.Squad;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Massa de dados determinística compartilhada pelos benchmarks JMH.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+public final class BenchmarkFixtures {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private BenchmarkFixtures() {}
+
+    public static User user(long id) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .fullName("User " + id)
+                .role(Role.MEMBER)
+                .build();
+    }
+
+    /** Tarefas com status, prioridade, datas e responsáveis variados, sempre a mesma semente */
+    public static List<Task> tasks(int count, int users, LocalDateTime now) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<User> owners = new ArrayList<>(users);
+        for (int i = 1; i <= users; i++) {
+            owners.add(user(i));
+        }
+        Category category = Category.builder().id(1L).name("Backend").build();
+        Squad squad = Squad.builder().id(1L).name("Alpha").build();
+
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = now.minusDays(random.nextInt(60));
+            tasks.add(
+                    Task.builder()
+                            .id((long) i + 1)
+                            .title("Task " + i)
+                            .description("<p>Descrição da tarefa " + i + "</p>")
+                            .status(STATUSES[random.nextInt(STATUSES.length)])
+                            .priority(PRIORITIES[random.nextInt(PRIORITIES.length)])
+                            .category(random.nextBoolean() ? category : null)
+                            .assignedUser(owners.get(random.nextInt(users)))
+                            .squad(random.nextInt(3) == 0 ? squad : null)
+                            .createdAt(createdAt)
+                            .updatedAt(createdAt)
+                            .dueDate(now.plusDays(random.nextInt(-10, 30)))
+                            .executionTimeMinutes(30 + random.nextInt(90))
+                            .pomodoroMinutes(25)
+                            .pomodoroBreakMinutes(5)
+                            .mainElapsedSeconds((long) random.nextInt(7200))
+                            .extraTimeMinutes(0)
+                            .version(0L)
+                            .build());
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.rafaelvieira.taskmanagement.config;
+
+import br.com.rafaelvieira.taskmanagement.domain.records.DashboardUpdateMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks da serialização do {@link DashboardUpdateMessage} com o ObjectMapper de {@link
+ * JacksonConfig}, indentado (perfil dev) e compacto (demais perfis).
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DashboardSerializationBenchmark {
+
+    private ObjectMapper indentedMapper;
+    private ObjectMapper compactMapper;
+    private DashboardUpdateMessage message;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        indentedMapper = JacksonConfig.createObjectMapper(true);
+        compactMapper = JacksonConfig.createObjectMapper(false);
+        message = DashboardUpdateMessage.create(12L, 4L, 87L, 3L, 10L, 40L, 25L, 6L);
+    }
+
+    @Benchmark
+    public byte[] indentedMapper() throws JsonProcessingException {
+        return indentedMapper.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public byte[] compactMapper() throws JsonProcessingException {
+        return compactMapper.writeValueAsBytes(message);
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.rafaelvieira.taskmanagement.config;
+
+import br.com.rafaelvieira.taskmanagement.concurrency.DatabaseConcurrencyLimiter;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Vazão do executor {@code @Async} de {@link AsyncConfig} em cada modo com uma rajada de tarefas
+ * que bloqueiam em I/O ({@code ioMillis}, simulando uma ida ao banco ou a um serviço externo). As
+ * variantes com permissões de banco aplicam o {@link DatabaseConcurrencyLimiter} com o tamanho do
+ * pool Hikari: em caminhos que dependem do banco o pool é o teto nos dois modos.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExecutionModeBenchmark {
+
+    private static final int TASKS = 1000;
+
+    @Param({"5"})
+    private long ioMillis;
+
+    @Param({"20"})
+    private int databasePermits;
+
+    private ThreadPoolTaskExecutor platform;
+    private SimpleAsyncTaskExecutor virtual;
+    private SimpleAsyncTaskExecutor virtualWithPermits;
+    private DatabaseConcurrencyLimiter limiter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        platform = (ThreadPoolTaskExecutor) new AsyncConfig().taskExecutor();
+        limiter = new DatabaseConcurrencyLimiter(databasePermits, Duration.ofSeconds(30));
+        virtual = new SimpleAsyncTaskExecutorBuilder().virtualThreads(true).build();
+        virtualWithPermits =
+                new SimpleAsyncTaskExecutorBuilder()
+                        .virtualThreads(true)
+                        .taskDecorator(limiter::wrap)
+                        .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platform.shutdown();
+        virtual.close();
+        virtualWithPermits.close();
+    }
+
+    /** Pool de plataforma 10-50 threads, fila 100; excedente roda na thread que publica */
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void platformPool() throws InterruptedException {
+        burst(platform, false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void virtualThreads() throws InterruptedException {
+        burst(virtual, false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void platformPoolWithDatabasePermits() throws InterruptedException {
+        burst(platform, true);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void virtualThreadsWithDatabasePermits() throws InterruptedException {
+        burst(virtualWithPermits, false);
+    }
+
+    private void burst(Executor executor, boolean limit) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Runnable io =
+                    () -> {
+                        try {
+                            Thread.sleep(ioMillis);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            done.countDown();
+                        }
+                    };
+            executor.execute(limit ? limiter.wrap(io) : io);
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.rafaelvieira.taskmanagement.controller;
+
+import br.com.rafaelvieira.taskmanagement.BenchmarkFixtures;
+import br.com.rafaelvieira.taskmanagement.domain.model.UserScore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark da busca linear da posição do usuário no ranking global ({@link
+ * RankingController#positionOf}), no melhor, médio e pior caso.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RankingPositionBenchmark {
+
+    @Param({"100", "10000"})
+    private int users;
+
+    private List<UserScore> rankings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rankings = new ArrayList<>(users);
+        for (int i = 1; i <= users; i++) {
+            rankings.add(
+                    UserScore.builder()
+                            .user(BenchmarkFixtures.user(i))
+                            .totalPoints((users - i) * 10)
+                            .build());
+        }
+    }
+
+    @Benchmark
+    public int topOfRanking() {
+        return RankingController.positionOf(rankings, 1L);
+    }
+
+    @Benchmark
+    public int middleOfRanking() {
+        return RankingController.positionOf(rankings, (long) users / 2);
+    }
+
+    @Benchmark
+    public int absentFromRanking() {
+        return RankingController.positionOf(rankings, -1L);
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.rafaelvieira.taskmanagement.service;
+
+import br.com.rafaelvieira.taskmanagement.BenchmarkFixtures;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.records.OpenTaskRow;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
+import br.com.rafaelvieira.taskmanagement.service.OpenTaskSnapshot.TimeColumn;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Varredura "vence nas próximas 2h" do {@code NotificationScheduler}: colunas do {@link
+ * OpenTaskSnapshot} contra o filtro sobre entidades que o job fazia após o {@code findAll()} (sem
+ * contar a leitura do banco).
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenTaskSnapshotBenchmark {
+
+    private static final int DUE_SOON =
+            OpenTaskSnapshot.ALL_OPEN & ~OpenTaskSnapshot.statusMask(TaskStatus.OVERDUE);
+
+    @Param({"1000", "50000"})
+    private int tasks;
+
+    private List<Task> entities;
+    private OpenTaskSnapshot snapshot;
+    private LocalDateTime now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        now = LocalDateTime.now();
+        entities = BenchmarkFixtures.tasks(tasks, 20, now);
+        for (Task task : entities) {
+            // Prazos espalhados em minutos para que parte caia na janela de 2h
+            task.setDueDate(now.plusMinutes(task.getId() % 4000 - 1000));
+        }
+        snapshot = new OpenTaskSnapshot(null, new AppMetrics(new SimpleMeterRegistry()));
+        snapshot.load(
+                entities.stream()
+                        .map(
+                                task ->
+                                        new OpenTaskRow(
+                                                task.getId(),
+                                                task.getStatus(),
+                                                task.getDueDate(),
+                                                task.getScheduledStartAt()))
+                        .toList());
+    }
+
+    @Benchmark
+    public int snapshotScan(Blackhole blackhole) {
+        return snapshot.forEachBetween(
+                DUE_SOON, TimeColumn.DUE_DATE, now, now.plusHours(2), blackhole::consume);
+    }
+
+    @Benchmark
+    public int entityScan(Blackhole blackhole) {
+        LocalDateTime limit = now.plusHours(2);
+        int matched = 0;
+        for (Task task : entities) {
+            TaskStatus status = task.getStatus();
+            if (status == TaskStatus.DONE
+                    || status == TaskStatus.CANCELLED
+                    || status == TaskStatus.OVERDUE
+                    || task.getDueDate() == null) {
+                continue;
+            }
+            if (task.getDueDate().isAfter(now) && task.getDueDate().isBefore(limit)) {
+                blackhole.consume(task.getId());
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.rafaelvieira.taskmanagement.service;
+
+import br.com.rafaelvieira.taskmanagement.BenchmarkFixtures;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskStateDiff;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.JacksonJsonMessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Frames por segundo do fan-out de um {@link TaskStateDiff} (tópico da squad + fila de cada
+ * destinatário) até o canal do broker, com os conversores que o Spring Boot registra no template.
+ * {@code perDestination*} reproduzem o envio anterior, com um {@code convertAndSend} por destino;
+ * {@code encodeOnce} é o {@link WebSocketService#sendTaskState}, que serializa uma vez só.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StompFanoutBenchmark {
+
+    private static final int RECIPIENTS = 20;
+    private static final int FRAMES = RECIPIENTS + 1;
+    private static final long SQUAD_ID = 7L;
+
+    private SimpMessagingTemplate indentedTemplate;
+    private SimpMessagingTemplate compactTemplate;
+    private WebSocketService webSocketService;
+    private List<String> recipients;
+    private TaskStateDiff diff;
+    private long bytesSent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MessageChannel brokerChannel =
+                (message, timeout) -> {
+                    bytesSent += ((byte[]) message.getPayload()).length;
+                    return true;
+                };
+        indentedTemplate = template(brokerChannel, true);
+        compactTemplate = template(brokerChannel, false);
+        webSocketService =
+                new WebSocketService(compactTemplate, new AppMetrics(new SimpleMeterRegistry()));
+        recipients = IntStream.range(0, RECIPIENTS).mapToObj(i -> "user" + i).toList();
+        LocalDateTime now = LocalDateTime.of(2025, 12, 1, 9, 0);
+        diff = TaskStateDiff.of(BenchmarkFixtures.tasks(1, 1, now).getFirst(), TaskStatus.TODO);
+    }
+
+    /** Envio anterior com o mapper indentado (perfil dev e ObjectMapper antigo do WebConfig) */
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public long perDestinationIndented() {
+        return sendPerDestination(indentedTemplate);
+    }
+
+    /** Envio anterior já com o mapper compacto: isola o ganho de serializar uma vez só */
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public long perDestinationCompact() {
+        return sendPerDestination(compactTemplate);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public long encodeOnce() {
+        webSocketService.sendTaskState(SQUAD_ID, recipients, diff);
+        return bytesSent;
+    }
+
+    private long sendPerDestination(SimpMessagingTemplate template) {
+        template.convertAndSend("/topic/squad/" + SQUAD_ID + "/task-state", diff);
+        for (String username : recipients) {
+            template.convertAndSendToUser(username, "/queue/task-state", diff);
+        }
+        return bytesSent;
+    }
+
+    /** Mesma cadeia de conversores do template configurado pelo Spring Boot */
+    private static SimpMessagingTemplate template(MessageChannel channel, boolean indent) {
+        JsonMapper mapper =
+                JsonMapper.builder().configure(SerializationFeature.INDENT_OUTPUT, indent).build();
+        SimpMessagingTemplate template = new SimpMessagingTemplate(channel);
+        template.setMessageConverter(
+                new CompositeMessageConverter(
+                        List.of(
+                                new StringMessageConverter(),
+                                new ByteArrayMessageConverter(),
+                                new JacksonJsonMessageConverter(mapper))));
+        return template;
+    }
+}
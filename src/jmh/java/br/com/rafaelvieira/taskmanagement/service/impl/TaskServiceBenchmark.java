@@ -0,0 +1,143 @@
+package br.com.rafaelvieira.taskmanagement.service.impl;
+
+import br.com.rafaelvieira.taskmanagement.BenchmarkFixtures;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskFilterRow;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskRecord;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.service.TaskFilterIndex;
+import br.com.rafaelvieira.taskmanagement.web.dto.TaskFilterForm;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Benchmarks da conversão entidade → record e do {@code searchTasks} nos dois caminhos: o pipeline
+ * de filtros sobre a lista completa de tarefas visíveis (usado enquanto o {@link TaskFilterIndex}
+ * não foi carregado) e a interseção de bitmaps do índice seguida da leitura só da página. A leitura
+ * do banco não entra na medição, o que favorece o caminho sem índice.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskServiceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int taskCount;
+
+    private List<Task> tasks;
+    private TaskServiceImpl taskService;
+    private TaskServiceImpl indexedService;
+    private User member;
+    private TaskFilterForm filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        tasks = BenchmarkFixtures.tasks(taskCount, 20, now);
+        member = BenchmarkFixtures.user(1L);
+
+        TaskRepository repository = tasksRepository(tasks);
+        taskService = service(repository, new TaskFilterIndex(repository));
+        TaskFilterIndex index = new TaskFilterIndex(repository);
+        index.reload();
+        indexedService = service(repository, index);
+
+        filter = new TaskFilterForm();
+        filter.setStatus(TaskStatus.TODO);
+        filter.setCreatedFrom(LocalDate.now().minusDays(30));
+        filter.setDueTo(LocalDate.now().plusDays(20));
+    }
+
+    @Benchmark
+    public void convertTo(Blackhole blackhole) {
+        for (Task task : tasks) {
+            blackhole.consume(TaskServiceImpl.convertTo(task));
+        }
+    }
+
+    @Benchmark
+    public Page<TaskRecord> searchTasksFiltered() {
+        return taskService.searchTasks(filter, PageRequest.of(0, 20), member);
+    }
+
+    @Benchmark
+    public Page<TaskRecord> searchTasksUnfiltered() {
+        return taskService.searchTasks(new TaskFilterForm(), PageRequest.of(0, 20), member);
+    }
+
+    @Benchmark
+    public Page<TaskRecord> searchTasksFilteredIndexed() {
+        return indexedService.searchTasks(filter, PageRequest.of(0, 20), member);
+    }
+
+    @Benchmark
+    public Page<TaskRecord> searchTasksUnfilteredIndexed() {
+        return indexedService.searchTasks(new TaskFilterForm(), PageRequest.of(0, 20), member);
+    }
+
+    private static TaskServiceImpl service(TaskRepository repository, TaskFilterIndex index) {
+        return new TaskServiceImpl(
+                repository,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                index);
+    }
+
+    /**
+     * Repositório mínimo: responde à consulta de visibilidade, à carga do índice e à leitura da
+     * página por IDs usadas pelo searchTasks
+     */
+    private static TaskRepository tasksRepository(List<Task> tasks) {
+        Map<Long, Task> byId =
+                tasks.stream().collect(Collectors.toMap(Task::getId, Function.identity()));
+        return (TaskRepository)
+                Proxy.newProxyInstance(
+                        TaskRepository.class.getClassLoader(),
+                        new Class<?>[] {TaskRepository.class},
+                        (proxy, method, args) ->
+                                switch (method.getName()) {
+                                    case "findVisibleTasksForMember" -> tasks;
+                                    case "findTaskFilterRows" ->
+                                            tasks.stream().map(TaskFilterRow::of).toList();
+                                    case "findAllForSearchByIdIn" ->
+                                            ((Collection<?>) args[0])
+                                                    .stream().map(byId::get).toList();
+                                    default ->
+                                            throw new UnsupportedOperationException(
+                                                    method.getName());
+                                });
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.rafaelvieira.taskmanagement.service.impl;
+
+import br.com.rafaelvieira.taskmanagement.BenchmarkFixtures;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks da máquina de estados aplicada pelo {@link TaskTimerJob} a cada tarefa em um tick. As
+ * tarefas são recriadas antes de cada invocação porque as etapas alteram o estado; o resultado é
+ * reportado por tarefa.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskTimerJobBenchmark {
+
+    private static final int TASKS = 1000;
+
+    private final TaskTimerJob job = new TaskTimerJob(null, null, null, null, null);
+
+    private List<Task> tasks;
+    private LocalDateTime now;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.now();
+        now = start.plusSeconds(30);
+        tasks = BenchmarkFixtures.tasks(TASKS, 20, start);
+        for (Task task : tasks) {
+            // Sem responsável as etapas não disparam notificações
+            task.setAssignedUser(null);
+            task.setStatus(TaskStatus.IN_PROGRESS);
+            task.setMainStartedAt(start);
+            task.setPomodoroUntil(start.plusSeconds(task.getId() % 2 == 0 ? 10 : 600));
+            task.setDueDate(task.getId() % 3 == 0 ? null : start.plusDays(1));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void updateRunningTask(Blackhole blackhole) {
+        for (Task task : tasks) {
+            blackhole.consume(job.updateRunningTask(task, now));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void processPomodoroCompletion(Blackhole blackhole) {
+        for (Task task : tasks) {
+            blackhole.consume(job.processPomodoroCompletion(task, now));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void checkTimeCompleted(Blackhole blackhole) {
+        for (Task task : tasks) {
+            blackhole.consume(job.checkTimeCompleted(task, now));
+        }
+    }
+
+    /** Sequência completa de um tick para tarefas em execução */
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void tickPipeline(Blackhole blackhole) {
+        for (Task task : tasks) {
+            boolean changed = job.updateRunningTask(task, now);
+            changed |= job.processPomodoroCompletion(task, now);
+            changed |= job.checkTimeCompleted(task, now);
+            blackhole.consume(changed);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package br.com.rafaelvieira.taskmanagement.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Semeia a massa do teste de carga direto no PostgreSQL com INSERT ... SELECT sobre {@code
+ * generate_series}: o volume não passa pela JVM, então 1M de tarefas leva segundos. Todos os
+ * registros usam o prefixo {@code lt_user_} / {@code LT }; se a massa já existir (banco externo
+ * reaproveitado) a semeadura é pulada.
+ *
+ * <p>Distribuição: os {@code squads} primeiros usuários são LEAD do squad de mesmo índice; todo
+ * usuário é membro do squad {@code índice % squads}; metade das tarefas pertence ao squad do
+ * responsável e metade é pessoal.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+final class DatasetSeeder {
+
+    static final String USERNAME_PREFIX = "lt_user_";
+
+    private static final String COUNT_USERS_SQL =
+            "SELECT COUNT(*) FROM users WHERE starts_with(username, 'lt_user_')";
+
+    private static final String INSERT_USERS_SQL =
+            """
+            INSERT INTO users (username, email, full_name, password, role, created_at, updated_at)
+            SELECT 'lt_user_' || g, 'lt_user_' || g || '@loadtest.local', 'Load Test User ' || g, ?,
+                   CASE WHEN g <= ? THEN 'LEAD' ELSE 'MEMBER' END, now(), now()
+            FROM generate_series(1, ?) AS g
+            """;
+
+    private static final String INSERT_SQUADS_SQL =
+            """
+            INSERT INTO squads (name, description, lead_id, created_at, squad_type, active)
+            SELECT 'LT Squad ' || g, 'Squad gerado pelo teste de carga', u.id, now(), 'FULLSTACK',
+                   true
+            FROM generate_series(1, ?) AS g
+            JOIN users u ON u.username = 'lt_user_' || g
+            """;
+
+    private static final String INSERT_MEMBERS_SQL =
+            """
+            INSERT INTO squad_members (user_id, squad_id, joined_at)
+            SELECT u.id, s.id, now()
+            FROM (SELECT id, row_number() OVER (ORDER BY id) - 1 AS idx
+                  FROM users WHERE starts_with(username, 'lt_user_')) u
+            JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 AS idx
+                  FROM squads WHERE starts_with(name, 'LT Squad ')) s
+              ON s.idx = u.idx % ?
+            ON CONFLICT DO NOTHING
+            """;
+
+    // A descrição vai para task_descriptions no mesmo comando (V34)
+    private static final String INSERT_TASKS_SQL =
+            """
+            WITH inserted AS (
+            INSERT INTO tasks (title, status, priority, category_id, assigned_user_id, squad_id,
+                               created_by_id, due_date, created_at, updated_at, completed_at,
+                               main_started_at, main_elapsed_seconds, execution_time_minutes,
+                               pomodoro_minutes, pomodoro_break_minutes, extra_time_minutes,
+                               version)
+            SELECT 'LT task ' || t.g,
+                   st.status,
+                   (ARRAY['LOW', 'MEDIUM', 'HIGH', 'URGENT'])[t.g % 4 + 1],
+                   c.ids[t.g % cardinality(c.ids) + 1],
+                   u.ids[t.g % cardinality(u.ids) + 1],
+                   CASE WHEN t.g % 2 = 0
+                        THEN s.ids[(t.g % cardinality(u.ids)) % cardinality(s.ids) + 1] END,
+                   u.ids[t.g % cardinality(u.ids) + 1],
+                   t.created + make_interval(days => t.g % 30 + 1),
+                   t.created,
+                   t.created,
+                   CASE WHEN st.status = 'DONE' THEN t.created + interval '1 day' END,
+                   CASE WHEN st.status = 'IN_PROGRESS' THEN now() - interval '5 minutes' END,
+                   t.g % 7200,
+                   60, 25, 5, 0, 0
+            FROM (SELECT g, now() - make_interval(days => g % 90, secs => g % 86400) AS created
+                  FROM generate_series(?, ?) AS g) t
+            CROSS JOIN LATERAL (
+                SELECT CASE WHEN t.g <= ? THEN 'IN_PROGRESS'
+                            ELSE (ARRAY['TODO', 'IN_PAUSE', 'PENDING', 'DONE', 'CANCELLED',
+                                        'OVERDUE'])[t.g % 6 + 1] END AS status) st
+            CROSS JOIN (SELECT array_agg(id ORDER BY id) AS ids
+                        FROM users WHERE starts_with(username, 'lt_user_')) u
+            CROSS JOIN (SELECT array_agg(id ORDER BY id) AS ids
+                        FROM squads WHERE starts_with(name, 'LT Squad ')) s
+            CROSS JOIN (SELECT array_agg(id ORDER BY id) AS ids FROM categories) c
+            RETURNING id, title, created_at)
+            INSERT INTO task_descriptions (task_id, content, updated_at)
+            SELECT id, 'Tarefa gerada pelo teste de carga #' || substr(title, 9), created_at
+            FROM inserted
+            """;
+
+    private static final String INSERT_NOTIFICATIONS_SQL =
+            """
+            INSERT INTO notifications (title, message, type, user_id, is_read, is_sticky, created_at)
+            SELECT 'Notificação ' || n, 'Mensagem gerada pelo teste de carga',
+                   (ARRAY['TASK_CREATED', 'TASK_UPDATED', 'TASK_FINISHED', 'TASK_OVERDUE',
+                          'TASK_DUE_SOON'])[n % 5 + 1],
+                   u.id, n % 3 <> 0, false, now() - make_interval(mins => n)
+            FROM users u
+            CROSS JOIN generate_series(1, ?) AS n
+            WHERE starts_with(u.username, 'lt_user_')
+            """;
+
+    private static final String INSERT_FINISHED_POMODOROS_SQL =
+            """
+            INSERT INTO pomodoro_sessions (task_id, started_at, ended_at, duration_seconds,
+                                           created_at)
+            SELECT t.id, t.created_at + interval '1 hour', t.created_at + interval '85 minutes',
+                   1500, t.created_at
+            FROM tasks t
+            WHERE starts_with(t.title, 'LT task ') AND t.status <> 'IN_PROGRESS'
+            ORDER BY t.id
+            LIMIT ?
+            """;
+
+    private static final String INSERT_OPEN_POMODOROS_SQL =
+            """
+            INSERT INTO pomodoro_sessions (task_id, started_at, created_at)
+            SELECT id, main_started_at, main_started_at
+            FROM tasks
+            WHERE starts_with(title, 'LT task ') AND status = 'IN_PROGRESS'
+            """;
+
+    private static final String INSERT_SCORES_SQL =
+            """
+            INSERT INTO user_scores (user_id, total_points, total_tasks_completed_in_squads,
+                                     total_tasks_completed_early, current_level)
+            SELECT id, id * 37 % 5000, id * 11 % 300, id * 7 % 100, 1 + id * 37 % 5000 / 1000
+            FROM users
+            WHERE starts_with(username, 'lt_user_')
+            ON CONFLICT (user_id) DO NOTHING
+            """;
+
+    private static final String TASK_ID_RANGE_SQL =
+            "SELECT MIN(id), MAX(id) FROM tasks WHERE starts_with(title, 'LT task ')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final LoadTestConfig config;
+
+    DatasetSeeder(
+            JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, LoadTestConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.config = config;
+    }
+
+    Dataset seed() {
+        Long existing = jdbcTemplate.queryForObject(COUNT_USERS_SQL, Long.class);
+        if (existing != null && existing > 0) {
+            log.info("Massa de teste de carga já existe ({} usuários), reaproveitando", existing);
+        } else {
+            insertAll();
+        }
+        return dataset();
+    }
+
+    private void insertAll() {
+        int squads = Math.min(config.squads(), config.users());
+        long start = System.nanoTime();
+
+        // Um único hash BCrypt para todos: o custo do encoder não entra na semeadura
+        jdbcTemplate.update(
+                INSERT_USERS_SQL,
+                passwordEncoder.encode(config.password()),
+                squads,
+                config.users());
+        jdbcTemplate.update(INSERT_SQUADS_SQL, squads);
+        if (squads > 0) {
+            jdbcTemplate.update(INSERT_MEMBERS_SQL, squads);
+        }
+        log.info("Semeados {} usuários e {} squads", config.users(), squads);
+
+        for (int from = 1; from <= config.tasks(); from += config.seedChunkSize()) {
+            int to = Math.min(from + config.seedChunkSize() - 1, config.tasks());
+            jdbcTemplate.update(INSERT_TASKS_SQL, from, to, config.runningTasks());
+            log.info("Semeadas {} de {} tarefas", to, config.tasks());
+        }
+
+        jdbcTemplate.update(INSERT_NOTIFICATIONS_SQL, config.notificationsPerUser());
+        jdbcTemplate.update(INSERT_FINISHED_POMODOROS_SQL, config.pomodoroSessions());
+        jdbcTemplate.update(INSERT_OPEN_POMODOROS_SQL);
+        jdbcTemplate.update(INSERT_SCORES_SQL);
+        jdbcTemplate.execute("ANALYZE");
+
+        log.info(
+                "Massa de teste de carga semeada em {} s",
+                (System.nanoTime() - start) / 1_000_000_000L);
+    }
+
+    private Dataset dataset() {
+        long[] range =
+                jdbcTemplate.queryForObject(
+                        TASK_ID_RANGE_SQL, (rs, i) -> new long[] {rs.getLong(1), rs.getLong(2)});
+
+        // Usuários virtuais espalhados pela faixa semeada, cobrindo LEADs e MEMBERs
+        List<String> usernames = new ArrayList<>(config.virtualUsers());
+        int step = Math.max(config.users() / Math.max(config.virtualUsers(), 1), 1);
+        for (int i = 0; i < config.virtualUsers(); i++) {
+            usernames.add(USERNAME_PREFIX + (i * step % config.users() + 1));
+        }
+        return new Dataset(usernames, config.password(), range[0], range[1]);
+    }
+
+    /**
+     * Dados da massa que o tráfego precisa conhecer.
+     *
+     * @param usernames Um login por usuário virtual
+     * @param password Senha comum dos usuários semeados
+     * @param minTaskId Menor ID de tarefa semeada
+     * @param maxTaskId Maior ID de tarefa semeada
+     */
+    record Dataset(List<String> usernames, String password, long minTaskId, long maxTaskId) {}
+}
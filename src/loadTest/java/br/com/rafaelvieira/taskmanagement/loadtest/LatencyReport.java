@@ -0,0 +1,199 @@
+package br.com.rafaelvieira.taskmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Acumula as latências de cada cenário em histogramas HDR (resolução de microssegundos, 3 dígitos
+ * significativos) e produz o resumo com percentis, vazão e avaliação dos SLOs.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<Scenario, Histogram> histograms = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder> errors = new EnumMap<>(Scenario.class);
+    private final LongAdder stompFrames = new LongAdder();
+
+    LatencyReport() {
+        for (Scenario scenario : Scenario.values()) {
+            histograms.put(
+                    scenario,
+                    new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(scenario, new LongAdder());
+        }
+    }
+
+    /** Registra uma requisição; erros também entram no histograma (latência até a falha) */
+    void record(Scenario scenario, long elapsedNanos, boolean success) {
+        long micros =
+                Math.min(
+                        Math.max(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 1L),
+                        HIGHEST_TRACKABLE_MICROS);
+        histograms.get(scenario).recordValue(micros);
+        if (!success) {
+            errors.get(scenario).increment();
+        }
+    }
+
+    void frameReceived() {
+        stompFrames.increment();
+    }
+
+    Summary summarize(LoadTestConfig config, Duration measured) {
+        double seconds = Math.max(measured.toNanos() / (double) TimeUnit.SECONDS.toNanos(1), 1e-3);
+        List<ScenarioSummary> scenarios = new ArrayList<>();
+        List<String> violations = new ArrayList<>();
+        long totalRequests = 0;
+
+        for (Scenario scenario : Scenario.values()) {
+            Histogram histogram = histograms.get(scenario);
+            long requests = histogram.getTotalCount();
+            if (requests == 0 && config.weights().get(scenario) == 0) {
+                continue;
+            }
+            long failed = errors.get(scenario).sum();
+            ScenarioSummary summary =
+                    new ScenarioSummary(
+                            scenario.key(),
+                            requests,
+                            failed,
+                            requests == 0 ? 0 : (double) failed / requests,
+                            requests / seconds,
+                            millis(histogram.getValueAtPercentile(50)),
+                            millis(histogram.getValueAtPercentile(99)),
+                            millis(histogram.getValueAtPercentile(99.9)),
+                            millis(histogram.getMaxValue()));
+            scenarios.add(summary);
+            violations.addAll(config.slos().get(scenario).check(summary));
+            totalRequests += requests;
+        }
+
+        double throughput = totalRequests / seconds;
+        if (throughput < config.minThroughput()) {
+            violations.add(
+                    String.format(
+                            "vazão total de %.1f req/s abaixo do mínimo de %.1f req/s",
+                            throughput, config.minThroughput()));
+        }
+
+        return new Summary(
+                config.version(),
+                OffsetDateTime.now().toString(),
+                new Volumes(
+                        config.users(),
+                        config.squads(),
+                        config.tasks(),
+                        config.notificationsPerUser(),
+                        config.pomodoroSessions()),
+                config.virtualUsers(),
+                seconds,
+                totalRequests,
+                throughput,
+                stompFrames.sum(),
+                scenarios,
+                violations,
+                violations.isEmpty());
+    }
+
+    /** Grava {@code report-<versão>.json} e {@code report-<versão>.txt} e devolve o JSON */
+    static Path write(Summary summary, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path json = directory.resolve("report-" + summary.version() + ".json");
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(json.toFile(), summary);
+        Files.writeString(directory.resolve("report-" + summary.version() + ".txt"), text(summary));
+        return json;
+    }
+
+    static String text(Summary summary) {
+        StringBuilder out = new StringBuilder();
+        out.append(
+                String.format(
+                        "Teste de carga %s - %d usuários virtuais, %.0f s medidos, %d tarefas%n",
+                        summary.version(),
+                        summary.virtualUsers(),
+                        summary.durationSeconds(),
+                        summary.volumes().tasks()));
+        out.append(
+                String.format(
+                        "%-26s %9s %7s %9s %9s %9s %9s %9s%n",
+                        "cenário", "reqs", "erros", "req/s", "p50 ms", "p99 ms", "p999 ms",
+                        "max ms"));
+        for (ScenarioSummary s : summary.scenarios()) {
+            out.append(
+                    String.format(
+                            "%-26s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                            s.scenario(),
+                            s.requests(),
+                            s.errors(),
+                            s.throughput(),
+                            s.p50Ms(),
+                            s.p99Ms(),
+                            s.p999Ms(),
+                            s.maxMs()));
+        }
+        out.append(
+                String.format(
+                        "Total: %.1f req/s, %d frames STOMP recebidos%n",
+                        summary.throughput(), summary.stompFrames()));
+        if (summary.passed()) {
+            out.append("SLOs: OK").append(System.lineSeparator());
+        } else {
+            out.append("SLOs violados:").append(System.lineSeparator());
+            summary.violations()
+                    .forEach(v -> out.append("  - ").append(v).append(System.lineSeparator()));
+        }
+        return out.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    /** Resultado completo de uma execução, serializado no relatório JSON */
+    record Summary(
+            String version,
+            String finishedAt,
+            Volumes volumes,
+            int virtualUsers,
+            double durationSeconds,
+            long requests,
+            double throughput,
+            long stompFrames,
+            List<ScenarioSummary> scenarios,
+            List<String> violations,
+            boolean passed) {}
+
+    /** Volumes semeados, para comparar execuções equivalentes */
+    record Volumes(
+            int users, int squads, int tasks, int notificationsPerUser, int pomodoroSessions) {}
+
+    /** Latências em milissegundos e vazão em requisições por segundo */
+    record ScenarioSummary(
+            String scenario,
+            long requests,
+            long errors,
+            double errorRate,
+            double throughput,
+            double p50Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs) {}
+}
@@ -0,0 +1,134 @@
+package br.com.rafaelvieira.taskmanagement.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Parâmetros do teste de carga. Os valores padrão vêm de {@code loadtest.properties} e podem ser
+ * sobrescritos por propriedades de sistema com o mesmo nome (o Gradle repassa {@code
+ * -Ploadtest.*}).
+ *
+ * @param users Usuários semeados
+ * @param squads Squads semeados; os {@code squads} primeiros usuários são LEAD
+ * @param tasks Tarefas semeadas
+ * @param runningTasks Tarefas semeadas em IN_PROGRESS (carga do {@code TaskTimerJob})
+ * @param notificationsPerUser Notificações por usuário
+ * @param pomodoroSessions Sessões de pomodoro encerradas
+ * @param seedChunkSize Linhas de tarefa por INSERT durante a semeadura
+ * @param virtualUsers Usuários virtuais simultâneos (modelo fechado)
+ * @param warmup Aquecimento descartado das medições
+ * @param duration Janela medida
+ * @param thinkTime Pausa entre requisições de um mesmo usuário virtual
+ * @param requestTimeout Timeout de cada requisição
+ * @param password Senha comum dos usuários semeados
+ * @param jdbcUrl Banco externo; quando vazio sobe um PostgreSQL via Testcontainers
+ * @param jdbcUsername Usuário do banco externo
+ * @param jdbcPassword Senha do banco externo
+ * @param reportDir Diretório dos relatórios
+ * @param version Versão da aplicação, usada no nome dos relatórios
+ * @param weights Peso de cada cenário no sorteio
+ * @param slos Limites por cenário
+ * @param minThroughput Vazão mínima total (req/s) na janela medida
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+record LoadTestConfig(
+        int users,
+        int squads,
+        int tasks,
+        int runningTasks,
+        int notificationsPerUser,
+        int pomodoroSessions,
+        int seedChunkSize,
+        int virtualUsers,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        Duration requestTimeout,
+        String password,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        Path reportDir,
+        String version,
+        Map<Scenario, Integer> weights,
+        Map<Scenario, Slo> slos,
+        double minThroughput) {
+
+    private static final String PREFIX = "loadtest.";
+
+    static LoadTestConfig load() {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler loadtest.properties", e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(PREFIX))
+                .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+        return from(properties);
+    }
+
+    static LoadTestConfig from(Properties properties) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        Map<Scenario, Slo> slos = new EnumMap<>(Scenario.class);
+        Slo defaults = Slo.from(properties, PREFIX + "slo.default.", Slo.NONE);
+        for (Scenario scenario : Scenario.values()) {
+            weights.put(
+                    scenario,
+                    Integer.parseInt(
+                            properties.getProperty(PREFIX + "weight." + scenario.key(), "0")));
+            slos.put(
+                    scenario,
+                    Slo.from(properties, PREFIX + "slo." + scenario.key() + ".", defaults));
+        }
+
+        return new LoadTestConfig(
+                intValue(properties, "users"),
+                intValue(properties, "squads"),
+                intValue(properties, "tasks"),
+                intValue(properties, "runningTasks"),
+                intValue(properties, "notificationsPerUser"),
+                intValue(properties, "pomodoroSessions"),
+                intValue(properties, "seedChunkSize"),
+                intValue(properties, "virtualUsers"),
+                Duration.parse(value(properties, "warmup")),
+                Duration.parse(value(properties, "duration")),
+                Duration.ofMillis(Long.parseLong(value(properties, "thinkTimeMs"))),
+                Duration.parse(value(properties, "requestTimeout")),
+                value(properties, "password"),
+                blankToNull(properties.getProperty(PREFIX + "jdbcUrl")),
+                properties.getProperty(PREFIX + "jdbcUsername", "postgres"),
+                properties.getProperty(PREFIX + "jdbcPassword", "postgres"),
+                Path.of(properties.getProperty(PREFIX + "reportDir", "build/reports/loadtest")),
+                properties.getProperty(PREFIX + "version", "dev"),
+                weights,
+                slos,
+                Double.parseDouble(properties.getProperty(PREFIX + "slo.minThroughput", "0")));
+    }
+
+    private static int intValue(Properties properties, String name) {
+        return Integer.parseInt(value(properties, name));
+    }
+
+    private static String value(Properties properties, String name) {
+        String value = properties.getProperty(PREFIX + name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("Propriedade obrigatória ausente: " + PREFIX + name);
+        }
+        return value.trim();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
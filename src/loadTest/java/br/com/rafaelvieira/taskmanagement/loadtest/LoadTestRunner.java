@@ -0,0 +1,116 @@
+package br.com.rafaelvieira.taskmanagement.loadtest;
+
+import br.com.rafaelvieira.taskmanagement.TaskManagementApplication;
+import br.com.rafaelvieira.taskmanagement.loadtest.DatasetSeeder.Dataset;
+import br.com.rafaelvieira.taskmanagement.loadtest.LatencyReport.Summary;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Ponto de entrada do teste de carga ({@code ./gradlew loadTest}): sobe um PostgreSQL via
+ * Testcontainers (ou usa {@code loadtest.jdbcUrl}), inicia a aplicação completa em porta aleatória,
+ * semeia a massa, dispara o tráfego e grava os relatórios. Termina com código 1 quando algum SLO é
+ * violado, o que falha a task do Gradle.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestConfig config = LoadTestConfig.load();
+        Summary summary;
+        try (PostgreSQLContainer<?> postgres = config.jdbcUrl() == null ? startPostgres() : null;
+                ConfigurableApplicationContext context = startApplication(config, postgres, args)) {
+            Dataset dataset =
+                    new DatasetSeeder(
+                                    context.getBean(JdbcTemplate.class),
+                                    context.getBean(PasswordEncoder.class),
+                                    config)
+                            .seed();
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", int.class);
+
+            LatencyReport report =
+                    new TrafficDriver(URI.create("http://localhost:" + port), config, dataset)
+                            .run();
+            summary = report.summarize(config, config.duration());
+        }
+
+        Path json = LatencyReport.write(summary, config.reportDir());
+        log.info(
+                "Relatório gravado em {}{}{}",
+                json,
+                System.lineSeparator(),
+                LatencyReport.text(summary));
+        if (!summary.passed()) {
+            System.exit(1);
+        }
+    }
+
+    /** Mesma imagem e ajustes do {@code TestContainersConfig} dos testes de integração */
+    @SuppressWarnings("resource")
+    private static PostgreSQLContainer<?> startPostgres() {
+        PostgreSQLContainer<?> container =
+                new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"))
+                        .withDatabaseName("loadtest_db")
+                        .withUsername("loadtest")
+                        .withPassword("loadtest")
+                        .withStartupTimeoutSeconds(60)
+                        .withCommand(
+                                "postgres",
+                                "-c",
+                                "fsync=off",
+                                "-c",
+                                "synchronous_commit=off",
+                                "-c",
+                                "full_page_writes=off",
+                                "-c",
+                                "shared_buffers=256MB",
+                                "-c",
+                                "max_connections=100");
+        container.start();
+        return container;
+    }
+
+    private static ConfigurableApplicationContext startApplication(
+            LoadTestConfig config, PostgreSQLContainer<?> postgres, String[] args) {
+        // Mesmo ajuste feito no main da aplicação antes de o Spring subir
+        System.setProperty("org.apache.tomcat.util.http.fileupload.impl.FileCountMax", "1000");
+
+        List<String> arguments = new ArrayList<>(List.of(args));
+        arguments.add("--server.port=0");
+        arguments.add(
+                "--spring.datasource.url="
+                        + (postgres != null ? postgres.getJdbcUrl() : config.jdbcUrl()));
+        arguments.add(
+                "--spring.datasource.username="
+                        + (postgres != null ? postgres.getUsername() : config.jdbcUsername()));
+        arguments.add(
+                "--spring.datasource.password="
+                        + (postgres != null ? postgres.getPassword() : config.jdbcPassword()));
+        // O perfil dev loga cada SQL e request; no teste de carga isso mediria o console
+        arguments.add("--spring.jpa.show-sql=false");
+        arguments.add("--logging.level.root=WARN");
+        arguments.add("--logging.level.org.hibernate.SQL=WARN");
+        arguments.add("--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        arguments.add("--logging.level.org.springframework.web=WARN");
+        arguments.add("--logging.level.br.com.rafaelvieira.taskmanagement.loadtest=INFO");
+        arguments.add("--spring.jackson.serialization.indent-output=false");
+
+        return SpringApplication.run(
+                TaskManagementApplication.class, arguments.toArray(String[]::new));
+    }
+}
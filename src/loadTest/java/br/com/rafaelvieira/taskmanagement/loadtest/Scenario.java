@@ -0,0 +1,28 @@
+package br.com.rafaelvieira.taskmanagement.loadtest;
+
+/**
+ * Cenários de tráfego sorteados por cada usuário virtual. O nome é a chave usada nos pesos, nos
+ * SLOs e nos relatórios ({@code loadtest.weight.<nome>}, {@code loadtest.slo.<nome>.p99}).
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+enum Scenario {
+    PAGE_DASHBOARD("page.dashboard"),
+    PAGE_TASKS("page.tasks"),
+    PAGE_RANKING("page.ranking"),
+    API_TASKS_GET("api.tasks.get"),
+    API_TASKS_LIST("api.tasks.list"),
+    API_NOTIFICATIONS_STREAM("api.notifications.stream"),
+    STOMP_CONNECT("stomp.connect");
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+}
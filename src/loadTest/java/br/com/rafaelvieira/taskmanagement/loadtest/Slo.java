@@ -0,0 +1,63 @@
+package br.com.rafaelvieira.taskmanagement.loadtest;
+
+import br.com.rafaelvieira.taskmanagement.loadtest.LatencyReport.ScenarioSummary;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Limites de latência (ms) e de taxa de erro de um cenário. Limites nulos não são avaliados.
+ *
+ * @param p50Ms Mediana máxima
+ * @param p99Ms Percentil 99 máximo
+ * @param p999Ms Percentil 99,9 máximo
+ * @param maxErrorRate Fração máxima de requisições com erro
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+record Slo(Double p50Ms, Double p99Ms, Double p999Ms, Double maxErrorRate) {
+
+    static final Slo NONE = new Slo(null, null, null, null);
+
+    /** Lê {@code <prefix>p50}, {@code p99}, {@code p999} e {@code maxErrorRate} */
+    static Slo from(Properties properties, String prefix, Slo defaults) {
+        return new Slo(
+                number(properties, prefix + "p50", defaults.p50Ms()),
+                number(properties, prefix + "p99", defaults.p99Ms()),
+                number(properties, prefix + "p999", defaults.p999Ms()),
+                number(properties, prefix + "maxErrorRate", defaults.maxErrorRate()));
+    }
+
+    /** Violações do cenário; vazio quando todos os limites foram respeitados */
+    List<String> check(ScenarioSummary summary) {
+        List<String> violations = new ArrayList<>();
+        if (summary.requests() == 0) {
+            return violations;
+        }
+        exceeds(violations, summary.scenario(), "p50", summary.p50Ms(), p50Ms);
+        exceeds(violations, summary.scenario(), "p99", summary.p99Ms(), p99Ms);
+        exceeds(violations, summary.scenario(), "p999", summary.p999Ms(), p999Ms);
+        if (maxErrorRate != null && summary.errorRate() > maxErrorRate) {
+            violations.add(
+                    String.format(
+                            "%s: taxa de erro %.4f acima do limite %.4f",
+                            summary.scenario(), summary.errorRate(), maxErrorRate));
+        }
+        return violations;
+    }
+
+    private static void exceeds(
+            List<String> violations, String scenario, String label, double value, Double limit) {
+        if (limit != null && value > limit) {
+            violations.add(
+                    String.format(
+                            "%s: %s de %.1f ms acima do limite de %.1f ms",
+                            scenario, label, value, limit));
+        }
+    }
+
+    private static Double number(Properties properties, String key, Double fallback) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? fallback : Double.valueOf(value.trim());
+    }
+}
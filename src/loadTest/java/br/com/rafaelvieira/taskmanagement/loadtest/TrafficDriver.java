@@ -0,0 +1,284 @@
+package br.com.rafaelvieira.taskmanagement.loadtest;
+
+import br.com.rafaelvieira.taskmanagement.loadtest.DatasetSeeder.Dataset;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+/**
+ * Gera o tráfego do teste de carga em modelo fechado: cada usuário virtual roda em uma virtual
+ * thread, autentica pelo formulário de login (como o navegador) e em seguida sorteia cenários pelo
+ * peso configurado até o fim da janela. Cada usuário também mantém uma sessão STOMP via SockJS
+ * inscrita nos mesmos destinos do front-end, e os frames recebidos entram no relatório.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+final class TrafficDriver {
+
+    private static final String STOMP_ENDPOINT = "/ws-task-management";
+    private static final List<String> STOMP_DESTINATIONS =
+            List.of("/topic/dashboard", "/user/queue/notifications", "/user/queue/task-state");
+    private static final int TASK_PAGES = 10;
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_FOUND = 302;
+
+    private final URI baseUri;
+    private final LoadTestConfig config;
+    private final Dataset dataset;
+    private final LatencyReport report = new LatencyReport();
+    private final HttpClient http;
+    private final WebSocketStompClient stompClient;
+    private final Scenario[] wheel;
+
+    TrafficDriver(URI baseUri, LoadTestConfig config, Dataset dataset) {
+        this.baseUri = baseUri;
+        this.config = config;
+        this.dataset = dataset;
+        // HTTP/1.1 como o navegador; sem CookieHandler porque cada usuário virtual leva o próprio
+        // cookie de sessão
+        this.http =
+                HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .connectTimeout(config.requestTimeout())
+                        .build();
+        this.stompClient =
+                new WebSocketStompClient(
+                        new SockJsClient(
+                                List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        this.wheel = wheel(config);
+    }
+
+    LatencyReport run() throws InterruptedException {
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < dataset.usernames().size(); i++) {
+            users.add(login(dataset.usernames().get(i), i));
+        }
+        log.info(
+                "{} usuários virtuais autenticados; aquecimento de {} e medição de {}",
+                users.size(),
+                config.warmup(),
+                config.duration());
+
+        long measureFrom = System.nanoTime() + config.warmup().toNanos();
+        long until = measureFrom + config.duration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            users.forEach(user -> executor.submit(() -> drive(user, measureFrom, until)));
+        }
+        stompClient.stop();
+        return report;
+    }
+
+    private void drive(VirtualUser user, long measureFrom, long until) {
+        SplittableRandom random = new SplittableRandom(user.index());
+        StompSession session = connectStomp(user);
+        try {
+            while (System.nanoTime() < until) {
+                Scenario scenario = wheel[random.nextInt(wheel.length)];
+                long start = System.nanoTime();
+                boolean success = execute(scenario, user, random);
+                if (start >= measureFrom) {
+                    report.record(scenario, System.nanoTime() - start, success);
+                }
+                if (!config.thinkTime().isZero()) {
+                    Thread.sleep(config.thinkTime());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (session != null) {
+                session.disconnect();
+            }
+        }
+    }
+
+    private boolean execute(Scenario scenario, VirtualUser user, SplittableRandom random)
+            throws InterruptedException {
+        return switch (scenario) {
+            case PAGE_DASHBOARD -> get(user, "/");
+            case PAGE_TASKS -> get(user, "/tasks?page=" + random.nextInt(TASK_PAGES));
+            case PAGE_RANKING -> get(user, "/ranking");
+            case API_TASKS_GET -> get(user, "/api/tasks/" + randomTaskId(random));
+            case API_TASKS_LIST -> get(user, "/api/tasks");
+            case API_NOTIFICATIONS_STREAM -> openStream(user);
+            case STOMP_CONNECT -> reconnectStomp(user);
+        };
+    }
+
+    private long randomTaskId(SplittableRandom random) {
+        return random.nextLong(dataset.minTaskId(), dataset.maxTaskId() + 1);
+    }
+
+    private boolean get(VirtualUser user, String path) throws InterruptedException {
+        try {
+            HttpResponse<Void> response =
+                    http.send(request(user, path).GET().build(), BodyHandlers.discarding());
+            if (response.statusCode() != HTTP_OK) {
+                log.debug(
+                        "GET {} respondeu {} para {}",
+                        path,
+                        response.statusCode(),
+                        user.username());
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /** Mede até o primeiro byte do stream SSE (comentário inicial do servidor) e o encerra */
+    private boolean openStream(VirtualUser user) throws InterruptedException {
+        try {
+            HttpResponse<InputStream> response =
+                    http.send(
+                            request(user, "/api/notifications/stream")
+                                    .header("Accept", "text/event-stream")
+                                    .GET()
+                                    .build(),
+                            BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                return response.statusCode() == HTTP_OK && body.read() != -1;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /** Conexão STOMP completa (handshake SockJS, CONNECT/CONNECTED e inscrições) e desconexão */
+    private boolean reconnectStomp(VirtualUser user) {
+        StompSession session = connectStomp(user);
+        if (session == null) {
+            return false;
+        }
+        session.disconnect();
+        return true;
+    }
+
+    private StompSession connectStomp(VirtualUser user) {
+        WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        headers.add("Cookie", user.cookie());
+        try {
+            StompSession session =
+                    stompClient
+                            .connectAsync(
+                                    baseUri + STOMP_ENDPOINT,
+                                    headers,
+                                    new StompSessionHandlerAdapter() {})
+                            .get(config.requestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            STOMP_DESTINATIONS.forEach(destination -> session.subscribe(destination, frames()));
+            return session;
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("Falha ao conectar STOMP para {}: {}", user.username(), e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private StompFrameHandler frames() {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                report.frameReceived();
+            }
+        };
+    }
+
+    /** Login pelo formulário; o sucesso é o redirect para "/" com o cookie de sessão */
+    private VirtualUser login(String username, int index) throws InterruptedException {
+        String form =
+                "username="
+                        + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                        + "&password="
+                        + URLEncoder.encode(dataset.password(), StandardCharsets.UTF_8);
+        try {
+            HttpResponse<Void> response =
+                    http.send(
+                            HttpRequest.newBuilder(baseUri.resolve("/login"))
+                                    .timeout(config.requestTimeout())
+                                    .header("Content-Type", "application/x-www-form-urlencoded")
+                                    .POST(HttpRequest.BodyPublishers.ofString(form))
+                                    .build(),
+                            BodyHandlers.discarding());
+            String location = response.headers().firstValue("Location").orElse("");
+            String cookie =
+                    response.headers().allValues("Set-Cookie").stream()
+                            .filter(value -> value.startsWith("JSESSIONID="))
+                            .map(value -> value.split(";", 2)[0])
+                            .findFirst()
+                            .orElse(null);
+            if (response.statusCode() != HTTP_FOUND
+                    || location.contains("error")
+                    || cookie == null) {
+                throw new IllegalStateException("Login recusado para " + username);
+            }
+            return new VirtualUser(index, username, cookie);
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha no login de " + username, e);
+        }
+    }
+
+    private HttpRequest.Builder request(VirtualUser user, String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(config.requestTimeout())
+                .header("Cookie", user.cookie());
+    }
+
+    /** Roleta com cada cenário repetido pelo seu peso; o sorteio é um índice aleatório */
+    private static Scenario[] wheel(LoadTestConfig config) {
+        List<Scenario> slots = new ArrayList<>();
+        config.weights()
+                .forEach(
+                        (scenario, weight) ->
+                                slots.addAll(Collections.nCopies(Math.max(weight, 0), scenario)));
+        if (slots.isEmpty()) {
+            throw new IllegalStateException("Nenhum cenário com peso positivo (loadtest.weight.*)");
+        }
+        return slots.toArray(Scenario[]::new);
+    }
+
+    /**
+     * Usuário virtual autenticado.
+     *
+     * @param index Posição do usuário, também usada como semente do sorteio
+     * @param username Login semeado
+     * @param cookie Cookie de sessão ({@code JSESSIONID=...})
+     */
+    private record VirtualUser(int index, String username, String cookie) {}
+}
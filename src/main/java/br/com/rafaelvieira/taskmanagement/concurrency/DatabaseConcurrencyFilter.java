@@ -0,0 +1,79 @@
+package br.com.rafaelvieira.taskmanagement.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Em modo virtual, cada requisição que pode tocar o banco reserva uma permissão do {@link
+ * DatabaseConcurrencyLimiter} antes de seguir. Se nenhuma vagar dentro do connectionTimeout do
+ * Hikari a requisição recebe 503, o mesmo desfecho que teria ao esgotar o pool, sem segurar uma
+ * conexão parada.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DatabaseConcurrencyFilter extends OncePerRequestFilter {
+
+    // Recursos estáticos, WebSocket e actuator não usam conexão de banco
+    private static final List<String> EXCLUDED_PREFIXES =
+            List.of("/css/", "/js/", "/images/", "/webjars/", "/favicon", "/ws", "/actuator");
+
+    private final DatabaseConcurrencyLimiter limiter;
+    private final Counter rejected;
+
+    public DatabaseConcurrencyFilter(DatabaseConcurrencyLimiter limiter, MeterRegistry registry) {
+        this.limiter = limiter;
+        this.rejected =
+                Counter.builder("taskmanagement.db.permits.rejected")
+                        .description("Requisições recusadas por falta de permissão de banco")
+                        .register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return EXCLUDED_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = limiter.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            log.warn(
+                    "Sem permissão de banco para {} {} ({} aguardando)",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    limiter.waiting());
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release();
+        }
+    }
+}
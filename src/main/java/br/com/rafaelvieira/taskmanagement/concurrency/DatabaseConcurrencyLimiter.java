@@ -0,0 +1,68 @@
+package br.com.rafaelvieira.taskmanagement.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Semáforo justo que limita quantas virtual threads usam o banco ao mesmo tempo. Com threads de
+ * plataforma o próprio pool (Tomcat/executor) limitava a concorrência; com virtual threads milhares
+ * de requisições disputariam as conexões do Hikari e estourariam {@code connectionTimeout}. Aqui a
+ * espera acontece na fila do semáforo, que estaciona a virtual thread sem ocupar carrier.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+public class DatabaseConcurrencyLimiter {
+
+    private final Semaphore semaphore;
+    private final int permits;
+    private final Duration acquireTimeout;
+
+    public DatabaseConcurrencyLimiter(int permits, Duration acquireTimeout) {
+        this.semaphore = new Semaphore(permits, true);
+        this.permits = permits;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    public int permits() {
+        return permits;
+    }
+
+    public int available() {
+        return semaphore.availablePermits();
+    }
+
+    public int waiting() {
+        return semaphore.getQueueLength();
+    }
+
+    /** Aguarda uma permissão por até o connectionTimeout do pool; false se esgotar o prazo */
+    public boolean tryAcquire() throws InterruptedException {
+        return semaphore.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    /** Decora tarefas de segundo plano (@Async, @Scheduled): esperam sem prazo pela permissão */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            try {
+                semaphore.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Tarefa interrompida aguardando permissão de banco: {}", task);
+                return;
+            }
+            try {
+                task.run();
+            } finally {
+                semaphore.release();
+            }
+        };
+    }
+}
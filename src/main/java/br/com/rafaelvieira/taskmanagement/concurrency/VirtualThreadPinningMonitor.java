@@ -0,0 +1,99 @@
+package br.com.rafaelvieira.taskmanagement.concurrency;
+
+import br.com.rafaelvieira.taskmanagement.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Diagnóstico de pinning: assina o evento JFR {@code jdk.VirtualThreadPinned} (virtual thread que
+ * bloqueou sem liberar a carrier, ex.: chamada nativa ou I/O dentro de inicialização de classe) e
+ * conta em {@code taskmanagement.threads.pinned}. Cada pilha é logada uma única vez, para não
+ * inundar o log em um caminho quente. Substitui o {@code -Djdk.tracePinnedThreads}, removido no JDK
+ * 24.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnBooleanProperty(name = "app.threads.pinning-diagnostics", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private final Set<String> loggedStacks = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(ApplicationProperties properties, MeterRegistry registry) {
+        this.threshold = Duration.ofMillis(properties.getThreads().getPinningThresholdMs());
+        this.pinned =
+                Counter.builder("taskmanagement.threads.pinned")
+                        .description("Virtual threads presas à carrier acima do limiar")
+                        .register(registry);
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Diagnóstico de pinning de virtual threads ativo (limiar {} ms)", threshold);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        String stack =
+                event.getStackTrace() == null
+                        ? "(sem pilha)"
+                        : event.getStackTrace().getFrames().stream()
+                                .limit(LOGGED_FRAMES)
+                                .map(VirtualThreadPinningMonitor::frame)
+                                .collect(Collectors.joining(System.lineSeparator() + "    at "));
+        if (loggedStacks.add(stack)) {
+            log.warn(
+                    "Virtual thread presa à carrier por {} ms:{}    at {}",
+                    event.getDuration().toMillis(),
+                    System.lineSeparator(),
+                    stack);
+        }
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName()
+                + "."
+                + frame.getMethod().getName()
+                + ":"
+                + frame.getLineNumber();
+    }
+}
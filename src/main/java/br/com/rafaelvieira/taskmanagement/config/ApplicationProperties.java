@@ -1,5 +1,9 @@
 package br.com.rafaelvieira.taskmanagement.config;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -24,10 +28,34 @@ public class ApplicationProperties {
     private static final int CACHE_MAX_SIZE = 1000;
     private static final String API_VERSION = "1.0.0";
     private static final int API_RATE_LIMIT = 100;
+    private static final int SQL_STATEMENT_BUDGET = 50;
+    private static final long SQL_TIME_BUDGET_MS = 500;
+    private static final long SQL_SLOW_QUERY_MS = 200;
+    private static final int SQL_CAPTURE_LIMIT = 30;
+    private static final long PINNING_THRESHOLD_MS = 20;
+    private static final String GITHUB_BASE_URL = "https://api.github.com";
+    private static final long GITHUB_CONNECT_TIMEOUT_MS = 3_000;
+    private static final long GITHUB_REQUEST_TIMEOUT_MS = 5_000;
+    private static final long GITHUB_CACHE_TTL_SECONDS = 600;
+    private static final long GITHUB_NEGATIVE_TTL_SECONDS = 60;
+    private static final long GITHUB_STALE_TTL_SECONDS = 86_400;
+    private static final int GITHUB_CACHE_MAX_SIZE = 1000;
+    private static final int GITHUB_FAILURE_THRESHOLD = 5;
+    private static final long GITHUB_OPEN_SECONDS = 30;
+    private static final String AVATARS_DIR = "data/avatars";
+    private static final String LEGACY_AVATARS_DIR = "src/main/resources/static/uploads/avatars";
+    private static final List<Integer> AVATAR_THUMBNAIL_SIZES = List.of(64, 256);
+    private static final String L2_INVALIDATION_CHANNEL = "reference_cache";
 
     private final Database database = new Database();
     private final Cache cache = new Cache();
     private final Api api = new Api();
+    private final Sql sql = new Sql();
+    private final Threads threads = new Threads();
+    private final Github github = new Github();
+    private final Storage storage = new Storage();
+    private final SecondLevelCache secondLevelCache = new SecondLevelCache();
+    private final BadgeBackfill badgeBackfill = new BadgeBackfill();
 
     @Data
     public static class Database {
@@ -51,4 +79,126 @@ public class ApplicationProperties {
         private int rateLimit = API_RATE_LIMIT;
         private boolean enableSwagger = true;
     }
+
+    /**
+     * Orçamento de SQL por escopo (requisição HTTP ou job agendado). O nome do escopo é {@code
+     * "<MÉTODO> <rota>"} para requisições (ex.: {@code GET /tasks/{id}}) e {@code
+     * "<Classe>.<método>"} para jobs (ex.: {@code TaskTimerJob.tick}).
+     */
+    @Data
+    public static class Sql {
+        /** Máximo de comandos por escopo antes de registrar o excesso */
+        private int statementBudget = SQL_STATEMENT_BUDGET;
+
+        /** Tempo total de JDBC por escopo antes de registrar o excesso */
+        private long timeBudgetMs = SQL_TIME_BUDGET_MS;
+
+        /** Comandos individuais acima deste tempo são logados como consulta lenta */
+        private long slowQueryMs = SQL_SLOW_QUERY_MS;
+
+        /** Em testes: lança SqlBudgetExceededException em vez de apenas logar */
+        private boolean failOnExceed = false;
+
+        /** Quantos comandos guardar por escopo para a mensagem de excesso */
+        private int captureLimit = SQL_CAPTURE_LIMIT;
+
+        /** Orçamento de comandos por nome de escopo, sobrepondo statementBudget */
+        private Map<String, Integer> budgets = new HashMap<>();
+
+        public int statementBudgetFor(String scope) {
+            return budgets.getOrDefault(scope, statementBudget);
+        }
+    }
+
+    /**
+     * Execução em virtual threads ({@code spring.threads.virtual.enabled=true}). Sem pool limitando
+     * as threads, o acesso ao banco passa a ser limitado por um semáforo do tamanho do pool Hikari.
+     */
+    @Data
+    public static class Threads {
+        /** Permissões simultâneas de banco; 0 usa o maximumPoolSize do Hikari */
+        private int databasePermits = 0;
+
+        /** Registra eventos JFR jdk.VirtualThreadPinned (virtual thread presa à carrier) */
+        private boolean pinningDiagnostics = true;
+
+        /** Duração mínima de um pinning para ser registrado */
+        private long pinningThresholdMs = PINNING_THRESHOLD_MS;
+    }
+
+    /**
+     * Proxy de perfis do GitHub ({@code /api/github/user}). Respostas ficam em cache por {@code
+     * cacheTtlSeconds} e depois são revalidadas com {@code If-None-Match}; enquanto o disjuntor
+     * estiver aberto a última resposta conhecida continua sendo servida.
+     */
+    @Data
+    public static class Github {
+        private String baseUrl = GITHUB_BASE_URL;
+        private long connectTimeoutMs = GITHUB_CONNECT_TIMEOUT_MS;
+        private long requestTimeoutMs = GITHUB_REQUEST_TIMEOUT_MS;
+
+        /** Token opcional; sem ele o limite da API é de 60 requisições por hora por IP */
+        private String token;
+
+        /** Tempo em que um perfil encontrado é servido sem consultar o GitHub */
+        private long cacheTtlSeconds = GITHUB_CACHE_TTL_SECONDS;
+
+        /** Tempo em que um usuário inexistente (404) é respondido direto do cache */
+        private long negativeTtlSeconds = GITHUB_NEGATIVE_TTL_SECONDS;
+
+        /** Quanto tempo uma entrada vencida é mantida para revalidação e fallback */
+        private long staleTtlSeconds = GITHUB_STALE_TTL_SECONDS;
+
+        private int cacheMaxSize = GITHUB_CACHE_MAX_SIZE;
+
+        /** Falhas seguidas (timeout, 5xx, limite de requisições) que abrem o disjuntor */
+        private int failureThreshold = GITHUB_FAILURE_THRESHOLD;
+
+        private long openSeconds = GITHUB_OPEN_SECONDS;
+    }
+
+    /** Armazenamento de arquivos enviados pelos usuários */
+    @Data
+    public static class Storage {
+        /** Diretório dos avatares (original e miniaturas), fora do classpath */
+        private String avatarsDir = AVATARS_DIR;
+
+        /**
+         * Onde os uploads anteriores ao armazenamento por hash ({@code avatar-<id>-<millis>}) foram
+         * gravados; consultado quando o arquivo não está em {@code avatars-dir}. Vazio desliga
+         */
+        private String legacyAvatarsDir = LEGACY_AVATARS_DIR;
+
+        /** Lados, em px, das miniaturas quadradas geradas após cada upload */
+        private List<Integer> thumbnailSizes = new ArrayList<>(AVATAR_THUMBNAIL_SIZES);
+    }
+
+    /** Cache de segundo nível do Hibernate; as regiões ficam no SecondLevelCacheConfig */
+    @Data
+    public static class SecondLevelCache {
+        /**
+         * Com mais de uma instância: publica as alterações das entidades em cache por {@code
+         * NOTIFY} e descarta as entradas alteradas pelas outras instâncias
+         */
+        private boolean clusterInvalidation = false;
+
+        /** Canal {@code LISTEN/NOTIFY} do PostgreSQL usado na invalidação */
+        private String invalidationChannel = L2_INVALIDATION_CHANNEL;
+    }
+
+    /** Backfill dos selos mensais executado na subida (MonthlyBadgeBackfillRunner) */
+    @Data
+    public static class BadgeBackfill {
+        /** Liga a execução na subida; desligue depois que o job terminar */
+        private boolean enabled = false;
+
+        /** Primeiro mês (yyyy-MM); padrão: o mesmo de {@code to} */
+        private String from;
+
+        /** Último mês (yyyy-MM); padrão: o mês corrente */
+        private String to;
+
+        /** Checkpoint do job; padrão derivado do intervalo, o que retoma execuções interrompidas */
+        private String jobId;
+    }
 }
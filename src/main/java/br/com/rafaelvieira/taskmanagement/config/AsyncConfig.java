@@ -1,14 +1,21 @@
 package br.com.rafaelvieira.taskmanagement.config;
 
+import br.com.rafaelvieira.taskmanagement.concurrency.DatabaseConcurrencyLimiter;
+import java.time.Duration;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
- * Configuração para execução assíncrona de tarefas.
+ * Configuração para execução assíncrona de tarefas. O modo segue {@code
+ * spring.threads.virtual.enabled}: pool limitado de threads de plataforma (padrão) ou uma virtual
+ * thread por tarefa, com o acesso ao banco limitado pelo {@link DatabaseConcurrencyLimiter}.
  *
  * @author Rafael Vieira (rafaelrok)
  * @since 2025-11-04
@@ -24,6 +31,7 @@ public class AsyncConfig {
     private static final int AWAIT_TERMINATION_SECONDS = 60;
 
     @Bean(name = "taskExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
     public Executor taskExecutor() {
         var executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(CORE_POOL_SIZE);
@@ -32,13 +40,21 @@ public class AsyncConfig {
         executor.setThreadNamePrefix(TASK_MANAGEMENT_ASYNC);
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+        // Rajadas acima de pool + fila rodam na thread que publicou o evento em vez de rejeitar
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
 
         executor.initialize();
         return executor;
     }
 
-    @Bean(name = "virtualThreadExecutor")
-    public Executor virtualThreadExecutor() {
-        return Executors.newVirtualThreadPerTaskExecutor();
+    @Bean(name = "taskExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualTaskExecutor(
+            SimpleAsyncTaskExecutorBuilder builder, DatabaseConcurrencyLimiter limiter) {
+        // O builder do Boot já vem com virtualThreads(true) neste modo
+        return builder.threadNamePrefix(TASK_MANAGEMENT_ASYNC)
+                .taskDecorator(limiter::wrap)
+                .taskTerminationTimeout(Duration.ofSeconds(AWAIT_TERMINATION_SECONDS))
+                .build();
     }
 }
@@ -1,8 +1,11 @@
 package br.com.rafaelvieira.taskmanagement.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
 import java.util.Arrays;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
@@ -18,6 +21,14 @@ import org.springframework.context.annotation.Configuration;
 @EnableCaching
 public class CacheConfig {
 
+    public static final String SQUAD_DASHBOARD_CACHE = "squadDashboard";
+    public static final String TASK_BADGE_CACHE = "taskBadges";
+
+    private static final Duration SQUAD_DASHBOARD_TTL = Duration.ofSeconds(30);
+    private static final long SQUAD_DASHBOARD_MAX_SIZE = 1_000;
+    private static final Duration TASK_BADGE_TTL = Duration.ofSeconds(30);
+    private static final long TASK_BADGE_MAX_SIZE = 10_000;
+
     @Bean
     CacheManager cacheManager() {
         var cacheManager = new SimpleCacheManager();
@@ -27,7 +38,19 @@ public class CacheConfig {
                         new ConcurrentMapCache("categories"),
                         new ConcurrentMapCache("users"),
                         new ConcurrentMapCache("tasksByStatus"),
-                        new ConcurrentMapCache("tasksByPriority")));
+                        new ConcurrentMapCache("tasksByPriority"),
+                        new CaffeineCache(
+                                SQUAD_DASHBOARD_CACHE,
+                                Caffeine.newBuilder()
+                                        .expireAfterWrite(SQUAD_DASHBOARD_TTL)
+                                        .maximumSize(SQUAD_DASHBOARD_MAX_SIZE)
+                                        .build()),
+                        new CaffeineCache(
+                                TASK_BADGE_CACHE,
+                                Caffeine.newBuilder()
+                                        .expireAfterWrite(TASK_BADGE_TTL)
+                                        .maximumSize(TASK_BADGE_MAX_SIZE)
+                                        .build())));
         return cacheManager;
     }
 }
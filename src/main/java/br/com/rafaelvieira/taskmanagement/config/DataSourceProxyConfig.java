@@ -0,0 +1,43 @@
+package br.com.rafaelvieira.taskmanagement.config;
+
+import br.com.rafaelvieira.taskmanagement.metrics.SqlStatementListener;
+import br.com.rafaelvieira.taskmanagement.metrics.SqlStatementTracker;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Envolve todo {@link DataSource} (Hikari em dev, Testcontainers nos testes) com o datasource-proxy
+ * para alimentar o orçamento de SQL por requisição/job ({@link SqlStatementTracker}).
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    // Estático: BeanPostProcessors são criados antes dos demais beans desta configuração
+    @Bean
+    static BeanPostProcessor sqlBudgetDataSourcePostProcessor(
+            ObjectProvider<SqlStatementTracker> tracker) {
+        SqlStatementListener listener =
+                new SqlStatementListener(SingletonSupplier.of(tracker::getIfAvailable));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
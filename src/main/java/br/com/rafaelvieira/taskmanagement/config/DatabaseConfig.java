@@ -3,8 +3,10 @@ package br.com.rafaelvieira.taskmanagement.config;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import java.util.Properties;
+import javax.cache.CacheManager;
 import javax.sql.DataSource;
 import lombok.NoArgsConstructor;
+import org.hibernate.cache.jcache.ConfigSettings;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.persistence.autoconfigure.EntityScan;
 import org.springframework.context.annotation.Bean;
@@ -48,8 +50,12 @@ public class DatabaseConfig {
     private static final String CONNECTION_TEST_QUERY = "SELECT 1";
     private static final String POOL_NAME = "TaskManagementHikariPool";
     private static final long LEAK_DETECTION_THRESHOLD = 60000L;
-    private static final String SECOND_CACHE_LEVEL = "false";
-    private static final String USE_QUERY_CACHE = "false";
+    private static final String SECOND_CACHE_LEVEL = "true";
+    private static final String USE_QUERY_CACHE = "true";
+    // Regiões e estatísticas por região ficam no SecondLevelCacheConfig
+    private static final String CACHE_REGION_FACTORY = "jcache";
+    private static final String MISSING_CACHE_STRATEGY = "fail";
+    private static final String SHARED_CACHE_MODE = "ENABLE_SELECTIVE";
     private static final String GENERATE_STATISTICS = "false";
     private static final String DISABLED_AUTO_COMMITS = "false";
 
@@ -102,7 +108,8 @@ public class DatabaseConfig {
     @Bean
     @Profile(TEST_PROFILE)
     @DependsOn("flyway")
-    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(
+            DataSource dataSource, CacheManager hibernateCacheManager) {
         var em = new LocalContainerEntityManagerFactoryBean();
         em.setDataSource(dataSource);
         em.setPackagesToScan(
@@ -115,6 +122,7 @@ public class DatabaseConfig {
         em.setJpaVendorAdapter(vendorAdapter);
 
         em.setJpaProperties(hibernateProperties());
+        em.getJpaPropertyMap().put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
 
         return em;
     }
@@ -132,6 +140,9 @@ public class DatabaseConfig {
         properties.setProperty("hibernate.jdbc.batch_versioned_data", "true");
         properties.setProperty("hibernate.cache.use_second_level_cache", SECOND_CACHE_LEVEL);
         properties.setProperty("hibernate.cache.use_query_cache", USE_QUERY_CACHE);
+        properties.setProperty("hibernate.cache.region.factory_class", CACHE_REGION_FACTORY);
+        properties.setProperty(ConfigSettings.MISSING_CACHE_STRATEGY, MISSING_CACHE_STRATEGY);
+        properties.setProperty("jakarta.persistence.sharedCache.mode", SHARED_CACHE_MODE);
         properties.setProperty("hibernate.generate_statistics", GENERATE_STATISTICS);
         properties.setProperty(
                 "hibernate.connection.provider_disables_autocommit", DISABLED_AUTO_COMMITS);
@@ -0,0 +1,40 @@
+package br.com.rafaelvieira.taskmanagement.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ObjectMapper (Jackson 2) compartilhado. A indentação segue a mesma propriedade que governa o
+ * mapper do Spring Boot usado nas respostas HTTP e nos frames STOMP ({@code
+ * spring.jackson.serialization.indent-output}): ligada só no perfil dev, compacta nos demais.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public ObjectMapper objectMapper(
+            @Value("${spring.jackson.serialization.indent-output:false}") boolean indentOutput) {
+        return createObjectMapper(indentOutput);
+    }
+
+    /** Mapper com a configuração da aplicação, também usado fora do contexto (benchmarks) */
+    public static ObjectMapper createObjectMapper(boolean indentOutput) {
+        var mapper = new ObjectMapper();
+
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        mapper.configure(SerializationFeature.INDENT_OUTPUT, indentOutput);
+
+        return mapper;
+    }
+}
@@ -1,14 +1,40 @@
 package br.com.rafaelvieira.taskmanagement.config;
 
+import br.com.rafaelvieira.taskmanagement.concurrency.DatabaseConcurrencyLimiter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
- * Configuração para agendamento de tarefas.
+ * Configuração para agendamento de tarefas. O scheduler é declarado explicitamente: os schedulers
+ * do STOMP/SockJS também são {@code TaskScheduler} e impediriam o Boot de criar o seu, deixando os
+ * jobs em uma única thread local. Em modo virtual cada execução roda em uma virtual thread nova.
  *
  * @author Rafael Vieira (rafaelrok)
  * @since 2024-06-01
  */
 @Configuration
 @EnableScheduling
-public class SchedulerConfig {}
+public class SchedulerConfig {
+
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskScheduler virtualTaskScheduler(
+            SimpleAsyncTaskSchedulerBuilder builder, DatabaseConcurrencyLimiter limiter) {
+        SimpleAsyncTaskScheduler scheduler = builder.build();
+        scheduler.setTaskDecorator(limiter::wrap);
+        return scheduler;
+    }
+}
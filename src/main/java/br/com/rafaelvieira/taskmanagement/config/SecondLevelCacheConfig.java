@@ -0,0 +1,92 @@
+package br.com.rafaelvieira.taskmanagement.config;
+
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Regiões do cache de segundo nível do Hibernate (JCache, com o Caffeine como provedor). Guarda as
+ * entidades de referência, lidas a cada requisição e raramente alteradas (categorias, badges,
+ * squads, usuários e perfis), e o resultado das consultas dos dropdowns.
+ *
+ * <p>Todas as regiões são criadas aqui com tamanho máximo e TTL; o Hibernate roda com {@code
+ * missing_cache_strategy=fail}, então uma entidade anotada com região inexistente impede a subida.
+ * O TTL limita o tempo de uma entrada alterada fora do Hibernate (SQL manual, outra instância sem
+ * {@code app.second-level-cache.cluster-invalidation}).
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Configuration
+@Profile("!test")
+public class SecondLevelCacheConfig {
+
+    public static final String CATEGORIES_REGION = "reference.categories";
+    public static final String BADGES_REGION = "reference.badges";
+    public static final String SQUADS_REGION = "reference.squads";
+    public static final String USERS_REGION = "reference.users";
+    public static final String PROFILES_REGION = "reference.profiles";
+
+    /** Resultados das consultas marcadas com {@code HINT_CACHEABLE} (apenas IDs) */
+    public static final String QUERY_RESULTS_REGION =
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    /** Última escrita por tabela; invalida os resultados de consulta mais antigos que ela */
+    public static final String UPDATE_TIMESTAMPS_REGION =
+            RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    private static final Duration REFERENCE_TTL = Duration.ofHours(1);
+    private static final Duration USERS_TTL = Duration.ofMinutes(30);
+    private static final Duration QUERY_RESULTS_TTL = Duration.ofMinutes(10);
+    private static final long CATEGORIES_MAX_SIZE = 1_000;
+    private static final long BADGES_MAX_SIZE = 200;
+    private static final long SQUADS_MAX_SIZE = 2_000;
+    private static final long USERS_MAX_SIZE = 10_000;
+    private static final long QUERY_RESULTS_MAX_SIZE = 2_000;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(AppMetrics metrics) {
+        CacheManager cacheManager =
+                Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                        .getCacheManager();
+        createRegion(cacheManager, CATEGORIES_REGION, CATEGORIES_MAX_SIZE, REFERENCE_TTL);
+        createRegion(cacheManager, BADGES_REGION, BADGES_MAX_SIZE, REFERENCE_TTL);
+        createRegion(cacheManager, SQUADS_REGION, SQUADS_MAX_SIZE, USERS_TTL);
+        createRegion(cacheManager, USERS_REGION, USERS_MAX_SIZE, USERS_TTL);
+        createRegion(cacheManager, PROFILES_REGION, USERS_MAX_SIZE, USERS_TTL);
+        createRegion(cacheManager, QUERY_RESULTS_REGION, QUERY_RESULTS_MAX_SIZE, QUERY_RESULTS_TTL);
+        // Uma entrada por tabela; se fosse removida antes dos resultados, eles valeriam de novo
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, null, null);
+
+        for (String region : cacheManager.getCacheNames()) {
+            metrics.monitorCacheRegion(cacheManager.getCache(region));
+        }
+        return cacheManager;
+    }
+
+    private static void createRegion(
+            CacheManager cacheManager, String region, Long maxSize, Duration ttl) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        var configuration = new CaffeineConfiguration<Object, Object>();
+        // O Hibernate já guarda entradas desmontadas; copiar a cada get/put só custaria CPU
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (maxSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        cacheManager.createCache(region, configuration);
+    }
+}
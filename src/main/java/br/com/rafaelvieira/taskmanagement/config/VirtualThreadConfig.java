@@ -0,0 +1,53 @@
+package br.com.rafaelvieira.taskmanagement.config;
+
+import br.com.rafaelvieira.taskmanagement.concurrency.DatabaseConcurrencyLimiter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Beans do modo virtual ({@code spring.threads.virtual.enabled=true}): o semáforo de banco
+ * dimensionado pelo pool Hikari, usado pelo filtro de requisições e pelos decorators do executor
+ * {@code @Async} e do scheduler.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public DatabaseConcurrencyLimiter databaseConcurrencyLimiter(
+            DataSource dataSource, ApplicationProperties properties, MeterRegistry registry) {
+        int permits = properties.getThreads().getDatabasePermits();
+        long timeoutMs = properties.getDatabase().getConnectionTimeout();
+        try {
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            if (permits <= 0) {
+                permits = hikari.getMaximumPoolSize();
+            }
+            timeoutMs = hikari.getConnectionTimeout();
+        } catch (SQLException e) {
+            log.warn("DataSource não é Hikari, usando app.database para o semáforo de banco");
+        }
+        if (permits <= 0) {
+            permits = properties.getDatabase().getMaxPoolSize();
+        }
+
+        var limiter = new DatabaseConcurrencyLimiter(permits, Duration.ofMillis(timeoutMs));
+        Gauge.builder("taskmanagement.db.permits.available", limiter::available).register(registry);
+        Gauge.builder("taskmanagement.db.permits.waiting", limiter::waiting).register(registry);
+        log.info("Virtual threads ativas: banco limitado a {} requisições simultâneas", permits);
+        return limiter;
+    }
+}
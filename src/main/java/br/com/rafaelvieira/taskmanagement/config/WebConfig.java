@@ -1,29 +1,37 @@
 package br.com.rafaelvieira.taskmanagement.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import br.com.rafaelvieira.taskmanagement.web.TaskConditionalGetInterceptor;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
 /**
- * Configuração geral para a aplicação web, incluindo CORS, mapeamento de recursos estáticos e
- * configuração do ObjectMapper.
+ * Configuração geral para a aplicação web, incluindo CORS e mapeamento de recursos estáticos. O
+ * ObjectMapper fica em {@link JacksonConfig}.
  *
  * @author Rafael Vieira (rafaelrok)
  * @since 2024-06-01
  */
 @Configuration
 @EnableWebMvc
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
     private static final long MAX_AGE_SECS = 3600;
-    private static final int CACHE_PERIOD_SECS = 3600;
+    private static final Duration STATIC_MAX_AGE = Duration.ofDays(365);
+    private static final String[] STATIC_DIRS = {"css", "js", "images"};
     private static final String[] ALLOWED_ORIGINS = {
         "http://localhost:3000", "http://localhost:4200", "http://localhost:8080"
     };
@@ -31,6 +39,8 @@ public class WebConfig implements WebMvcConfigurer {
         "GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"
     };
 
+    private final TaskConditionalGetInterceptor taskConditionalGetInterceptor;
+
     @Override
     public void addFormatters(FormatterRegistry registry) {
         registry.addConverter(new EnumConverters.StringToTaskStatusConverter());
@@ -47,37 +57,38 @@ public class WebConfig implements WebMvcConfigurer {
                 .maxAge(MAX_AGE_SECS);
     }
 
+    /** ETag/Last-Modified das leituras de tarefas consultadas repetidamente pela UI */
     @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/css/**")
-                .addResourceLocations("classpath:/static/css/")
-                .setCachePeriod(CACHE_PERIOD_SECS);
-
-        registry.addResourceHandler("/js/**")
-                .addResourceLocations("classpath:/static/js/")
-                .setCachePeriod(CACHE_PERIOD_SECS);
-
-        registry.addResourceHandler("/images/**")
-                .addResourceLocations("classpath:/static/images/")
-                .setCachePeriod(CACHE_PERIOD_SECS);
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(taskConditionalGetInterceptor)
+                .addPathPatterns(
+                        TaskConditionalGetInterceptor.TASK_PATH,
+                        TaskConditionalGetInterceptor.TASKS_PATH)
+                .addPathPatterns(TaskConditionalGetInterceptor.DASHBOARD_FRAGMENT_PATHS);
+    }
 
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("classpath:/static/uploads/")
-                .setCachePeriod(CACHE_PERIOD_SECS);
+    /**
+     * {@code /css}, {@code /js} e {@code /images} passam pela cadeia de recursos: a URL ganha o
+     * hash do conteúdo ({@code /js/dashboard-<md5>.js}, reescrita nos templates pelo {@link
+     * ResourceUrlEncodingFilter}), então o cache pode ser imutável por um ano. As variantes {@code
+     * .br}/{@code .gz} geradas no build ({@code compressStaticAssets}) são servidas conforme o
+     * {@code Accept-Encoding}.
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String dir : STATIC_DIRS) {
+            registry.addResourceHandler("/" + dir + "/**")
+                    .addResourceLocations("classpath:/static/" + dir + "/")
+                    .setCacheControl(CacheControl.maxAge(STATIC_MAX_AGE).cachePublic().immutable())
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"))
+                    .addTransformer(new CssLinkResourceTransformer());
+        }
     }
 
     @Bean
-    public ObjectMapper objectMapper() {
-        var mapper = new ObjectMapper();
-
-        mapper.registerModule(new JavaTimeModule());
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        mapper.configure(
-                com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
-                false);
-        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        mapper.enable(SerializationFeature.INDENT_OUTPUT);
-
-        return mapper;
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
     }
 }
@@ -44,15 +44,8 @@ public class RankingController {
                 userScoreRepository.findAll(Sort.by(Sort.Direction.DESC, "totalPoints"));
 
         // Find current user position and score
-        int userPosition = 0;
-        UserScore currentUserScore = null;
-        for (int i = 0; i < rankings.size(); i++) {
-            if (rankings.get(i).getUser().getId().equals(currentUser.getId())) {
-                userPosition = i + 1;
-                currentUserScore = rankings.get(i);
-                break;
-            }
-        }
+        int userPosition = positionOf(rankings, currentUser.getId());
+        UserScore currentUserScore = userPosition > 0 ? rankings.get(userPosition - 1) : null;
 
         model.addAttribute("rankings", rankings);
         model.addAttribute("userPosition", userPosition);
@@ -90,15 +83,8 @@ public class RankingController {
                             .sorted(Comparator.comparing(UserScore::getTotalPoints).reversed())
                             .collect(Collectors.toList());
 
-            int userPosition = 0;
-            UserScore currentUserScore = null;
-            for (int i = 0; i < rankings.size(); i++) {
-                if (rankings.get(i).getUser().getId().equals(currentUser.getId())) {
-                    userPosition = i + 1;
-                    currentUserScore = rankings.get(i);
-                    break;
-                }
-            }
+            int userPosition = positionOf(rankings, currentUser.getId());
+            UserScore currentUserScore = userPosition > 0 ? rankings.get(userPosition - 1) : null;
 
             model.addAttribute("squad", squad);
             model.addAttribute("rankings", rankings);
@@ -119,4 +105,14 @@ public class RankingController {
             return "redirect:/ranking";
         }
     }
+
+    /** Posição (1-based) do usuário no ranking já ordenado, ou 0 quando ele não aparece */
+    static int positionOf(List<UserScore> rankings, Long userId) {
+        for (int i = 0; i < rankings.size(); i++) {
+            if (rankings.get(i).getUser().getId().equals(userId)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
 }
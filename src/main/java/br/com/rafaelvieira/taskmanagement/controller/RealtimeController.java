@@ -0,0 +1,32 @@
+package br.com.rafaelvieira.taskmanagement.controller;
+
+import br.com.rafaelvieira.taskmanagement.domain.records.NotificationStateMessage;
+import br.com.rafaelvieira.taskmanagement.service.NotificationService;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * Respostas diretas da sessão STOMP ({@code /app/...}). O retorno de um {@link SubscribeMapping}
+ * vai só para a sessão que assinou, sem passar pelo broker: o cliente recebe o estado inicial pela
+ * mesma conexão que depois traz as atualizações.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Controller
+@RequiredArgsConstructor
+public class RealtimeController {
+
+    private final NotificationService notificationService;
+
+    /** Total de não lidas e fixadas pendentes, pedido a cada (re)conexão */
+    @SubscribeMapping("/notifications/state")
+    public NotificationStateMessage notificationState(Principal principal) {
+        if (principal == null) {
+            return NotificationStateMessage.empty();
+        }
+        return notificationService.getStateForUser(principal.getName());
+    }
+}
@@ -4,6 +4,8 @@ import br.com.rafaelvieira.taskmanagement.domain.enums.Priority;
 import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
 import br.com.rafaelvieira.taskmanagement.domain.records.TaskCreateRecord;
 import br.com.rafaelvieira.taskmanagement.domain.records.TaskRecord;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskSearchHit;
+import br.com.rafaelvieira.taskmanagement.web.dto.TaskFilterForm;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,6 +15,8 @@ import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Map;
 import org.jetbrains.annotations.NotNull;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -82,6 +86,28 @@ public interface SwaggerTaskController {
     @GetMapping
     ResponseEntity<@NotNull List<TaskRecord>> getAllTasks();
 
+    @Operation(
+            summary = "Buscar tarefas por texto",
+            description =
+                    "Busca textual no título e na descrição das tarefas visíveis ao usuário,"
+                            + " combinada com os filtros da listagem e ordenada por relevância."
+                            + " Aceita aspas, OR e -termo. Os destaques vêm em HTML com <mark>")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Página de resultados"),
+                @ApiResponse(responseCode = "400", description = "Texto da busca vazio")
+            })
+    @GetMapping("/search")
+    ResponseEntity<@NotNull Page<TaskSearchHit>> searchTasks(
+            @Parameter(description = "Texto (q) e filtros opcionais da listagem") @ParameterObject
+                    TaskFilterForm filter,
+            @Parameter(description = "Página (0..N)")
+                    @RequestParam(name = "page", defaultValue = "0")
+                    int page,
+            @Parameter(description = "Tamanho da página (máx. 50)")
+                    @RequestParam(name = "size", defaultValue = "20")
+                    int size);
+
     @Operation(
             summary = "Buscar tarefas por status",
             description = "Recupera tarefas filtradas pelo status")
@@ -0,0 +1,68 @@
+package br.com.rafaelvieira.taskmanagement.controller;
+
+import br.com.rafaelvieira.taskmanagement.domain.records.BulkTaskCreateRecord;
+import br.com.rafaelvieira.taskmanagement.domain.records.BulkTaskResult;
+import br.com.rafaelvieira.taskmanagement.domain.records.BulkTaskUpdateRecord;
+import br.com.rafaelvieira.taskmanagement.service.BulkTaskService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Endpoints de operações em lote sobre tarefas. Sempre respondem 200 com o resultado individual de
+ * cada entrada; erros de requisição (lista vazia, campo da operação ausente) retornam 400.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@RestController
+@RequestMapping("/api/tasks/bulk")
+@RequiredArgsConstructor
+public class TaskBulkController {
+
+    private final BulkTaskService bulkTaskService;
+
+    @PostMapping
+    public ResponseEntity<BulkTaskResult> createTasks(
+            @Valid @RequestBody BulkTaskCreateRecord request) {
+        return ResponseEntity.ok(bulkTaskService.createTasks(request.tasks()));
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<BulkTaskResult> changeStatus(
+            @Valid @RequestBody BulkTaskUpdateRecord request) {
+        if (!BulkTaskService.isBulkStatus(request.status())) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(bulkTaskService.changeStatus(request.taskIds(), request.status()));
+    }
+
+    @PatchMapping("/priority")
+    public ResponseEntity<BulkTaskResult> changePriority(
+            @Valid @RequestBody BulkTaskUpdateRecord request) {
+        if (request.priority() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(
+                bulkTaskService.changePriority(request.taskIds(), request.priority()));
+    }
+
+    /** Reatribui as tarefas; {@code assignedUserId} nulo remove o responsável */
+    @PatchMapping("/assignee")
+    public ResponseEntity<BulkTaskResult> reassign(
+            @Valid @RequestBody BulkTaskUpdateRecord request) {
+        return ResponseEntity.ok(
+                bulkTaskService.reassign(request.taskIds(), request.assignedUserId()));
+    }
+
+    @PostMapping("/delete")
+    public ResponseEntity<BulkTaskResult> deleteTasks(
+            @Valid @RequestBody BulkTaskUpdateRecord request) {
+        return ResponseEntity.ok(bulkTaskService.deleteTasks(request.taskIds()));
+    }
+}
@@ -6,8 +6,11 @@ import br.com.rafaelvieira.taskmanagement.domain.model.PomodoroSession;
 import br.com.rafaelvieira.taskmanagement.domain.records.TaskCreateRecord;
 import br.com.rafaelvieira.taskmanagement.domain.records.TaskExtensionRecord;
 import br.com.rafaelvieira.taskmanagement.domain.records.TaskRecord;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskSearchHit;
 import br.com.rafaelvieira.taskmanagement.repository.PomodoroSessionRepository;
 import br.com.rafaelvieira.taskmanagement.service.TaskService;
+import br.com.rafaelvieira.taskmanagement.service.UserService;
+import br.com.rafaelvieira.taskmanagement.web.dto.TaskFilterForm;
 import jakarta.validation.Valid;
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -16,6 +19,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -30,8 +36,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class TaskController implements SwaggerTaskController {
 
+    private static final int MAX_SEARCH_SIZE = 50;
+
     private final TaskService taskService;
     private final PomodoroSessionRepository pomodoroSessionRepository;
+    private final UserService userService;
 
     @Override
     public ResponseEntity<TaskRecord> createTask(TaskCreateRecord taskCreate) {
@@ -57,6 +66,17 @@ public class TaskController implements SwaggerTaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    @Override
+    public ResponseEntity<Page<TaskSearchHit>> searchTasks(
+            TaskFilterForm filter, int page, int size) {
+        if (filter.getQ() == null || filter.getQ().isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, MAX_SEARCH_SIZE));
+        return ResponseEntity.ok(
+                taskService.searchTasksByText(filter, pageable, userService.getCurrentUser()));
+    }
+
     @Override
     public ResponseEntity<List<TaskRecord>> getTasksByStatus(TaskStatus status) {
         List<TaskRecord> tasks = taskService.getTasksByStatus(status);
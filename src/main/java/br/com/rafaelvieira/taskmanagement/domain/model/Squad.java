@@ -1,6 +1,8 @@
 package br.com.rafaelvieira.taskmanagement.domain.model;
 
+import br.com.rafaelvieira.taskmanagement.config.SecondLevelCacheConfig;
 import br.com.rafaelvieira.taskmanagement.domain.enums.SquadType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -19,9 +21,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.SQUADS_REGION)
 @Table(name = "squads")
 @Getter
 @Setter
@@ -77,6 +83,10 @@ public class Squad {
     @Column(name = "deactivated_at")
     private LocalDateTime deactivatedAt;
 
+    // Mantido pelo trigger do banco, só para a ETag das tarefas (TaskChangeStamp): não é lido aqui
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
     /** Verifica se o squad está ativo */
     public boolean isActive() {
         return Boolean.TRUE.equals(active);
@@ -16,6 +16,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -48,9 +49,9 @@ public class Task {
     @Column(nullable = false)
     private String title;
 
-    // Rich HTML content from editor - unlimited length (TEXT type in DB)
-    @Column(columnDefinition = "TEXT")
-    private String description;
+    // Rich HTML content from editor, stored in task_descriptions (TaskDescription) and only loaded
+    // by detail/edit; null when the task is read for lists, dashboard or the timer job
+    @Transient private String description;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
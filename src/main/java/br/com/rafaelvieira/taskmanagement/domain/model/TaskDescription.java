@@ -0,0 +1,40 @@
+package br.com.rafaelvieira.taskmanagement.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Descrição rica (HTML do editor) de uma {@link Task}, em tabela própria para que listagens,
+ * dashboard e o job do timer não carreguem o conteúdo. O PostgreSQL comprime a coluna (lz4 quando
+ * disponível, V34).
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Entity
+@Table(name = "task_descriptions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskDescription {
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
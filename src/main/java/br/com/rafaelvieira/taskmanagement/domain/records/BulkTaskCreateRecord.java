@@ -0,0 +1,16 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Record para criação de tarefas em lote.
+ *
+ * @param tasks Tarefas a criar, na ordem em que serão reportadas no resultado
+ */
+public record BulkTaskCreateRecord(
+        @NotEmpty(message = "At least one task is required")
+                @Size(max = 500, message = "A bulk request cannot exceed 500 tasks")
+                List<@Valid TaskCreateRecord> tasks) {}
@@ -0,0 +1,65 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * Resultado de uma operação em lote, com um item por entrada da requisição na mesma ordem em que
+ * foi enviada.
+ *
+ * @param requested Quantidade de entradas processadas
+ * @param succeeded Entradas aplicadas com sucesso
+ * @param skipped Entradas que já estavam no estado pedido
+ * @param failed Entradas rejeitadas
+ * @param items Resultado individual de cada entrada
+ */
+public record BulkTaskResult(
+        int requested, int succeeded, int skipped, int failed, List<Item> items) {
+
+    public enum Outcome {
+        OK,
+        SKIPPED,
+        NOT_FOUND,
+        FORBIDDEN,
+        INVALID,
+        CONFLICT
+    }
+
+    /**
+     * Resultado de uma entrada do lote.
+     *
+     * @param index Posição da entrada na requisição
+     * @param taskId ID da tarefa (nulo quando a criação falhou)
+     * @param outcome Desfecho da entrada
+     * @param message Motivo da falha, quando houver
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(int index, Long taskId, Outcome outcome, String message) {
+
+        public static Item ok(int index, Long taskId) {
+            return new Item(index, taskId, Outcome.OK, null);
+        }
+
+        public static Item skipped(int index, Long taskId) {
+            return new Item(index, taskId, Outcome.SKIPPED, null);
+        }
+
+        public static Item failed(int index, Long taskId, Outcome outcome, String message) {
+            return new Item(index, taskId, outcome, message);
+        }
+    }
+
+    public static BulkTaskResult of(List<Item> items) {
+        int succeeded = 0;
+        int skipped = 0;
+        for (Item item : items) {
+            if (item.outcome() == Outcome.OK) {
+                succeeded++;
+            } else if (item.outcome() == Outcome.SKIPPED) {
+                skipped++;
+            }
+        }
+        return new BulkTaskResult(
+                items.size(), succeeded, skipped, items.size() - succeeded - skipped, items);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.Priority;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Record para operações em lote sobre tarefas existentes. Cada endpoint usa apenas o campo
+ * correspondente à operação (status, prioridade ou responsável).
+ *
+ * @param taskIds IDs das tarefas alvo
+ * @param status Novo status (troca de status)
+ * @param priority Nova prioridade (repriorização)
+ * @param assignedUserId Novo responsável; nulo remove a atribuição (reatribuição)
+ */
+public record BulkTaskUpdateRecord(
+        @NotEmpty(message = "At least one task id is required")
+                @Size(max = 500, message = "A bulk request cannot exceed 500 tasks")
+                List<@NotNull Long> taskIds,
+        TaskStatus status,
+        Priority priority,
+        Long assignedUserId) {}
@@ -0,0 +1,128 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import br.com.rafaelvieira.taskmanagement.domain.model.Squad;
+import br.com.rafaelvieira.taskmanagement.domain.model.SquadInvite;
+import br.com.rafaelvieira.taskmanagement.domain.model.TaskCancelRequest;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.model.UserBadge;
+import java.time.LocalDateTime;
+
+/**
+ * Payloads STOMP de gamificação e squads. Os nomes dos componentes são as chaves JSON que os
+ * clientes já leem ({@code type} sempre primeiro), então o formato dos frames não muda.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+public sealed interface GamificationMessage {
+
+    String type();
+
+    record BadgeEarned(
+            String type,
+            String badgeCode,
+            String badgeName,
+            String badgeDescription,
+            String badgeIcon,
+            LocalDateTime awardedAt)
+            implements GamificationMessage {
+
+        public static BadgeEarned of(UserBadge userBadge) {
+            return new BadgeEarned(
+                    "BADGE_EARNED",
+                    userBadge.getBadge().getCode(),
+                    userBadge.getBadge().getName(),
+                    userBadge.getBadge().getDescription(),
+                    userBadge.getBadge().getIconClass(),
+                    userBadge.getAwardedAt());
+        }
+    }
+
+    record PointsEarned(String type, int points, String reason, LocalDateTime timestamp)
+            implements GamificationMessage {
+
+        public static PointsEarned of(int points, String reason) {
+            return new PointsEarned("POINTS_EARNED", points, reason, LocalDateTime.now());
+        }
+    }
+
+    record SquadInviteReceived(
+            String type,
+            Long inviteId,
+            String squadName,
+            String squadDescription,
+            String invitedBy,
+            LocalDateTime createdAt)
+            implements GamificationMessage {
+
+        public static SquadInviteReceived of(SquadInvite invite) {
+            return new SquadInviteReceived(
+                    "SQUAD_INVITE",
+                    invite.getId(),
+                    invite.getSquad().getName(),
+                    invite.getSquad().getDescription(),
+                    invite.getInvitedBy().getFullName(),
+                    invite.getCreatedAt());
+        }
+    }
+
+    record CancelRequested(
+            String type,
+            Long requestId,
+            String taskTitle,
+            String requestedBy,
+            String reason,
+            LocalDateTime createdAt)
+            implements GamificationMessage {
+
+        public static CancelRequested of(TaskCancelRequest request) {
+            return new CancelRequested(
+                    "CANCEL_REQUEST",
+                    request.getId(),
+                    request.getTask().getTitle(),
+                    request.getRequestedBy().getFullName(),
+                    request.getReason(),
+                    request.getCreatedAt());
+        }
+    }
+
+    record CancelDecided(
+            String type,
+            Long requestId,
+            String taskTitle,
+            boolean approved,
+            LocalDateTime decidedAt)
+            implements GamificationMessage {
+
+        public static CancelDecided of(TaskCancelRequest request, boolean approved) {
+            return new CancelDecided(
+                    "CANCEL_DECISION",
+                    request.getId(),
+                    request.getTask().getTitle(),
+                    approved,
+                    request.getDecidedAt());
+        }
+    }
+
+    record SquadMemberJoined(
+            String type, Long squadId, String squadName, String memberName, LocalDateTime timestamp)
+            implements GamificationMessage {
+
+        public static SquadMemberJoined of(Squad squad, User newMember) {
+            return new SquadMemberJoined(
+                    "SQUAD_MEMBER_JOINED",
+                    squad.getId(),
+                    squad.getName(),
+                    newMember.getFullName(),
+                    LocalDateTime.now());
+        }
+    }
+
+    record RankingUpdate(String type, Long squadId, LocalDateTime timestamp)
+            implements GamificationMessage {
+
+        public static RankingUpdate of(Squad squad) {
+            return new RankingUpdate("RANKING_UPDATE", squad.getId(), LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import java.time.Instant;
+
+/**
+ * Resposta do proxy de perfis do GitHub como é guardada no cache: status devolvido ao navegador,
+ * corpo JSON já reduzido aos campos usados pelas telas e o ETag para revalidação.
+ *
+ * @param status Status HTTP repassado ao cliente
+ * @param body Corpo JSON
+ * @param etag ETag devolvido pelo GitHub ({@code null} em respostas sintetizadas)
+ * @param freshUntil Até quando a entrada é servida sem consultar o GitHub
+ */
+public record GithubProfileResponse(int status, String body, String etag, Instant freshUntil) {
+
+    public boolean isFresh(Instant now) {
+        return freshUntil != null && now.isBefore(freshUntil);
+    }
+
+    public GithubProfileResponse refreshedUntil(Instant until) {
+        return new GithubProfileResponse(status, body, etag, until);
+    }
+}
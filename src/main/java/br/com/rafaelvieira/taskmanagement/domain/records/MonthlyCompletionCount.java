@@ -0,0 +1,11 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import java.time.YearMonth;
+
+/** Quantidade de tasks de squad concluídas por um usuário em um mês de referência */
+public record MonthlyCompletionCount(Long userId, Integer year, Integer month, Long completed) {
+
+    public YearMonth yearMonth() {
+        return YearMonth.of(year, month);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import java.util.List;
+
+/**
+ * Estado das notificações entregue ao assinar {@code /app/notifications/state}: total de não lidas
+ * e fixadas pendentes. É a resposta de cada (re)conexão STOMP, no lugar das chamadas a {@code
+ * /api/notifications/unread-count} e {@code /api/notifications/sticky}. Leva também o relógio do
+ * servidor (epoch millis), que os cronômetros do cliente usam desde a conexão.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+public record NotificationStateMessage(
+        long unreadCount, List<NotificationUpdateMessage> sticky, long serverTime) {
+
+    public NotificationStateMessage(long unreadCount, List<NotificationUpdateMessage> sticky) {
+        this(unreadCount, sticky, System.currentTimeMillis());
+    }
+
+    /** Estado vazio (sessão sem usuário), ainda com o relógio do servidor */
+    public static NotificationStateMessage empty() {
+        return new NotificationStateMessage(0, List.of());
+    }
+}
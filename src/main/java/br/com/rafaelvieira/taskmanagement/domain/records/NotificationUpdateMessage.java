@@ -1,7 +1,13 @@
 package br.com.rafaelvieira.taskmanagement.domain.records;
 
+import br.com.rafaelvieira.taskmanagement.domain.entity.Notification;
 import java.time.LocalDateTime;
 
+/**
+ * Notificação enviada via STOMP. Cada frame vale +1 no badge do cliente; o total de não lidas só
+ * vem na resposta de {@code /app/notifications/state} ({@link NotificationStateMessage}), a cada
+ * (re)conexão, para não somar um {@code COUNT} a cada notificação criada.
+ */
 public record NotificationUpdateMessage(
         Long id,
         String title,
@@ -11,9 +17,14 @@ public record NotificationUpdateMessage(
         boolean sticky,
         LocalDateTime createdAt) {
 
-    public static NotificationUpdateMessage create(
-            Long id, String title, String message, String type, Long taskId, boolean sticky) {
+    public static NotificationUpdateMessage of(Notification notification) {
         return new NotificationUpdateMessage(
-                id, title, message, type, taskId, sticky, LocalDateTime.now());
+                notification.getId(),
+                notification.getTitle(),
+                notification.getMessage(),
+                notification.getType().name(),
+                notification.getTaskId(),
+                notification.isSticky(),
+                notification.getCreatedAt());
     }
 }
@@ -0,0 +1,13 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Colunas de uma tarefa guardadas pelo {@code OpenTaskSnapshot}: a linha da carga inicial ou a
+ * alteração trazida por um {@code TaskChangedEvent}.
+ *
+ * @param status Status atual; {@code null} quando a tarefa foi removida
+ */
+public record OpenTaskRow(
+        Long id, TaskStatus status, LocalDateTime dueDate, LocalDateTime scheduledStartAt) {}
@@ -0,0 +1,36 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import java.util.Collection;
+
+/**
+ * Contagem agregada de tarefas de uma squad para um responsável. O registro com {@code userId} nulo
+ * agrupa as tarefas sem responsável.
+ */
+public record SquadMemberTaskCounts(
+        Long userId,
+        Long totalTasks,
+        Long completedTasks,
+        Long inProgressTasks,
+        Long todoTasks,
+        Long overdueTasks) {
+
+    public static final SquadMemberTaskCounts EMPTY =
+            new SquadMemberTaskCounts(null, 0L, 0L, 0L, 0L, 0L);
+
+    /** Soma as contagens de todos os responsáveis, produzindo os totais da squad */
+    public static SquadMemberTaskCounts sum(Collection<SquadMemberTaskCounts> rows) {
+        long total = 0;
+        long completed = 0;
+        long inProgress = 0;
+        long todo = 0;
+        long overdue = 0;
+        for (SquadMemberTaskCounts row : rows) {
+            total += row.totalTasks();
+            completed += row.completedTasks();
+            inProgress += row.inProgressTasks();
+            todo += row.todoTasks();
+            overdue += row.overdueTasks();
+        }
+        return new SquadMemberTaskCounts(null, total, completed, inProgress, todo, overdue);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+/** Contadores exibidos no topo das páginas: tarefas abertas atrasadas e a vencer em breve */
+public record TaskBadgeCounts(long overdue, long nearDue) {
+
+    public static final TaskBadgeCounts EMPTY = new TaskBadgeCounts(0, 0);
+}
@@ -0,0 +1,60 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Resumo agregado de um conjunto de tasks usado como validador HTTP (ETag/Last-Modified): muda
+ * quando alguma task é criada, removida ou gravada (versão/updatedAt), quando muda uma linha que a
+ * resposta junta à task (nome da categoria, username do responsável, líder do squad) e quando a
+ * passagem do tempo move tasks entre agendadas/iniciadas ou no prazo/atrasadas.
+ *
+ * @param total Quantidade de tasks
+ * @param versionSum Soma das versões ({@code @Version})
+ * @param lastUpdatedAt Maior {@code updatedAt}
+ * @param relatedUpdatedAt Maior {@code updated_at} das categorias, responsáveis e squads das tasks
+ * @param started Tasks com início agendado já alcançado
+ * @param overdue Tasks com prazo vencido e não concluídas
+ */
+public record TaskChangeStamp(
+        Long total,
+        Long versionSum,
+        LocalDateTime lastUpdatedAt,
+        LocalDateTime relatedUpdatedAt,
+        Long started,
+        Long overdue) {
+
+    public static final TaskChangeStamp EMPTY = new TaskChangeStamp(0L, 0L, null, null, 0L, 0L);
+
+    public boolean isEmpty() {
+        return total == null || total == 0;
+    }
+
+    /** Representação compacta para compor a ETag */
+    public String token() {
+        return total
+                + "."
+                + orZero(versionSum)
+                + "."
+                + orZero(started)
+                + "."
+                + orZero(overdue)
+                + "."
+                + epochMillis(lastUpdatedAt)
+                + "."
+                + epochMillis(relatedUpdatedAt);
+    }
+
+    /** Maior {@code updatedAt} (da task ou das linhas juntadas) em epoch millis, ou {@code -1} */
+    public long lastModified() {
+        return Math.max(epochMillis(lastUpdatedAt), epochMillis(relatedUpdatedAt));
+    }
+
+    private static long epochMillis(LocalDateTime value) {
+        return value != null ? value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+/** Início do HTML da descrição de uma task, lido sem trazer o conteúdo inteiro */
+public record TaskDescriptionExcerpt(Long taskId, String content) {}
@@ -0,0 +1,42 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.Priority;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import java.time.LocalDateTime;
+
+/**
+ * Colunas de uma tarefa indexadas pelo {@code TaskFilterIndex}: a linha da carga inicial ou a
+ * alteração trazida por um {@code TaskChangedEvent}. Não faz parte do {@link TaskStateDiff}: os
+ * clientes não usam essas colunas.
+ *
+ * @param status Status atual; {@code null} quando a tarefa foi removida
+ */
+public record TaskFilterRow(
+        Long id,
+        TaskStatus status,
+        Priority priority,
+        Long categoryId,
+        Long assignedUserId,
+        Long squadId,
+        LocalDateTime createdAt,
+        LocalDateTime dueDate) {
+
+    /** Colunas atuais da tarefa */
+    public static TaskFilterRow of(Task task) {
+        return new TaskFilterRow(
+                task.getId(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getCategory() != null ? task.getCategory().getId() : null,
+                task.getAssignedUser() != null ? task.getAssignedUser().getId() : null,
+                task.getSquad() != null ? task.getSquad().getId() : null,
+                task.getCreatedAt(),
+                task.getDueDate());
+    }
+
+    /** Remoção da tarefa do índice */
+    public static TaskFilterRow removed(Long id) {
+        return new TaskFilterRow(id, null, null, null, null, null, null, null);
+    }
+}
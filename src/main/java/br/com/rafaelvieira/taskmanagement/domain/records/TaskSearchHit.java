@@ -0,0 +1,42 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import br.com.rafaelvieira.taskmanagement.repository.TaskSearchRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * Resultado da busca textual de tarefas. {@code titleHighlight} e {@code snippet} são HTML seguro:
+ * o texto vem escapado e só os termos encontrados ficam entre {@code <mark>}.
+ *
+ * @param task Tarefa encontrada
+ * @param rank Relevância; maior primeiro
+ * @param titleHighlight Título com destaque
+ * @param snippet Trechos da descrição com destaque; quando o termo só aparece no título, o início
+ *     da descrição sem destaque
+ */
+public record TaskSearchHit(TaskRecord task, double rank, String titleHighlight, String snippet) {
+
+    // a remoção das tags deixa espaços repetidos no lugar delas
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static TaskSearchHit of(TaskRecord task, TaskSearchRepository.Match match) {
+        // a descrição é HTML: as entidades (&amp;, &nbsp;) voltam a texto antes do escape
+        String snippet = HtmlUtils.htmlUnescape(nullToEmpty(match.snippet()));
+        return new TaskSearchHit(
+                task,
+                match.rank(),
+                toHtml(match.titleHighlight()),
+                toHtml(WHITESPACE.matcher(snippet).replaceAll(" ").strip()));
+    }
+
+    private static String toHtml(String marked) {
+        return HtmlUtils.htmlEscape(nullToEmpty(marked), StandardCharsets.UTF_8.name())
+                .replace(TaskSearchRepository.MARK_START, "<mark>")
+                .replace(TaskSearchRepository.MARK_END, "</mark>");
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+
+/**
+ * Diff compacto do estado de uma tarefa enviado via STOMP. Contém apenas o necessário para o
+ * cliente atualizar cards e timers sem buscar novamente os fragmentos HTML; campos nulos são
+ * omitidos na serialização.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskStateDiff(
+        String type,
+        Long taskId,
+        Long squadId,
+        Long assignedUserId,
+        String assignedUserName,
+        String title,
+        TaskStatus previousStatus,
+        TaskStatus status,
+        LocalDateTime mainStartedAt,
+        Long mainElapsedSeconds,
+        LocalDateTime pomodoroUntil,
+        LocalDateTime scheduledStartAt,
+        LocalDateTime dueDate,
+        Integer executionTimeMinutes,
+        Integer pomodoroMinutes,
+        Integer pomodoroBreakMinutes,
+        LocalDateTime timestamp) {
+
+    public static final String TYPE_CHANGED = "TASK_STATE";
+    public static final String TYPE_DELETED = "TASK_DELETED";
+
+    /** Captura o estado atual da tarefa */
+    public static TaskStateDiff of(Task task, TaskStatus previousStatus) {
+        return new TaskStateDiff(
+                TYPE_CHANGED,
+                task.getId(),
+                task.getSquad() != null ? task.getSquad().getId() : null,
+                task.getAssignedUser() != null ? task.getAssignedUser().getId() : null,
+                task.getAssignedUser() != null ? task.getAssignedUser().getFullName() : null,
+                task.getTitle(),
+                previousStatus,
+                task.getStatus(),
+                task.getMainStartedAt(),
+                task.getMainElapsedSeconds(),
+                task.getPomodoroUntil(),
+                task.getScheduledStartAt(),
+                task.getDueDate(),
+                task.getExecutionTimeMinutes(),
+                task.getPomodoroMinutes(),
+                task.getPomodoroBreakMinutes(),
+                LocalDateTime.now());
+    }
+
+    /** Diff de remoção: apenas identificadores e o último status conhecido */
+    public static TaskStateDiff deleted(Task task) {
+        return new TaskStateDiff(
+                TYPE_DELETED,
+                task.getId(),
+                task.getSquad() != null ? task.getSquad().getId() : null,
+                task.getAssignedUser() != null ? task.getAssignedUser().getId() : null,
+                null,
+                null,
+                task.getStatus(),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.rafaelvieira.taskmanagement.domain.records;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Frame compacto do timer de uma tarefa, enviado a {@code /user/queue/timer-state} só quando o
+ * status muda (início, pausa, fim de pomodoro/intervalo, término do tempo). Com ele o cliente anima
+ * os cronômetros localmente, sem consultar {@code /api/tasks/{id}/elapsed}.
+ *
+ * <p>Os instantes vão em epoch millis (sem ambiguidade de fuso) e {@code serverTime} permite ao
+ * cliente calcular a diferença entre o relógio dele e o do servidor.
+ *
+ * @param mainStartedAt Início do trecho em execução, ou {@code null} fora de IN_PROGRESS
+ * @param mainElapsedSeconds Segundos acumulados antes de {@code mainStartedAt}
+ * @param pomodoroUntil Fim do pomodoro (IN_PROGRESS) ou do intervalo (IN_PAUSE)
+ * @param serverTime Relógio do servidor na montagem do frame
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskTimerState(
+        String type,
+        Long taskId,
+        TaskStatus status,
+        Long mainStartedAt,
+        long mainElapsedSeconds,
+        Long pomodoroUntil,
+        long serverTime) {
+
+    public static final String TYPE = "TIMER_STATE";
+
+    /** Extrai o timer do diff de estado; os LocalDateTime estão no fuso do servidor */
+    public static TaskTimerState of(TaskStateDiff diff) {
+        return new TaskTimerState(
+                TYPE,
+                diff.taskId(),
+                diff.status(),
+                toEpochMilli(diff.mainStartedAt()),
+                diff.mainElapsedSeconds() != null ? diff.mainElapsedSeconds() : 0L,
+                toEpochMilli(diff.pomodoroUntil()),
+                System.currentTimeMillis());
+    }
+
+    private static Long toEpochMilli(LocalDateTime value) {
+        return value != null
+                ? value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : null;
+    }
+}
@@ -0,0 +1,190 @@
+package br.com.rafaelvieira.taskmanagement.event;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskFilterRow;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskStateDiff;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Evento técnico publicado sempre que uma tarefa muda de estado (criação, troca de status,
+ * atribuição ou remoção). Carrega apenas identificadores e um snapshot do estado ({@link
+ * TaskStateDiff}) para poder ser consumido após o commit, sem depender da sessão JPA que originou a
+ * alteração.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Getter
+public class TaskChangedEvent extends ApplicationEvent {
+
+    private final Long taskId;
+    private final Long squadId;
+
+    /** Squad antes da alteração; difere de {@code squadId} quando a tarefa mudou de squad */
+    private final Long previousSquadId;
+
+    private final Long assignedUserId;
+
+    /** Responsável antes da alteração; difere de {@code assignedUserId} numa reatribuição */
+    private final Long previousAssignedUserId;
+
+    private final TaskStatus previousStatus;
+    private final TaskStatus newStatus;
+
+    /** Estado da tarefa no momento da alteração, enviado aos clientes conectados */
+    private final TaskStateDiff state;
+
+    /**
+     * Colunas do {@code TaskFilterIndex}, fora do diff enviado aos clientes; {@code null} quando o
+     * evento não foi criado a partir da tarefa (a recarga periódica do índice cobre o caso)
+     */
+    private final TaskFilterRow filterRow;
+
+    /** Usernames interessados na alteração (responsável e criador) */
+    private final Set<String> recipients;
+
+    public TaskChangedEvent(
+            Object source,
+            Long taskId,
+            Long squadId,
+            Long assignedUserId,
+            TaskStatus previousStatus,
+            TaskStatus newStatus,
+            TaskStateDiff state,
+            Set<String> recipients) {
+        this(
+                source,
+                new Ids(taskId, squadId, squadId, assignedUserId, assignedUserId),
+                previousStatus,
+                newStatus,
+                state,
+                null,
+                recipients);
+    }
+
+    private TaskChangedEvent(
+            Object source,
+            Ids ids,
+            TaskStatus previousStatus,
+            TaskStatus newStatus,
+            TaskStateDiff state,
+            TaskFilterRow filterRow,
+            Set<String> recipients) {
+        super(source);
+        this.taskId = ids.taskId();
+        this.squadId = ids.squadId();
+        this.previousSquadId = ids.previousSquadId();
+        this.assignedUserId = ids.assignedUserId();
+        this.previousAssignedUserId = ids.previousAssignedUserId();
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.state = state;
+        this.filterRow = filterRow;
+        this.recipients = recipients;
+    }
+
+    /** Cria o evento a partir do estado atual da tarefa */
+    public static TaskChangedEvent of(Object source, Task task, TaskStatus previousStatus) {
+        return since(
+                source, task, new Before(previousStatus, squadIdOf(task), assignedUserIdOf(task)));
+    }
+
+    /**
+     * Cria o evento de uma alteração que pode ter mudado squad ou responsável desde {@code before}
+     */
+    public static TaskChangedEvent since(Object source, Task task, Before before) {
+        return new TaskChangedEvent(
+                source,
+                new Ids(
+                        task.getId(),
+                        squadIdOf(task),
+                        before.squadId(),
+                        assignedUserIdOf(task),
+                        before.assignedUserId()),
+                before.status(),
+                task.getStatus(),
+                TaskStateDiff.of(task, before.status()),
+                TaskFilterRow.of(task),
+                recipientsOf(task));
+    }
+
+    /** Cria o evento de remoção da tarefa */
+    public static TaskChangedEvent deleted(Object source, Task task) {
+        return new TaskChangedEvent(
+                source,
+                new Ids(
+                        task.getId(),
+                        squadIdOf(task),
+                        squadIdOf(task),
+                        assignedUserIdOf(task),
+                        assignedUserIdOf(task)),
+                task.getStatus(),
+                null,
+                TaskStateDiff.deleted(task),
+                TaskFilterRow.removed(task.getId()),
+                recipientsOf(task));
+    }
+
+    private static Long squadIdOf(Task task) {
+        return task.getSquad() != null ? task.getSquad().getId() : null;
+    }
+
+    private static Long assignedUserIdOf(Task task) {
+        return task.getAssignedUser() != null ? task.getAssignedUser().getId() : null;
+    }
+
+    private static Set<String> recipientsOf(Task task) {
+        Set<String> recipients = new HashSet<>();
+        addUsername(recipients, task.getAssignedUser());
+        addUsername(recipients, task.getCreatedBy());
+        return Set.copyOf(recipients);
+    }
+
+    private static void addUsername(Set<String> recipients, User user) {
+        if (user != null && user.getUsername() != null) {
+            recipients.add(user.getUsername());
+        }
+    }
+
+    public boolean isStatusChange() {
+        return previousStatus != newStatus;
+    }
+
+    public boolean isDeleted() {
+        return newStatus == null;
+    }
+
+    public boolean isSquadChange() {
+        return !Objects.equals(previousSquadId, squadId);
+    }
+
+    public boolean isReassignment() {
+        return !Objects.equals(previousAssignedUserId, assignedUserId);
+    }
+
+    /**
+     * Estado da tarefa antes da alteração, capturado antes de a entidade ser modificada
+     *
+     * @param status Status anterior; {@code null} na criação
+     */
+    public record Before(TaskStatus status, Long squadId, Long assignedUserId) {
+
+        public static Before of(Task task) {
+            return new Before(task.getStatus(), squadIdOf(task), assignedUserIdOf(task));
+        }
+    }
+
+    /** Identificadores agrupados para o construtor completo */
+    private record Ids(
+            Long taskId,
+            Long squadId,
+            Long previousSquadId,
+            Long assignedUserId,
+            Long previousAssignedUserId) {}
+}
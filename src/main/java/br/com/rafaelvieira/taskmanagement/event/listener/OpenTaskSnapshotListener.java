@@ -0,0 +1,35 @@
+package br.com.rafaelvieira.taskmanagement.event.listener;
+
+import br.com.rafaelvieira.taskmanagement.domain.records.OpenTaskRow;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskStateDiff;
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
+import br.com.rafaelvieira.taskmanagement.service.OpenTaskSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Aplica no {@link OpenTaskSnapshot} o novo estado de cada tarefa alterada. Executa após o commit:
+ * uma transação desfeita não deixa rastro no snapshot.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenTaskSnapshotListener {
+
+    private final OpenTaskSnapshot openTaskSnapshot;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskStateDiff state = event.getState();
+        openTaskSnapshot.apply(
+                new OpenTaskRow(
+                        event.getTaskId(),
+                        event.getNewStatus(),
+                        state != null ? state.dueDate() : null,
+                        state != null ? state.scheduledStartAt() : null));
+    }
+}
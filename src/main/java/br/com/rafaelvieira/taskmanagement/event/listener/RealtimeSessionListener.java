@@ -0,0 +1,45 @@
+package br.com.rafaelvieira.taskmanagement.event.listener;
+
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
+import br.com.rafaelvieira.taskmanagement.service.NotificationService;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * Conta as sessões STOMP abertas e publica, junto com os streams SSE de fallback, no gauge {@code
+ * taskmanagement.realtime.sessions}. Cada aba mantém uma única sessão; o gauge mostra se algum
+ * script voltou a abrir conexões próprias.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Component
+public class RealtimeSessionListener {
+
+    // O desconectar pode ser publicado mais de uma vez por sessão: conta por ID, não por evento
+    private final Set<String> stompSessions = ConcurrentHashMap.newKeySet();
+
+    public RealtimeSessionListener(AppMetrics metrics, NotificationService notificationService) {
+        metrics.gaugeRealtimeSessions(AppMetrics.CHANNEL_WEBSOCKET, stompSessions::size);
+        metrics.gaugeRealtimeSessions(
+                AppMetrics.CHANNEL_SSE, notificationService::countActiveStreams);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            stompSessions.add(sessionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        stompSessions.remove(event.getSessionId());
+    }
+}
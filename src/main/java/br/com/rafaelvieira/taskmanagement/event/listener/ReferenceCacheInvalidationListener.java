@@ -0,0 +1,254 @@
+package br.com.rafaelvieira.taskmanagement.event.listener;
+
+import br.com.rafaelvieira.taskmanagement.config.ApplicationProperties;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidação do cache de segundo nível entre instâncias. Cada instância guarda as regiões na
+ * própria memória, então uma alteração feita em outra só seria vista após o TTL. Depois do commit
+ * de qualquer entidade em cache, esta classe publica {@code <instância>|<entidade>|<id>} no canal
+ * {@code LISTEN/NOTIFY} do PostgreSQL; as outras instâncias descartam a entrada e os resultados de
+ * consulta em cache.
+ *
+ * <p>O {@code NOTIFY} sai de uma thread própria, fora da transação que acabou de ser confirmada. A
+ * escuta usa uma conexão dedicada (fora do pool); se ela cair, as mensagens do intervalo se perdem
+ * e o cache inteiro é descartado ao reconectar.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@ConditionalOnBooleanProperty(name = "app.second-level-cache.cluster-invalidation")
+public class ReferenceCacheInvalidationListener
+        implements SmartLifecycle,
+                PostCommitInsertEventListener,
+                PostCommitUpdateEventListener,
+                PostCommitDeleteEventListener {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String SEPARATOR = "|";
+    private static final int POLL_TIMEOUT_MS = 1_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private boolean registered;
+    private ExecutorService notifier;
+    private Thread listenerThread;
+    private volatile boolean running;
+
+    public ReferenceCacheInvalidationListener(
+            EntityManagerFactory entityManagerFactory,
+            JdbcTemplate jdbcTemplate,
+            ApplicationProperties properties,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = properties.getSecondLevelCache().getInvalidationChannel();
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid invalidation channel: " + channel);
+        }
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!registered) {
+            EventListenerRegistry registry =
+                    entityManagerFactory
+                            .unwrap(SessionFactoryImplementor.class)
+                            .getEventListenerRegistry();
+            registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+            registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+            registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+            registered = true;
+        }
+
+        notifier =
+                Executors.newSingleThreadExecutor(
+                        Thread.ofPlatform().name("l2-invalidation-notify").daemon().factory());
+        running = true;
+        listenerThread =
+                Thread.ofPlatform().name("l2-invalidation-listen").daemon().start(this::listenLoop);
+        log.info("Invalidação do cache L2 entre instâncias ativa (canal {})", channel);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (notifier != null) {
+            notifier.shutdown();
+            notifier = null;
+        }
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Sem commit não há o que invalidar nas outras instâncias
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Sem commit não há o que invalidar nas outras instâncias
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Sem commit não há o que invalidar nas outras instâncias
+    }
+
+    /** Identificador desta instância nas mensagens publicadas */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Aplica uma mensagem recebida no canal. As mensagens da própria instância são ignoradas (o
+     * Hibernate já atualizou o cache local no commit).
+     */
+    public void onNotification(String payload) {
+        String[] parts = payload.split(Pattern.quote(SEPARATOR), 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        Cache cache = secondLevelCache();
+        try {
+            cache.evictEntityData(parts[1], Long.valueOf(parts[2]));
+        } catch (NumberFormatException e) {
+            cache.evictEntityData(parts[1]);
+        }
+        cache.evictDefaultQueryRegion();
+        log.debug("Cache L2 invalidado por outra instância: {} #{}", parts[1], parts[2]);
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        String payload = nodeId + SEPARATOR + persister.getEntityName() + SEPARATOR + id;
+        ExecutorService executor = notifier;
+        if (executor == null) {
+            return;
+        }
+        executor.execute(
+                () -> {
+                    try {
+                        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+                    } catch (DataAccessException e) {
+                        log.warn("Falha ao publicar a invalidação do cache L2: {}", payload, e);
+                    }
+                });
+    }
+
+    private void listenLoop() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password);
+                    Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + channel);
+                if (reconnecting) {
+                    // Mensagens do período desconectado foram perdidas
+                    secondLevelCache().evictAll();
+                    log.info("Escuta do cache L2 restabelecida; regiões descartadas");
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        onNotification(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | HibernateException e) {
+                if (!running) {
+                    return;
+                }
+                reconnecting = true;
+                log.warn(
+                        "Escuta do cache L2 interrompida, nova tentativa em {} ms: {}",
+                        RECONNECT_DELAY_MS,
+                        e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private Cache secondLevelCache() {
+        return entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+}
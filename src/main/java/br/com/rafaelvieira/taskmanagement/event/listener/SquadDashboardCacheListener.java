@@ -0,0 +1,33 @@
+package br.com.rafaelvieira.taskmanagement.event.listener;
+
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
+import br.com.rafaelvieira.taskmanagement.service.SquadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalida as métricas em cache do dashboard da squad quando uma tarefa da squad muda. Executa após
+ * o commit para que a próxima leitura já enxergue o novo estado. Uma tarefa movida entre squads
+ * invalida as duas.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Component
+@RequiredArgsConstructor
+public class SquadDashboardCacheListener {
+
+    private final SquadService squadService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getSquadId() != null) {
+            squadService.evictDashboardCache(event.getSquadId());
+        }
+        if (event.isSquadChange() && event.getPreviousSquadId() != null) {
+            squadService.evictDashboardCache(event.getPreviousSquadId());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.rafaelvieira.taskmanagement.event.listener;
+
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
+import br.com.rafaelvieira.taskmanagement.service.TaskBadgeCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalida os contadores de atrasadas / a vencer do responsável quando uma tarefa dele muda e, numa
+ * reatribuição, também os do responsável anterior. Executa após o commit para que a recontagem já
+ * enxergue o novo estado.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskBadgeCacheListener {
+
+    private final TaskBadgeCounterService badgeCounterService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getAssignedUserId() != null) {
+            badgeCounterService.evict(event.getAssignedUserId());
+        }
+        if (event.isReassignment() && event.getPreviousAssignedUserId() != null) {
+            badgeCounterService.evict(event.getPreviousAssignedUserId());
+        }
+    }
+}
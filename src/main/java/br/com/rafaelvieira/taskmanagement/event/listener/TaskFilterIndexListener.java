@@ -0,0 +1,29 @@
+package br.com.rafaelvieira.taskmanagement.event.listener;
+
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
+import br.com.rafaelvieira.taskmanagement.service.TaskFilterIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Reindexa no {@link TaskFilterIndex} cada tarefa alterada. Executa após o commit: uma transação
+ * desfeita não deixa rastro no índice.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskFilterIndexListener {
+
+    private final TaskFilterIndex taskFilterIndex;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getFilterRow() != null) {
+            taskFilterIndex.apply(event.getFilterRow());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.rafaelvieira.taskmanagement.event.listener;
+
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskTimerState;
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
+import br.com.rafaelvieira.taskmanagement.service.WebSocketService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Publica o diff de estado da tarefa nos tópicos STOMP da squad e na fila de cada usuário
+ * interessado. Substitui o polling dos fragmentos do dashboard: os clientes só buscam HTML na
+ * primeira carga e aplicam os diffs recebidos daqui em diante. O diff é serializado uma vez só,
+ * qualquer que seja o número de destinos.
+ *
+ * <p>Nas trocas de status vai também o {@link TaskTimerState} para a fila {@code timer-state} dos
+ * mesmos usuários: é o único momento em que o cronômetro muda de regra (o job do timer não publica
+ * nada enquanto a tarefa só está correndo), então os clientes não precisam consultar o tempo.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskStatePushListener {
+
+    private final WebSocketService webSocketService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getState() == null) {
+            return;
+        }
+        webSocketService.sendTaskState(event.getSquadId(), event.getRecipients(), event.getState());
+        if (event.isStatusChange() && !event.isDeleted()) {
+            webSocketService.sendTimerState(
+                    event.getRecipients(), TaskTimerState.of(event.getState()));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.rafaelvieira.taskmanagement.exception;
+
+/**
+ * Lançada quando um escopo (requisição, job ou trecho de teste) executa mais comandos SQL ou
+ * consome mais tempo de JDBC do que o orçamento configurado em {@code app.sql}. Só é lançada com
+ * {@code app.sql.fail-on-exceed=true} ou pela API de asserção usada nos testes.
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.rafaelvieira.taskmanagement.metrics;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.NotificationType;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.util.function.Supplier;
+import javax.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ponto único de registro das métricas de domínio (prefixo {@code taskmanagement.}). Os nomes e
+ * tags ficam concentrados aqui para que o dashboard em {@code monitoring/grafana} e o endpoint
+ * {@code /actuator/prometheus} não dependam de strings espalhadas pelos serviços.
+ *
+ * <p>Todas as tags têm cardinalidade fechada (enums e nomes fixos); IDs de tarefa ou usuário nunca
+ * viram tag.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Component
+@RequiredArgsConstructor
+public class AppMetrics {
+
+    public static final String TASK_SERVICE = "taskmanagement.task.service";
+
+    public static final String CHANNEL_SSE = "sse";
+    public static final String CHANNEL_WEBSOCKET = "websocket";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+    public static final String OUTCOME_NO_SUBSCRIBER = "no_subscriber";
+    public static final String OUTCOME_CREATED = "created";
+    public static final String OUTCOME_DEDUPLICATED = "deduplicated";
+
+    public static final String GITHUB_HIT = "hit";
+    public static final String GITHUB_COALESCED = "coalesced";
+    public static final String GITHUB_FETCHED = "fetched";
+    public static final String GITHUB_REVALIDATED = "revalidated";
+    public static final String GITHUB_NOT_FOUND = "not_found";
+    public static final String GITHUB_STALE = "stale";
+    public static final String GITHUB_REJECTED = "rejected";
+    public static final String GITHUB_ERROR = "error";
+
+    private static final String TIMER_TICK = "taskmanagement.timer.tick";
+    private static final String TIMER_TICK_TASKS = "taskmanagement.timer.tick.tasks";
+    private static final String TIMER_TRANSITIONS = "taskmanagement.timer.transitions";
+    private static final String SCHEDULER_CHECK = "taskmanagement.scheduler.check";
+    private static final String SCHEDULER_CHECK_TASKS = "taskmanagement.scheduler.check.tasks";
+    private static final String NOTIFICATION_CREATE = "taskmanagement.notification.create";
+    private static final String NOTIFICATION_DELIVERY = "taskmanagement.notification.delivery";
+    private static final String PUSH_FAILURES = "taskmanagement.push.failures";
+    private static final String GITHUB_LOOKUPS = "taskmanagement.github.lookups";
+    private static final String REALTIME_SESSIONS = "taskmanagement.realtime.sessions";
+    private static final String OPEN_TASKS = "taskmanagement.open.tasks";
+
+    private final MeterRegistry registry;
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /** Duração de um tick do {@code TaskTimerJob} e quantidade de tarefas varridas */
+    public void recordTimerTick(Timer.Sample sample, int scanned) {
+        sample.stop(Timer.builder(TIMER_TICK).register(registry));
+        DistributionSummary.builder(TIMER_TICK_TASKS)
+                .baseUnit("tasks")
+                .register(registry)
+                .record(scanned);
+    }
+
+    /** Transição de status aplicada pelo job, por origem e destino */
+    public void countTransition(TaskStatus from, TaskStatus to) {
+        Counter.builder(TIMER_TRANSITIONS)
+                .tag("from", String.valueOf(from))
+                .tag("to", String.valueOf(to))
+                .register(registry)
+                .increment();
+    }
+
+    /** Duração de uma verificação do {@code NotificationScheduler} e tarefas avaliadas */
+    public void recordSchedulerCheck(String check, Timer.Sample sample, int scanned) {
+        sample.stop(Timer.builder(SCHEDULER_CHECK).tag("check", check).register(registry));
+        DistributionSummary.builder(SCHEDULER_CHECK_TASKS)
+                .baseUnit("tasks")
+                .tag("check", check)
+                .register(registry)
+                .record(scanned);
+    }
+
+    /** Tempo de criação de uma notificação, da deduplicação à entrega nos canais */
+    public void recordNotificationCreate(
+            Timer.Sample sample, NotificationType type, String outcome) {
+        sample.stop(
+                Timer.builder(NOTIFICATION_CREATE)
+                        .tag("type", String.valueOf(type))
+                        .tag("outcome", outcome)
+                        .register(registry));
+    }
+
+    /** Latência de entrega de uma notificação em um canal (SSE ou WebSocket) */
+    public void recordNotificationDelivery(Timer.Sample sample, String channel, String outcome) {
+        sample.stop(
+                Timer.builder(NOTIFICATION_DELIVERY)
+                        .tag("channel", channel)
+                        .tag("outcome", outcome)
+                        .register(registry));
+    }
+
+    /** Falha de envio por SSE/WebSocket; {@code destination} é o destino lógico, sem IDs */
+    public void countPushFailure(String channel, String destination) {
+        Counter.builder(PUSH_FAILURES)
+                .tag("channel", channel)
+                .tag("destination", destination)
+                .register(registry)
+                .increment();
+    }
+
+    /** Conexões de tempo real abertas no canal (sessões STOMP ou streams SSE de fallback) */
+    public void gaugeRealtimeSessions(String channel, Supplier<Number> sessions) {
+        Gauge.builder(REALTIME_SESSIONS, sessions)
+                .tag("channel", channel)
+                .baseUnit("sessions")
+                .register(registry);
+    }
+
+    /** Tarefas abertas guardadas no {@code OpenTaskSnapshot} desta instância */
+    public void gaugeOpenTasks(Supplier<Number> openTasks) {
+        Gauge.builder(OPEN_TASKS, openTasks).baseUnit("tasks").register(registry);
+    }
+
+    /** Resultado de uma consulta ao proxy do GitHub (cache, coalescência, rede ou disjuntor) */
+    public void countGithubLookup(String outcome) {
+        Counter.builder(GITHUB_LOOKUPS).tag("outcome", outcome).register(registry).increment();
+    }
+
+    /**
+     * Acertos, faltas, inclusões e remoções de uma região do cache de segundo nível ({@code
+     * cache.gets{cache=<região>,result=hit|miss}}, {@code cache.puts}, {@code cache.removals})
+     */
+    public void monitorCacheRegion(Cache<?, ?> region) {
+        JCacheMetrics.monitor(registry, region);
+    }
+}
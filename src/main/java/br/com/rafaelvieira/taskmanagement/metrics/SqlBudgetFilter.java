@@ -0,0 +1,42 @@
+package br.com.rafaelvieira.taskmanagement.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Abre um escopo de SQL por requisição HTTP. O escopo recebe o nome {@code "<MÉTODO> <rota>"}
+ * usando o padrão da rota (ex.: {@code GET /api/tasks/{id}}), mantendo a cardinalidade das tags
+ * fechada; requisições sem rota mapeada ficam como {@code UNKNOWN}.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatementTracker tracker;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlScope scope = tracker.begin(SqlStatementTracker.KIND_HTTP, request.getMethod());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            scope.rename(request.getMethod() + " " + (pattern != null ? pattern : UNKNOWN_URI));
+            scope.close();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.rafaelvieira.taskmanagement.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Abre um escopo de SQL ({@code "<Classe>.<método>"}) em volta de cada execução de método
+ * {@code @Scheduled}. Roda antes do {@code @Transactional} para que os comandos do flush no commit
+ * entrem na conta do job.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlBudgetScheduledAspect {
+
+    private final SqlStatementTracker tracker;
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object trackScheduledJob(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name =
+                joinPoint.getSignature().getDeclaringType().getSimpleName()
+                        + "."
+                        + joinPoint.getSignature().getName();
+        try (SqlScope ignored = tracker.begin(SqlStatementTracker.KIND_JOB, name)) {
+            return joinPoint.proceed();
+        }
+    }
+}
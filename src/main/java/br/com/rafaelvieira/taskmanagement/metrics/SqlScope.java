@@ -0,0 +1,113 @@
+package br.com.rafaelvieira.taskmanagement.metrics;
+
+import br.com.rafaelvieira.taskmanagement.exception.SqlBudgetExceededException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Acumulador dos comandos SQL executados na thread atual entre {@link
+ * SqlStatementTracker#begin(String, String)} e {@link #close()}. Escopos podem ser aninhados (um
+ * teste envolvendo uma requisição, por exemplo): cada comando conta no escopo atual e em todos os
+ * externos.
+ *
+ * <p>Uso em testes de integração:
+ *
+ * <pre>{@code
+ * try (SqlScope scope = sqlStatementTracker.track("dashboard")) {
+ *     mockMvc.perform(get("/"));
+ *     scope.assertStatementsAtMost(10);
+ * }
+ * }</pre>
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+public final class SqlScope implements AutoCloseable {
+
+    private final SqlStatementTracker tracker;
+    private final String kind;
+    private final SqlScope parent;
+    private final int captureLimit;
+    private final List<String> captured = new ArrayList<>();
+    private String name;
+    private int statements;
+    private long jdbcNanos;
+
+    SqlScope(SqlStatementTracker tracker, String kind, String name, SqlScope parent, int limit) {
+        this.tracker = tracker;
+        this.kind = kind;
+        this.name = name;
+        this.parent = parent;
+        this.captureLimit = limit;
+    }
+
+    void record(long nanos, String sql) {
+        for (SqlScope scope = this; scope != null; scope = scope.parent) {
+            scope.statements++;
+            scope.jdbcNanos += nanos;
+            if (scope.captured.size() < scope.captureLimit) {
+                scope.captured.add(sql);
+            }
+        }
+    }
+
+    SqlScope parent() {
+        return parent;
+    }
+
+    /** O nome de uma requisição só é conhecido depois do mapeamento da rota */
+    void rename(String resolvedName) {
+        this.name = resolvedName;
+    }
+
+    public String kind() {
+        return kind;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public Duration jdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    /** Primeiros comandos executados no escopo, até {@code app.sql.capture-limit} */
+    public List<String> capturedStatements() {
+        return List.copyOf(captured);
+    }
+
+    /** Falha se o escopo executou mais de {@code budget} comandos */
+    public void assertStatementsAtMost(int budget) {
+        if (statements > budget) {
+            throw new SqlBudgetExceededException(describe(budget));
+        }
+    }
+
+    String describe(int budget) {
+        StringBuilder message =
+                new StringBuilder(
+                        String.format(
+                                "%s executou %d comandos SQL (orçamento %d) em %d ms de JDBC",
+                                name, statements, budget, jdbcTime().toMillis()));
+        for (String sql : captured) {
+            message.append(System.lineSeparator()).append("  ").append(sql);
+        }
+        if (statements > captured.size()) {
+            message.append(System.lineSeparator())
+                    .append("  ... mais ")
+                    .append(statements - captured.size());
+        }
+        return message.toString();
+    }
+
+    @Override
+    public void close() {
+        tracker.end(this);
+    }
+}
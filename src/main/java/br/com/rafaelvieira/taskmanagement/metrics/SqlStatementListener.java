@@ -0,0 +1,43 @@
+package br.com.rafaelvieira.taskmanagement.metrics;
+
+import java.util.List;
+import java.util.function.Supplier;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Listener do datasource-proxy que mede cada execução JDBC e repassa ao {@link
+ * SqlStatementTracker}. Um batch conta como um comando (uma ida ao banco). O tracker é resolvido
+ * sob demanda porque o proxy é criado por um {@code BeanPostProcessor}, antes do {@code
+ * MeterRegistry} existir.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = "sqlBudget.startNanos";
+
+    private final Supplier<SqlStatementTracker> tracker;
+
+    public SqlStatementListener(Supplier<SqlStatementTracker> tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long nanos = start != null ? System.nanoTime() - start : 0L;
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        SqlStatementTracker current = tracker.get();
+        if (current != null) {
+            current.record(nanos, sql);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.rafaelvieira.taskmanagement.metrics;
+
+import br.com.rafaelvieira.taskmanagement.config.ApplicationProperties;
+import br.com.rafaelvieira.taskmanagement.exception.SqlBudgetExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Orçamento de SQL por escopo. Cada comando JDBC (Hibernate ou {@code JdbcTemplate}) passa por
+ * {@link #record(long, String)} via datasource-proxy; o escopo aberto na thread atual acumula
+ * quantidade e tempo, e ao fechar publica {@code taskmanagement.sql.statements} e {@code
+ * taskmanagement.sql.time} e loga quem passou do orçamento de {@code app.sql}.
+ *
+ * <p>Escopos são abertos pelo {@link SqlBudgetFilter} (requisições), pelo {@link
+ * SqlBudgetScheduledAspect} (jobs {@code @Scheduled}) e por {@link #track(String)} nos testes.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatementTracker {
+
+    public static final String KIND_HTTP = "http";
+    public static final String KIND_JOB = "job";
+    public static final String KIND_TEST = "test";
+
+    private static final String NO_SCOPE = "-";
+    private static final int MAX_LOGGED_SQL = 500;
+
+    private static final ThreadLocal<SqlScope> CURRENT = new ThreadLocal<>();
+
+    private final ApplicationProperties properties;
+    private final MeterRegistry registry;
+
+    /** Abre um escopo na thread atual; feche com {@link SqlScope#close()} */
+    public SqlScope begin(String kind, String name) {
+        SqlScope scope =
+                new SqlScope(
+                        this, kind, name, CURRENT.get(), properties.getSql().getCaptureLimit());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /** API de teste: abre um escopo que não publica excesso, use com assertStatementsAtMost */
+    public SqlScope track(String name) {
+        return begin(KIND_TEST, name);
+    }
+
+    void record(long nanos, String sql) {
+        SqlScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(nanos, sql);
+        }
+        long slowQueryMs = properties.getSql().getSlowQueryMs();
+        if (TimeUnit.NANOSECONDS.toMillis(nanos) >= slowQueryMs) {
+            String scopeName = scope != null ? scope.name() : NO_SCOPE;
+            Counter.builder("taskmanagement.sql.slow")
+                    .tag("kind", scope != null ? scope.kind() : NO_SCOPE)
+                    .tag("name", scopeName)
+                    .register(registry)
+                    .increment();
+            log.warn(
+                    "Consulta lenta em {}: {} ms (limite {} ms) - {}",
+                    scopeName,
+                    TimeUnit.NANOSECONDS.toMillis(nanos),
+                    slowQueryMs,
+                    abbreviate(sql));
+        }
+    }
+
+    void end(SqlScope scope) {
+        if (scope.parent() != null) {
+            CURRENT.set(scope.parent());
+        } else {
+            CURRENT.remove();
+        }
+        if (KIND_TEST.equals(scope.kind())) {
+            return;
+        }
+
+        DistributionSummary.builder("taskmanagement.sql.statements")
+                .baseUnit("statements")
+                .tag("kind", scope.kind())
+                .tag("name", scope.name())
+                .register(registry)
+                .record(scope.statements());
+        Timer.builder("taskmanagement.sql.time")
+                .tag("kind", scope.kind())
+                .tag("name", scope.name())
+                .register(registry)
+                .record(scope.jdbcTime());
+
+        ApplicationProperties.Sql config = properties.getSql();
+        int budget = config.statementBudgetFor(scope.name());
+        boolean overStatements = scope.statements() > budget;
+        boolean overTime = scope.jdbcTime().toMillis() > config.getTimeBudgetMs();
+        if (!overStatements && !overTime) {
+            return;
+        }
+
+        Counter.builder("taskmanagement.sql.budget.exceeded")
+                .tag("kind", scope.kind())
+                .tag("name", scope.name())
+                .register(registry)
+                .increment();
+        log.warn(
+                "Orçamento de SQL excedido em {}: {} comandos (limite {}), {} ms de JDBC (limite"
+                        + " {} ms)",
+                scope.name(),
+                scope.statements(),
+                budget,
+                scope.jdbcTime().toMillis(),
+                config.getTimeBudgetMs());
+        // Tempo de JDBC varia com a máquina; só a quantidade de comandos reprova o teste
+        if (config.isFailOnExceed() && overStatements) {
+            throw new SqlBudgetExceededException(scope.describe(budget));
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_LOGGED_SQL
+                ? singleLine
+                : singleLine.substring(0, MAX_LOGGED_SQL) + "...";
+    }
+}
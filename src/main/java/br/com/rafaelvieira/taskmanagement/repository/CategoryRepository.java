@@ -1,14 +1,23 @@
 package br.com.rafaelvieira.taskmanagement.repository;
 
 import br.com.rafaelvieira.taskmanagement.domain.model.Category;
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<@NotNull Category, @NotNull Long> {
 
+    /** Dropdown de categorias: resultado no cache de consultas, entidades no cache L2 */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Category> findAll();
+
     Optional<Category> findByName(String name);
 
     boolean existsByName(String name);
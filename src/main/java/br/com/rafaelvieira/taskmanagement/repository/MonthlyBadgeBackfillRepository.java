@@ -0,0 +1,95 @@
+package br.com.rafaelvieira.taskmanagement.repository;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.BadgeLevel;
+import br.com.rafaelvieira.taskmanagement.domain.records.MonthlyCompletionCount;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Escritas em lote do backfill de selos mensais. Usa JDBC direto porque o volume (um registro por
+ * usuário e mês) não se beneficia do contexto de persistência do JPA.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Repository
+@RequiredArgsConstructor
+public class MonthlyBadgeBackfillRepository {
+
+    private static final String RESET_MONTH_SQL =
+            """
+            UPDATE user_monthly_badges
+            SET tasks_completed_in_squads = 0, badge_level = 'NONE',
+                calculated_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP
+            WHERE reference_year = ? AND reference_month = ? AND tasks_completed_in_squads <> 0
+            """;
+
+    private static final String UPSERT_BADGE_SQL =
+            """
+            INSERT INTO user_monthly_badges (user_id, reference_year, reference_month, badge_level,
+                                             tasks_completed_in_squads, calculated_at,
+                                             is_current_month, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON CONFLICT (user_id, reference_year, reference_month) DO UPDATE SET
+                badge_level = EXCLUDED.badge_level,
+                tasks_completed_in_squads = EXCLUDED.tasks_completed_in_squads,
+                calculated_at = EXCLUDED.calculated_at,
+                updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String FIND_CHECKPOINTS_SQL =
+            "SELECT reference_year, reference_month FROM badge_backfill_checkpoints WHERE job_id ="
+                    + " ?";
+
+    private static final String SAVE_CHECKPOINT_SQL =
+            """
+            INSERT INTO badge_backfill_checkpoints (job_id, reference_year, reference_month,
+                                                    users_written, completed_at)
+            VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (job_id, reference_year, reference_month) DO UPDATE SET
+                users_written = EXCLUDED.users_written, completed_at = CURRENT_TIMESTAMP
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Zera as contagens do mês antes da regravação, cobrindo usuários sem conclusões no mês */
+    public int resetMonth(YearMonth month) {
+        return jdbcTemplate.update(RESET_MONTH_SQL, month.getYear(), month.getMonthValue());
+    }
+
+    /** Grava as contagens recalculadas em lotes JDBC de {@code batchSize} */
+    public void upsertBadges(
+            List<MonthlyCompletionCount> counts, boolean currentMonth, int batchSize) {
+        jdbcTemplate.batchUpdate(
+                UPSERT_BADGE_SQL,
+                counts,
+                batchSize,
+                (ps, count) -> {
+                    int completed = count.completed().intValue();
+                    ps.setLong(1, count.userId());
+                    ps.setInt(2, count.year());
+                    ps.setInt(3, count.month());
+                    ps.setString(4, BadgeLevel.fromTaskCount(completed).name());
+                    ps.setInt(5, completed);
+                    ps.setBoolean(6, currentMonth);
+                });
+    }
+
+    public Set<YearMonth> findCompletedMonths(String jobId) {
+        return new HashSet<>(
+                jdbcTemplate.query(
+                        FIND_CHECKPOINTS_SQL,
+                        (rs, rowNum) -> YearMonth.of(rs.getInt(1), rs.getInt(2)),
+                        jobId));
+    }
+
+    public void saveCheckpoint(String jobId, YearMonth month, int usersWritten) {
+        jdbcTemplate.update(
+                SAVE_CHECKPOINT_SQL, jobId, month.getYear(), month.getMonthValue(), usersWritten);
+    }
+}
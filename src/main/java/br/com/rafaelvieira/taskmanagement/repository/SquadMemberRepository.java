@@ -22,4 +22,9 @@ public interface SquadMemberRepository extends JpaRepository<SquadMember, Long>
             "SELECT sm FROM SquadMember sm JOIN FETCH sm.user WHERE sm.squad.id = :squadId")
     List<SquadMember> findBySquadId(
             @org.springframework.data.repository.query.Param("squadId") Long squadId);
+
+    @org.springframework.data.jpa.repository.Query(
+            "SELECT sm.squad.id FROM SquadMember sm WHERE sm.user.id = :userId")
+    List<Long> findSquadIdsByUserId(
+            @org.springframework.data.repository.query.Param("userId") Long userId);
 }
@@ -3,10 +3,13 @@ package br.com.rafaelvieira.taskmanagement.repository;
 import br.com.rafaelvieira.taskmanagement.domain.enums.SquadType;
 import br.com.rafaelvieira.taskmanagement.domain.model.Squad;
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,6 +18,8 @@ public interface SquadRepository extends JpaRepository<Squad, Long> {
 
     List<Squad> findByLead(User lead);
 
+    /** Dropdown de squads do líder, consultado a cada requisição das telas de tarefa */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Squad> findByLeadAndActiveTrue(User lead);
 
     List<Squad> findByActiveTrue();
@@ -44,6 +49,9 @@ public interface SquadRepository extends JpaRepository<Squad, Long> {
             @Param("active") Boolean active,
             @Param("search") String search);
 
+    @Query("SELECT s.id FROM Squad s WHERE s.lead.id = :leadId")
+    List<Long> findIdsByLeadId(@Param("leadId") Long leadId);
+
     @Query("SELECT s FROM Squad s LEFT JOIN FETCH s.lead WHERE s.id = :id")
     Optional<Squad> findByIdWithLead(@Param("id") Long id);
 
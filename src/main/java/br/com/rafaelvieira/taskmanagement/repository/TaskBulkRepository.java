@@ -0,0 +1,256 @@
+package br.com.rafaelvieira.taskmanagement.repository;
+
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Escritas das operações em lote de tarefas. Cada operação é enviada em um único batch JDBC; as
+ * atualizações e remoções são condicionadas à versão lida, então um contador zero no retorno indica
+ * que a tarefa foi alterada por outra operação no meio do caminho.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskBulkRepository {
+
+    private static final String INSERT_SQL =
+            """
+            INSERT INTO tasks (title, status, priority, category_id, assigned_user_id, squad_id,
+                               created_by_id, due_date, scheduled_start_at, pomodoro_minutes,
+                               pomodoro_break_minutes, execution_time_minutes,
+                               main_elapsed_seconds, extra_time_minutes, version, created_at,
+                               updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, ?, ?)
+            """;
+
+    private static final String INSERT_DESCRIPTION_SQL =
+            "INSERT INTO task_descriptions (task_id, content, updated_at) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_STATUS_SQL =
+            """
+            UPDATE tasks
+            SET status = ?, main_started_at = ?, main_elapsed_seconds = ?, pomodoro_until = ?,
+                completed_at = ?, updated_at = ?, version = version + 1
+            WHERE id = ? AND version = ?
+            """;
+
+    private static final String UPDATE_PRIORITY_SQL =
+            "UPDATE tasks SET priority = ?, updated_at = ?, version = version + 1"
+                    + " WHERE id = ? AND version = ?";
+
+    private static final String UPDATE_ASSIGNEE_SQL =
+            "UPDATE tasks SET assigned_user_id = ?, updated_at = ?, version = version + 1"
+                    + " WHERE id = ? AND version = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM tasks WHERE id = ? AND version = ?";
+
+    private static final String FINISH_POMODOROS_SQL =
+            """
+            UPDATE pomodoro_sessions
+            SET ended_at = ?, duration_seconds = CAST(EXTRACT(EPOCH FROM (? - started_at)) AS BIGINT)
+            WHERE task_id = ? AND ended_at IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insere as tarefas em um único batch e preenche os IDs gerados; as descrições vão em um
+     * segundo batch para {@code task_descriptions}
+     */
+    public void insertAll(List<Task> tasks) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                setter(
+                        tasks,
+                        (ps, task) -> {
+                            ps.setString(1, task.getTitle());
+                            ps.setString(2, task.getStatus().name());
+                            ps.setString(3, task.getPriority().name());
+                            setId(
+                                    ps,
+                                    4,
+                                    task.getCategory() != null ? task.getCategory().getId() : null);
+                            setId(
+                                    ps,
+                                    5,
+                                    task.getAssignedUser() != null
+                                            ? task.getAssignedUser().getId()
+                                            : null);
+                            setId(ps, 6, task.getSquad() != null ? task.getSquad().getId() : null);
+                            setId(
+                                    ps,
+                                    7,
+                                    task.getCreatedBy() != null
+                                            ? task.getCreatedBy().getId()
+                                            : null);
+                            setTimestamp(ps, 8, task.getDueDate());
+                            setTimestamp(ps, 9, task.getScheduledStartAt());
+                            setInteger(ps, 10, task.getPomodoroMinutes());
+                            setInteger(ps, 11, task.getPomodoroBreakMinutes());
+                            setInteger(ps, 12, task.getExecutionTimeMinutes());
+                            setTimestamp(ps, 13, task.getCreatedAt());
+                            setTimestamp(ps, 14, task.getUpdatedAt());
+                        }),
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            task.setId(((Number) keys.get(i).get("id")).longValue());
+            task.setVersion(0L);
+        }
+
+        List<Task> described =
+                tasks.stream()
+                        .filter(t -> t.getDescription() != null && !t.getDescription().isBlank())
+                        .toList();
+        if (!described.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    INSERT_DESCRIPTION_SQL,
+                    setter(
+                            described,
+                            (ps, task) -> {
+                                ps.setLong(1, task.getId());
+                                ps.setString(2, task.getDescription());
+                                setTimestamp(ps, 3, task.getUpdatedAt());
+                            }));
+        }
+    }
+
+    /** Grava status e campos de timer já calculados em memória */
+    public int[] updateStatuses(List<Task> tasks, LocalDateTime now) {
+        return jdbcTemplate.batchUpdate(
+                UPDATE_STATUS_SQL,
+                setter(
+                        tasks,
+                        (ps, task) -> {
+                            ps.setString(1, task.getStatus().name());
+                            setTimestamp(ps, 2, task.getMainStartedAt());
+                            ps.setLong(
+                                    3,
+                                    task.getMainElapsedSeconds() != null
+                                            ? task.getMainElapsedSeconds()
+                                            : 0L);
+                            setTimestamp(ps, 4, task.getPomodoroUntil());
+                            setTimestamp(ps, 5, task.getCompletedAt());
+                            setTimestamp(ps, 6, now);
+                            setVersionGuard(ps, 7, task);
+                        }));
+    }
+
+    public int[] updatePriorities(List<Task> tasks, LocalDateTime now) {
+        return jdbcTemplate.batchUpdate(
+                UPDATE_PRIORITY_SQL,
+                setter(
+                        tasks,
+                        (ps, task) -> {
+                            ps.setString(1, task.getPriority().name());
+                            setTimestamp(ps, 2, now);
+                            setVersionGuard(ps, 3, task);
+                        }));
+    }
+
+    public int[] updateAssignees(List<Task> tasks, LocalDateTime now) {
+        return jdbcTemplate.batchUpdate(
+                UPDATE_ASSIGNEE_SQL,
+                setter(
+                        tasks,
+                        (ps, task) -> {
+                            setId(
+                                    ps,
+                                    1,
+                                    task.getAssignedUser() != null
+                                            ? task.getAssignedUser().getId()
+                                            : null);
+                            setTimestamp(ps, 2, now);
+                            setVersionGuard(ps, 3, task);
+                        }));
+    }
+
+    public int[] deleteAll(List<Task> tasks) {
+        return jdbcTemplate.batchUpdate(
+                DELETE_SQL, setter(tasks, (ps, task) -> setVersionGuard(ps, 1, task)));
+    }
+
+    /** Encerra as sessões de pomodoro abertas das tarefas informadas */
+    public void finishActivePomodoros(Collection<Long> taskIds, LocalDateTime now) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(taskIds);
+        jdbcTemplate.batchUpdate(
+                FINISH_POMODOROS_SQL,
+                setter(
+                        ids,
+                        (ps, taskId) -> {
+                            setTimestamp(ps, 1, now);
+                            setTimestamp(ps, 2, now);
+                            ps.setLong(3, taskId);
+                        }));
+    }
+
+    /** Interpreta o contador de um item do batch (o driver pode não informar a contagem) */
+    public static boolean applied(int count) {
+        return count > 0 || count == Statement.SUCCESS_NO_INFO;
+    }
+
+    private static void setVersionGuard(PreparedStatement ps, int index, Task task)
+            throws SQLException {
+        ps.setLong(index, task.getId());
+        ps.setLong(index + 1, task.getVersion() != null ? task.getVersion() : 0L);
+    }
+
+    private static void setId(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value)
+            throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value)
+            throws SQLException {
+        ps.setObject(index, value, Types.TIMESTAMP);
+    }
+
+    private static <T> BatchPreparedStatementSetter setter(
+            List<T> rows, ParameterizedPreparedStatementSetter<T> rowSetter) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                rowSetter.setValues(ps, rows.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        };
+    }
+}
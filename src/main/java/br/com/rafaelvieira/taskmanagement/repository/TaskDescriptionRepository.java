@@ -0,0 +1,32 @@
+package br.com.rafaelvieira.taskmanagement.repository;
+
+import br.com.rafaelvieira.taskmanagement.domain.model.TaskDescription;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskDescriptionExcerpt;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TaskDescriptionRepository extends JpaRepository<TaskDescription, Long> {
+
+    @Query("SELECT d.content FROM TaskDescription d WHERE d.taskId = :taskId")
+    Optional<String> findContentByTaskId(@Param("taskId") Long taskId);
+
+    // Conteúdo completo de várias tasks numa única consulta (listagens da API REST)
+    List<TaskDescription> findByTaskIdIn(Collection<Long> taskIds);
+
+    // SUBSTRING no banco: só os primeiros caracteres saem do TOAST para a prévia do dashboard
+    @Query(
+            "SELECT new br.com.rafaelvieira.taskmanagement.domain.records.TaskDescriptionExcerpt("
+                    + "d.taskId, SUBSTRING(d.content, 1, :length)) "
+                    + "FROM TaskDescription d WHERE d.taskId IN :taskIds")
+    List<TaskDescriptionExcerpt> findExcerptsByTaskIdIn(
+            @Param("taskIds") Collection<Long> taskIds, @Param("length") int length);
+
+    @Modifying
+    @Query("DELETE FROM TaskDescription d WHERE d.taskId = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+}
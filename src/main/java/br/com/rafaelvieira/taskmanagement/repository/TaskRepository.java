@@ -5,11 +5,20 @@ import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
 import br.com.rafaelvieira.taskmanagement.domain.model.Squad;
 import br.com.rafaelvieira.taskmanagement.domain.model.Task;
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.MonthlyCompletionCount;
+import br.com.rafaelvieira.taskmanagement.domain.records.OpenTaskRow;
+import br.com.rafaelvieira.taskmanagement.domain.records.SquadMemberTaskCounts;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskChangeStamp;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskFilterRow;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -58,6 +67,45 @@ public interface TaskRepository extends JpaRepository<@NotNull Task, @NotNull Lo
                     + " t.status NOT IN ('DONE', 'CANCELLED')")
     Long countOverdueBySquadId(@Param("squadId") Long squadId, @Param("now") LocalDateTime now);
 
+    // Contadores do topo da página: percorrem idx_tasks_badges (assigned_user_id, due_date)
+    @Query(
+            "SELECT COUNT(t) FROM Task t WHERE t.assignedUser.id = :userId AND t.dueDate < :now AND"
+                    + " t.status NOT IN ('DONE', 'CANCELLED')")
+    long countOverdueByAssignedUserId(
+            @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Query(
+            "SELECT COUNT(t) FROM Task t WHERE t.assignedUser.id = :userId AND t.dueDate >= :start"
+                    + " AND t.dueDate < :end AND t.status NOT IN ('DONE', 'CANCELLED')")
+    long countDueBetweenByAssignedUserId(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // ========== Validadores HTTP (ETag/Last-Modified) ==========
+
+    String CHANGE_STAMP_SELECT =
+            "SELECT new br.com.rafaelvieira.taskmanagement.domain.records.TaskChangeStamp("
+                    + "COUNT(t), SUM(t.version), MAX(t.updatedAt), "
+                    + "GREATEST(MAX(c.updatedAt), MAX(u.updatedAt), MAX(s.updatedAt)), "
+                    + "SUM(CASE WHEN t.scheduledStartAt <= :now THEN 1 ELSE 0 END), "
+                    + "SUM(CASE WHEN t.dueDate < :now AND t.status <> 'DONE' THEN 1 ELSE 0 END)) "
+                    + "FROM Task t LEFT JOIN t.category c LEFT JOIN t.assignedUser u "
+                    + "LEFT JOIN t.squad s ";
+
+    @Query(CHANGE_STAMP_SELECT + "WHERE t.id = :id")
+    TaskChangeStamp changeStampById(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query(CHANGE_STAMP_SELECT)
+    TaskChangeStamp changeStampOfAll(@Param("now") LocalDateTime now);
+
+    @Query(CHANGE_STAMP_SELECT + "WHERE t.squad.id IN :squadIds")
+    TaskChangeStamp changeStampForLead(
+            @Param("squadIds") Collection<Long> squadIds, @Param("now") LocalDateTime now);
+
+    @Query(CHANGE_STAMP_SELECT + "WHERE t.assignedUser = :user")
+    TaskChangeStamp changeStampForMember(@Param("user") User user, @Param("now") LocalDateTime now);
+
     // ========== User visibility queries ==========
 
     @Query("SELECT t FROM Task t WHERE t.assignedUser = :user AND t.squad IS NULL")
@@ -75,19 +123,33 @@ public interface TaskRepository extends JpaRepository<@NotNull Task, @NotNull Lo
     @Query("SELECT t FROM Task t WHERE t.squad.lead = :lead")
     List<Task> findTasksForLead(@Param("lead") User lead);
 
-    // LEAD/ADMIN: todas as tasks de squads que lidera (qualquer responsável)
-    @Query("SELECT DISTINCT t FROM Task t WHERE t.squad IS NOT NULL AND t.squad.lead = :user")
-    List<Task> findVisibleTasksForLead(@Param("user") User user);
+    // LEAD/ADMIN: todas as tasks dos squads que lidera (IDs resolvidos pelo TaskPermissionResolver)
+    @Query("SELECT t FROM Task t WHERE t.squad.id IN :squadIds")
+    List<Task> findBySquadIdIn(@Param("squadIds") Collection<Long> squadIds);
 
     // ========== Gamification queries ==========
+    // Intervalo [start, end) sobre completed_at para aproveitar o índice parcial de conclusões
     @Query(
             "SELECT COUNT(t) FROM Task t WHERE "
                     + "t.assignedUser = :user AND "
                     + "t.squad IS NOT NULL AND "
                     + "t.status = 'DONE' AND "
-                    + "YEAR(t.completedAt) = :year AND MONTH(t.completedAt) = :month")
-    Long countSquadTasksCompletedInMonth(
-            @Param("user") User user, @Param("year") int year, @Param("month") int month);
+                    + "t.completedAt >= :start AND t.completedAt < :end")
+    Long countSquadTasksCompletedBetween(
+            @Param("user") User user,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // Uma linha por (responsável, mês) com as conclusões de tasks de squad no intervalo
+    @Query(
+            "SELECT new br.com.rafaelvieira.taskmanagement.domain.records.MonthlyCompletionCount("
+                    + "t.assignedUser.id, YEAR(t.completedAt), MONTH(t.completedAt), COUNT(t)) "
+                    + "FROM Task t WHERE t.squad IS NOT NULL AND t.status = 'DONE' "
+                    + "AND t.assignedUser IS NOT NULL "
+                    + "AND t.completedAt >= :start AND t.completedAt < :end "
+                    + "GROUP BY t.assignedUser.id, YEAR(t.completedAt), MONTH(t.completedAt)")
+    List<MonthlyCompletionCount> countSquadCompletionsGroupedByUserAndMonth(
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     @Query(
             "SELECT t FROM Task t LEFT JOIN FETCH t.assignedUser WHERE t.squad.id = :squadId AND"
@@ -105,12 +167,55 @@ public interface TaskRepository extends JpaRepository<@NotNull Task, @NotNull Lo
     Long countCompletedBySquadIdAndUserId(
             @Param("squadId") Long squadId, @Param("userId") Long userId);
 
+    // Uma linha por responsável (assignedUser nulo agrupa as tarefas sem responsável)
+    @Query(
+            "SELECT new br.com.rafaelvieira.taskmanagement.domain.records.SquadMemberTaskCounts("
+                    + "t.assignedUser.id, COUNT(t), "
+                    + "SUM(CASE WHEN t.status = 'DONE' THEN 1 ELSE 0 END), "
+                    + "SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END), "
+                    + "SUM(CASE WHEN t.status = 'TODO' THEN 1 ELSE 0 END), "
+                    + "SUM(CASE WHEN t.dueDate < :now AND t.status NOT IN ('DONE', 'CANCELLED')"
+                    + " THEN 1 ELSE 0 END)) "
+                    + "FROM Task t WHERE t.squad.id = :squadId GROUP BY t.assignedUser.id")
+    List<SquadMemberTaskCounts> countTasksBySquadIdGroupedByAssignee(
+            @Param("squadId") Long squadId, @Param("now") LocalDateTime now);
+
+    // Carga do OpenTaskSnapshot: só as colunas varridas pelos jobs, sem montar entidades
+    @Query(
+            "SELECT new br.com.rafaelvieira.taskmanagement.domain.records.OpenTaskRow("
+                    + "t.id, t.status, t.dueDate, t.scheduledStartAt) "
+                    + "FROM Task t WHERE t.status NOT IN ('DONE', 'CANCELLED')")
+    List<OpenTaskRow> findOpenTaskRows();
+
+    // Carga do TaskFilterIndex: colunas filtráveis da listagem, inclusive das tarefas fechadas
+    @Query(
+            "SELECT new br.com.rafaelvieira.taskmanagement.domain.records.TaskFilterRow("
+                    + "t.id, t.status, t.priority, c.id, u.id, s.id, t.createdAt, t.dueDate) "
+                    + "FROM Task t LEFT JOIN t.category c LEFT JOIN t.assignedUser u "
+                    + "LEFT JOIN t.squad s")
+    List<TaskFilterRow> findTaskFilterRows();
+
+    // Carga única das tarefas de uma operação em lote, somente leitura: as escritas são feitas
+    // via JDBC e o dirty checking não deve regravar as alterações feitas em memória
+    @Query(
+            "SELECT t FROM Task t LEFT JOIN FETCH t.squad s LEFT JOIN FETCH s.lead "
+                    + "LEFT JOIN FETCH t.assignedUser LEFT JOIN FETCH t.createdBy "
+                    + "WHERE t.id IN :ids")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Task> findAllForBulkByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Página da busca textual: as associações lidas por convertTo vêm no mesmo SELECT
+    @Query(
+            "SELECT t FROM Task t LEFT JOIN FETCH t.category LEFT JOIN FETCH t.squad s "
+                    + "LEFT JOIN FETCH s.lead LEFT JOIN FETCH t.assignedUser WHERE t.id IN :ids")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Task> findAllForSearchByIdIn(@Param("ids") Collection<Long> ids);
+
     // ========== Role-based filtered queries ==========
     // LEAD/ADMIN: todas as tasks de squads que lidera (qualquer responsável)
-    @Query(
-            "SELECT COUNT(t) FROM Task t WHERE t.status = :status AND t.squad IS NOT NULL AND"
-                    + " t.squad.lead = :user")
-    long countByStatusForLead(@Param("status") TaskStatus status, @Param("user") User user);
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status AND t.squad.id IN :squadIds")
+    long countByStatusForLead(
+            @Param("status") TaskStatus status, @Param("squadIds") Collection<Long> squadIds);
 
     // MEMBER: apenas tasks onde é responsável (assignedUser)
     @Query(
@@ -119,10 +224,9 @@ public interface TaskRepository extends JpaRepository<@NotNull Task, @NotNull Lo
     long countByStatusForMember(@Param("status") TaskStatus status, @Param("user") User user);
 
     // LEAD/ADMIN: todas as tasks de squads que lidera (qualquer responsável)
-    @Query(
-            "SELECT t FROM Task t WHERE t.status = :status AND t.squad IS NOT NULL AND t.squad.lead"
-                    + " = :user")
-    List<Task> findByStatusForLead(@Param("status") TaskStatus status, @Param("user") User user);
+    @Query("SELECT t FROM Task t WHERE t.status = :status AND t.squad.id IN :squadIds")
+    List<Task> findByStatusForLead(
+            @Param("status") TaskStatus status, @Param("squadIds") Collection<Long> squadIds);
 
     // MEMBER: apenas tasks onde é responsável (assignedUser)
     @Query("SELECT DISTINCT t FROM Task t WHERE t.status = :status AND t.assignedUser = :user")
@@ -130,9 +234,10 @@ public interface TaskRepository extends JpaRepository<@NotNull Task, @NotNull Lo
 
     // LEAD/ADMIN: todas as tasks de squads que lidera (qualquer responsável)
     @Query(
-            "SELECT t FROM Task t WHERE t.dueDate < :date AND t.status != 'DONE' AND t.squad IS NOT"
-                    + " NULL AND t.squad.lead = :user")
-    List<Task> findOverdueTasksForLead(@Param("date") LocalDateTime date, @Param("user") User user);
+            "SELECT t FROM Task t WHERE t.dueDate < :date AND t.status != 'DONE' AND t.squad.id"
+                    + " IN :squadIds")
+    List<Task> findOverdueTasksForLead(
+            @Param("date") LocalDateTime date, @Param("squadIds") Collection<Long> squadIds);
 
     // MEMBER: apenas tasks onde é responsável (assignedUser)
     @Query(
@@ -143,9 +248,10 @@ public interface TaskRepository extends JpaRepository<@NotNull Task, @NotNull Lo
 
     // LEAD/ADMIN: todas as tasks de squads que lidera (qualquer responsável)
     @Query(
-            "SELECT COUNT(t) FROM Task t WHERE t.priority = :priority AND t.squad IS NOT NULL AND"
-                    + " t.squad.lead = :user")
-    long countByPriorityForLead(@Param("priority") Priority priority, @Param("user") User user);
+            "SELECT COUNT(t) FROM Task t WHERE t.priority = :priority AND t.squad.id IN"
+                    + " :squadIds")
+    long countByPriorityForLead(
+            @Param("priority") Priority priority, @Param("squadIds") Collection<Long> squadIds);
 
     // MEMBER: apenas tasks onde é responsável (assignedUser)
     @Query(
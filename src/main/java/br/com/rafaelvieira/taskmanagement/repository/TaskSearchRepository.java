@@ -0,0 +1,195 @@
+package br.com.rafaelvieira.taskmanagement.repository;
+
+import br.com.rafaelvieira.taskmanagement.web.dto.TaskFilterForm;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Busca textual das tarefas sobre a coluna {@code search_vector} (índice GIN, V33; mantida por
+ * triggers desde a V34, que levou a descrição para {@code task_descriptions}). O texto é
+ * interpretado por {@code websearch_to_tsquery} (aspas, {@code OR} e {@code -termo} funcionam como
+ * em buscadores), os filtros do {@link TaskFilterForm} e a visibilidade do usuário entram no mesmo
+ * {@code WHERE}, e só as linhas da página leem a descrição e passam por {@code ts_headline}.
+ *
+ * <p>Os trechos destacados vêm com os marcadores {@link #MARK_START} / {@link #MARK_END} em vez de
+ * HTML; quem exibe escapa o texto e troca os marcadores.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskSearchRepository {
+
+    public static final String MARK_START = "\u0002";
+    public static final String MARK_END = "\u0003";
+
+    private static final String TS_CONFIG = "portuguese";
+
+    private static final String TITLE_HEADLINE_OPTIONS =
+            "StartSel=" + MARK_START + ", StopSel=" + MARK_END + ", HighlightAll=true";
+
+    private static final String SNIPPET_HEADLINE_OPTIONS =
+            "StartSel="
+                    + MARK_START
+                    + ", StopSel="
+                    + MARK_END
+                    + ", MaxFragments=2, MaxWords=20, MinWords=5, FragmentDelimiter=\" … \"";
+
+    /**
+     * Teto de candidatos ranqueados por busca. O {@code ts_rank} precisa ler o documento de cada
+     * linha encontrada; termos muito comuns casariam com boa parte da tabela. Por isso o ranking é
+     * parcial: só as {@code MAX_CANDIDATES} tarefas mais recentes (maior ID) que casam são
+     * ranqueadas, sempre as mesmas para a mesma busca, e o total informado para de contar aqui.
+     */
+    static final int MAX_CANDIDATES = 1_000;
+
+    /*
+     * %2$s recebe os filtros. O total sai de um CTE próprio sobre os candidatos, fora do
+     * LIMIT/OFFSET da página: uma página além do fim volta vazia, mas com o total correto
+     * (a consulta sempre devolve ao menos a linha de "counted", com id nulo se a página é vazia).
+     */
+    private static final String SEARCH_SQL =
+            """
+            WITH query AS (SELECT websearch_to_tsquery('%1$s', ?) AS q),
+            candidates AS (SELECT t.id, t.title, t.search_vector
+                           FROM tasks t, query
+                           WHERE t.search_vector @@ query.q%2$s
+                           ORDER BY t.id DESC
+                           LIMIT ?),
+            counted AS (SELECT count(*) AS total FROM candidates),
+            ranked AS (SELECT c.id, c.title, ts_rank(c.search_vector, query.q) AS rank
+                       FROM candidates c, query
+                       ORDER BY rank DESC, c.id DESC
+                       LIMIT ? OFFSET ?),
+            page AS (SELECT r.id, r.rank,
+                            ts_headline('%1$s', r.title, query.q, ?) AS title_highlight,
+                            ts_headline('%1$s',
+                                        regexp_replace(coalesce(d.content, ''), '<[^>]*>', ' ',
+                                                       'g'),
+                                        query.q, ?) AS snippet
+                     FROM ranked r
+                              CROSS JOIN query
+                              LEFT JOIN task_descriptions d ON d.task_id = r.id)
+            SELECT counted.total, page.id, page.rank, page.title_highlight, page.snippet
+            FROM counted
+                     LEFT JOIN page ON true
+            ORDER BY page.rank DESC, page.id DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Tarefa encontrada pela busca.
+     *
+     * @param taskId ID da tarefa
+     * @param rank Relevância ({@code ts_rank}); título pesa mais que descrição
+     * @param titleHighlight Título com os termos encontrados entre marcadores
+     * @param snippet Trechos da descrição (sem as tags) com os termos entre marcadores
+     */
+    public record Match(long taskId, double rank, String titleHighlight, String snippet) {}
+
+    /**
+     * Busca as tarefas que casam com {@code text} e com os filtros, ordenadas por relevância entre
+     * as {@link #MAX_CANDIDATES} mais recentes. O total é limitado a {@link #MAX_CANDIDATES} e não
+     * depende da página pedida.
+     *
+     * @param squadIds Restringe às tarefas dessas squads (LEAD/ADMIN); {@code null} não restringe
+     * @param assignedUserId Restringe às tarefas do responsável (MEMBER); {@code null} não
+     *     restringe
+     */
+    public Page<Match> search(
+            String text,
+            TaskFilterForm filter,
+            Collection<Long> squadIds,
+            Long assignedUserId,
+            Pageable pageable) {
+        List<Object> args = new ArrayList<>();
+        args.add(text);
+        StringBuilder where = new StringBuilder();
+        appendVisibility(where, args, squadIds, assignedUserId);
+        appendFilters(where, args, filter);
+        args.add(MAX_CANDIDATES);
+        args.add(pageable.getPageSize());
+        args.add(pageable.getOffset());
+        args.add(TITLE_HEADLINE_OPTIONS);
+        args.add(SNIPPET_HEADLINE_OPTIONS);
+
+        long[] total = {0};
+        List<Match> content = new ArrayList<>();
+        jdbcTemplate.query(
+                SEARCH_SQL.formatted(TS_CONFIG, where),
+                rs -> {
+                    total[0] = rs.getLong("total");
+                    long id = rs.getLong("id");
+                    if (!rs.wasNull()) {
+                        content.add(
+                                new Match(
+                                        id,
+                                        rs.getDouble("rank"),
+                                        rs.getString("title_highlight"),
+                                        rs.getString("snippet")));
+                    }
+                },
+                args.toArray());
+        return new PageImpl<>(content, pageable, total[0]);
+    }
+
+    private static void appendVisibility(
+            StringBuilder where, List<Object> args, Collection<Long> squadIds, Long userId) {
+        if (squadIds != null) {
+            where.append(" AND t.squad_id IN (")
+                    .append(String.join(", ", Collections.nCopies(squadIds.size(), "?")))
+                    .append(')');
+            args.addAll(squadIds);
+        }
+        if (userId != null) {
+            where.append(" AND t.assigned_user_id = ?");
+            args.add(userId);
+        }
+    }
+
+    private static void appendFilters(StringBuilder where, List<Object> args, TaskFilterForm f) {
+        if (f.getStatus() != null) {
+            where.append(" AND t.status = ?");
+            args.add(f.getStatus().name());
+        }
+        if (f.getPriority() != null) {
+            where.append(" AND t.priority = ?");
+            args.add(f.getPriority().name());
+        }
+        if (f.getUserId() != null) {
+            where.append(" AND t.assigned_user_id = ?");
+            args.add(f.getUserId());
+        }
+        if (f.getCategoryId() != null) {
+            where.append(" AND t.category_id = ?");
+            args.add(f.getCategoryId());
+        }
+        appendDayRange(where, args, "t.created_at", f.getCreatedFrom(), f.getCreatedTo());
+        appendDayRange(where, args, "t.due_date", f.getDueFrom(), f.getDueTo());
+    }
+
+    /** Intervalo de dias inclusivo, como no filtro da listagem */
+    private static void appendDayRange(
+            StringBuilder where, List<Object> args, String column, LocalDate from, LocalDate to) {
+        if (from != null) {
+            where.append(" AND ").append(column).append(" >= ?");
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            where.append(" AND ").append(column).append(" < ?");
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+    }
+}
@@ -3,8 +3,13 @@ package br.com.rafaelvieira.taskmanagement.repository;
 import br.com.rafaelvieira.taskmanagement.domain.model.Badge;
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
 import br.com.rafaelvieira.taskmanagement.domain.model.UserBadge;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +17,27 @@ public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
     List<UserBadge> findByUser(User user);
 
     boolean existsByUserAndBadge(User user, Badge badge);
+
+    /** IDs dos badges que o usuário já possui */
+    @Query("SELECT ub.badge.id FROM UserBadge ub WHERE ub.user.id = :userId")
+    Set<Long> findBadgeIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Concede o badge de forma idempotente apoiada na constraint {@code uk_user_badge}.
+     *
+     * @return 1 se o badge foi concedido agora, 0 se o usuário já o possuía
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+                    INSERT INTO user_badges (user_id, badge_id, awarded_at)
+                    VALUES (:userId, :badgeId, :awardedAt)
+                    ON CONFLICT (user_id, badge_id) DO NOTHING
+                    """,
+            nativeQuery = true)
+    int insertIfAbsent(
+            @Param("userId") Long userId,
+            @Param("badgeId") Long badgeId,
+            @Param("awardedAt") LocalDateTime awardedAt);
 }
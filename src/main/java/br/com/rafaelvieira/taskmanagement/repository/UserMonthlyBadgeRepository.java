@@ -5,6 +5,7 @@ import br.com.rafaelvieira.taskmanagement.domain.model.UserMonthlyBadge;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -51,4 +52,72 @@ public interface UserMonthlyBadgeRepository extends JpaRepository<UserMonthlyBad
             "UPDATE UserMonthlyBadge umb SET umb.isCurrentMonth = false WHERE umb.isCurrentMonth ="
                     + " true")
     void resetAllCurrentMonth();
+
+    /**
+     * Próximo lote (keyset por {@code user_id}) de usuários cujo badge marcado como corrente
+     * pertence a outro mês que não o informado
+     */
+    @Query(
+            value =
+                    """
+                    SELECT DISTINCT user_id FROM user_monthly_badges
+                    WHERE is_current_month = true
+                      AND (reference_year <> :year OR reference_month <> :month)
+                      AND user_id > :afterUserId
+                    ORDER BY user_id
+                    LIMIT :limit
+                    """,
+            nativeQuery = true)
+    List<Long> findStaleCurrentMonthUserIds(
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("afterUserId") long afterUserId,
+            @Param("limit") int limit);
+
+    /**
+     * Cria, em um único INSERT ... SELECT, o badge do novo mês para os usuários do intervalo que
+     * ainda têm um badge corrente de outro mês. Idempotente: se o badge do mês já existir apenas é
+     * marcado como corrente.
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+                    INSERT INTO user_monthly_badges (user_id, reference_year, reference_month,
+                                                     badge_level, tasks_completed_in_squads,
+                                                     calculated_at, is_current_month,
+                                                     created_at, updated_at)
+                    SELECT DISTINCT umb.user_id, :year, :month, 'NONE', 0,
+                           CURRENT_TIMESTAMP, true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                    FROM user_monthly_badges umb
+                    WHERE umb.is_current_month = true
+                      AND (umb.reference_year <> :year OR umb.reference_month <> :month)
+                      AND umb.user_id BETWEEN :fromUserId AND :toUserId
+                    ON CONFLICT (user_id, reference_year, reference_month)
+                        DO UPDATE SET is_current_month = true
+                    """,
+            nativeQuery = true)
+    int insertMonthBadgesForStaleUsers(
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("fromUserId") long fromUserId,
+            @Param("toUserId") long toUserId);
+
+    /** Desmarca, em um único UPDATE, os badges correntes de outros meses no intervalo */
+    @Modifying
+    @Query(
+            value =
+                    """
+                    UPDATE user_monthly_badges
+                    SET is_current_month = false, updated_at = CURRENT_TIMESTAMP
+                    WHERE is_current_month = true
+                      AND (reference_year <> :year OR reference_month <> :month)
+                      AND user_id BETWEEN :fromUserId AND :toUserId
+                    """,
+            nativeQuery = true)
+    int closeStaleCurrentMonthBadges(
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("fromUserId") long fromUserId,
+            @Param("toUserId") long toUserId);
 }
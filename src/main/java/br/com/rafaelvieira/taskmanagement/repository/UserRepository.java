@@ -1,14 +1,19 @@
 package br.com.rafaelvieira.taskmanagement.repository;
 
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<@NotNull User, @NotNull Long> {
 
+    /** Usuário logado, buscado várias vezes por requisição (UserService.getCurrentUser) */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
 
     Optional<User> findByEmail(String email);
@@ -4,9 +4,46 @@ import br.com.rafaelvieira.taskmanagement.domain.model.User;
 import br.com.rafaelvieira.taskmanagement.domain.model.UserScore;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserScoreRepository extends JpaRepository<UserScore, Long> {
     Optional<UserScore> findByUser(User user);
+
+    /**
+     * Soma pontos e contadores de conclusão em um único upsert atômico. Conclusões simultâneas do
+     * mesmo usuário não perdem atualizações, e os contadores resultantes voltam no próprio comando
+     * ({@code RETURNING}), sem leitura adicional.
+     */
+    @Query(
+            value =
+                    """
+                    INSERT INTO user_scores (user_id, total_points, total_tasks_completed_in_squads,
+                                             total_tasks_completed_early, current_level)
+                    VALUES (:userId, :points, 1, :early, 1)
+                    ON CONFLICT (user_id) DO UPDATE SET
+                        total_points = user_scores.total_points + EXCLUDED.total_points,
+                        total_tasks_completed_in_squads =
+                            user_scores.total_tasks_completed_in_squads + 1,
+                        total_tasks_completed_early =
+                            user_scores.total_tasks_completed_early
+                                + EXCLUDED.total_tasks_completed_early
+                    RETURNING total_points AS totalPoints,
+                              total_tasks_completed_in_squads AS totalTasksCompletedInSquads,
+                              total_tasks_completed_early AS totalTasksCompletedEarly
+                    """,
+            nativeQuery = true)
+    ScoreCounters incrementCompletion(
+            @Param("userId") Long userId, @Param("points") int points, @Param("early") int early);
+
+    /** Contadores do usuário após o incremento */
+    interface ScoreCounters {
+        int getTotalPoints();
+
+        int getTotalTasksCompletedInSquads();
+
+        int getTotalTasksCompletedEarly();
+    }
 }
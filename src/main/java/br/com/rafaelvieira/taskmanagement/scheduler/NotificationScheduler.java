@@ -3,14 +3,21 @@ package br.com.rafaelvieira.taskmanagement.scheduler;
 import br.com.rafaelvieira.taskmanagement.domain.enums.NotificationType;
 import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
 import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
 import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
 import br.com.rafaelvieira.taskmanagement.service.NotificationService;
+import br.com.rafaelvieira.taskmanagement.service.OpenTaskSnapshot;
+import br.com.rafaelvieira.taskmanagement.service.OpenTaskSnapshot.TimeColumn;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +28,9 @@ import org.springframework.transaction.annotation.Transactional;
  * que vão começar em 5 minutos (TASK_STARTING_SOON) - Alertar sobre tarefas com prazo próximo de
  * vencer (TASK_DUE_SOON)
  *
+ * <p>As tarefas de cada verificação são encontradas por faixa de tempo no {@link OpenTaskSnapshot};
+ * apenas elas são lidas do banco, para conferência e montagem das mensagens.
+ *
  * <p>Author: Rafael Vieira Since: 25/11/2025
  */
 @Slf4j
@@ -28,28 +38,34 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class NotificationScheduler {
 
+    private static final int STARTING_SOON_STATUSES = OpenTaskSnapshot.statusMask(TaskStatus.TODO);
+    private static final int DUE_SOON_STATUSES =
+            OpenTaskSnapshot.ALL_OPEN & ~OpenTaskSnapshot.statusMask(TaskStatus.OVERDUE);
+
     private final TaskRepository taskRepository;
     private final NotificationService notificationService;
+    private final AppMetrics metrics;
+    private final OpenTaskSnapshot openTaskSnapshot;
+    private final ApplicationEventPublisher eventPublisher;
     private final Set<Long> notifiedStartingSoon = new HashSet<>();
     private final Set<Long> notifiedDueSoon = new HashSet<>();
 
     @Scheduled(fixedRate = 60000)
     @Transactional
     public void checkOverdueTasks() {
+        Timer.Sample sample = metrics.start();
         LocalDateTime now = LocalDateTime.now();
-        List<Task> overdueTasks = taskRepository.findOverdueTasks(now);
+        List<Task> overdueTasks =
+                findCandidates(OpenTaskSnapshot.ALL_OPEN, TimeColumn.DUE_DATE, null, now);
 
         for (Task task : overdueTasks) {
             if (task.getStatus() != TaskStatus.DONE && task.getStatus() != TaskStatus.CANCELLED) {
 
-                boolean statusChanged = false;
-                if (task.getStatus() != TaskStatus.OVERDUE) {
+                TaskStatus previousStatus = task.getStatus();
+                if (previousStatus != TaskStatus.OVERDUE) {
                     task.setStatus(TaskStatus.OVERDUE);
-                    statusChanged = true;
-                }
-
-                if (statusChanged) {
                     taskRepository.save(task);
+                    eventPublisher.publishEvent(TaskChangedEvent.of(this, task, previousStatus));
                 }
 
                 if (task.getAssignedUser() != null) {
@@ -64,17 +80,25 @@ public class NotificationScheduler {
                 }
             }
         }
+        metrics.recordSchedulerCheck("overdue", sample, overdueTasks.size());
     }
 
     @Scheduled(fixedRate = 60000)
     @Transactional
     public void checkTasksStartingSoon() {
+        Timer.Sample sample = metrics.start();
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime fiveMinutesFromNow = now.plusMinutes(5);
 
-        List<Task> allTasks = taskRepository.findAll();
+        List<Task> candidates =
+                findCandidates(
+                        STARTING_SOON_STATUSES,
+                        TimeColumn.SCHEDULED_START,
+                        now,
+                        fiveMinutesFromNow,
+                        notifiedStartingSoon);
 
-        for (Task task : allTasks) {
+        for (Task task : candidates) {
             if (task.getStatus() != TaskStatus.TODO) {
                 continue;
             }
@@ -112,17 +136,25 @@ public class NotificationScheduler {
             }
         }
         cleanupStartingSoonNotifications();
+        metrics.recordSchedulerCheck("starting_soon", sample, candidates.size());
     }
 
     @Scheduled(fixedRate = 300000)
     @Transactional
     public void checkTasksDueSoon() {
+        Timer.Sample sample = metrics.start();
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime twoHoursFromNow = now.plusHours(2);
 
-        List<Task> allTasks = taskRepository.findAll();
+        List<Task> candidates =
+                findCandidates(
+                        DUE_SOON_STATUSES,
+                        TimeColumn.DUE_DATE,
+                        now,
+                        twoHoursFromNow,
+                        notifiedDueSoon);
 
-        for (Task task : allTasks) {
+        for (Task task : candidates) {
             if (task.getStatus() == TaskStatus.DONE
                     || task.getStatus() == TaskStatus.CANCELLED
                     || task.getStatus() == TaskStatus.OVERDUE) {
@@ -172,35 +204,52 @@ public class NotificationScheduler {
         }
 
         cleanupDueSoonNotifications();
+        metrics.recordSchedulerCheck("due_soon", sample, candidates.size());
+    }
+
+    private List<Task> findCandidates(
+            int statusMask, TimeColumn column, LocalDateTime from, LocalDateTime to) {
+        return findCandidates(statusMask, column, from, to, Set.of());
+    }
+
+    // Só carrega as tarefas da faixa que ainda não foram notificadas
+    private List<Task> findCandidates(
+            int statusMask,
+            TimeColumn column,
+            LocalDateTime from,
+            LocalDateTime to,
+            Set<Long> notified) {
+        List<Long> ids = new ArrayList<>();
+        openTaskSnapshot.forEachBetween(
+                statusMask,
+                column,
+                from,
+                to,
+                id -> {
+                    if (!notified.contains(id)) {
+                        ids.add(id);
+                    }
+                });
+        return ids.isEmpty() ? List.of() : taskRepository.findAllById(ids);
     }
 
     private void cleanupStartingSoonNotifications() {
         LocalDateTime now = LocalDateTime.now();
         notifiedStartingSoon.removeIf(
-                taskId -> {
-                    Task task = taskRepository.findById(taskId).orElse(null);
-                    if (task == null) {
-                        return true;
-                    }
-                    return task.getStatus() != TaskStatus.TODO
-                            || task.getScheduledStartAt() == null
-                            || task.getScheduledStartAt().isBefore(now);
-                });
+                taskId ->
+                        !openTaskSnapshot.matches(
+                                taskId,
+                                STARTING_SOON_STATUSES,
+                                TimeColumn.SCHEDULED_START,
+                                now,
+                                null));
     }
 
     private void cleanupDueSoonNotifications() {
         LocalDateTime now = LocalDateTime.now();
         notifiedDueSoon.removeIf(
-                taskId -> {
-                    Task task = taskRepository.findById(taskId).orElse(null);
-                    if (task == null) {
-                        return true;
-                    }
-
-                    return task.getStatus() == TaskStatus.DONE
-                            || task.getStatus() == TaskStatus.CANCELLED
-                            || task.getStatus() == TaskStatus.OVERDUE
-                            || (task.getDueDate() != null && task.getDueDate().isBefore(now));
-                });
+                taskId ->
+                        !openTaskSnapshot.matches(
+                                taskId, DUE_SOON_STATUSES, TimeColumn.DUE_DATE, now, null));
     }
 }
@@ -0,0 +1,146 @@
+package br.com.rafaelvieira.taskmanagement.security;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.Role;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.repository.SquadMemberRepository;
+import br.com.rafaelvieira.taskmanagement.repository.SquadRepository;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Resolve as permissões de um usuário sobre tarefas a partir dos squads que ele integra e lidera.
+ *
+ * <p>Os IDs de squad são carregados uma única vez por requisição HTTP (duas consultas de projeção)
+ * e guardados como {@code long[]} ordenados; cada checagem por tarefa é então uma busca binária em
+ * memória, sem consulta por linha. Fora de uma requisição (jobs agendados, mensagens STOMP) o
+ * acesso é carregado a cada chamada.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskPermissionResolver {
+
+    private static final String REQUEST_ATTRIBUTE =
+            TaskPermissionResolver.class.getName() + ".access";
+
+    private final SquadMemberRepository squadMemberRepository;
+    private final SquadRepository squadRepository;
+
+    /** Squads do usuário, reaproveitados durante toda a requisição corrente */
+    public SquadAccess accessOf(User user) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return load(user);
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, SquadAccess> cache =
+                (Map<Long, SquadAccess>)
+                        attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            cache = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return cache.computeIfAbsent(user.getId(), id -> load(user));
+    }
+
+    public boolean canModify(User user, Task task) {
+        if (user.getRole() == Role.ADMIN) {
+            return true; // Admin pode modificar qualquer task
+        }
+
+        if (task.getSquad() == null) {
+            // Task pessoal - apenas o usuário atribuído pode modificar
+            return isAssignedTo(task, user);
+        }
+
+        Long squadId = task.getSquad().getId();
+        if (user.getRole() == Role.LEAD) {
+            // Lead pode modificar tasks de squads que lidera
+            return accessOf(user).leads(squadId);
+        }
+
+        // MEMBER pode modificar tasks de squad onde é membro (com restrições)
+        return accessOf(user).isMemberOf(squadId);
+    }
+
+    public boolean canDelete(User user, Task task) {
+        if (user.getRole() == Role.ADMIN) {
+            return true; // Admin pode deletar qualquer task
+        }
+
+        if (task.getSquad() == null) {
+            // Task pessoal - apenas o usuário atribuído ou criador pode deletar
+            boolean isCreator =
+                    task.getCreatedBy() != null && task.getCreatedBy().getId().equals(user.getId());
+            return isAssignedTo(task, user) || isCreator;
+        }
+
+        // Task de squad - apenas LEAD do squad pode deletar; MEMBER não pode
+        return user.getRole() == Role.LEAD && accessOf(user).leads(task.getSquad().getId());
+    }
+
+    public boolean canControlTimer(User user, Task task) {
+        if (user.getRole() == Role.ADMIN) {
+            return true; // Admin pode controlar timer de qualquer task
+        }
+
+        if (task.getSquad() == null) {
+            // Task pessoal - apenas o usuário atribuído pode controlar o timer
+            return isAssignedTo(task, user);
+        }
+
+        // Task de squad - apenas LEAD do squad pode controlar timer; MEMBER não pode
+        return user.getRole() == Role.LEAD && accessOf(user).leads(task.getSquad().getId());
+    }
+
+    private static boolean isAssignedTo(Task task, User user) {
+        return task.getAssignedUser() != null
+                && task.getAssignedUser().getId().equals(user.getId());
+    }
+
+    private SquadAccess load(User user) {
+        return new SquadAccess(
+                toSortedArray(squadMemberRepository.findSquadIdsByUserId(user.getId())),
+                toSortedArray(squadRepository.findIdsByLeadId(user.getId())));
+    }
+
+    private static long[] toSortedArray(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    /**
+     * IDs dos squads em que o usuário é membro e dos que lidera, ordenados para busca binária.
+     *
+     * @param memberSquadIds Squads onde o usuário está em squad_members
+     * @param ledSquadIds Squads cujo lead é o usuário
+     */
+    public record SquadAccess(long[] memberSquadIds, long[] ledSquadIds) {
+
+        public boolean isMemberOf(Long squadId) {
+            return squadId != null && Arrays.binarySearch(memberSquadIds, squadId) >= 0;
+        }
+
+        public boolean leads(Long squadId) {
+            return squadId != null && Arrays.binarySearch(ledSquadIds, squadId) >= 0;
+        }
+
+        public boolean isMemberOrLeadOf(Long squadId) {
+            return isMemberOf(squadId) || leads(squadId);
+        }
+
+        /** Squads liderados, no formato usado pelas consultas de visibilidade */
+        public List<Long> ledSquadIdList() {
+            return Arrays.stream(ledSquadIds).boxed().toList();
+        }
+    }
+}
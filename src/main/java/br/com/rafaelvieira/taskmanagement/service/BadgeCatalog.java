@@ -0,0 +1,81 @@
+package br.com.rafaelvieira.taskmanagement.service;
+
+import br.com.rafaelvieira.taskmanagement.domain.model.Badge;
+import br.com.rafaelvieira.taskmanagement.repository.BadgeRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Catálogo imutável dos badges de gamificação, carregado uma única vez. Evita o {@code findByCode}
+ * a cada conclusão de tarefa; badges conhecidos que ainda não existem no banco são criados na
+ * carga.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BadgeCatalog {
+
+    public static final String SQUAD_COMMITED_10 = "SQUAD_COMMITED_10";
+    public static final String EARLY_FINISHER_5 = "EARLY_FINISHER_5";
+    public static final String EARLY_FINISHER_20 = "EARLY_FINISHER_20";
+
+    private static final List<String> REQUIRED_CODES =
+            List.of(SQUAD_COMMITED_10, EARLY_FINISHER_5, EARLY_FINISHER_20);
+
+    private final BadgeRepository badgeRepository;
+
+    private volatile Map<String, Badge> badgesByCode;
+
+    public Optional<Badge> findByCode(String code) {
+        return Optional.ofNullable(badges().get(code));
+    }
+
+    /** Descarta o catálogo; a próxima consulta recarrega do banco */
+    public void reload() {
+        badgesByCode = null;
+    }
+
+    private Map<String, Badge> badges() {
+        Map<String, Badge> current = badgesByCode;
+        if (current == null) {
+            synchronized (this) {
+                current = badgesByCode;
+                if (current == null) {
+                    current = load();
+                    badgesByCode = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Map<String, Badge> load() {
+        Map<String, Badge> loaded = new HashMap<>();
+        for (Badge badge : badgeRepository.findAll()) {
+            loaded.put(badge.getCode(), badge);
+        }
+        for (String code : REQUIRED_CODES) {
+            if (!loaded.containsKey(code)) {
+                Badge created =
+                        badgeRepository.save(
+                                Badge.builder()
+                                        .code(code)
+                                        .name(code.replace("_", " "))
+                                        .description("Awarded for " + code)
+                                        .iconClass("fa-solid fa-medal")
+                                        .build());
+                loaded.put(code, created);
+            }
+        }
+        log.info("Badge catalog loaded with {} badges", loaded.size());
+        return Map.copyOf(loaded);
+    }
+}
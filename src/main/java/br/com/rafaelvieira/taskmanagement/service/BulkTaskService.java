@@ -0,0 +1,477 @@
+package br.com.rafaelvieira.taskmanagement.service;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.NotificationType;
+import br.com.rafaelvieira.taskmanagement.domain.enums.Priority;
+import br.com.rafaelvieira.taskmanagement.domain.enums.Role;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Category;
+import br.com.rafaelvieira.taskmanagement.domain.model.Squad;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.BulkTaskResult;
+import br.com.rafaelvieira.taskmanagement.domain.records.BulkTaskResult.Item;
+import br.com.rafaelvieira.taskmanagement.domain.records.BulkTaskResult.Outcome;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskCreateRecord;
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
+import br.com.rafaelvieira.taskmanagement.event.TaskEvent;
+import br.com.rafaelvieira.taskmanagement.exception.ResourceNotFoundException;
+import br.com.rafaelvieira.taskmanagement.exception.TaskValidationException;
+import br.com.rafaelvieira.taskmanagement.repository.CategoryRepository;
+import br.com.rafaelvieira.taskmanagement.repository.SquadRepository;
+import br.com.rafaelvieira.taskmanagement.repository.TaskBulkRepository;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.repository.UserRepository;
+import br.com.rafaelvieira.taskmanagement.security.TaskPermissionResolver;
+import br.com.rafaelvieira.taskmanagement.security.TaskPermissionResolver.SquadAccess;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Operações em lote sobre tarefas (criação, status, responsável, prioridade e remoção).
+ *
+ * <p>As tarefas alvo são carregadas com uma única consulta IN, as regras de permissão do {@link
+ * TaskService} são avaliadas em memória e as escritas vão em um único batch JDBC por operação. Cada
+ * entrada recebe seu próprio resultado: falhas de permissão, tarefas inexistentes ou alteradas por
+ * outra operação não interrompem o restante do lote.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class BulkTaskService {
+
+    /** Status que podem ser aplicados em lote; iniciar o timer continua sendo individual */
+    private static final Set<TaskStatus> BULK_STATUSES =
+            EnumSet.of(
+                    TaskStatus.TODO,
+                    TaskStatus.IN_PAUSE,
+                    TaskStatus.PENDING,
+                    TaskStatus.DONE,
+                    TaskStatus.CANCELLED);
+
+    private static final String MSG_NOT_FOUND = "Task not found";
+    private static final String MSG_FORBIDDEN = "You don't have permission to change this task";
+    private static final String MSG_CONFLICT = "Task was modified by another operation";
+
+    private final TaskRepository taskRepository;
+    private final TaskBulkRepository taskBulkRepository;
+    private final TaskService taskService;
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final SquadRepository squadRepository;
+    private final TaskPermissionResolver permissionResolver;
+    private final GamificationService gamificationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public static boolean isBulkStatus(TaskStatus status) {
+        return status != null && BULK_STATUSES.contains(status);
+    }
+
+    public BulkTaskResult createTasks(List<TaskCreateRecord> payloads) {
+        User currentUser = userService.getCurrentUser();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Long, Category> categories =
+                indexById(
+                        categoryRepository.findAllById(
+                                distinctIds(payloads, TaskCreateRecord::categoryId)),
+                        Category::getId);
+        Map<Long, User> users =
+                indexById(
+                        userRepository.findAllById(
+                                distinctIds(payloads, TaskCreateRecord::assignedUserId)),
+                        User::getId);
+        Map<Long, Squad> squads =
+                indexById(
+                        squadRepository.findAllById(
+                                distinctIds(payloads, TaskCreateRecord::squadId)),
+                        Squad::getId);
+
+        Item[] results = new Item[payloads.size()];
+        List<Task> toInsert = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+
+        for (int i = 0; i < payloads.size(); i++) {
+            TaskCreateRecord payload = payloads.get(i);
+            Item failure = validateCreate(i, payload, currentUser, categories, users, squads);
+            if (failure != null) {
+                results[i] = failure;
+                continue;
+            }
+            toInsert.add(buildTask(payload, currentUser, categories, users, squads, now));
+            positions.add(i);
+        }
+
+        if (!toInsert.isEmpty()) {
+            taskBulkRepository.insertAll(toInsert);
+        }
+
+        for (int j = 0; j < toInsert.size(); j++) {
+            Task task = toInsert.get(j);
+            results[positions.get(j)] = Item.ok(positions.get(j), task.getId());
+            eventPublisher.publishEvent(TaskChangedEvent.of(this, task, null));
+            if (task.getStatus() == TaskStatus.TODO) {
+                eventPublisher.publishEvent(
+                        new TaskEvent(
+                                this,
+                                task,
+                                NotificationType.TASK_CREATED,
+                                "Nova tarefa criada: " + task.getTitle()));
+            }
+        }
+
+        BulkTaskResult result = BulkTaskResult.of(Arrays.asList(results));
+        log.info(
+                "Bulk create by {}: {} created, {} failed",
+                currentUser.getUsername(),
+                result.succeeded(),
+                result.failed());
+        return result;
+    }
+
+    public BulkTaskResult changeStatus(List<Long> taskIds, TaskStatus status) {
+        if (!isBulkStatus(status)) {
+            throw new TaskValidationException("Status " + status + " cannot be applied in bulk");
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        return applyToTasks(
+                taskIds,
+                new BulkOperation(
+                        "Bulk status " + status,
+                        (user, task) -> canChangeStatus(user, task, status),
+                        task -> applyStatus(task, status, now),
+                        "Only running tasks can be paused",
+                        tasks -> {
+                            int[] counts = taskBulkRepository.updateStatuses(tasks, now);
+                            List<Long> updatedIds = new ArrayList<>();
+                            for (int i = 0; i < counts.length; i++) {
+                                if (TaskBulkRepository.applied(counts[i])) {
+                                    updatedIds.add(tasks.get(i).getId());
+                                }
+                            }
+                            taskBulkRepository.finishActivePomodoros(updatedIds, now);
+                            return counts;
+                        },
+                        this::publishStatusChange));
+    }
+
+    public BulkTaskResult changePriority(List<Long> taskIds, Priority priority) {
+        LocalDateTime now = LocalDateTime.now();
+        return applyToTasks(
+                taskIds,
+                new BulkOperation(
+                        "Bulk priority " + priority,
+                        taskService::canUserModifyTask,
+                        task -> {
+                            if (task.getPriority() == priority) {
+                                return Outcome.SKIPPED;
+                            }
+                            task.setPriority(priority);
+                            return null;
+                        },
+                        null,
+                        tasks -> taskBulkRepository.updatePriorities(tasks, now),
+                        this::publishChange));
+    }
+
+    public BulkTaskResult reassign(List<Long> taskIds, Long assignedUserId) {
+        LocalDateTime now = LocalDateTime.now();
+        User assignee =
+                assignedUserId == null
+                        ? null
+                        : userRepository
+                                .findById(assignedUserId)
+                                .orElseThrow(
+                                        () ->
+                                                new ResourceNotFoundException(
+                                                        "User not found with id: "
+                                                                + assignedUserId));
+        SquadAccess assigneeAccess =
+                assignee == null ? null : permissionResolver.accessOf(assignee);
+
+        return applyToTasks(
+                taskIds,
+                new BulkOperation(
+                        "Bulk reassign to " + assignedUserId,
+                        taskService::canUserModifyTask,
+                        task -> {
+                            if (Objects.equals(assignedUserId, idOf(task.getAssignedUser()))) {
+                                return Outcome.SKIPPED;
+                            }
+                            if (assigneeAccess != null
+                                    && task.getSquad() != null
+                                    && !assigneeAccess.isMemberOrLeadOf(task.getSquad().getId())) {
+                                return Outcome.INVALID;
+                            }
+                            task.setAssignedUser(assignee);
+                            return null;
+                        },
+                        "Assignee is not a member of the task squad",
+                        tasks -> taskBulkRepository.updateAssignees(tasks, now),
+                        this::publishChange));
+    }
+
+    public BulkTaskResult deleteTasks(List<Long> taskIds) {
+        return applyToTasks(
+                taskIds,
+                new BulkOperation(
+                        "Bulk delete",
+                        taskService::canUserDeleteTask,
+                        task -> null,
+                        null,
+                        taskBulkRepository::deleteAll,
+                        (task, before) ->
+                                eventPublisher.publishEvent(TaskChangedEvent.deleted(this, task))));
+    }
+
+    /**
+     * Fluxo comum das operações sobre tarefas existentes: uma consulta IN, checagens em memória, um
+     * batch de escrita e a publicação dos eventos apenas das tarefas efetivamente gravadas.
+     */
+    private BulkTaskResult applyToTasks(List<Long> taskIds, BulkOperation operation) {
+        User currentUser = userService.getCurrentUser();
+        List<Long> ids = taskIds.stream().distinct().toList();
+        Map<Long, Task> tasks = indexById(taskRepository.findAllForBulkByIdIn(ids), Task::getId);
+
+        Item[] results = new Item[ids.size()];
+        List<Task> toWrite = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        Map<Long, TaskChangedEvent.Before> before = new HashMap<>();
+
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            Task task = tasks.get(id);
+            if (task == null) {
+                results[i] = Item.failed(i, id, Outcome.NOT_FOUND, MSG_NOT_FOUND);
+                continue;
+            }
+            if (!operation.permission().test(currentUser, task)) {
+                results[i] = Item.failed(i, id, Outcome.FORBIDDEN, MSG_FORBIDDEN);
+                continue;
+            }
+            before.put(id, TaskChangedEvent.Before.of(task));
+            Outcome outcome = operation.mutation().apply(task);
+            if (outcome == Outcome.SKIPPED) {
+                results[i] = Item.skipped(i, id);
+            } else if (outcome != null) {
+                results[i] = Item.failed(i, id, outcome, operation.rejectionMessage());
+            } else {
+                toWrite.add(task);
+                positions.add(i);
+            }
+        }
+
+        int[] counts = toWrite.isEmpty() ? new int[0] : operation.writer().apply(toWrite);
+
+        for (int j = 0; j < toWrite.size(); j++) {
+            Task task = toWrite.get(j);
+            int position = positions.get(j);
+            if (!TaskBulkRepository.applied(counts[j])) {
+                results[position] =
+                        Item.failed(position, task.getId(), Outcome.CONFLICT, MSG_CONFLICT);
+                continue;
+            }
+            results[position] = Item.ok(position, task.getId());
+            operation.afterWrite().accept(task, before.get(task.getId()));
+        }
+
+        BulkTaskResult result = BulkTaskResult.of(Arrays.asList(results));
+        log.info(
+                "{} by {}: {} applied, {} skipped, {} failed",
+                operation.name(),
+                currentUser.getUsername(),
+                result.succeeded(),
+                result.skipped(),
+                result.failed());
+        return result;
+    }
+
+    private void publishChange(Task task, TaskChangedEvent.Before before) {
+        eventPublisher.publishEvent(TaskChangedEvent.since(this, task, before));
+    }
+
+    /** Efeitos colaterais equivalentes aos do fluxo individual de troca de status */
+    private void publishStatusChange(Task task, TaskChangedEvent.Before before) {
+        if (task.getStatus() == TaskStatus.DONE) {
+            registerCompletion(task);
+            eventPublisher.publishEvent(
+                    new TaskEvent(
+                            this,
+                            task,
+                            NotificationType.TASK_FINISHED,
+                            "Tarefa finalizada: " + task.getTitle()));
+        } else if (task.getStatus() == TaskStatus.IN_PAUSE) {
+            eventPublisher.publishEvent(
+                    new TaskEvent(
+                            this,
+                            task,
+                            NotificationType.TASK_PAUSED,
+                            "Tarefa pausada: " + task.getTitle()));
+        }
+        publishChange(task, before);
+    }
+
+    private void registerCompletion(Task task) {
+        try {
+            gamificationService.registerCompletion(task);
+        } catch (ResourceNotFoundException e) {
+            log.error("Error registering task completion for gamification: {}", e.getMessage());
+        }
+    }
+
+    private boolean canChangeStatus(User user, Task task, TaskStatus status) {
+        // Pausar ou encerrar uma tarefa em execução mexe no timer, como no fluxo individual
+        boolean affectsTimer =
+                status == TaskStatus.IN_PAUSE || task.getStatus() == TaskStatus.IN_PROGRESS;
+        return affectsTimer
+                ? taskService.canUserControlTimer(user, task)
+                : taskService.canUserModifyTask(user, task);
+    }
+
+    /** Mesmas transições de timer do fluxo individual, calculadas em memória */
+    private Outcome applyStatus(Task task, TaskStatus status, LocalDateTime now) {
+        if (task.getStatus() == status) {
+            return Outcome.SKIPPED;
+        }
+        if (status == TaskStatus.IN_PAUSE && task.getStatus() != TaskStatus.IN_PROGRESS) {
+            return Outcome.INVALID;
+        }
+
+        if (task.getMainStartedAt() != null) {
+            long delta = Duration.between(task.getMainStartedAt(), now).getSeconds();
+            long elapsed = task.getMainElapsedSeconds() == null ? 0L : task.getMainElapsedSeconds();
+            task.setMainElapsedSeconds(elapsed + Math.max(0, delta));
+            task.setMainStartedAt(null);
+        }
+        if (status != TaskStatus.IN_PAUSE) {
+            task.setPomodoroUntil(null);
+        }
+        if (status == TaskStatus.DONE) {
+            task.setCompletedAt(now);
+        }
+        task.setStatus(status);
+        return null;
+    }
+
+    private Item validateCreate(
+            int index,
+            TaskCreateRecord payload,
+            User currentUser,
+            Map<Long, Category> categories,
+            Map<Long, User> users,
+            Map<Long, Squad> squads) {
+        if (payload.categoryId() != null && !categories.containsKey(payload.categoryId())) {
+            return Item.failed(
+                    index, null, Outcome.NOT_FOUND, "Category not found: " + payload.categoryId());
+        }
+        if (payload.assignedUserId() != null && !users.containsKey(payload.assignedUserId())) {
+            return Item.failed(
+                    index, null, Outcome.NOT_FOUND, "User not found: " + payload.assignedUserId());
+        }
+        if (payload.squadId() == null) {
+            return null;
+        }
+        if (currentUser.getRole() == Role.MEMBER) {
+            return Item.failed(
+                    index, null, Outcome.FORBIDDEN, "Only LEAD or ADMIN can create squad tasks");
+        }
+        Squad squad = squads.get(payload.squadId());
+        if (squad == null) {
+            return Item.failed(
+                    index, null, Outcome.NOT_FOUND, "Squad not found: " + payload.squadId());
+        }
+        if (!squad.getLead().getId().equals(currentUser.getId())
+                && currentUser.getRole() != Role.ADMIN) {
+            return Item.failed(
+                    index,
+                    null,
+                    Outcome.FORBIDDEN,
+                    "Only the squad lead or ADMIN can create tasks for this squad");
+        }
+        return null;
+    }
+
+    private static Task buildTask(
+            TaskCreateRecord payload,
+            User currentUser,
+            Map<Long, Category> categories,
+            Map<Long, User> users,
+            Map<Long, Squad> squads,
+            LocalDateTime now) {
+        return Task.builder()
+                .title(payload.title())
+                .description(payload.description())
+                .status(payload.status() != null ? payload.status() : TaskStatus.TODO)
+                .priority(payload.priority() != null ? payload.priority() : Priority.MEDIUM)
+                .category(
+                        payload.categoryId() != null ? categories.get(payload.categoryId()) : null)
+                .assignedUser(
+                        payload.assignedUserId() != null
+                                ? users.get(payload.assignedUserId())
+                                : null)
+                .squad(payload.squadId() != null ? squads.get(payload.squadId()) : null)
+                .dueDate(payload.dueDate())
+                .scheduledStartAt(payload.scheduledStartAt())
+                .pomodoroMinutes(payload.pomodoroMinutes())
+                .pomodoroBreakMinutes(
+                        payload.pomodoroBreakMinutes() != null ? payload.pomodoroBreakMinutes() : 5)
+                .executionTimeMinutes(payload.executionTimeMinutes())
+                .createdBy(currentUser)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private static Long idOf(User user) {
+        return user != null ? user.getId() : null;
+    }
+
+    private static Set<Long> distinctIds(
+            Collection<TaskCreateRecord> payloads, Function<TaskCreateRecord, Long> id) {
+        return payloads.stream().map(id).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static <T> Map<Long, T> indexById(Iterable<T> entities, Function<T, Long> id) {
+        Map<Long, T> index = new HashMap<>();
+        entities.forEach(entity -> index.put(id.apply(entity), entity));
+        return index;
+    }
+
+    /**
+     * Descreve uma operação em lote sobre tarefas existentes.
+     *
+     * @param mutation aplica a alteração em memória; retorna {@code null} para seguir com a escrita
+     *     ou o desfecho que encerra a entrada ({@link Outcome#SKIPPED} ou {@link Outcome#INVALID})
+     * @param rejectionMessage mensagem reportada nas entradas {@link Outcome#INVALID}
+     */
+    private record BulkOperation(
+            String name,
+            BiPredicate<User, Task> permission,
+            Function<Task, Outcome> mutation,
+            String rejectionMessage,
+            Function<List<Task>, int[]> writer,
+            BiConsumer<Task, TaskChangedEvent.Before> afterWrite) {}
+}
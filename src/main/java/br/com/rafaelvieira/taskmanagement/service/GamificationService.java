@@ -4,11 +4,14 @@ import br.com.rafaelvieira.taskmanagement.domain.model.Badge;
 import br.com.rafaelvieira.taskmanagement.domain.model.Task;
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
 import br.com.rafaelvieira.taskmanagement.domain.model.UserBadge;
-import br.com.rafaelvieira.taskmanagement.domain.model.UserScore;
-import br.com.rafaelvieira.taskmanagement.repository.BadgeRepository;
 import br.com.rafaelvieira.taskmanagement.repository.UserBadgeRepository;
 import br.com.rafaelvieira.taskmanagement.repository.UserScoreRepository;
+import br.com.rafaelvieira.taskmanagement.repository.UserScoreRepository.ScoreCounters;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToIntFunction;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,10 +22,47 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class GamificationService {
 
+    private static final int POINTS_ON_TIME = 10;
+    private static final int POINTS_EARLY = 20;
+
+    /**
+     * Regras de badge avaliadas sobre os contadores retornados pelo upsert. Todo contador no limite
+     * ou acima dele concede o badge que o usuário ainda não tem, o que cobre quem passou do limite
+     * sem recebê-lo (pontuações migradas, concessões que falharam).
+     */
+    private static final List<BadgeRule> BADGE_RULES =
+            List.of(
+                    new BadgeRule(
+                            BadgeCatalog.SQUAD_COMMITED_10,
+                            ScoreCounters::getTotalTasksCompletedInSquads,
+                            10),
+                    new BadgeRule(
+                            BadgeCatalog.EARLY_FINISHER_5,
+                            ScoreCounters::getTotalTasksCompletedEarly,
+                            5),
+                    new BadgeRule(
+                            BadgeCatalog.EARLY_FINISHER_20,
+                            ScoreCounters::getTotalTasksCompletedEarly,
+                            20));
+
     private final UserScoreRepository userScoreRepository;
-    private final BadgeRepository badgeRepository;
     private final UserBadgeRepository userBadgeRepository;
+    private final BadgeCatalog badgeCatalog;
     private final GamificationWebSocketService webSocketService;
+    private final MonthlyBadgeService monthlyBadgeService;
+
+    /**
+     * Efeitos de gamificação de uma tarefa concluída: pontos, badges e o selo mensal. Ponto único
+     * usado pela troca de status individual e em massa, para que ambas tenham o mesmo resultado.
+     */
+    @Transactional
+    public void registerCompletion(Task task) {
+        if (task.getSquad() == null || task.getAssignedUser() == null) {
+            return;
+        }
+        registerTaskCompletion(task);
+        monthlyBadgeService.registerSquadTaskCompletion(task.getAssignedUser());
+    }
 
     @Transactional
     public void registerTaskCompletion(Task task) {
@@ -35,68 +75,52 @@ public class GamificationService {
             return;
         }
 
-        UserScore score =
-                userScoreRepository
-                        .findByUser(user)
-                        .orElseGet(() -> UserScore.builder().user(user).build());
-
         boolean isEarly =
                 task.getDueDate() != null
                         && task.getCompletedAt() != null
                         && task.getCompletedAt().isBefore(task.getDueDate());
 
-        int pointsToAdd = isEarly ? 20 : 10;
-        score.setTotalPoints(score.getTotalPoints() + pointsToAdd);
-        score.setTotalTasksCompletedInSquads(score.getTotalTasksCompletedInSquads() + 1);
-        if (isEarly) {
-            score.setTotalTasksCompletedEarly(score.getTotalTasksCompletedEarly() + 1);
-        }
+        int pointsToAdd = isEarly ? POINTS_EARLY : POINTS_ON_TIME;
+        ScoreCounters counters =
+                userScoreRepository.incrementCompletion(user.getId(), pointsToAdd, isEarly ? 1 : 0);
 
-        userScoreRepository.save(score);
         webSocketService.notifyPointsEarned(
                 user,
                 pointsToAdd,
                 isEarly ? "Tarefa concluída antecipadamente!" : "Tarefa concluída!");
-        checkAndAwardBadges(user, score);
+        checkAndAwardBadges(user, counters);
     }
 
-    private void checkAndAwardBadges(User user, UserScore score) {
-        if (score.getTotalTasksCompletedInSquads() >= 10) {
-            awardBadge(user, "SQUAD_COMMITED_10");
-        }
-        if (score.getTotalTasksCompletedEarly() >= 5) {
-            awardBadge(user, "EARLY_FINISHER_5");
-        }
-        if (score.getTotalTasksCompletedEarly() >= 20) {
-            awardBadge(user, "EARLY_FINISHER_20");
+    private void checkAndAwardBadges(User user, ScoreCounters counters) {
+        Set<Long> owned = null;
+        for (BadgeRule rule : BADGE_RULES) {
+            if (rule.counter().applyAsInt(counters) < rule.threshold()) {
+                continue;
+            }
+            Optional<Badge> badge = badgeCatalog.findByCode(rule.code());
+            if (badge.isEmpty()) {
+                log.warn("Badge {} not found in catalog", rule.code());
+                continue;
+            }
+            // Lido uma vez e só quando algum limite foi atingido: abaixo dele não há consulta
+            if (owned == null) {
+                owned = userBadgeRepository.findBadgeIdsByUserId(user.getId());
+            }
+            if (!owned.contains(badge.get().getId())) {
+                awardBadge(user, badge.get());
+            }
         }
     }
 
-    private void awardBadge(User user, String badgeCode) {
-        Optional<Badge> badgeOpt = badgeRepository.findByCode(badgeCode);
-        if (badgeOpt.isPresent()) {
-            Badge badge = badgeOpt.get();
-            if (!userBadgeRepository.existsByUserAndBadge(user, badge)) {
-                UserBadge userBadge = UserBadge.builder().user(user).badge(badge).build();
-                UserBadge savedBadge = userBadgeRepository.save(userBadge);
-                webSocketService.notifyBadgeEarned(user, savedBadge);
-                log.info("Awarded badge {} to user {}", badgeCode, user.getUsername());
-            }
-        } else {
-            // Create badge if not exists (for simplicity in this demo, usually seeded)
-            Badge newBadge =
-                    Badge.builder()
-                            .code(badgeCode)
-                            .name(formatBadgeName(badgeCode))
-                            .description("Awarded for " + badgeCode)
-                            .iconClass("fa-solid fa-medal")
-                            .build();
-            badgeRepository.save(newBadge);
-            awardBadge(user, badgeCode); // Retry
+    private void awardBadge(User user, Badge badge) {
+        LocalDateTime awardedAt = LocalDateTime.now();
+        if (userBadgeRepository.insertIfAbsent(user.getId(), badge.getId(), awardedAt) > 0) {
+            UserBadge userBadge =
+                    UserBadge.builder().user(user).badge(badge).awardedAt(awardedAt).build();
+            webSocketService.notifyBadgeEarned(user, userBadge);
+            log.info("Awarded badge {} to user {}", badge.getCode(), user.getUsername());
         }
     }
 
-    private String formatBadgeName(String code) {
-        return code.replace("_", " ");
-    }
+    private record BadgeRule(String code, ToIntFunction<ScoreCounters> counter, int threshold) {}
 }
@@ -5,10 +5,17 @@ import br.com.rafaelvieira.taskmanagement.domain.model.SquadInvite;
 import br.com.rafaelvieira.taskmanagement.domain.model.TaskCancelRequest;
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
 import br.com.rafaelvieira.taskmanagement.domain.model.UserBadge;
-import br.com.rafaelvieira.taskmanagement.exception.ResourceNotFoundException;
-import java.util.HashMap;
-import java.util.Map;
+import br.com.rafaelvieira.taskmanagement.domain.records.GamificationMessage;
+import br.com.rafaelvieira.taskmanagement.domain.records.GamificationMessage.BadgeEarned;
+import br.com.rafaelvieira.taskmanagement.domain.records.GamificationMessage.CancelDecided;
+import br.com.rafaelvieira.taskmanagement.domain.records.GamificationMessage.CancelRequested;
+import br.com.rafaelvieira.taskmanagement.domain.records.GamificationMessage.PointsEarned;
+import br.com.rafaelvieira.taskmanagement.domain.records.GamificationMessage.RankingUpdate;
+import br.com.rafaelvieira.taskmanagement.domain.records.GamificationMessage.SquadInviteReceived;
+import br.com.rafaelvieira.taskmanagement.domain.records.GamificationMessage.SquadMemberJoined;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
@@ -18,118 +25,70 @@ import org.springframework.stereotype.Service;
 public class GamificationWebSocketService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final AppMetrics metrics;
 
     /** Notify user about new badge earned */
     public void notifyBadgeEarned(User user, UserBadge userBadge) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", "BADGE_EARNED");
-        payload.put("badgeCode", userBadge.getBadge().getCode());
-        payload.put("badgeName", userBadge.getBadge().getName());
-        payload.put("badgeDescription", userBadge.getBadge().getDescription());
-        payload.put("badgeIcon", userBadge.getBadge().getIconClass());
-        payload.put("awardedAt", userBadge.getAwardedAt());
-
-        sendToUser(user.getUsername(), "/queue/badges", payload);
+        sendToUser(user.getUsername(), "/queue/badges", BadgeEarned.of(userBadge));
     }
 
     /** Notify user about points earned */
     public void notifyPointsEarned(User user, int points, String reason) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", "POINTS_EARNED");
-        payload.put("points", points);
-        payload.put("reason", reason);
-        payload.put("timestamp", java.time.LocalDateTime.now());
-
-        sendToUser(user.getUsername(), "/queue/points", payload);
+        sendToUser(user.getUsername(), "/queue/points", PointsEarned.of(points, reason));
     }
 
     /** Notify user about squad invite */
     public void notifySquadInvite(SquadInvite invite) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", "SQUAD_INVITE");
-        payload.put("inviteId", invite.getId());
-        payload.put("squadName", invite.getSquad().getName());
-        payload.put("squadDescription", invite.getSquad().getDescription());
-        payload.put("invitedBy", invite.getInvitedBy().getFullName());
-        payload.put("createdAt", invite.getCreatedAt());
-
-        sendToUser(invite.getInvitedUser().getUsername(), "/queue/squad-invites", payload);
+        sendToUser(
+                invite.getInvitedUser().getUsername(),
+                "/queue/squad-invites",
+                SquadInviteReceived.of(invite));
     }
 
     /** Notify squad lead about new cancellation request */
     public void notifyCancellationRequest(TaskCancelRequest request) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", "CANCEL_REQUEST");
-        payload.put("requestId", request.getId());
-        payload.put("taskTitle", request.getTask().getTitle());
-        payload.put("requestedBy", request.getRequestedBy().getFullName());
-        payload.put("reason", request.getReason());
-        payload.put("createdAt", request.getCreatedAt());
-
-        sendToUser(request.getLeadToApprove().getUsername(), "/queue/cancel-requests", payload);
+        sendToUser(
+                request.getLeadToApprove().getUsername(),
+                "/queue/cancel-requests",
+                CancelRequested.of(request));
     }
 
     /** Notify user about cancellation request decision */
     public void notifyCancellationDecision(TaskCancelRequest request, boolean approved) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", "CANCEL_DECISION");
-        payload.put("requestId", request.getId());
-        payload.put("taskTitle", request.getTask().getTitle());
-        payload.put("approved", approved);
-        payload.put("decidedAt", request.getDecidedAt());
-
-        sendToUser(request.getRequestedBy().getUsername(), "/queue/cancel-decisions", payload);
+        sendToUser(
+                request.getRequestedBy().getUsername(),
+                "/queue/cancel-decisions",
+                CancelDecided.of(request, approved));
     }
 
     /** Notify all squad members about a new member joining */
     public void notifySquadMemberJoined(Squad squad, User newMember) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", "SQUAD_MEMBER_JOINED");
-        payload.put("squadId", squad.getId());
-        payload.put("squadName", squad.getName());
-        payload.put("memberName", newMember.getFullName());
-        payload.put("timestamp", java.time.LocalDateTime.now());
-
         // Send to squad topic (all members subscribed)
-        sendToTopic("/topic/squad/" + squad.getId(), payload);
+        sendToTopic("/topic/squad/" + squad.getId(), SquadMemberJoined.of(squad, newMember));
     }
 
     /** Notify squad about ranking update */
     public void notifyRankingUpdate(Squad squad) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", "RANKING_UPDATE");
-        payload.put("squadId", squad.getId());
-        payload.put("timestamp", java.time.LocalDateTime.now());
-
-        sendToTopic("/topic/squad/" + squad.getId() + "/ranking", payload);
-    }
-
-    /** Notify squad about task update */
-    public void notifyTaskUpdate(Long squadId, Long taskId, String type, String status) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", type);
-        payload.put("taskId", taskId);
-        payload.put("status", status);
-        payload.put("timestamp", java.time.LocalDateTime.now());
-
-        sendToTopic("/topic/squad/" + squadId + "/tasks", payload);
+        sendToTopic("/topic/squad/" + squad.getId() + "/ranking", RankingUpdate.of(squad));
     }
 
     /** Send message to specific user */
-    private void sendToUser(String username, String destination, Object payload) {
+    private void sendToUser(String username, String destination, GamificationMessage payload) {
         try {
             messagingTemplate.convertAndSendToUser(username, destination, payload);
-        } catch (ResourceNotFoundException e) {
+        } catch (MessagingException e) {
+            metrics.countPushFailure(AppMetrics.CHANNEL_WEBSOCKET, "gamification-user");
             System.err.println(
                     "Error sending WebSocket message to user " + username + ": " + e.getMessage());
         }
     }
 
     /** Send message to topic (broadcast) */
-    private void sendToTopic(String destination, Object payload) {
+    private void sendToTopic(String destination, GamificationMessage payload) {
         try {
             messagingTemplate.convertAndSend(destination, payload);
-        } catch (ResourceNotFoundException e) {
+        } catch (MessagingException e) {
+            metrics.countPushFailure(AppMetrics.CHANNEL_WEBSOCKET, "gamification-topic");
             System.err.println(
                     "Error sending WebSocket message to topic "
                             + destination
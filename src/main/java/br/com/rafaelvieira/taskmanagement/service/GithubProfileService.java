@@ -0,0 +1,311 @@
+package br.com.rafaelvieira.taskmanagement.service;
+
+import br.com.rafaelvieira.taskmanagement.concurrency.CircuitBreaker;
+import br.com.rafaelvieira.taskmanagement.config.ApplicationProperties;
+import br.com.rafaelvieira.taskmanagement.domain.records.GithubProfileResponse;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Proxy dos perfis públicos do GitHub usados no cadastro e no perfil. Um único {@link HttpClient}
+ * com executor de virtual threads atende todas as chamadas via {@code sendAsync}, sem prender a
+ * thread da requisição enquanto o GitHub responde.
+ *
+ * <ul>
+ *   <li>Perfis encontrados ficam em cache por {@code app.github.cache-ttl-seconds}; vencido o prazo
+ *       a entrada é revalidada com {@code If-None-Match} (304 não consome o limite da API).
+ *   <li>Usuários inexistentes (404) ficam em cache por {@code app.github.negative-ttl-seconds}.
+ *   <li>Consultas simultâneas ao mesmo usuário compartilham a mesma chamada.
+ *   <li>Timeouts, 5xx e limite de requisições (403/429) contam para o {@link CircuitBreaker};
+ *       aberto, serve a última resposta conhecida ou 503.
+ * </ul>
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+@Service
+public class GithubProfileService {
+
+    /** Regras de nome de usuário do GitHub: alfanumérico e hífen, até 39 caracteres */
+    private static final Pattern USERNAME = Pattern.compile("^[A-Za-z0-9][A-Za-z0-9-]{0,38}$");
+
+    private static final String[] TEXT_FIELDS = {
+        "login",
+        "name",
+        "bio",
+        "blog",
+        "location",
+        "html_url",
+        "avatar_url",
+        "company",
+        "twitter_username",
+        "created_at",
+        "updated_at"
+    };
+    private static final String[] COUNT_FIELDS = {
+        "public_repos", "public_gists", "followers", "following"
+    };
+
+    private static final String NOT_FOUND_BODY = "{\"error\":\"user not found\"}";
+    private static final String UNAVAILABLE_BODY = "{\"error\":\"github unavailable\"}";
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_MODIFIED = 304;
+    private static final int HTTP_FORBIDDEN = 403;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_SERVER_ERROR = 500;
+    private static final int HTTP_UNAVAILABLE = 503;
+
+    private final ApplicationProperties.Github config;
+    private final AppMetrics metrics;
+    private final Clock clock;
+    private final ExecutorService executor;
+    private final HttpClient client;
+    private final CircuitBreaker breaker;
+    private final Cache<String, GithubProfileResponse> cache;
+    private final ConcurrentMap<String, CompletableFuture<GithubProfileResponse>> inFlight =
+            new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    public GithubProfileService(ApplicationProperties properties, AppMetrics metrics) {
+        this(properties, metrics, Clock.systemUTC());
+    }
+
+    public GithubProfileService(ApplicationProperties properties, AppMetrics metrics, Clock clock) {
+        this.config = properties.getGithub();
+        this.metrics = metrics;
+        this.clock = clock;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.client =
+                HttpClient.newBuilder()
+                        .executor(executor)
+                        .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
+                        .followRedirects(HttpClient.Redirect.NORMAL)
+                        .build();
+        this.breaker =
+                new CircuitBreaker(
+                        config.getFailureThreshold(),
+                        Duration.ofSeconds(config.getOpenSeconds()),
+                        clock);
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(config.getCacheMaxSize())
+                        .expireAfterWrite(Duration.ofSeconds(config.getStaleTtlSeconds()))
+                        .build();
+    }
+
+    public static boolean isValidUsername(String username) {
+        return username != null && USERNAME.matcher(username).matches();
+    }
+
+    /**
+     * Perfil reduzido aos campos usados pelas telas. Nunca completa com exceção: falhas viram a
+     * última resposta conhecida ou 503.
+     */
+    public CompletableFuture<GithubProfileResponse> fetch(String username) {
+        String key = username.toLowerCase(Locale.ROOT);
+        GithubProfileResponse cached = cache.getIfPresent(key);
+        if (cached != null && cached.isFresh(clock.instant())) {
+            metrics.countGithubLookup(AppMetrics.GITHUB_HIT);
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<GithubProfileResponse> call = new CompletableFuture<>();
+        CompletableFuture<GithubProfileResponse> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            metrics.countGithubLookup(AppMetrics.GITHUB_COALESCED);
+            return running.copy();
+        }
+        // thenCompose transforma uma exceção síncrona de load em falha do futuro: a chamada sempre
+        // completa e sai de inFlight
+        CompletableFuture.completedFuture(cached)
+                .thenCompose(known -> load(key, known))
+                .whenComplete(
+                        (response, error) -> {
+                            inFlight.remove(key, call);
+                            call.complete(
+                                    error == null
+                                            ? response
+                                            : fallback(cached, AppMetrics.GITHUB_ERROR));
+                        });
+        return call.copy();
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return breaker.state();
+    }
+
+    private CompletableFuture<GithubProfileResponse> load(
+            String key, GithubProfileResponse cached) {
+        if (!breaker.tryAcquire()) {
+            return CompletableFuture.completedFuture(fallback(cached, AppMetrics.GITHUB_REJECTED));
+        }
+        boolean sent = false;
+        try {
+            HttpRequest.Builder request =
+                    HttpRequest.newBuilder(URI.create(config.getBaseUrl() + "/users/" + key))
+                            .timeout(Duration.ofMillis(config.getRequestTimeoutMs()))
+                            .header("Accept", "application/vnd.github+json")
+                            .header("X-GitHub-Api-Version", "2022-11-28");
+            if (config.getToken() != null && !config.getToken().isBlank()) {
+                request.header("Authorization", "Bearer " + config.getToken());
+            }
+            if (cached != null && cached.etag() != null) {
+                request.header("If-None-Match", cached.etag());
+            }
+            CompletableFuture<GithubProfileResponse> result =
+                    client.sendAsync(
+                                    request.build(),
+                                    HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                            .handle(
+                                    (response, error) ->
+                                            error != null
+                                                    ? onError(key, cached, error)
+                                                    : onResponse(key, cached, response))
+                            .whenComplete(
+                                    (response, error) -> {
+                                        // Exceção ao tratar a resposta (cache, métricas,
+                                        // cabeçalhos): onResponse/onError ainda não registraram o
+                                        // resultado, então conta uma única falha e libera a
+                                        // chamada de teste
+                                        if (error != null) {
+                                            breaker.onFailure();
+                                        }
+                                    });
+            sent = true;
+            return result;
+        } finally {
+            // URI ou cabeçalho inválido, ou sendAsync falhando antes de devolver o futuro
+            if (!sent) {
+                breaker.onFailure();
+            }
+        }
+    }
+
+    /**
+     * Trata a resposta do GitHub. Em todos os caminhos o disjuntor é o último passo ({@link
+     * #succeeded}/{@link #failed}), depois de cache e métricas: se algo antes disso lançar, a falha
+     * é registrada uma única vez pelo {@code whenComplete} de {@link #load}.
+     */
+    private GithubProfileResponse onResponse(
+            String key, GithubProfileResponse cached, HttpResponse<String> response) {
+        int status = response.statusCode();
+        Instant now = clock.instant();
+        if (status == HTTP_NOT_MODIFIED && cached != null) {
+            GithubProfileResponse refreshed =
+                    cached.refreshedUntil(now.plusSeconds(config.getCacheTtlSeconds()));
+            cache.put(key, refreshed);
+            metrics.countGithubLookup(AppMetrics.GITHUB_REVALIDATED);
+            return succeeded(refreshed);
+        }
+        if (status == HTTP_NOT_FOUND) {
+            GithubProfileResponse missing =
+                    new GithubProfileResponse(
+                            HTTP_NOT_FOUND,
+                            NOT_FOUND_BODY,
+                            null,
+                            now.plusSeconds(config.getNegativeTtlSeconds()));
+            cache.put(key, missing);
+            metrics.countGithubLookup(AppMetrics.GITHUB_NOT_FOUND);
+            return succeeded(missing);
+        }
+        if (status >= HTTP_SERVER_ERROR
+                || status == HTTP_FORBIDDEN
+                || status == HTTP_TOO_MANY_REQUESTS) {
+            log.warn("GitHub respondeu {} para o usuário {}", status, key);
+            return failed(fallback(cached, AppMetrics.GITHUB_ERROR));
+        }
+        if (status < HTTP_OK || status >= HTTP_NOT_MODIFIED) {
+            // Demais 4xx são problema da requisição, não do GitHub: repassa sem cache
+            return succeeded(new GithubProfileResponse(status, response.body(), null, null));
+        }
+
+        try {
+            GithubProfileResponse fetched =
+                    new GithubProfileResponse(
+                            HTTP_OK,
+                            project(response.body()),
+                            response.headers().firstValue("ETag").orElse(null),
+                            now.plusSeconds(config.getCacheTtlSeconds()));
+            cache.put(key, fetched);
+            metrics.countGithubLookup(AppMetrics.GITHUB_FETCHED);
+            return succeeded(fetched);
+        } catch (JsonProcessingException e) {
+            log.warn("Resposta inválida do GitHub para o usuário {}: {}", key, e.getMessage());
+            return failed(fallback(cached, AppMetrics.GITHUB_ERROR));
+        }
+    }
+
+    private GithubProfileResponse onError(
+            String key, GithubProfileResponse cached, Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        log.warn("Falha ao consultar o GitHub para o usuário {}: {}", key, cause.toString());
+        return failed(fallback(cached, AppMetrics.GITHUB_ERROR));
+    }
+
+    private GithubProfileResponse succeeded(GithubProfileResponse response) {
+        breaker.onSuccess();
+        return response;
+    }
+
+    private GithubProfileResponse failed(GithubProfileResponse response) {
+        breaker.onFailure();
+        return response;
+    }
+
+    /** Última resposta conhecida, mesmo vencida; sem ela, 503 (não vai para o cache) */
+    private GithubProfileResponse fallback(GithubProfileResponse cached, String outcome) {
+        if (cached != null) {
+            metrics.countGithubLookup(AppMetrics.GITHUB_STALE);
+            return cached;
+        }
+        metrics.countGithubLookup(outcome);
+        return new GithubProfileResponse(HTTP_UNAVAILABLE, UNAVAILABLE_BODY, null, null);
+    }
+
+    private String project(String body) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(body);
+        ObjectNode result = objectMapper.createObjectNode();
+        for (String field : TEXT_FIELDS) {
+            result.put(field, node.path(field).asText(null));
+        }
+        result.put("hireable", node.path("hireable").asBoolean(false));
+        for (String field : COUNT_FIELDS) {
+            result.put(field, node.path(field).asInt(0));
+        }
+        return objectMapper.writeValueAsString(result);
+    }
+
+    @PreDestroy
+    public void close() {
+        client.shutdownNow();
+        executor.close();
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.rafaelvieira.taskmanagement.service;
+
+import br.com.rafaelvieira.taskmanagement.config.ApplicationProperties;
+import br.com.rafaelvieira.taskmanagement.service.MonthlyBadgeBackfillService.BackfillReport;
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dispara o {@link MonthlyBadgeBackfillService} na subida quando {@code
+ * app.badge-backfill.enabled=true}, para o intervalo {@code app.badge-backfill.from}..{@code to}.
+ * Meses com falha aparecem no log; subir de novo com o mesmo {@code job-id} reprocessa só eles.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.badge-backfill", name = "enabled", havingValue = "true")
+public class MonthlyBadgeBackfillRunner implements ApplicationRunner {
+
+    private final MonthlyBadgeBackfillService backfillService;
+    private final ApplicationProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ApplicationProperties.BadgeBackfill config = properties.getBadgeBackfill();
+        YearMonth to = config.getTo() != null ? YearMonth.parse(config.getTo()) : YearMonth.now();
+        YearMonth from = config.getFrom() != null ? YearMonth.parse(config.getFrom()) : to;
+        String jobId = config.getJobId() != null ? config.getJobId() : "badges-" + from + "-" + to;
+
+        BackfillReport report = backfillService.backfill(jobId, from, to);
+        if (!report.monthsFailed().isEmpty()) {
+            log.warn(
+                    "Badge backfill {} left {} failed months; restart with the same job id to"
+                            + " retry them",
+                    jobId,
+                    report.monthsFailed());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.rafaelvieira.taskmanagement.service;
+
+import br.com.rafaelvieira.taskmanagement.domain.records.MonthlyCompletionCount;
+import br.com.rafaelvieira.taskmanagement.repository.MonthlyBadgeBackfillRepository;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recalcula os selos mensais de todos os usuários para um intervalo de meses. As contagens vêm de
+ * um único GROUP BY (usuário, mês) sobre intervalos de {@code completed_at}; cada mês é regravado
+ * em lotes JDBC numa transação própria, em paralelo sobre virtual threads limitadas por semáforo.
+ * Meses concluídos ficam registrados como checkpoint do job, então uma execução interrompida pode
+ * ser retomada com o mesmo {@code jobId}.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyBadgeBackfillService {
+
+    private static final int WRITE_BATCH_SIZE = 500;
+    private static final int MAX_PARALLEL_MONTHS = 4;
+
+    private final TaskRepository taskRepository;
+    private final MonthlyBadgeBackfillRepository backfillRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    public BackfillReport backfill(String jobId, YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Backfill range start must not be after its end");
+        }
+        long startedAt = System.nanoTime();
+
+        Set<YearMonth> completed = backfillRepository.findCompletedMonths(jobId);
+        List<YearMonth> pending = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (!completed.contains(month)) {
+                pending.add(month);
+            }
+        }
+        int skipped = (int) (from.until(to, ChronoUnit.MONTHS) + 1) - pending.size();
+        if (pending.isEmpty()) {
+            log.info("Badge backfill {} already completed for {}..{}", jobId, from, to);
+            return new BackfillReport(jobId, 0, skipped, List.of(), 0L, 0L);
+        }
+
+        YearMonth first = pending.getFirst();
+        YearMonth last = pending.getLast();
+        Map<YearMonth, List<MonthlyCompletionCount>> countsByMonth =
+                taskRepository
+                        .countSquadCompletionsGroupedByUserAndMonth(
+                                first.atDay(1).atStartOfDay(),
+                                last.plusMonths(1).atDay(1).atStartOfDay())
+                        .stream()
+                        .collect(Collectors.groupingBy(MonthlyCompletionCount::yearMonth));
+
+        TransactionTemplate monthTransaction = new TransactionTemplate(transactionManager);
+        Semaphore permits = new Semaphore(MAX_PARALLEL_MONTHS);
+        Map<YearMonth, Future<Integer>> results = new LinkedHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (YearMonth month : pending) {
+                List<MonthlyCompletionCount> counts = countsByMonth.getOrDefault(month, List.of());
+                results.put(
+                        month,
+                        executor.submit(
+                                () -> {
+                                    permits.acquireUninterruptibly();
+                                    try {
+                                        monthTransaction.executeWithoutResult(
+                                                status -> writeMonth(jobId, month, counts));
+                                    } finally {
+                                        permits.release();
+                                    }
+                                    log.info(
+                                            "Badge backfill {}: {} recalculated ({} users)",
+                                            jobId,
+                                            month,
+                                            counts.size());
+                                    return counts.size();
+                                }));
+            }
+        }
+
+        // O close do executor aguarda todos os meses; qualquer exceção fica no Future do mês
+        long written = 0;
+        List<YearMonth> failedMonths = new ArrayList<>();
+        for (Map.Entry<YearMonth, Future<Integer>> result : results.entrySet()) {
+            try {
+                written += result.getValue().get();
+            } catch (ExecutionException e) {
+                failedMonths.add(result.getKey());
+                log.error("Badge backfill {} failed for {}", jobId, result.getKey(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedMonths.add(result.getKey());
+            }
+        }
+
+        BackfillReport report =
+                new BackfillReport(
+                        jobId,
+                        pending.size() - failedMonths.size(),
+                        skipped,
+                        failedMonths,
+                        written,
+                        (System.nanoTime() - startedAt) / 1_000_000);
+        log.info(
+                "Badge backfill {} finished in {} ms: {} months processed, {} skipped, {} failed,"
+                        + " {} badges written",
+                jobId,
+                report.elapsedMillis(),
+                report.monthsProcessed(),
+                skipped,
+                failedMonths.size(),
+                report.badgesWritten());
+        return report;
+    }
+
+    private void writeMonth(String jobId, YearMonth month, List<MonthlyCompletionCount> counts) {
+        backfillRepository.resetMonth(month);
+        backfillRepository.upsertBadges(counts, month.equals(YearMonth.now()), WRITE_BATCH_SIZE);
+        backfillRepository.saveCheckpoint(jobId, month, counts.size());
+    }
+
+    /** Resultado de uma execução do backfill; meses com falha podem ser retomados */
+    public record BackfillReport(
+            String jobId,
+            int monthsProcessed,
+            int monthsSkipped,
+            List<YearMonth> monthsFailed,
+            long badgesWritten,
+            long elapsedMillis) {}
+}
@@ -6,6 +6,8 @@ import br.com.rafaelvieira.taskmanagement.domain.model.UserMonthlyBadge;
 import br.com.rafaelvieira.taskmanagement.exception.ResourceNotFoundException;
 import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
 import br.com.rafaelvieira.taskmanagement.repository.UserMonthlyBadgeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
@@ -13,7 +15,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /** Serviço para gerenciar selos mensais de usuários baseados na produtividade em tasks de squad */
 @Service
@@ -21,9 +25,17 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class MonthlyBadgeService {
 
+    /** Usuários por transação na virada de mês */
+    private static final int MONTH_TRANSITION_CHUNK_SIZE = 5_000;
+
+    private static final String METRIC_TRANSITION = "badges.month.transition";
+    private static final String METRIC_TRANSITION_ROWS = "badges.month.transition.rows";
+
     private final UserMonthlyBadgeRepository monthlyBadgeRepository;
     private final TaskRepository taskRepository;
     private final GamificationWebSocketService webSocketService;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Registra a conclusão de uma task de squad para o usuário Atualiza o contador do mês corrente
@@ -97,8 +109,10 @@ public class MonthlyBadgeService {
     @Transactional
     public UserMonthlyBadge recalculateBadge(User user, YearMonth month) {
         Long tasksCompleted =
-                taskRepository.countSquadTasksCompletedInMonth(
-                        user, month.getYear(), month.getMonthValue());
+                taskRepository.countSquadTasksCompletedBetween(
+                        user,
+                        month.atDay(1).atStartOfDay(),
+                        month.plusMonths(1).atDay(1).atStartOfDay());
 
         UserMonthlyBadge badge = getOrCreateCurrentMonthBadge(user, month);
         badge.setTasksCompletedInSquads(tasksCompleted.intValue());
@@ -109,24 +123,76 @@ public class MonthlyBadgeService {
 
     /** Job agendado para processar a virada de mês Executa no primeiro dia de cada mês às 00:01 */
     @Scheduled(cron = "0 1 0 1 * *")
-    @Transactional
     public void processMonthTransition() {
-        log.info("Processing month transition for monthly badges...");
-
-        YearMonth previousMonth = YearMonth.now().minusMonths(1);
-        YearMonth currentMonth = YearMonth.now();
-
-        // Marca todos os badges do mês anterior como não-corrente
-        List<UserMonthlyBadge> currentBadges = monthlyBadgeRepository.findAllCurrentMonth();
-        for (UserMonthlyBadge badge : currentBadges) {
-            badge.setIsCurrentMonth(false);
-            monthlyBadgeRepository.save(badge);
+        processMonthTransition(YearMonth.now());
+    }
 
-            // Cria badge para o novo mês se ainda não existe
-            getOrCreateCurrentMonthBadge(badge.getUser(), currentMonth);
+    /**
+     * Vira o mês em SQL set-based: para cada lote de usuários, um INSERT ... SELECT cria o badge do
+     * novo mês e um UPDATE desmarca o badge corrente anterior. Cada lote é commitado separadamente
+     * e a operação é idempotente, podendo ser reexecutada após uma falha parcial.
+     */
+    public MonthTransitionReport processMonthTransition(YearMonth currentMonth) {
+        log.info("Processing month transition for monthly badges to {}...", currentMonth);
+
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int year = currentMonth.getYear();
+        int month = currentMonth.getMonthValue();
+
+        long afterUserId = 0L;
+        int chunks = 0;
+        long created = 0L;
+        long closed = 0L;
+
+        while (true) {
+            List<Long> userIds =
+                    monthlyBadgeRepository.findStaleCurrentMonthUserIds(
+                            year, month, afterUserId, MONTH_TRANSITION_CHUNK_SIZE);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            long fromUserId = userIds.getFirst();
+            long toUserId = userIds.getLast();
+
+            int[] rows =
+                    chunkTransaction.execute(
+                            status ->
+                                    new int[] {
+                                        monthlyBadgeRepository.insertMonthBadgesForStaleUsers(
+                                                year, month, fromUserId, toUserId),
+                                        monthlyBadgeRepository.closeStaleCurrentMonthBadges(
+                                                year, month, fromUserId, toUserId)
+                                    });
+
+            chunks++;
+            created += rows[0];
+            closed += rows[1];
+            afterUserId = toUserId;
+            meterRegistry
+                    .counter(METRIC_TRANSITION_ROWS, "operation", "created")
+                    .increment(rows[0]);
+            meterRegistry.counter(METRIC_TRANSITION_ROWS, "operation", "closed").increment(rows[1]);
+            log.info(
+                    "Month transition chunk {}: users {}..{}, {} badges created, {} closed",
+                    chunks,
+                    fromUserId,
+                    toUserId,
+                    rows[0],
+                    rows[1]);
         }
 
-        log.info("Month transition completed. {} badges processed.", currentBadges.size());
+        long elapsedNanos = sample.stop(meterRegistry.timer(METRIC_TRANSITION));
+        MonthTransitionReport report =
+                new MonthTransitionReport(
+                        currentMonth, chunks, created, closed, elapsedNanos / 1_000_000);
+        log.info(
+                "Month transition completed in {} ms: {} chunks, {} badges created, {} closed",
+                report.elapsedMillis(),
+                chunks,
+                created,
+                closed);
+        return report;
     }
 
     /** Retorna o ranking mensal global */
@@ -189,6 +255,14 @@ public class MonthlyBadgeService {
                 history.size());
     }
 
+    /** Resultado da virada de mês dos badges */
+    public record MonthTransitionReport(
+            YearMonth month,
+            int chunks,
+            long badgesCreated,
+            long badgesClosed,
+            long elapsedMillis) {}
+
     /** Record para estatísticas de badges */
     public record MonthlyBadgeStats(
             BadgeLevel currentLevel,
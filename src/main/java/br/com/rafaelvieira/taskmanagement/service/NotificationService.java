@@ -3,6 +3,7 @@ package br.com.rafaelvieira.taskmanagement.service;
 import br.com.rafaelvieira.taskmanagement.domain.entity.Notification;
 import br.com.rafaelvieira.taskmanagement.domain.enums.NotificationType;
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.NotificationStateMessage;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,6 +30,12 @@ public interface NotificationService {
 
     long countUnreadForCurrentUser();
 
+    /** Total de não lidas e fixadas pendentes do usuário, enviados ao cliente na conexão STOMP */
+    NotificationStateMessage getStateForUser(String username);
+
+    /** Streams SSE abertos (fallback de quem não consegue manter a sessão STOMP) */
+    int countActiveStreams();
+
     void markAsRead(Long notificationId);
 
     void markAllAsRead();
@@ -0,0 +1,266 @@
+package br.com.rafaelvieira.taskmanagement.service;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.records.OpenTaskRow;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cópia em memória das tarefas abertas (status diferente de DONE e CANCELLED), guardada em colunas
+ * de primitivos: id, ordinal do status, prazo e início agendado em epoch seconds. Atende as
+ * varreduras por tempo dos jobs ("vence nas próximas 2h", "início agendado já passou") sem ler
+ * entidades do PostgreSQL; os jobs carregam apenas as tarefas encontradas.
+ *
+ * <p>É mantida pelos {@code TaskChangedEvent} após o commit ({@link
+ * br.com.rafaelvieira.taskmanagement.event.listener.OpenTaskSnapshotListener}) e recarregada por
+ * inteiro a cada {@code app.open-tasks.refresh-ms}, o que cobre escritas feitas fora do serviço de
+ * tarefas e em outras instâncias. Alterações recebidas durante a recarga são reaplicadas sobre o
+ * resultado dela.
+ *
+ * <p>As varreduras não alocam: percorrem os arrays sob o monitor do objeto e entregam os IDs a um
+ * {@link LongConsumer}, que não deve acessar o banco nem chamar o snapshot de volta.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+@Component
+public class OpenTaskSnapshot {
+
+    /** Colunas de tempo que podem ser varridas por faixa */
+    public enum TimeColumn {
+        DUE_DATE,
+        SCHEDULED_START
+    }
+
+    private static final int CLOSED = statusMask(TaskStatus.DONE, TaskStatus.CANCELLED);
+
+    /** Todos os status guardados no snapshot */
+    public static final int ALL_OPEN = ~CLOSED & ((1 << TaskStatus.values().length) - 1);
+
+    /** Prazo ou início ausente: fica fora de qualquer faixa */
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final TaskRepository taskRepository;
+    private final Object reloadMonitor = new Object();
+    private final Map<Long, Integer> slots = new HashMap<>();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private long[] dueAt = new long[INITIAL_CAPACITY];
+    private long[] startAt = new long[INITIAL_CAPACITY];
+    private int size;
+    private boolean loaded;
+
+    /** Não nulo durante uma recarga: alterações a reaplicar sobre o resultado da consulta */
+    private List<OpenTaskRow> changesDuringReload;
+
+    public OpenTaskSnapshot(TaskRepository taskRepository, AppMetrics metrics) {
+        this.taskRepository = taskRepository;
+        metrics.gaugeOpenTasks(this::size);
+    }
+
+    /** Máscara de bits com os ordinais dos status, usada para filtrar as varreduras */
+    public static int statusMask(TaskStatus... values) {
+        int mask = 0;
+        for (TaskStatus value : values) {
+            mask |= 1 << value.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Relê as tarefas abertas do banco. Executa na subida e a cada {@code
+     * app.open-tasks.refresh-ms} como rede de segurança para alterações que não passaram por um
+     * {@code TaskChangedEvent}.
+     */
+    @Scheduled(fixedDelayString = "${app.open-tasks.refresh-ms:60000}")
+    public void reload() {
+        synchronized (reloadMonitor) {
+            synchronized (this) {
+                changesDuringReload = new ArrayList<>();
+            }
+            List<OpenTaskRow> rows = null;
+            try {
+                rows = taskRepository.findOpenTaskRows();
+            } finally {
+                if (rows == null) {
+                    synchronized (this) {
+                        changesDuringReload = null;
+                    }
+                }
+            }
+            load(rows);
+        }
+    }
+
+    /**
+     * Aplica a alteração de uma tarefa já confirmada no banco: inclui, atualiza ou, para tarefas
+     * concluídas, canceladas ou removidas ({@code status} nulo), retira do snapshot.
+     */
+    public synchronized void apply(OpenTaskRow change) {
+        if (changesDuringReload != null) {
+            changesDuringReload.add(change);
+        }
+        if (loaded) {
+            put(change);
+        }
+    }
+
+    /** Tarefas com status em {@code statusMask}; devolve quantas foram entregues */
+    public int forEachWithStatus(int statusMask, LongConsumer action) {
+        ensureLoaded();
+        synchronized (this) {
+            return scan(statusMask, null, Long.MIN_VALUE, NEVER, action);
+        }
+    }
+
+    /**
+     * Tarefas com status em {@code statusMask} e a coluna de tempo em {@code [from, to)}, com
+     * precisão de segundos; limites nulos não restringem a faixa. Tarefas sem a data nunca entram.
+     */
+    public int forEachBetween(
+            int statusMask,
+            TimeColumn column,
+            LocalDateTime from,
+            LocalDateTime to,
+            LongConsumer action) {
+        long lower = from != null ? toEpochSecond(from) : Long.MIN_VALUE;
+        long upper = to != null ? toEpochSecond(to) : NEVER;
+        ensureLoaded();
+        synchronized (this) {
+            return scan(statusMask, timesOf(column), lower, upper, action);
+        }
+    }
+
+    /**
+     * Se a tarefa está aberta, com status em {@code statusMask} e a coluna em {@code [from, to)}
+     */
+    public boolean matches(
+            Long id, int statusMask, TimeColumn column, LocalDateTime from, LocalDateTime to) {
+        long lower = from != null ? toEpochSecond(from) : Long.MIN_VALUE;
+        long upper = to != null ? toEpochSecond(to) : NEVER;
+        ensureLoaded();
+        synchronized (this) {
+            Integer slot = slots.get(id);
+            if (slot == null || (statusMask & (1 << statuses[slot])) == 0) {
+                return false;
+            }
+            long time = timesOf(column)[slot];
+            return time >= lower && time < upper;
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    synchronized void load(List<OpenTaskRow> rows) {
+        List<OpenTaskRow> pending = changesDuringReload;
+        changesDuringReload = null;
+
+        int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(rows.size()) << 1);
+        ids = new long[capacity];
+        statuses = new byte[capacity];
+        dueAt = new long[capacity];
+        startAt = new long[capacity];
+        size = 0;
+        slots.clear();
+        for (OpenTaskRow row : rows) {
+            put(row);
+        }
+        if (pending != null) {
+            for (OpenTaskRow change : pending) {
+                put(change);
+            }
+        }
+        loaded = true;
+        log.debug("Snapshot de tarefas abertas carregado com {} tarefas", size);
+    }
+
+    private void ensureLoaded() {
+        boolean ready;
+        synchronized (this) {
+            ready = loaded;
+        }
+        if (!ready) {
+            reload();
+        }
+    }
+
+    private int scan(int statusMask, long[] times, long lower, long upper, LongConsumer action) {
+        int matched = 0;
+        for (int i = 0; i < size; i++) {
+            if ((statusMask & (1 << statuses[i])) == 0) {
+                continue;
+            }
+            if (times != null && (times[i] < lower || times[i] >= upper)) {
+                continue;
+            }
+            action.accept(ids[i]);
+            matched++;
+        }
+        return matched;
+    }
+
+    private void put(OpenTaskRow row) {
+        Integer slot = slots.get(row.id());
+        if (row.status() == null || (CLOSED & (1 << row.status().ordinal())) != 0) {
+            if (slot != null) {
+                removeAt(slot);
+            }
+            return;
+        }
+        int index = slot != null ? slot : append(row.id());
+        statuses[index] = (byte) row.status().ordinal();
+        dueAt[index] = toEpochSecond(row.dueDate());
+        startAt[index] = toEpochSecond(row.scheduledStartAt());
+    }
+
+    private int append(long id) {
+        if (size == ids.length) {
+            int capacity = ids.length << 1;
+            ids = Arrays.copyOf(ids, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            dueAt = Arrays.copyOf(dueAt, capacity);
+            startAt = Arrays.copyOf(startAt, capacity);
+        }
+        ids[size] = id;
+        slots.put(id, size);
+        return size++;
+    }
+
+    // Move a última posição para o buraco; a ordem das varreduras não é garantida
+    private void removeAt(int index) {
+        slots.remove(ids[index]);
+        int last = --size;
+        if (index != last) {
+            ids[index] = ids[last];
+            statuses[index] = statuses[last];
+            dueAt[index] = dueAt[last];
+            startAt[index] = startAt[last];
+            slots.put(ids[index], index);
+        }
+    }
+
+    private long[] timesOf(TimeColumn column) {
+        return column == TimeColumn.DUE_DATE ? dueAt : startAt;
+    }
+
+    private static long toEpochSecond(LocalDateTime value) {
+        return value != null ? value.atZone(ZoneId.systemDefault()).toEpochSecond() : NEVER;
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.rafaelvieira.taskmanagement.service;
 
+import br.com.rafaelvieira.taskmanagement.config.CacheConfig;
 import br.com.rafaelvieira.taskmanagement.domain.enums.NotificationType;
 import br.com.rafaelvieira.taskmanagement.domain.enums.Role;
 import br.com.rafaelvieira.taskmanagement.domain.enums.SquadInviteStatus;
@@ -13,6 +14,7 @@ import br.com.rafaelvieira.taskmanagement.domain.model.User;
 import br.com.rafaelvieira.taskmanagement.domain.records.MemberMetricsDTO;
 import br.com.rafaelvieira.taskmanagement.domain.records.SquadCreateDTO;
 import br.com.rafaelvieira.taskmanagement.domain.records.SquadDashboardDTO;
+import br.com.rafaelvieira.taskmanagement.domain.records.SquadMemberTaskCounts;
 import br.com.rafaelvieira.taskmanagement.domain.records.SquadUpdateDTO;
 import br.com.rafaelvieira.taskmanagement.exception.ResourceNotFoundException;
 import br.com.rafaelvieira.taskmanagement.exception.UnauthorizedException;
@@ -22,11 +24,16 @@ import br.com.rafaelvieira.taskmanagement.repository.SquadRepository;
 import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
 import br.com.rafaelvieira.taskmanagement.repository.UserRepository;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,6 +49,7 @@ public class SquadService {
     private final UserRepository userRepository;
     private final GamificationWebSocketService webSocketService;
     private final NotificationService notificationService;
+    private final CacheManager cacheManager;
 
     @Transactional
     public Squad createSquad(String name, String description, User lead) {
@@ -209,8 +217,6 @@ public class SquadService {
 
     // ========== Dashboard Metrics ==========
 
-    // ========== Dashboard Metrics ==========
-
     @Transactional(readOnly = true)
     public SquadDashboardDTO getSquadDashboard(Long squadId, User currentUser) {
         Squad squad =
@@ -220,68 +226,29 @@ public class SquadService {
 
         validateSquadAccess(squad, currentUser);
 
-        LocalDateTime now = LocalDateTime.now();
-
         boolean isMember = currentUser.getRole() == Role.MEMBER;
 
-        Long totalTasks;
-        Long inProgressTasks;
-        Long completedTasks;
-        Long todoTasks;
-        Long overdueTasks;
-        List<Task> activeTasks;
+        // Uma única consulta agrupada por responsável, reaproveitada por alguns segundos
+        Map<Long, SquadMemberTaskCounts> countsByUser = getTaskCountsByAssignee(squadId);
+        List<SquadMember> members = squadMemberRepository.findBySquadId(squadId);
+        List<Task> activeTasks =
+                taskRepository.findActiveTimerTasksBySquadId(squadId, TaskStatus.IN_PROGRESS);
+
+        SquadMemberTaskCounts totals;
+        List<MemberMetricsDTO> memberMetrics;
 
         if (isMember) {
-            List<Task> memberTasks =
-                    taskRepository.findBySquadIdAndAssignedUserId(squadId, currentUser.getId());
-            totalTasks = (long) memberTasks.size();
-            inProgressTasks =
-                    memberTasks.stream()
-                            .filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS)
-                            .count();
-            completedTasks =
-                    taskRepository.countCompletedBySquadIdAndUserId(squadId, currentUser.getId());
-            todoTasks = memberTasks.stream().filter(t -> t.getStatus() == TaskStatus.TODO).count();
-            overdueTasks =
-                    memberTasks.stream()
+            // MEMBER: only see their own metrics and active tasks
+            totals = countsByUser.getOrDefault(currentUser.getId(), SquadMemberTaskCounts.EMPTY);
+            activeTasks =
+                    activeTasks.stream()
                             .filter(
                                     t ->
-                                            t.getDueDate() != null
-                                                    && t.getDueDate().isBefore(now)
-                                                    && t.getStatus() != TaskStatus.DONE
-                                                    && t.getStatus() != TaskStatus.CANCELLED)
-                            .count();
-            // MEMBER: only see their own active tasks
-            activeTasks =
-                    memberTasks.stream()
-                            .filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS)
+                                            t.getAssignedUser() != null
+                                                    && t.getAssignedUser()
+                                                            .getId()
+                                                            .equals(currentUser.getId()))
                             .toList();
-        } else {
-            // LEAD and ADMIN see all squad metrics
-            totalTasks = taskRepository.countBySquadId(squadId);
-            inProgressTasks =
-                    taskRepository.countBySquadIdAndStatus(squadId, TaskStatus.IN_PROGRESS);
-            completedTasks = taskRepository.countBySquadIdAndStatus(squadId, TaskStatus.DONE);
-            todoTasks = taskRepository.countBySquadIdAndStatus(squadId, TaskStatus.TODO);
-            overdueTasks = taskRepository.countOverdueBySquadId(squadId, now);
-            activeTasks =
-                    taskRepository.findActiveTimerTasksBySquadId(squadId, TaskStatus.IN_PROGRESS);
-        }
-
-        Long memberCount = squadRepository.countMembersBySquadId(squadId);
-        List<SquadMember> members = squadMemberRepository.findBySquad(squad);
-
-        List<MemberMetricsDTO> memberMetrics;
-
-        if (isMember) {
-            List<Task> memberTasks =
-                    taskRepository.findBySquadIdAndAssignedUserId(squadId, currentUser.getId());
-            Long completedByMember =
-                    taskRepository.countCompletedBySquadIdAndUserId(squadId, currentUser.getId());
-            long inProgressByMember =
-                    memberTasks.stream()
-                            .filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS)
-                            .count();
 
             SquadMember currentMember =
                     members.stream()
@@ -291,59 +258,76 @@ public class SquadService {
 
             memberMetrics =
                     List.of(
-                            new MemberMetricsDTO(
-                                    currentUser.getId(),
-                                    currentUser.getFullName(),
-                                    currentUser.getUsername(),
-                                    memberTasks.size(),
-                                    completedByMember.intValue(),
-                                    (int) inProgressByMember,
+                            toMemberMetrics(
+                                    currentUser,
+                                    totals,
                                     currentMember != null ? currentMember.getJoinedAt() : null));
         } else {
+            // LEAD and ADMIN see all squad metrics
+            totals = SquadMemberTaskCounts.sum(countsByUser.values());
             memberMetrics =
                     members.stream()
                             .map(
-                                    member -> {
-                                        User user = member.getUser();
-                                        List<Task> memberTasks =
-                                                taskRepository.findBySquadIdAndAssignedUserId(
-                                                        squadId, user.getId());
-                                        Long completedByMember =
-                                                taskRepository.countCompletedBySquadIdAndUserId(
-                                                        squadId, user.getId());
-                                        long inProgressByMember =
-                                                memberTasks.stream()
-                                                        .filter(
-                                                                t ->
-                                                                        t.getStatus()
-                                                                                == TaskStatus
-                                                                                        .IN_PROGRESS)
-                                                        .count();
-
-                                        return new MemberMetricsDTO(
-                                                user.getId(),
-                                                user.getFullName(),
-                                                user.getUsername(),
-                                                memberTasks.size(),
-                                                completedByMember.intValue(),
-                                                (int) inProgressByMember,
-                                                member.getJoinedAt());
-                                    })
+                                    member ->
+                                            toMemberMetrics(
+                                                    member.getUser(),
+                                                    countsByUser.getOrDefault(
+                                                            member.getUser().getId(),
+                                                            SquadMemberTaskCounts.EMPTY),
+                                                    member.getJoinedAt()))
                             .toList();
         }
 
         return new SquadDashboardDTO(
                 squad,
-                totalTasks.intValue(),
-                inProgressTasks.intValue(),
-                completedTasks.intValue(),
-                todoTasks.intValue(),
-                overdueTasks.intValue(),
-                memberCount.intValue(),
+                totals.totalTasks().intValue(),
+                totals.inProgressTasks().intValue(),
+                totals.completedTasks().intValue(),
+                totals.todoTasks().intValue(),
+                totals.overdueTasks().intValue(),
+                members.size(),
                 activeTasks,
                 memberMetrics);
     }
 
+    /** Remove as métricas em cache da squad, forçando o recálculo no próximo acesso */
+    public void evictDashboardCache(Long squadId) {
+        Cache cache = cacheManager.getCache(CacheConfig.SQUAD_DASHBOARD_CACHE);
+        if (cache != null && squadId != null) {
+            cache.evict(squadId);
+        }
+    }
+
+    private Map<Long, SquadMemberTaskCounts> getTaskCountsByAssignee(Long squadId) {
+        Cache cache = cacheManager.getCache(CacheConfig.SQUAD_DASHBOARD_CACHE);
+        if (cache == null) {
+            return loadTaskCountsByAssignee(squadId);
+        }
+        return cache.get(squadId, () -> loadTaskCountsByAssignee(squadId));
+    }
+
+    private Map<Long, SquadMemberTaskCounts> loadTaskCountsByAssignee(Long squadId) {
+        Map<Long, SquadMemberTaskCounts> countsByUser = new HashMap<>();
+        for (SquadMemberTaskCounts row :
+                taskRepository.countTasksBySquadIdGroupedByAssignee(squadId, LocalDateTime.now())) {
+            // O grupo sem responsável usa a chave nula
+            countsByUser.put(row.userId(), row);
+        }
+        return Collections.unmodifiableMap(countsByUser);
+    }
+
+    private MemberMetricsDTO toMemberMetrics(
+            User user, SquadMemberTaskCounts counts, LocalDateTime joinedAt) {
+        return new MemberMetricsDTO(
+                user.getId(),
+                user.getFullName(),
+                user.getUsername(),
+                counts.totalTasks().intValue(),
+                counts.completedTasks().intValue(),
+                counts.inProgressTasks().intValue(),
+                joinedAt);
+    }
+
     // ========== Invite Operations ==========
 
     @Transactional
@@ -0,0 +1,76 @@
+package br.com.rafaelvieira.taskmanagement.service;
+
+import br.com.rafaelvieira.taskmanagement.config.CacheConfig;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskBadgeCounts;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Contadores de tarefas atrasadas e a vencer (próximas 48h) de cada usuário, exibidos em todas as
+ * páginas. São duas contagens indexadas por responsável e janela de {@code due_date}, mantidas em
+ * cache por usuário com TTL curto.
+ *
+ * <p>Transições de tarefa (serviço de tarefas, operações em lote e o job do timer) invalidam o
+ * responsável atual via {@link
+ * br.com.rafaelvieira.taskmanagement.event.listener.TaskBadgeCacheListener}; o TTL cobre a passagem
+ * do tempo e o responsável anterior numa reatribuição.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskBadgeCounterService {
+
+    static final Duration NEAR_DUE_WINDOW = Duration.ofHours(48);
+
+    private final TaskRepository taskRepository;
+    private final CacheManager cacheManager;
+    private final Clock clock;
+
+    @Autowired
+    public TaskBadgeCounterService(TaskRepository taskRepository, CacheManager cacheManager) {
+        this(taskRepository, cacheManager, Clock.systemDefaultZone());
+    }
+
+    public TaskBadgeCounterService(
+            TaskRepository taskRepository, CacheManager cacheManager, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.cacheManager = cacheManager;
+        this.clock = clock;
+    }
+
+    public TaskBadgeCounts countsFor(Long userId) {
+        if (userId == null) {
+            return TaskBadgeCounts.EMPTY;
+        }
+        Cache cache = cacheManager.getCache(CacheConfig.TASK_BADGE_CACHE);
+        if (cache == null) {
+            return load(userId);
+        }
+        return cache.get(userId, () -> load(userId));
+    }
+
+    /** Descarta os contadores do usuário, forçando a recontagem no próximo acesso */
+    public void evict(Long userId) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASK_BADGE_CACHE);
+        if (cache != null && userId != null) {
+            cache.evict(userId);
+        }
+    }
+
+    private TaskBadgeCounts load(Long userId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return new TaskBadgeCounts(
+                taskRepository.countOverdueByAssignedUserId(userId, now),
+                taskRepository.countDueBetweenByAssignedUserId(
+                        userId, now, now.plus(NEAR_DUE_WINDOW)));
+    }
+}
@@ -5,6 +5,7 @@ import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
 import br.com.rafaelvieira.taskmanagement.domain.model.Task;
 import br.com.rafaelvieira.taskmanagement.domain.model.TaskCancelRequest;
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
 import br.com.rafaelvieira.taskmanagement.exception.ResourceNotFoundException;
 import br.com.rafaelvieira.taskmanagement.exception.UnauthorizedException;
 import br.com.rafaelvieira.taskmanagement.repository.TaskCancelRequestRepository;
@@ -12,6 +13,7 @@ import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class TaskCancellationService {
     private final TaskCancelRequestRepository cancelRequestRepository;
     private final TaskRepository taskRepository;
     private final GamificationWebSocketService webSocketService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void requestCancellation(Long taskId, User requestedBy, String reason) {
@@ -30,10 +33,12 @@ public class TaskCancellationService {
                         .findById(taskId)
                         .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
+        TaskStatus previousStatus = task.getStatus();
         if (task.getSquad() == null) {
             // Personal task, just cancel
             task.setStatus(TaskStatus.CANCELLED);
             taskRepository.save(task);
+            eventPublisher.publishEvent(TaskChangedEvent.of(this, task, previousStatus));
             return;
         }
 
@@ -52,7 +57,7 @@ public class TaskCancellationService {
                         .requestedBy(requestedBy)
                         .leadToApprove(task.getSquad().getLead())
                         .reason(reason)
-                        .previousStatus(task.getStatus())
+                        .previousStatus(previousStatus)
                         .build();
 
         cancelRequestRepository.save(request);
@@ -60,6 +65,7 @@ public class TaskCancellationService {
 
         task.setStatus(TaskStatus.AUTH_PENDING);
         taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(this, task, previousStatus));
     }
 
     public List<TaskCancelRequest> getPendingRequestsForLead(User lead) {
@@ -80,6 +86,7 @@ public class TaskCancellationService {
 
         request.setDecidedAt(LocalDateTime.now());
         Task task = request.getTask();
+        TaskStatus previousStatus = task.getStatus();
 
         if (approve) {
             request.setStatus(TaskCancelRequestStatus.APPROVED);
@@ -91,6 +98,7 @@ public class TaskCancellationService {
 
         cancelRequestRepository.save(request);
         taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(this, task, previousStatus));
         webSocketService.notifyCancellationDecision(request, approve);
     }
 
@@ -0,0 +1,283 @@
+package br.com.rafaelvieira.taskmanagement.service;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.Priority;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskFilterRow;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.web.dto.TaskFilterForm;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Índice invertido em memória dos filtros da listagem de tarefas ({@link TaskFilterForm}): um
+ * {@link RoaringBitmap} de IDs por status, prioridade, categoria, responsável e squad, e um por dia
+ * de prazo e de criação. Uma combinação de filtros vira a interseção dos bitmaps correspondentes
+ * (as faixas de datas são a união dos dias da faixa) e a página é lida em ordem crescente de ID,
+ * sem carregar as tarefas que não aparecem nela.
+ *
+ * <p>É mantido pelos {@code TaskChangedEvent} após o commit ({@link
+ * br.com.rafaelvieira.taskmanagement.event.listener.TaskFilterIndexListener}) e recarregado por
+ * inteiro a cada {@code app.task-filter-index.refresh-ms}, o que cobre escritas feitas fora do
+ * serviço de tarefas e em outras instâncias. Alterações recebidas durante a recarga são reaplicadas
+ * sobre o resultado dela.
+ *
+ * <p>Os bitmaps são de 32 bits: IDs acima de {@code 2^32 - 1} desligam o índice e a listagem volta
+ * a filtrar as entidades, assim como antes da primeira carga.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+@Component
+public class TaskFilterIndex {
+
+    /** Tarefas visíveis ao usuário: as dos squads que lidera ou as que tem como responsável */
+    public record Scope(Collection<Long> squadIds, Long assignedUserId) {
+
+        public static Scope squads(Collection<Long> squadIds) {
+            return new Scope(squadIds, null);
+        }
+
+        public static Scope assignee(Long userId) {
+            return new Scope(null, userId);
+        }
+    }
+
+    /** IDs da página em ordem crescente e o total de tarefas que atendem aos filtros */
+    public record IdPage(List<Long> ids, long total) {}
+
+    private static final long MAX_ID = 0xFFFF_FFFFL;
+
+    private final TaskRepository taskRepository;
+    private final Object reloadMonitor = new Object();
+
+    private final Map<Long, TaskFilterRow> rows = new HashMap<>();
+    private final Map<TaskStatus, RoaringBitmap> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<Priority, RoaringBitmap> byPriority = new EnumMap<>(Priority.class);
+    private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byAssignee = new HashMap<>();
+    private final Map<Long, RoaringBitmap> bySquad = new HashMap<>();
+    private final NavigableMap<Long, RoaringBitmap> byDueDay = new TreeMap<>();
+    private final NavigableMap<Long, RoaringBitmap> byCreatedDay = new TreeMap<>();
+
+    private boolean loaded;
+    private boolean overflow;
+
+    /** Não nulo durante uma recarga: alterações a reaplicar sobre o resultado da consulta */
+    private List<TaskFilterRow> changesDuringReload;
+
+    public TaskFilterIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Relê as colunas filtráveis de todas as tarefas. Executa na subida e a cada {@code
+     * app.task-filter-index.refresh-ms} como rede de segurança para alterações que não passaram por
+     * um {@code TaskChangedEvent}.
+     */
+    @Scheduled(fixedDelayString = "${app.task-filter-index.refresh-ms:300000}")
+    public void reload() {
+        synchronized (reloadMonitor) {
+            synchronized (this) {
+                changesDuringReload = new ArrayList<>();
+            }
+            List<TaskFilterRow> loadedRows = null;
+            try {
+                loadedRows = taskRepository.findTaskFilterRows();
+            } finally {
+                if (loadedRows == null) {
+                    synchronized (this) {
+                        changesDuringReload = null;
+                    }
+                }
+            }
+            load(loadedRows);
+        }
+    }
+
+    /**
+     * Aplica a alteração de uma tarefa já confirmada no banco: inclui, reindexa ou, com {@code
+     * status} nulo, remove a tarefa do índice.
+     */
+    public synchronized void apply(TaskFilterRow change) {
+        if (changesDuringReload != null) {
+            changesDuringReload.add(change);
+        }
+        if (loaded) {
+            put(change);
+        }
+    }
+
+    /**
+     * Página de IDs das tarefas visíveis em {@code scope} que atendem aos filtros de status,
+     * prioridade, responsável, categoria e das faixas de criação e prazo (dias inclusivos). A busca
+     * textual ({@code q}) não é considerada. Vazio enquanto o índice não foi carregado ou está
+     * desligado: o chamador deve filtrar as entidades.
+     */
+    public synchronized Optional<IdPage> page(
+            TaskFilterForm filter, Scope scope, long offset, int limit) {
+        if (!loaded || overflow) {
+            return Optional.empty();
+        }
+        RoaringBitmap matched = visibleIn(scope);
+        andKey(matched, byStatus, filter.getStatus());
+        andKey(matched, byPriority, filter.getPriority());
+        andKey(matched, byAssignee, filter.getUserId());
+        andKey(matched, byCategory, filter.getCategoryId());
+        andDays(matched, byCreatedDay, filter.getCreatedFrom(), filter.getCreatedTo());
+        andDays(matched, byDueDay, filter.getDueFrom(), filter.getDueTo());
+
+        long total = matched.getLongCardinality();
+        List<Long> ids = new ArrayList<>((int) Math.min(limit, Math.max(0, total - offset)));
+        if (offset < total) {
+            PeekableIntIterator iterator = matched.getIntIterator();
+            iterator.advanceIfNeeded(matched.select((int) offset));
+            while (iterator.hasNext() && ids.size() < limit) {
+                ids.add(Integer.toUnsignedLong(iterator.next()));
+            }
+        }
+        return Optional.of(new IdPage(ids, total));
+    }
+
+    public synchronized int size() {
+        return rows.size();
+    }
+
+    synchronized void load(List<TaskFilterRow> loadedRows) {
+        List<TaskFilterRow> pending = changesDuringReload;
+        changesDuringReload = null;
+
+        rows.clear();
+        byStatus.clear();
+        byPriority.clear();
+        byCategory.clear();
+        byAssignee.clear();
+        bySquad.clear();
+        byDueDay.clear();
+        byCreatedDay.clear();
+        overflow = false;
+        for (TaskFilterRow row : loadedRows) {
+            put(row);
+        }
+        if (pending != null) {
+            for (TaskFilterRow change : pending) {
+                put(change);
+            }
+        }
+        loaded = true;
+        log.debug("Índice de filtros carregado com {} tarefas", rows.size());
+    }
+
+    private RoaringBitmap visibleIn(Scope scope) {
+        if (scope.squadIds() != null) {
+            List<RoaringBitmap> squads = new ArrayList<>();
+            for (Long squadId : scope.squadIds()) {
+                RoaringBitmap bitmap = bySquad.get(squadId);
+                if (bitmap != null) {
+                    squads.add(bitmap);
+                }
+            }
+            return FastAggregation.or(squads.iterator());
+        }
+        RoaringBitmap assigned = byAssignee.get(scope.assignedUserId());
+        return assigned != null ? assigned.clone() : new RoaringBitmap();
+    }
+
+    // Filtro ausente não restringe; valor sem bitmap (nenhuma tarefa com ele) zera o resultado
+    private static <K> void andKey(RoaringBitmap matched, Map<K, RoaringBitmap> bitmaps, K key) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap values = bitmaps.get(key);
+        if (values != null) {
+            matched.and(values);
+        } else {
+            matched.clear();
+        }
+    }
+
+    private static void andDays(
+            RoaringBitmap matched,
+            NavigableMap<Long, RoaringBitmap> days,
+            LocalDate from,
+            LocalDate to) {
+        if (from == null && to == null || matched.isEmpty()) {
+            return;
+        }
+        long lower = from != null ? from.toEpochDay() : Long.MIN_VALUE;
+        long upper = to != null ? to.toEpochDay() : Long.MAX_VALUE;
+        if (lower > upper) {
+            matched.clear();
+            return;
+        }
+        matched.and(FastAggregation.or(days.subMap(lower, true, upper, true).values().iterator()));
+    }
+
+    private void put(TaskFilterRow row) {
+        if (row.id() > MAX_ID) {
+            if (!overflow) {
+                log.warn(
+                        "Tarefa {} fora da faixa de 32 bits: índice de filtros desligado",
+                        row.id());
+            }
+            overflow = true;
+            return;
+        }
+        int id = (int) row.id().longValue();
+        TaskFilterRow previous =
+                row.status() != null ? rows.put(row.id(), row) : rows.remove(row.id());
+        if (previous != null) {
+            index(previous, id, false);
+        }
+        if (row.status() != null) {
+            index(row, id, true);
+        }
+    }
+
+    private void index(TaskFilterRow row, int id, boolean add) {
+        update(byStatus, row.status(), id, add);
+        update(byPriority, row.priority(), id, add);
+        update(byCategory, row.categoryId(), id, add);
+        update(byAssignee, row.assignedUserId(), id, add);
+        update(bySquad, row.squadId(), id, add);
+        update(byCreatedDay, epochDay(row.createdAt()), id, add);
+        update(byDueDay, epochDay(row.dueDate()), id, add);
+    }
+
+    // Bitmaps vazios saem do mapa para não acumular dias e IDs que não existem mais
+    private static <K> void update(Map<K, RoaringBitmap> bitmaps, K key, int id, boolean add) {
+        if (key == null) {
+            return;
+        }
+        if (add) {
+            bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(id);
+            return;
+        }
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static Long epochDay(LocalDateTime value) {
+        return value != null ? value.toLocalDate().toEpochDay() : null;
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.rafaelvieira.taskmanagement.service;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.Role;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskChangeStamp;
+import br.com.rafaelvieira.taskmanagement.exception.ResourceNotFoundException;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.security.TaskPermissionResolver;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Validadores HTTP (ETag/Last-Modified) das leituras de tarefas. Cada um sai de uma única consulta
+ * agregada ({@link TaskChangeStamp}), bem mais barata que carregar e renderizar as tarefas, para
+ * que GETs repetidos (detalhe da tarefa e fragmentos do dashboard) possam responder 304.
+ *
+ * <p>Tarefa isolada: ETag forte pela {@code @Version}. Listas e fragmentos: agregado do escopo
+ * visível ao usuário (o mesmo das consultas de listagem), com o dia corrente, já que "vencem hoje"
+ * muda à meia-noite sem nenhuma escrita.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskFingerprintService {
+
+    private final TaskRepository taskRepository;
+    private final TaskPermissionResolver permissionResolver;
+    private final Clock clock;
+
+    /**
+     * Validador de uma resposta.
+     *
+     * @param etag Valor da ETag (sem aspas)
+     * @param lastModified Última alteração em epoch millis, ou {@code -1} se desconhecida
+     */
+    public record Fingerprint(String etag, long lastModified) {}
+
+    @Autowired
+    public TaskFingerprintService(
+            TaskRepository taskRepository, TaskPermissionResolver permissionResolver) {
+        this(taskRepository, permissionResolver, Clock.systemDefaultZone());
+    }
+
+    public TaskFingerprintService(
+            TaskRepository taskRepository, TaskPermissionResolver permissionResolver, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.permissionResolver = permissionResolver;
+        this.clock = clock;
+    }
+
+    public Fingerprint ofTask(Long id) {
+        TaskChangeStamp stamp = taskRepository.changeStampById(id, LocalDateTime.now(clock));
+        if (stamp.isEmpty()) {
+            throw new ResourceNotFoundException("Task not found with id: " + id);
+        }
+        // total=1: versão + flag de atraso (calculada na resposta a partir do relógio)
+        return new Fingerprint("task-" + id + "-" + stamp.token(), stamp.lastModified());
+    }
+
+    public Fingerprint ofAllTasks() {
+        TaskChangeStamp stamp = taskRepository.changeStampOfAll(LocalDateTime.now(clock));
+        return new Fingerprint("tasks-" + stamp.token(), stamp.lastModified());
+    }
+
+    /** Escopo de {@code getVisibleTasks}/{@code getTasksByStatus} do usuário */
+    public Fingerprint ofVisibleTasks(User user) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        TaskChangeStamp stamp;
+        String scope;
+        if (user.getRole() == Role.ADMIN || user.getRole() == Role.LEAD) {
+            List<Long> squadIds = permissionResolver.accessOf(user).ledSquadIdList();
+            stamp =
+                    squadIds.isEmpty()
+                            ? TaskChangeStamp.EMPTY
+                            : taskRepository.changeStampForLead(squadIds, now);
+            scope = "s" + Integer.toHexString(squadIds.hashCode());
+        } else {
+            stamp = taskRepository.changeStampForMember(user, now);
+            scope = "m";
+        }
+        return new Fingerprint(
+                "u" + user.getId() + "-" + scope + "-" + now.toLocalDate() + "-" + stamp.token(),
+                stamp.lastModified());
+    }
+}
@@ -6,7 +6,9 @@ import br.com.rafaelvieira.taskmanagement.domain.model.Task;
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
 import br.com.rafaelvieira.taskmanagement.domain.records.TaskCreateRecord;
 import br.com.rafaelvieira.taskmanagement.domain.records.TaskRecord;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskSearchHit;
 import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -20,8 +22,18 @@ public interface TaskService {
 
     TaskRecord updateTask(Long id, TaskCreateRecord taskCreate, User currentUser);
 
+    /**
+     * Tarefa com a descrição completa. As listagens da API REST também a trazem (um único {@code IN
+     * (...)}); as usadas pelas telas deixam a descrição nula.
+     */
     TaskRecord getTaskById(Long id);
 
+    /**
+     * Início da descrição de cada tarefa como texto simples (sem tags), com no máximo {@code
+     * maxLength} caracteres. Tarefas sem descrição ficam fora do mapa.
+     */
+    Map<Long, String> getDescriptionExcerpts(List<Long> taskIds, int maxLength);
+
     List<TaskRecord> getAllTasks();
 
     List<TaskRecord> getVisibleTasks(User currentUser);
@@ -66,6 +78,15 @@ public interface TaskService {
             Pageable pageable,
             User currentUser);
 
+    /**
+     * Busca textual (título e descrição) entre as tarefas visíveis ao usuário, combinada com os
+     * demais filtros e ordenada por relevância.
+     */
+    Page<TaskSearchHit> searchTasksByText(
+            br.com.rafaelvieira.taskmanagement.web.dto.TaskFilterForm filter,
+            Pageable pageable,
+            User currentUser);
+
     TaskRecord extendTask(
             Long id,
             br.com.rafaelvieira.taskmanagement.domain.records.TaskExtensionRecord extension);
@@ -2,11 +2,19 @@ package br.com.rafaelvieira.taskmanagement.service;
 
 import br.com.rafaelvieira.taskmanagement.domain.records.DashboardUpdateMessage;
 import br.com.rafaelvieira.taskmanagement.domain.records.NotificationUpdateMessage;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskStateDiff;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskTimerState;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.converter.MessageConversionException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 @Slf4j
 @Service
@@ -14,21 +22,29 @@ import org.springframework.stereotype.Service;
 public class WebSocketService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final AppMetrics metrics;
 
     public void sendDashboardUpdate(DashboardUpdateMessage message) {
         try {
             messagingTemplate.convertAndSend("/topic/dashboard", message);
             log.debug("Dashboard update sent: {}", message);
         } catch (MessagingException e) {
+            metrics.countPushFailure(AppMetrics.CHANNEL_WEBSOCKET, "dashboard");
             log.error("Error sending dashboard update via WebSocket", e);
         }
     }
 
     public void sendNotificationToUser(String username, NotificationUpdateMessage message) {
+        Timer.Sample sample = metrics.start();
         try {
             messagingTemplate.convertAndSendToUser(username, "/queue/notifications", message);
+            metrics.recordNotificationDelivery(
+                    sample, AppMetrics.CHANNEL_WEBSOCKET, AppMetrics.OUTCOME_SUCCESS);
             log.debug("Notification sent to user {}: {}", username, message);
         } catch (MessagingException e) {
+            metrics.recordNotificationDelivery(
+                    sample, AppMetrics.CHANNEL_WEBSOCKET, AppMetrics.OUTCOME_FAILURE);
+            metrics.countPushFailure(AppMetrics.CHANNEL_WEBSOCKET, "user-notifications");
             log.error("Error sending notification to user {} via WebSocket", username, e);
         }
     }
@@ -38,7 +54,80 @@ public class WebSocketService {
             messagingTemplate.convertAndSend("/topic/notifications", message);
             log.debug("Notification broadcast sent: {}", message);
         } catch (MessagingException e) {
+            metrics.countPushFailure(AppMetrics.CHANNEL_WEBSOCKET, "notifications");
             log.error("Error sending notification broadcast via WebSocket", e);
         }
     }
+
+    /**
+     * Envia o diff ao tópico da squad e à fila de cada destinatário. O JSON é gerado uma única vez
+     * pelo conversor do próprio template e a mesma mensagem imutável é reaproveitada em todos os
+     * destinos: o template só copia os cabeçalhos para acrescentar o destino de cada frame.
+     */
+    public void sendTaskState(Long squadId, Collection<String> usernames, TaskStateDiff diff) {
+        Message<?> encoded;
+        try {
+            encoded = encode(diff);
+        } catch (MessagingException e) {
+            metrics.countPushFailure(AppMetrics.CHANNEL_WEBSOCKET, "task-state-encoding");
+            log.error("Error encoding task state {} for WebSocket", diff.taskId(), e);
+            return;
+        }
+        if (squadId != null) {
+            try {
+                messagingTemplate.send("/topic/squad/" + squadId + "/task-state", encoded);
+                log.debug("Task state sent to squad {}: {}", squadId, diff);
+            } catch (MessagingException e) {
+                metrics.countPushFailure(AppMetrics.CHANNEL_WEBSOCKET, "squad-task-state");
+                log.error("Error sending task state to squad {} via WebSocket", squadId, e);
+            }
+        }
+        for (String username : usernames) {
+            try {
+                messagingTemplate.send(userDestination(username, "/queue/task-state"), encoded);
+                log.debug("Task state sent to user {}: {}", username, diff);
+            } catch (MessagingException e) {
+                metrics.countPushFailure(AppMetrics.CHANNEL_WEBSOCKET, "user-task-state");
+                log.error("Error sending task state to user {} via WebSocket", username, e);
+            }
+        }
+    }
+
+    /** Envia o timer da tarefa à fila de cada destinatário, serializado uma única vez */
+    public void sendTimerState(Collection<String> usernames, TaskTimerState state) {
+        Message<?> encoded;
+        try {
+            encoded = encode(state);
+        } catch (MessagingException e) {
+            metrics.countPushFailure(AppMetrics.CHANNEL_WEBSOCKET, "timer-state-encoding");
+            log.error("Error encoding timer state {} for WebSocket", state.taskId(), e);
+            return;
+        }
+        for (String username : usernames) {
+            try {
+                messagingTemplate.send(userDestination(username, "/queue/timer-state"), encoded);
+                log.debug("Timer state sent to user {}: {}", username, state);
+            } catch (MessagingException e) {
+                metrics.countPushFailure(AppMetrics.CHANNEL_WEBSOCKET, "user-timer-state");
+                log.error("Error sending timer state to user {} via WebSocket", username, e);
+            }
+        }
+    }
+
+    /** Serializa o payload com o mesmo conversor (e content-type) usado pelo convertAndSend */
+    private Message<?> encode(Object payload) {
+        Message<?> message = messagingTemplate.getMessageConverter().toMessage(payload, null);
+        if (message == null) {
+            throw new MessageConversionException(
+                    "No converter for payload type " + payload.getClass().getName());
+        }
+        return message;
+    }
+
+    /** Mesmo destino montado pelo convertAndSendToUser */
+    private String userDestination(String username, String destination) {
+        return messagingTemplate.getUserDestinationPrefix()
+                + StringUtils.replace(username, "/", "%2F")
+                + destination;
+    }
 }
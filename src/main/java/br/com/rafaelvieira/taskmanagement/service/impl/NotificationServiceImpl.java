@@ -2,16 +2,19 @@ package br.com.rafaelvieira.taskmanagement.service.impl;
 
 import br.com.rafaelvieira.taskmanagement.domain.entity.Notification;
 import br.com.rafaelvieira.taskmanagement.domain.enums.NotificationType;
-import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.NotificationStateMessage;
+import br.com.rafaelvieira.taskmanagement.domain.records.NotificationUpdateMessage;
 import br.com.rafaelvieira.taskmanagement.exception.ForbiddenException;
 import br.com.rafaelvieira.taskmanagement.exception.ResourceNotFoundException;
 import br.com.rafaelvieira.taskmanagement.exception.UnauthorizedException;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
 import br.com.rafaelvieira.taskmanagement.repository.NotificationRepository;
-import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
 import br.com.rafaelvieira.taskmanagement.service.NotificationService;
+import br.com.rafaelvieira.taskmanagement.service.TaskBadgeCounterService;
 import br.com.rafaelvieira.taskmanagement.service.UserService;
 import br.com.rafaelvieira.taskmanagement.web.dto.NotificationResponseDTO;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,41 +33,22 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @Slf4j
 public class NotificationServiceImpl implements NotificationService {
 
-    private final TaskRepository taskRepository;
     private final UserService userService;
     private final NotificationRepository notificationRepository;
     private final br.com.rafaelvieira.taskmanagement.service.WebSocketService webSocketService;
+    private final AppMetrics metrics;
+    private final TaskBadgeCounterService badgeCounterService;
     private final java.util.Map<Long, SseEmitter> emitters =
             new java.util.concurrent.ConcurrentHashMap<>();
 
     @Override
     public long countOverdueForCurrentUser() {
-        var user = userService.getCurrentUser();
-        return taskRepository.findOverdueTasks(LocalDateTime.now()).stream()
-                .filter(
-                        t ->
-                                t.getAssignedUser() != null
-                                        && t.getAssignedUser().getId().equals(user.getId()))
-                .count();
+        return badgeCounterService.countsFor(userService.getCurrentUser().getId()).overdue();
     }
 
     @Override
     public long countNearDueForCurrentUser() {
-        var user = userService.getCurrentUser();
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime window = now.plusHours(48);
-        return taskRepository.findAll().stream()
-                .filter(
-                        t ->
-                                t.getAssignedUser() != null
-                                        && t.getAssignedUser().getId().equals(user.getId()))
-                .filter(t -> t.getStatus() != TaskStatus.DONE)
-                .filter(
-                        t ->
-                                t.getDueDate() != null
-                                        && !t.getDueDate().isBefore(now)
-                                        && t.getDueDate().isBefore(window))
-                .count();
+        return badgeCounterService.countsFor(userService.getCurrentUser().getId()).nearDue();
     }
 
     @Override
@@ -98,12 +82,24 @@ public class NotificationServiceImpl implements NotificationService {
         emitter.onCompletion(() -> emitters.remove(userId));
         emitter.onTimeout(() -> emitters.remove(userId));
         emitter.onError((e) -> emitters.remove(userId));
+        try {
+            // Comentário inicial: o stream é confirmado na hora, sem esperar a primeira notificação
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            emitters.remove(userId);
+            metrics.countPushFailure(AppMetrics.CHANNEL_SSE, "notifications");
+            emitter.completeWithError(e);
+        }
         return emitter;
     }
 
     private void sendSseNotification(Long userId, Notification notification) {
+        Timer.Sample sample = metrics.start();
         SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
+        if (emitter == null) {
+            metrics.recordNotificationDelivery(
+                    sample, AppMetrics.CHANNEL_SSE, AppMetrics.OUTCOME_NO_SUBSCRIBER);
+        } else {
             try {
                 NotificationResponseDTO dto =
                         NotificationResponseDTO.builder()
@@ -117,8 +113,13 @@ public class NotificationServiceImpl implements NotificationService {
                                 .createdAt(notification.getCreatedAt())
                                 .build();
                 emitter.send(SseEmitter.event().name("notification").data(dto));
+                metrics.recordNotificationDelivery(
+                        sample, AppMetrics.CHANNEL_SSE, AppMetrics.OUTCOME_SUCCESS);
             } catch (IOException e) {
                 emitters.remove(userId);
+                metrics.recordNotificationDelivery(
+                        sample, AppMetrics.CHANNEL_SSE, AppMetrics.OUTCOME_FAILURE);
+                metrics.countPushFailure(AppMetrics.CHANNEL_SSE, "notifications");
                 log.warn(
                         "Failed to send SSE notification {} for user {}: {}",
                         notification.getId(),
@@ -139,6 +140,7 @@ public class NotificationServiceImpl implements NotificationService {
             log.debug("Skipping notification creation for task {} because user is null", taskId);
             return null; // evita constraint violation
         }
+        Timer.Sample sample = metrics.start();
 
         // Deduplication: Prevent duplicate unread notifications for the same task and
         // type
@@ -151,6 +153,7 @@ public class NotificationServiceImpl implements NotificationService {
                             user, taskId, type);
             if (exists) {
                 log.debug("Skipping duplicate notification for task {} type {}", taskId, type);
+                metrics.recordNotificationCreate(sample, type, AppMetrics.OUTCOME_DEDUPLICATED);
                 return null;
             }
         }
@@ -170,22 +173,15 @@ public class NotificationServiceImpl implements NotificationService {
         var saved = notificationRepository.save(notification);
         sendSseNotification(user.getId(), saved);
 
-        // Send via WebSocket
+        // Send via WebSocket (o cliente soma 1 ao badge; o total vem só no estado da conexão)
         try {
             webSocketService.sendNotificationToUser(
-                    user.getUsername(),
-                    br.com.rafaelvieira.taskmanagement.domain.records.NotificationUpdateMessage
-                            .create(
-                                    saved.getId(),
-                                    saved.getTitle(),
-                                    saved.getMessage(),
-                                    saved.getType().name(),
-                                    saved.getTaskId(),
-                                    saved.isSticky()));
+                    user.getUsername(), NotificationUpdateMessage.of(saved));
         } catch (ResourceNotFoundException e) {
             log.error("Failed to send WebSocket notification", e);
         }
 
+        metrics.recordNotificationCreate(sample, type, AppMetrics.OUTCOME_CREATED);
         return saved;
     }
 
@@ -229,6 +225,24 @@ public class NotificationServiceImpl implements NotificationService {
                 currentUser);
     }
 
+    @Override
+    public NotificationStateMessage getStateForUser(String username) {
+        User user = userService.findByUsername(username);
+        List<NotificationUpdateMessage> sticky =
+                notificationRepository
+                        .findByUserAndReadFalseAndStickyTrueOrderByCreatedAtDesc(user)
+                        .stream()
+                        .map(NotificationUpdateMessage::of)
+                        .toList();
+        return new NotificationStateMessage(
+                notificationRepository.countByUserAndReadFalse(user), sticky);
+    }
+
+    @Override
+    public int countActiveStreams() {
+        return emitters.size();
+    }
+
     @Override
     public long countUnreadForCurrentUser() {
         var currentUser = userService.getCurrentUser();
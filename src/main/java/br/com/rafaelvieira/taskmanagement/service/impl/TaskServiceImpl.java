@@ -7,26 +7,39 @@ import br.com.rafaelvieira.taskmanagement.domain.model.Category;
 import br.com.rafaelvieira.taskmanagement.domain.model.PomodoroSession;
 import br.com.rafaelvieira.taskmanagement.domain.model.Squad;
 import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.TaskDescription;
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
 import br.com.rafaelvieira.taskmanagement.domain.records.TaskCreateRecord;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskDescriptionExcerpt;
 import br.com.rafaelvieira.taskmanagement.domain.records.TaskRecord;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskSearchHit;
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
 import br.com.rafaelvieira.taskmanagement.exception.ResourceNotFoundException;
 import br.com.rafaelvieira.taskmanagement.exception.TaskValidationException;
 import br.com.rafaelvieira.taskmanagement.exception.UnauthorizedException;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
 import br.com.rafaelvieira.taskmanagement.repository.CategoryRepository;
 import br.com.rafaelvieira.taskmanagement.repository.PomodoroSessionRepository;
 import br.com.rafaelvieira.taskmanagement.repository.SquadMemberRepository;
 import br.com.rafaelvieira.taskmanagement.repository.SquadRepository;
+import br.com.rafaelvieira.taskmanagement.repository.TaskDescriptionRepository;
 import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.repository.TaskSearchRepository;
 import br.com.rafaelvieira.taskmanagement.repository.UserRepository;
+import br.com.rafaelvieira.taskmanagement.security.TaskPermissionResolver;
 import br.com.rafaelvieira.taskmanagement.service.GamificationService;
-import br.com.rafaelvieira.taskmanagement.service.GamificationWebSocketService;
-import br.com.rafaelvieira.taskmanagement.service.MonthlyBadgeService;
+import br.com.rafaelvieira.taskmanagement.service.TaskFilterIndex;
 import br.com.rafaelvieira.taskmanagement.service.TaskService;
 import br.com.rafaelvieira.taskmanagement.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
@@ -35,14 +48,19 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
+// Todo método público vira o timer taskmanagement.task.service com tags class/method/exception
+@Timed(AppMetrics.TASK_SERVICE)
 public class TaskServiceImpl implements TaskService {
 
     private static final String EXCEPTION_TASK_ID = "Task not found with id: ";
+    // Mantém o IN (...) bem abaixo do limite de parâmetros do driver do PostgreSQL
+    private static final int DESCRIPTION_BATCH_SIZE = 1_000;
 
     private final TaskRepository taskRepository;
     private final CategoryRepository categoryRepository;
@@ -52,11 +70,14 @@ public class TaskServiceImpl implements TaskService {
     private final UserService userService;
     private final PomodoroSessionRepository pomodoroSessionRepository;
     private final GamificationService gamificationService;
-    private final GamificationWebSocketService webSocketService;
-    private final MonthlyBadgeService monthlyBadgeService;
     private final org.springframework.context.ApplicationEventPublisher eventPublisher;
+    private final TaskPermissionResolver permissionResolver;
+    private final TaskSearchRepository taskSearchRepository;
+    private final TaskDescriptionRepository taskDescriptionRepository;
+    private final TaskFilterIndex taskFilterIndex;
 
-    private static TaskRecord convertTo(Task task) {
+    // Package-private para os benchmarks JMH (src/jmh)
+    static TaskRecord convertTo(Task task) {
         boolean isOverdue =
                 task.getDueDate() != null
                         && task.getDueDate().isBefore(LocalDateTime.now())
@@ -181,6 +202,95 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    // Mesma chamada da conclusão em massa (BulkTaskService)
+    private void registerCompletion(Task task) {
+        try {
+            gamificationService.registerCompletion(task);
+        } catch (ResourceNotFoundException e) {
+            log.error("Error registering task completion for gamification: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Grava a descrição em {@code task_descriptions} (ou remove, se vazia) e a deixa na entidade
+     * para o {@link #convertTo(Task)} da resposta.
+     */
+    private void storeDescription(Task task, String description) {
+        if (description == null || description.isBlank()) {
+            taskDescriptionRepository.deleteByTaskId(task.getId());
+            task.setDescription(null);
+            return;
+        }
+        taskDescriptionRepository.save(
+                new TaskDescription(task.getId(), description, LocalDateTime.now()));
+        task.setDescription(description);
+    }
+
+    /**
+     * Regrava a descrição só quando ela muda: {@code null} (campo omitido no JSON) mantém a atual e
+     * texto em branco a remove. Como fica em outra tabela, a mudança toca o {@code updatedAt} para
+     * que a {@code @Version} da task (e a ETag do detalhe) também mude.
+     */
+    private void updateDescription(Task task, String description) {
+        String stored = taskDescriptionRepository.findContentByTaskId(task.getId()).orElse(null);
+        // Ausente (null) mantém a descrição gravada; só o texto em branco a remove
+        String normalized =
+                description == null ? stored : description.isBlank() ? null : description;
+        if (Objects.equals(stored, normalized)) {
+            task.setDescription(stored);
+            return;
+        }
+        storeDescription(task, normalized);
+        task.setUpdatedAt(LocalDateTime.now());
+    }
+
+    /** Resposta de uma única task com a descrição, para manter o contrato da API REST */
+    private TaskRecord convertWithDescription(Task task) {
+        task.setDescription(
+                taskDescriptionRepository.findContentByTaskId(task.getId()).orElse(null));
+        return convertTo(task);
+    }
+
+    /**
+     * Listagens da API REST com a descrição completa: um {@code IN (...)} por lote de {@value
+     * #DESCRIPTION_BATCH_SIZE} tasks, em vez de uma consulta por task. As telas continuam sem
+     * carregar a descrição.
+     */
+    private List<TaskRecord> convertWithDescriptions(List<Task> tasks) {
+        List<Long> ids = tasks.stream().map(Task::getId).toList();
+        Map<Long, String> contents = new HashMap<>();
+        for (int start = 0; start < ids.size(); start += DESCRIPTION_BATCH_SIZE) {
+            List<Long> batch =
+                    ids.subList(start, Math.min(ids.size(), start + DESCRIPTION_BATCH_SIZE));
+            taskDescriptionRepository
+                    .findByTaskIdIn(batch)
+                    .forEach(d -> contents.put(d.getTaskId(), d.getContent()));
+        }
+        return tasks.stream()
+                .map(
+                        task -> {
+                            task.setDescription(contents.get(task.getId()));
+                            return convertTo(task);
+                        })
+                .toList();
+    }
+
+    private static String plainTextExcerpt(String html, int maxLength) {
+        String text =
+                HtmlUtils.htmlUnescape(html.replaceAll("<[^>]*>?", " "))
+                        .replaceAll("[\\s\\u00A0]+", " ")
+                        .strip();
+        return text.length() <= maxLength ? text : text.substring(0, maxLength - 3) + "...";
+    }
+
+    private void publishTaskChanged(Task task, TaskStatus previousStatus) {
+        eventPublisher.publishEvent(TaskChangedEvent.of(this, task, previousStatus));
+    }
+
+    private void publishTaskChangedSince(Task task, TaskChangedEvent.Before before) {
+        eventPublisher.publishEvent(TaskChangedEvent.since(this, task, before));
+    }
+
     @Override
     public TaskRecord createTask(TaskCreateRecord taskCreate) {
         // Se o record tiver squadId, usar o método com squad
@@ -225,6 +335,8 @@ public class TaskServiceImpl implements TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        storeDescription(savedTask, taskCreate.description());
+        publishTaskChanged(savedTask, null);
 
         if (savedTask.getStatus() == TaskStatus.TODO) {
             eventPublisher.publishEvent(
@@ -303,6 +415,8 @@ public class TaskServiceImpl implements TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        storeDescription(savedTask, taskCreate.description());
+        publishTaskChanged(savedTask, null);
 
         if (savedTask.getStatus() == TaskStatus.TODO) {
             eventPublisher.publishEvent(
@@ -333,6 +447,7 @@ public class TaskServiceImpl implements TaskService {
 
         User currentUser = userService.getCurrentUser();
 
+        TaskChangedEvent.Before before = TaskChangedEvent.Before.of(task);
         task.setTitle(taskCreate.title());
         task.setDescription(taskCreate.description());
         task.setStatus(taskCreate.status() != null ? taskCreate.status() : task.getStatus());
@@ -378,8 +493,10 @@ public class TaskServiceImpl implements TaskService {
             }
         }
 
+        updateDescription(task, taskCreate.description());
         Task updatedTask = taskRepository.save(task);
         taskRepository.flush();
+        publishTaskChangedSince(updatedTask, before);
 
         eventPublisher.publishEvent(
                 new br.com.rafaelvieira.taskmanagement.event.TaskEvent(
@@ -411,6 +528,7 @@ public class TaskServiceImpl implements TaskService {
             throw new UnauthorizedException("Members cannot change the due date of squad tasks");
         }
 
+        TaskChangedEvent.Before before = TaskChangedEvent.Before.of(task);
         task.setTitle(taskCreate.title());
         task.setDescription(taskCreate.description());
         task.setStatus(taskCreate.status() != null ? taskCreate.status() : task.getStatus());
@@ -456,8 +574,10 @@ public class TaskServiceImpl implements TaskService {
             }
         }
 
+        updateDescription(task, taskCreate.description());
         Task updatedTask = taskRepository.save(task);
         taskRepository.flush();
+        publishTaskChangedSince(updatedTask, before);
 
         eventPublisher.publishEvent(
                 new br.com.rafaelvieira.taskmanagement.event.TaskEvent(
@@ -476,34 +596,34 @@ public class TaskServiceImpl implements TaskService {
                 taskRepository
                         .findById(id)
                         .orElseThrow(() -> new ResourceNotFoundException(EXCEPTION_TASK_ID + id));
-        return convertTo(task);
+        return convertWithDescription(task);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, String> getDescriptionExcerpts(List<Long> taskIds, int maxLength) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        // Lê uma margem a mais: as tags e entidades do HTML somem na conversão para texto
+        int htmlLength = maxLength * 4;
+        return taskDescriptionRepository.findExcerptsByTaskIdIn(taskIds, htmlLength).stream()
+                .collect(
+                        Collectors.toMap(
+                                TaskDescriptionExcerpt::taskId,
+                                e -> plainTextExcerpt(e.content(), maxLength)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskRecord> getAllTasks() {
-        return taskRepository.findAll().stream().map(TaskServiceImpl::convertTo).toList();
+        return convertWithDescriptions(taskRepository.findAll());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskRecord> getVisibleTasks(User currentUser) {
-        List<Task> tasks;
-
-        switch (currentUser.getRole()) {
-            case ADMIN:
-            case LEAD:
-                // Admin e Lead veem apenas tasks de squads que lideram
-                tasks = taskRepository.findVisibleTasksForLead(currentUser);
-                break;
-            case MEMBER:
-            default:
-                // Member vê apenas tasks onde é responsável
-                tasks = taskRepository.findVisibleTasksForMember(currentUser);
-                break;
-        }
-
-        return tasks.stream().map(TaskServiceImpl::convertTo).toList();
+        return findVisibleTasks(currentUser).stream().map(TaskServiceImpl::convertTo).toList();
     }
 
     @Override
@@ -517,41 +637,31 @@ public class TaskServiceImpl implements TaskService {
     @Override
     @Transactional(readOnly = true)
     public List<TaskRecord> getTasksByStatus(TaskStatus status) {
-        return taskRepository.findByStatus(status).stream()
-                .map(TaskServiceImpl::convertTo)
-                .toList();
+        return convertWithDescriptions(taskRepository.findByStatus(status));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskRecord> getTasksByPriority(Priority priority) {
-        return taskRepository.findByPriority(priority).stream()
-                .map(TaskServiceImpl::convertTo)
-                .toList();
+        return convertWithDescriptions(taskRepository.findByPriority(priority));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskRecord> getTasksByCategoryId(Long categoryId) {
-        return taskRepository.findByCategoryId(categoryId).stream()
-                .map(TaskServiceImpl::convertTo)
-                .toList();
+        return convertWithDescriptions(taskRepository.findByCategoryId(categoryId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskRecord> getTasksByUserId(Long userId) {
-        return taskRepository.findByAssignedUserId(userId).stream()
-                .map(TaskServiceImpl::convertTo)
-                .toList();
+        return convertWithDescriptions(taskRepository.findByAssignedUserId(userId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskRecord> getOverdueTasks() {
-        return taskRepository.findOverdueTasks(LocalDateTime.now()).stream()
-                .map(TaskServiceImpl::convertTo)
-                .toList();
+        return convertWithDescriptions(taskRepository.findOverdueTasks(LocalDateTime.now()));
     }
 
     @Override
@@ -574,75 +684,23 @@ public class TaskServiceImpl implements TaskService {
         }
 
         taskRepository.deleteById(id);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(this, task));
         log.info("Task {} deleted by user {}", id, currentUser.getUsername());
     }
 
     @Override
     public boolean canUserModifyTask(User user, Task task) {
-        if (user.getRole() == Role.ADMIN) {
-            return true; // Admin pode modificar qualquer task
-        }
-
-        if (task.getSquad() == null) {
-            // Task pessoal - apenas o usuário atribuído pode modificar
-            return task.getAssignedUser() != null
-                    && task.getAssignedUser().getId().equals(user.getId());
-        }
-
-        // Task de squad
-        if (user.getRole() == Role.LEAD) {
-            // Lead pode modificar tasks de squads que lidera
-            return task.getSquad().getLead().getId().equals(user.getId());
-        }
-
-        // MEMBER pode modificar tasks de squad onde é membro (com restrições)
-        return squadMemberRepository.existsBySquadAndUser(task.getSquad(), user);
+        return permissionResolver.canModify(user, task);
     }
 
     @Override
     public boolean canUserDeleteTask(User user, Task task) {
-        if (user.getRole() == Role.ADMIN) {
-            return true; // Admin pode deletar qualquer task
-        }
-
-        if (task.getSquad() == null) {
-            // Task pessoal - apenas o usuário atribuído ou criador pode deletar
-            boolean isAssigned =
-                    task.getAssignedUser() != null
-                            && task.getAssignedUser().getId().equals(user.getId());
-            boolean isCreator =
-                    task.getCreatedBy() != null && task.getCreatedBy().getId().equals(user.getId());
-            return isAssigned || isCreator;
-        }
-
-        // Task de squad - apenas LEAD do squad pode deletar
-        if (user.getRole() == Role.LEAD) {
-            return task.getSquad().getLead().getId().equals(user.getId());
-        }
-
-        // MEMBER não pode deletar tasks de squad
-        return false;
+        return permissionResolver.canDelete(user, task);
     }
 
     @Override
     public boolean canUserControlTimer(User user, Task task) {
-        if (user.getRole() == Role.ADMIN) {
-            return true; // Admin pode controlar timer de qualquer task
-        }
-
-        if (task.getSquad() == null) {
-            // Task pessoal - apenas o usuário atribuído pode controlar o timer
-            return task.getAssignedUser() != null
-                    && task.getAssignedUser().getId().equals(user.getId());
-        }
-
-        // Task de squad - apenas LEAD do squad pode controlar timer
-        if (user.getRole() == Role.LEAD) {
-            return task.getSquad().getLead().getId().equals(user.getId());
-        }
-
-        // MEMBER não pode controlar timer de tasks de squad
-        return false;
+        return permissionResolver.canControlTimer(user, task);
     }
 
     @Override
@@ -651,6 +709,7 @@ public class TaskServiceImpl implements TaskService {
                 taskRepository
                         .findById(id)
                         .orElseThrow(() -> new ResourceNotFoundException(EXCEPTION_TASK_ID + id));
+        TaskChangedEvent.Before before = TaskChangedEvent.Before.of(task);
 
         System.out.println(
                 "🔄 changeTaskStatus called - ID: "
@@ -676,7 +735,7 @@ public class TaskServiceImpl implements TaskService {
                                 + " -> keeping status "
                                 + task.getStatus());
 
-                return convertTo(task);
+                return convertWithDescription(task);
             }
             System.out.println("✅ Task " + id + " can start - proceeding...");
             ensureAssignedToCurrentUserIfStarting(task);
@@ -734,16 +793,7 @@ public class TaskServiceImpl implements TaskService {
             if (newStatus == TaskStatus.DONE) {
                 task.setCompletedAt(LocalDateTime.now());
 
-                // Trigger gamification for squad tasks
-                if (task.getSquad() != null) {
-                    try {
-                        gamificationService.registerTaskCompletion(task);
-                    } catch (ResourceNotFoundException e) {
-                        System.err.println(
-                                "Error registering task completion for gamification: "
-                                        + e.getMessage());
-                    }
-                }
+                registerCompletion(task);
 
                 eventPublisher.publishEvent(
                         new br.com.rafaelvieira.taskmanagement.event.TaskEvent(
@@ -761,7 +811,8 @@ public class TaskServiceImpl implements TaskService {
         checkAutoFinish(task);
 
         Task updatedTask = taskRepository.save(task);
-        return convertTo(updatedTask);
+        publishTaskChangedSince(updatedTask, before);
+        return convertWithDescription(updatedTask);
     }
 
     @Override
@@ -786,6 +837,7 @@ public class TaskServiceImpl implements TaskService {
     }
 
     private TaskRecord changeTaskStatusInternal(Task task, TaskStatus newStatus) {
+        TaskChangedEvent.Before before = TaskChangedEvent.Before.of(task);
         log.debug(
                 "changeTaskStatus called - ID: {}, Current Status: {}, New Status: {}, ExecTime:"
                         + " {}, Pomodoro: {}",
@@ -804,7 +856,7 @@ public class TaskServiceImpl implements TaskService {
                         task.getExecutionTimeMinutes(),
                         task.getPomodoroMinutes(),
                         task.getStatus());
-                return convertTo(task);
+                return convertWithDescription(task);
             }
 
             ensureAssignedToCurrentUserIfStarting(task);
@@ -820,13 +872,6 @@ public class TaskServiceImpl implements TaskService {
             finishActivePomodoros(task);
             task.setStatus(TaskStatus.IN_PROGRESS);
 
-            if (task.getSquad() != null) {
-                webSocketService.notifyTaskUpdate(
-                        task.getSquad().getId(), task.getId(), "TIMER_STARTED", "IN_PROGRESS");
-                webSocketService.notifyTaskUpdate(
-                        task.getSquad().getId(), task.getId(), "STATUS_CHANGED", "IN_PROGRESS");
-            }
-
             if (isResumed) {
                 eventPublisher.publishEvent(
                         new br.com.rafaelvieira.taskmanagement.event.TaskEvent(
@@ -850,13 +895,6 @@ public class TaskServiceImpl implements TaskService {
             task.setStatus(TaskStatus.IN_PAUSE);
             finishActivePomodoros(task);
 
-            if (task.getSquad() != null) {
-                webSocketService.notifyTaskUpdate(
-                        task.getSquad().getId(), task.getId(), "TIMER_STOPPED", "IN_PAUSE");
-                webSocketService.notifyTaskUpdate(
-                        task.getSquad().getId(), task.getId(), "STATUS_CHANGED", "IN_PAUSE");
-            }
-
             eventPublisher.publishEvent(
                     new br.com.rafaelvieira.taskmanagement.event.TaskEvent(
                             this,
@@ -871,28 +909,10 @@ public class TaskServiceImpl implements TaskService {
             task.setStatus(newStatus);
             task.setPomodoroUntil(null);
 
-            if (task.getSquad() != null) {
-                webSocketService.notifyTaskUpdate(
-                        task.getSquad().getId(), task.getId(), "TIMER_STOPPED", newStatus.name());
-                webSocketService.notifyTaskUpdate(
-                        task.getSquad().getId(), task.getId(), "STATUS_CHANGED", newStatus.name());
-            }
-
             if (newStatus == TaskStatus.DONE) {
                 task.setCompletedAt(LocalDateTime.now());
 
-                // Trigger gamification for squad tasks
-                if (task.getSquad() != null && task.getAssignedUser() != null) {
-                    try {
-                        gamificationService.registerTaskCompletion(task);
-                        // Registrar para badge mensal
-                        monthlyBadgeService.registerSquadTaskCompletion(task.getAssignedUser());
-                    } catch (ResourceNotFoundException e) {
-                        log.error(
-                                "Error registering task completion for gamification: {}",
-                                e.getMessage());
-                    }
-                }
+                registerCompletion(task);
 
                 eventPublisher.publishEvent(
                         new br.com.rafaelvieira.taskmanagement.event.TaskEvent(
@@ -910,7 +930,8 @@ public class TaskServiceImpl implements TaskService {
         checkAutoFinish(task);
 
         Task updatedTask = taskRepository.save(task);
-        return convertTo(updatedTask);
+        publishTaskChangedSince(updatedTask, before);
+        return convertWithDescription(updatedTask);
     }
 
     @Override
@@ -999,7 +1020,8 @@ public class TaskServiceImpl implements TaskService {
                                                                 .isAfter(filter.getDueTo())))
                         .toList();
 
-        int start = (int) pageable.getOffset();
+        // Página além do total devolve vazio em vez de estourar o subList
+        int start = (int) Math.min(pageable.getOffset(), filtered.size());
         int end = Math.min((start + pageable.getPageSize()), filtered.size());
         List<TaskRecord> content =
                 filtered.subList(start, end).stream().map(TaskServiceImpl::convertTo).toList();
@@ -1012,18 +1034,20 @@ public class TaskServiceImpl implements TaskService {
             br.com.rafaelvieira.taskmanagement.web.dto.TaskFilterForm filter,
             Pageable pageable,
             User currentUser) {
-        List<Task> visibleTasks;
-
-        switch (currentUser.getRole()) {
-            case ADMIN:
-            case LEAD:
-                visibleTasks = taskRepository.findVisibleTasksForLead(currentUser);
-                break;
-            case MEMBER:
-            default:
-                visibleTasks = taskRepository.findVisibleTasksForMember(currentUser);
-                break;
+        if (filter.getQ() != null && !filter.getQ().isBlank()) {
+            return searchTasksByText(filter, pageable, currentUser).map(TaskSearchHit::task);
+        }
+        Optional<TaskFilterIndex.IdPage> indexed =
+                taskFilterIndex.page(
+                        filter,
+                        filterScopeOf(currentUser),
+                        pageable.getOffset(),
+                        pageable.getPageSize());
+        if (indexed.isPresent()) {
+            return loadIndexedPage(indexed.get(), pageable);
         }
+        // Índice ainda não carregado: filtra as entidades visíveis
+        List<Task> visibleTasks = findVisibleTasks(currentUser);
 
         // Aplicar filtros adicionais
         var filtered =
@@ -1080,13 +1104,74 @@ public class TaskServiceImpl implements TaskService {
                                                                 .isAfter(filter.getDueTo())))
                         .toList();
 
-        int start = (int) pageable.getOffset();
+        // Página além do total devolve vazio em vez de estourar o subList
+        int start = (int) Math.min(pageable.getOffset(), filtered.size());
         int end = Math.min((start + pageable.getPageSize()), filtered.size());
         List<TaskRecord> content =
                 filtered.subList(start, end).stream().map(TaskServiceImpl::convertTo).toList();
         return new PageImpl<>(content, pageable, filtered.size());
     }
 
+    // Só as tarefas da página são lidas, na ordem crescente de ID devolvida pelo índice
+    private Page<@NotNull TaskRecord> loadIndexedPage(
+            TaskFilterIndex.IdPage page, Pageable pageable) {
+        if (page.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, page.total());
+        }
+        Map<Long, Task> tasksById =
+                taskRepository.findAllForSearchByIdIn(page.ids()).stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+        // Uma tarefa removida entre o índice e a consulta fica de fora
+        List<TaskRecord> content =
+                page.ids().stream()
+                        .filter(tasksById::containsKey)
+                        .map(id -> convertTo(tasksById.get(id)))
+                        .toList();
+        return new PageImpl<>(content, pageable, page.total());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<@NotNull TaskSearchHit> searchTasksByText(
+            br.com.rafaelvieira.taskmanagement.web.dto.TaskFilterForm filter,
+            Pageable pageable,
+            User currentUser) {
+        if (filter.getQ() == null || filter.getQ().isBlank()) {
+            return Page.empty(pageable);
+        }
+        // Mesma visibilidade de findVisibleTasks, aplicada no SQL da busca
+        List<Long> squadIds = null;
+        Long assignedUserId = null;
+        if (currentUser.getRole() == Role.ADMIN || currentUser.getRole() == Role.LEAD) {
+            squadIds = ledSquadIds(currentUser);
+            if (squadIds.isEmpty()) {
+                return Page.empty(pageable);
+            }
+        } else {
+            assignedUserId = currentUser.getId();
+        }
+        Page<TaskSearchRepository.Match> matches =
+                taskSearchRepository.search(
+                        filter.getQ().strip(), filter, squadIds, assignedUserId, pageable);
+        if (matches.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, matches.getTotalElements());
+        }
+
+        Map<Long, Task> tasksById =
+                taskRepository
+                        .findAllForSearchByIdIn(
+                                matches.stream().map(TaskSearchRepository.Match::taskId).toList())
+                        .stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+        // A ordem da página é a do ranking; uma tarefa removida entre as consultas fica de fora
+        List<TaskSearchHit> hits =
+                matches.stream()
+                        .filter(m -> tasksById.containsKey(m.taskId()))
+                        .map(m -> TaskSearchHit.of(convertTo(tasksById.get(m.taskId())), m))
+                        .toList();
+        return new PageImpl<>(hits, pageable, matches.getTotalElements());
+    }
+
     @Override
     @Transactional
     public TaskRecord extendTask(
@@ -1097,6 +1182,7 @@ public class TaskServiceImpl implements TaskService {
                         .findById(id)
                         .orElseThrow(() -> new ResourceNotFoundException(EXCEPTION_TASK_ID + id));
 
+        TaskStatus previousStatus = task.getStatus();
         Integer currentExtra = task.getExtraTimeMinutes() != null ? task.getExtraTimeMinutes() : 0;
         task.setExtraTimeMinutes(currentExtra + extension.extraTimeMinutes());
 
@@ -1148,7 +1234,8 @@ public class TaskServiceImpl implements TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
-        return convertTo(savedTask);
+        publishTaskChanged(savedTask, previousStatus);
+        return convertWithDescription(savedTask);
     }
 
     @Override
@@ -1167,7 +1254,7 @@ public class TaskServiceImpl implements TaskService {
                         "Task {} already assigned to current user {}",
                         taskId,
                         currentUser.getUsername());
-                return convertTo(task); // nada a fazer
+                return convertWithDescription(task); // nada a fazer
             } else {
                 throw new TaskValidationException("A tarefa já possui responsável.");
             }
@@ -1187,6 +1274,7 @@ public class TaskServiceImpl implements TaskService {
         // Atribuir a task ao usuário atual
         task.setAssignedUser(currentUser);
         Task savedTask = taskRepository.save(task);
+        publishTaskChanged(savedTask, savedTask.getStatus());
 
         log.info("Task {} assigned to user {}", taskId, currentUser.getUsername());
 
@@ -1198,7 +1286,7 @@ public class TaskServiceImpl implements TaskService {
                                 .TASK_UPDATED,
                         currentUser.getFullName() + " assumiu a tarefa: " + savedTask.getTitle()));
 
-        return convertTo(savedTask);
+        return convertWithDescription(savedTask);
     }
 
     private void findCategoryByTask(TaskCreateRecord taskCreate, Task task) {
@@ -1219,7 +1307,8 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
     public long countTasksByStatus(TaskStatus status, User currentUser) {
         if (currentUser.getRole() == Role.ADMIN || currentUser.getRole() == Role.LEAD) {
-            return taskRepository.countByStatusForLead(status, currentUser);
+            List<Long> squadIds = ledSquadIds(currentUser);
+            return squadIds.isEmpty() ? 0L : taskRepository.countByStatusForLead(status, squadIds);
         } else {
             return taskRepository.countByStatusForMember(status, currentUser);
         }
@@ -1230,7 +1319,11 @@ public class TaskServiceImpl implements TaskService {
     public List<TaskRecord> getTasksByStatus(TaskStatus status, User currentUser) {
         List<Task> tasks;
         if (currentUser.getRole() == Role.ADMIN || currentUser.getRole() == Role.LEAD) {
-            tasks = taskRepository.findByStatusForLead(status, currentUser);
+            List<Long> squadIds = ledSquadIds(currentUser);
+            tasks =
+                    squadIds.isEmpty()
+                            ? List.of()
+                            : taskRepository.findByStatusForLead(status, squadIds);
         } else {
             tasks = taskRepository.findByStatusForMember(status, currentUser);
         }
@@ -1243,7 +1336,11 @@ public class TaskServiceImpl implements TaskService {
         List<Task> tasks;
         LocalDateTime now = LocalDateTime.now();
         if (currentUser.getRole() == Role.ADMIN || currentUser.getRole() == Role.LEAD) {
-            tasks = taskRepository.findOverdueTasksForLead(now, currentUser);
+            List<Long> squadIds = ledSquadIds(currentUser);
+            tasks =
+                    squadIds.isEmpty()
+                            ? List.of()
+                            : taskRepository.findOverdueTasksForLead(now, squadIds);
         } else {
             tasks = taskRepository.findOverdueTasksForMember(now, currentUser);
         }
@@ -1254,9 +1351,36 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
     public long countTasksByPriority(Priority priority, User currentUser) {
         if (currentUser.getRole() == Role.ADMIN || currentUser.getRole() == Role.LEAD) {
-            return taskRepository.countByPriorityForLead(priority, currentUser);
+            List<Long> squadIds = ledSquadIds(currentUser);
+            return squadIds.isEmpty()
+                    ? 0L
+                    : taskRepository.countByPriorityForLead(priority, squadIds);
         } else {
             return taskRepository.countByPriorityForMember(priority, currentUser);
         }
     }
+
+    /**
+     * Filtro de visibilidade por papel: ADMIN e LEAD veem as tasks dos squads que lideram, MEMBER
+     * apenas as tasks onde é responsável.
+     */
+    private List<Task> findVisibleTasks(User currentUser) {
+        if (currentUser.getRole() == Role.ADMIN || currentUser.getRole() == Role.LEAD) {
+            List<Long> squadIds = ledSquadIds(currentUser);
+            return squadIds.isEmpty() ? List.of() : taskRepository.findBySquadIdIn(squadIds);
+        }
+        return taskRepository.findVisibleTasksForMember(currentUser);
+    }
+
+    /** Mesma visibilidade de findVisibleTasks, expressa como escopo do TaskFilterIndex */
+    private TaskFilterIndex.Scope filterScopeOf(User currentUser) {
+        if (currentUser.getRole() == Role.ADMIN || currentUser.getRole() == Role.LEAD) {
+            return TaskFilterIndex.Scope.squads(ledSquadIds(currentUser));
+        }
+        return TaskFilterIndex.Scope.assignee(currentUser.getId());
+    }
+
+    private List<Long> ledSquadIds(User currentUser) {
+        return permissionResolver.accessOf(currentUser).ledSquadIdList();
+    }
 }
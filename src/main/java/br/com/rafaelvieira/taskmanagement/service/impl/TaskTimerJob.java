@@ -3,13 +3,21 @@ package br.com.rafaelvieira.taskmanagement.service.impl;
 import br.com.rafaelvieira.taskmanagement.domain.enums.NotificationType;
 import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
 import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
 import br.com.rafaelvieira.taskmanagement.exception.ResourceNotFoundException;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
 import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
 import br.com.rafaelvieira.taskmanagement.service.NotificationService;
+import br.com.rafaelvieira.taskmanagement.service.OpenTaskSnapshot;
+import br.com.rafaelvieira.taskmanagement.service.OpenTaskSnapshot.TimeColumn;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +27,10 @@ import org.springframework.transaction.annotation.Transactional;
  * para: - Auto-iniciar tarefas agendadas - Atualizar tempo decorrido - Gerenciar ciclos
  * pomodoro/break - Verificar tempo excedido (PENDING/OVERDUE) - Monitorar datas de vencimento
  *
+ * <p>Só as tarefas com algo a fazer são lidas do banco: as em execução, pausa ou PENDING e as TODO
+ * com início agendado já alcançado, encontradas no {@link OpenTaskSnapshot}. Sem nenhuma, o tick
+ * não executa SQL.
+ *
  * @author Rafael Vieira
  * @see <a href='https://rafaelvieira.com.br'>Rafael Vieira</a>
  * @since 14/06/2024
@@ -29,17 +41,39 @@ public class TaskTimerJob {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskTimerJob.class);
 
+    private static final int TIMED_STATUSES =
+            OpenTaskSnapshot.statusMask(
+                    TaskStatus.IN_PROGRESS, TaskStatus.IN_PAUSE, TaskStatus.PENDING);
+    private static final int SCHEDULED_STATUSES = OpenTaskSnapshot.statusMask(TaskStatus.TODO);
+
     private final TaskRepository taskRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppMetrics metrics;
+    private final OpenTaskSnapshot openTaskSnapshot;
 
     @Scheduled(fixedDelayString = "${task.timer.fixedDelayMs:5000}")
     @Transactional
     public void tick() {
+        Timer.Sample sample = metrics.start();
         LocalDateTime now = LocalDateTime.now();
-        var tasks = taskRepository.findAll();
+        List<Long> candidates = new ArrayList<>();
+        openTaskSnapshot.forEachWithStatus(TIMED_STATUSES, candidates::add);
+        openTaskSnapshot.forEachBetween(
+                SCHEDULED_STATUSES,
+                TimeColumn.SCHEDULED_START,
+                null,
+                now.plusSeconds(1),
+                candidates::add);
+        if (candidates.isEmpty()) {
+            metrics.recordTimerTick(sample, 0);
+            return;
+        }
+        var tasks = taskRepository.findAllById(candidates);
         boolean changed = false;
 
         for (Task t : tasks) {
+            TaskStatus previousStatus = t.getStatus();
             try {
                 // Auto-start tasks when scheduled time arrives
                 if (autoStartScheduledTask(t, now)) {
@@ -65,11 +99,16 @@ public class TaskTimerJob {
             } catch (ResourceNotFoundException e) {
                 LOGGER.error("Error processing task ID {}: {}", t.getId(), e.getMessage());
             }
+            if (t.getStatus() != previousStatus) {
+                metrics.countTransition(previousStatus, t.getStatus());
+                eventPublisher.publishEvent(TaskChangedEvent.of(this, t, previousStatus));
+            }
         }
 
         if (changed) {
             taskRepository.saveAll(tasks);
         }
+        metrics.recordTimerTick(sample, tasks.size());
     }
 
     private boolean autoStartScheduledTask(Task t, LocalDateTime now) {
@@ -106,7 +145,8 @@ public class TaskTimerJob {
         return true;
     }
 
-    private boolean updateRunningTask(Task t, LocalDateTime now) {
+    // Etapas do tick com visibilidade de pacote para os benchmarks JMH (src/jmh)
+    boolean updateRunningTask(Task t, LocalDateTime now) {
         if (t.getStatus() != TaskStatus.IN_PROGRESS || t.getMainStartedAt() == null) {
             return false;
         }
@@ -120,7 +160,7 @@ public class TaskTimerJob {
         return true;
     }
 
-    private boolean processPomodoroCompletion(Task t, LocalDateTime now) {
+    boolean processPomodoroCompletion(Task t, LocalDateTime now) {
         if (t.getStatus() != TaskStatus.IN_PROGRESS
                 || t.getPomodoroUntil() == null
                 || now.isBefore(t.getPomodoroUntil())) {
@@ -160,7 +200,7 @@ public class TaskTimerJob {
      * Verifica se o tempo de execução foi completado. Se dueDate ainda não passou -> PENDING (azul,
      * aguardando finalização) Se dueDate já passou ou não existe -> OVERDUE (vermelho)
      */
-    private boolean checkTimeCompleted(Task t, LocalDateTime now) {
+    boolean checkTimeCompleted(Task t, LocalDateTime now) {
         if (t.getStatus() != TaskStatus.IN_PROGRESS && t.getStatus() != TaskStatus.IN_PAUSE) {
             return false;
         }
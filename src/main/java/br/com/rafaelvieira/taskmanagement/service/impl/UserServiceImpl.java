@@ -4,12 +4,10 @@ import br.com.rafaelvieira.taskmanagement.domain.model.Profile;
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
 import br.com.rafaelvieira.taskmanagement.repository.UserRepository;
 import br.com.rafaelvieira.taskmanagement.service.UserService;
+import br.com.rafaelvieira.taskmanagement.storage.AvatarStore;
 import br.com.rafaelvieira.taskmanagement.web.dto.UserProfileForm;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.time.Instant;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -27,10 +25,7 @@ import org.springframework.util.StringUtils;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-
-    private Path avatarsRoot() {
-        return Path.of("src/main/resources/static/uploads/avatars");
-    }
+    private final AvatarStore avatarStore;
 
     @Override
     @Transactional(readOnly = true)
@@ -142,21 +137,8 @@ public class UserServiceImpl implements UserService {
 
         boolean avatarUploaded = form.getAvatar() != null && !form.getAvatar().isEmpty();
         if (avatarUploaded) {
-            try {
-                Files.createDirectories(avatarsRoot());
-                String filename = StringUtils.cleanPath(form.getAvatar().getOriginalFilename());
-                String ext =
-                        filename != null && filename.contains(".")
-                                ? filename.substring(filename.lastIndexOf('.'))
-                                : "";
-                String newName =
-                        "avatar-" + user.getId() + "-" + Instant.now().toEpochMilli() + ext;
-                Path target = avatarsRoot().resolve(newName);
-                Files.copy(
-                        form.getAvatar().getInputStream(),
-                        target,
-                        StandardCopyOption.REPLACE_EXISTING);
-                p.setAvatarUrl("/uploads/avatars/" + newName);
+            try (InputStream content = form.getAvatar().getInputStream()) {
+                p.setAvatarUrl(avatarStore.store(content, form.getAvatar().getOriginalFilename()));
             } catch (IOException e) {
                 throw new RuntimeException("Failed to store avatar image", e);
             }
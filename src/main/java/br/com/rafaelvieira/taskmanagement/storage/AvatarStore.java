@@ -0,0 +1,47 @@
+package br.com.rafaelvieira.taskmanagement.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Armazenamento das imagens de avatar. A implementação padrão é {@link LocalAvatarStore} (diretório
+ * local servido pela própria aplicação); um armazenamento de objetos (S3, GCS) só precisa gravar o
+ * original, gerar as miniaturas e devolver URLs públicas do bucket/CDN.
+ *
+ * <p>Os nomes são derivados do conteúdo, então uma URL devolvida por {@link #store} nunca muda de
+ * conteúdo e pode ser cacheada como imutável.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+public interface AvatarStore {
+
+    Set<String> SUPPORTED_EXTENSIONS = Set.of("png", "jpg", "jpeg", "gif", "webp");
+
+    /**
+     * Grava a imagem enviada e devolve a URL pública do original. As miniaturas são geradas em
+     * segundo plano; até ficarem prontas, {@link #thumbnailUrl} aponta para o original.
+     */
+    String store(InputStream content, String originalFilename) throws IOException;
+
+    /**
+     * URL da miniatura quadrada de {@code size} px para uma URL devolvida por {@link #store}. URLs
+     * externas (avatar do GitHub, por exemplo) e tamanhos não gerados voltam inalteradas.
+     */
+    String thumbnailUrl(String avatarUrl, int size);
+
+    /** Extensão normalizada (minúscula, {@code jpeg} vira {@code jpg}) ou vazia */
+    static String extensionOf(String filename) {
+        if (filename == null || filename.lastIndexOf('.') < 0) {
+            return "";
+        }
+        String ext = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return "jpeg".equals(ext) ? "jpg" : ext;
+    }
+
+    static boolean supports(String filename) {
+        return SUPPORTED_EXTENSIONS.contains(extensionOf(filename));
+    }
+}
@@ -0,0 +1,233 @@
+package br.com.rafaelvieira.taskmanagement.storage;
+
+import br.com.rafaelvieira.taskmanagement.config.ApplicationProperties;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Avatares em um diretório local ({@code app.storage.avatars-dir}), fora do classpath para
+ * funcionar também com o jar empacotado. O upload é copiado por canal NIO para um arquivo
+ * temporário enquanto o SHA-256 é calculado; o nome final é o hash, então reenviar a mesma imagem
+ * não duplica arquivos e a URL pode ser servida como imutável.
+ *
+ * <p>Miniaturas quadradas ({@code <hash>-<lado>.png}) são geradas no executor {@code @Async}, fora
+ * da thread da requisição. WebP é lido pelo plugin ImageIO do TwelveMonkeys.
+ *
+ * <p>Nomes antigos ({@code avatar-<id>-<millis>}) que não estão no diretório atual são procurados
+ * em {@code app.storage.legacy-avatars-dir}, onde a versão anterior os gravava.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Slf4j
+@Component("avatarStore")
+public class LocalAvatarStore implements AvatarStore {
+
+    public static final String URL_PREFIX = "/uploads/avatars/";
+
+    private static final Pattern HASHED =
+            Pattern.compile("^([a-f0-9]{32})(?:-(\\d{1,4}))?\\.(png|jpg|gif|webp)$");
+
+    /** Nome usado antes do armazenamento por hash; servido sem cache imutável */
+    private static final Pattern LEGACY = Pattern.compile("^avatar-\\d+-\\d+\\.[A-Za-z]{3,4}$");
+
+    private static final int HASH_HEX_LENGTH = 32;
+    private static final long TRANSFER_CHUNK = 64 * 1024;
+    private static final String THUMBNAIL_FORMAT = "png";
+
+    private final Path root;
+    private final List<Path> legacyRoots;
+    private final List<Integer> thumbnailSizes;
+    private final Executor executor;
+
+    /**
+     * Arquivo resolvido para servir.
+     *
+     * @param path Caminho no disco
+     * @param etag ETag forte derivado do nome (que já é o hash do conteúdo)
+     * @param immutable {@code false} quando a miniatura ainda não existe e o original foi servido
+     *     no lugar, ou para nomes antigos sem hash
+     */
+    public record AvatarFile(Path path, String etag, boolean immutable) {}
+
+    public LocalAvatarStore(
+            ApplicationProperties properties, @Qualifier("taskExecutor") Executor executor) {
+        this.root = Path.of(properties.getStorage().getAvatarsDir()).toAbsolutePath().normalize();
+        String legacyDir = properties.getStorage().getLegacyAvatarsDir();
+        this.legacyRoots =
+                legacyDir == null || legacyDir.isBlank()
+                        ? List.of(root)
+                        : List.of(root, Path.of(legacyDir).toAbsolutePath().normalize());
+        this.thumbnailSizes = List.copyOf(properties.getStorage().getThumbnailSizes());
+        this.executor = executor;
+        // No jar do Spring Boot os plugins (WebP) só são achados pelo class loader da aplicação
+        ImageIO.scanForPlugins();
+    }
+
+    @Override
+    public String store(InputStream content, String originalFilename) throws IOException {
+        String ext = AvatarStore.extensionOf(originalFilename);
+        if (!AvatarStore.SUPPORTED_EXTENSIONS.contains(ext)) {
+            throw new IllegalArgumentException("Formato de imagem não suportado: " + ext);
+        }
+        Files.createDirectories(root);
+        Path temp = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (ReadableByteChannel source =
+                            Channels.newChannel(new DigestInputStream(content, digest));
+                    FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                    position += transferred;
+                }
+            }
+            String hash = HexFormat.of().formatHex(digest.digest()).substring(0, HASH_HEX_LENGTH);
+            Path original = root.resolve(hash + "." + ext);
+            if (!Files.exists(original)) {
+                Files.move(temp, original, StandardCopyOption.ATOMIC_MOVE);
+            }
+            executor.execute(() -> generateThumbnails(hash, original));
+            return URL_PREFIX + original.getFileName();
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public String thumbnailUrl(String avatarUrl, int size) {
+        if (avatarUrl == null || !avatarUrl.startsWith(URL_PREFIX)) {
+            return avatarUrl;
+        }
+        Matcher matcher = HASHED.matcher(avatarUrl.substring(URL_PREFIX.length()));
+        if (!matcher.matches() || matcher.group(2) != null || !thumbnailSizes.contains(size)) {
+            return avatarUrl;
+        }
+        return URL_PREFIX + thumbnailName(matcher.group(1), size);
+    }
+
+    /**
+     * Arquivo a servir para {@code filename}. Miniaturas ainda não geradas caem no original (sem
+     * cache imutável); nomes fora do padrão nunca chegam ao sistema de arquivos.
+     */
+    public Optional<AvatarFile> resolve(String filename) {
+        Matcher matcher = HASHED.matcher(filename);
+        if (!matcher.matches()) {
+            return LEGACY.matcher(filename).matches() ? resolveLegacy(filename) : Optional.empty();
+        }
+        Path file = root.resolve(filename);
+        if (Files.isRegularFile(file)) {
+            return Optional.of(new AvatarFile(file, etag(filename), true));
+        }
+        if (matcher.group(2) == null) {
+            return Optional.empty();
+        }
+        String hash = matcher.group(1);
+        for (String ext : AvatarStore.SUPPORTED_EXTENSIONS) {
+            Path original = root.resolve(hash + "." + ext);
+            if (Files.isRegularFile(original)) {
+                return Optional.of(
+                        new AvatarFile(original, etag(original.getFileName().toString()), false));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<AvatarFile> resolveLegacy(String filename) {
+        for (Path dir : legacyRoots) {
+            Path legacy = dir.resolve(filename);
+            if (Files.isRegularFile(legacy)) {
+                return Optional.of(new AvatarFile(legacy, etag(filename), false));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void generateThumbnails(String hash, Path original) {
+        try {
+            BufferedImage image = ImageIO.read(original.toFile());
+            if (image == null) {
+                log.warn("Avatar {} não pôde ser lido; miniaturas não geradas", original);
+                return;
+            }
+            for (int size : thumbnailSizes) {
+                Path thumbnail = root.resolve(thumbnailName(hash, size));
+                if (Files.exists(thumbnail)) {
+                    continue;
+                }
+                Path temp = Files.createTempFile(root, "thumb-", ".tmp");
+                try {
+                    ImageIO.write(square(image, size), THUMBNAIL_FORMAT, temp.toFile());
+                    Files.move(
+                            temp,
+                            thumbnail,
+                            StandardCopyOption.ATOMIC_MOVE,
+                            StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Falha ao gerar miniaturas do avatar {}: {}", original, e.getMessage());
+        }
+    }
+
+    /** Recorte central quadrado redimensionado para {@code size} px */
+    private static BufferedImage square(BufferedImage image, int size) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        int x = (image.getWidth() - side) / 2;
+        int y = (image.getHeight() - side) / 2;
+        BufferedImage result = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setRenderingHint(
+                    RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(
+                    RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, size, size, x, y, x + side, y + side, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    private static String thumbnailName(String hash, int size) {
+        return hash + "-" + size + "." + THUMBNAIL_FORMAT;
+    }
+
+    private static String etag(String filename) {
+        return "\"" + filename + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.rafaelvieira.taskmanagement.web;
+
+import br.com.rafaelvieira.taskmanagement.exception.ResourceNotFoundException;
+import br.com.rafaelvieira.taskmanagement.exception.UnauthorizedException;
+import br.com.rafaelvieira.taskmanagement.service.TaskFingerprintService;
+import br.com.rafaelvieira.taskmanagement.service.TaskFingerprintService.Fingerprint;
+import br.com.rafaelvieira.taskmanagement.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Arrays;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * GET condicional para o detalhe da tarefa ({@code /api/tasks/{id}}), a listagem {@code /api/tasks}
+ * e os fragmentos do dashboard. Roda antes do handler, e portanto antes dos {@code @ModelAttribute}
+ * globais, da consulta das tarefas e da renderização: com {@code If-None-Match}/{@code
+ * If-Modified-Since} ainda válidos a resposta é 304 a partir só do {@link TaskFingerprintService}.
+ *
+ * <p>{@code Cache-Control: private, no-cache} deixa o navegador guardar a resposta mas revalidar
+ * sempre; sem ele o Spring Security marcaria {@code no-store} e não haveria o que revalidar.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskConditionalGetInterceptor implements HandlerInterceptor {
+
+    public static final String TASK_PATH = "/api/tasks/{id}";
+    public static final String TASKS_PATH = "/api/tasks";
+    public static final String[] DASHBOARD_FRAGMENT_PATHS = {
+        "/dashboard/active-tasks",
+        "/dashboard/scheduled-tasks",
+        "/dashboard/overdue-tasks",
+        "/dashboard/due-today-tasks"
+    };
+
+    private static final String REVALIDATE = "private, no-cache";
+
+    private final TaskFingerprintService fingerprintService;
+    private final UserService userService;
+
+    @Override
+    public boolean preHandle(
+            @NotNull HttpServletRequest request,
+            @NotNull HttpServletResponse response,
+            @NotNull Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        Fingerprint fingerprint;
+        try {
+            fingerprint = fingerprintOf(request);
+        } catch (ResourceNotFoundException | UnauthorizedException e) {
+            return true; // o handler responde 404/401 como sempre
+        }
+        if (fingerprint == null) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+        return !new ServletWebRequest(request, response)
+                .checkNotModified(fingerprint.etag(), fingerprint.lastModified());
+    }
+
+    private Fingerprint fingerprintOf(HttpServletRequest request) {
+        String pattern =
+                (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (TASK_PATH.equals(pattern)) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> variables =
+                    (Map<String, String>)
+                            request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            try {
+                return fingerprintService.ofTask(Long.valueOf(variables.get("id")));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (TASKS_PATH.equals(pattern)) {
+            return fingerprintService.ofAllTasks();
+        }
+        if (Arrays.asList(DASHBOARD_FRAGMENT_PATHS).contains(pattern)) {
+            return fingerprintService.ofVisibleTasks(userService.getCurrentUser());
+        }
+        return null; // demais rotas sob /api/tasks/* (search, overdue...)
+    }
+}
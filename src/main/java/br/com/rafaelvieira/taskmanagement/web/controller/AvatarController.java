@@ -0,0 +1,82 @@
+package br.com.rafaelvieira.taskmanagement.web.controller;
+
+import br.com.rafaelvieira.taskmanagement.storage.LocalAvatarStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Serve os avatares do {@link LocalAvatarStore}. Arquivos com nome por hash são imutáveis (cache de
+ * um ano); o corpo vai por sendfile do Tomcat quando o conector suporta, senão por {@link
+ * FileChannel#transferTo}, sem passar por buffers da aplicação.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@Controller
+@RequiredArgsConstructor
+public class AvatarController {
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "no-cache";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalAvatarStore avatarStore;
+
+    @GetMapping(LocalAvatarStore.URL_PREFIX + "{filename}")
+    public void serve(
+            @PathVariable String filename, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Optional<LocalAvatarStore.AvatarFile> resolved = avatarStore.resolve(filename);
+        if (resolved.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        LocalAvatarStore.AvatarFile file = resolved.get();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, file.immutable() ? IMMUTABLE : REVALIDATE);
+        if (new ServletWebRequest(request, response).checkNotModified(file.etag())) {
+            return;
+        }
+
+        long length = Files.size(file.path());
+        // server.servlet.encoding.force acrescentaria ";charset=UTF-8" ao tipo da imagem
+        response.setCharacterEncoding((String) null);
+        response.setContentType(
+                MediaTypeFactory.getMediaType(new FileSystemResource(file.path()))
+                        .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                        .toString());
+        response.setContentLengthLong(length);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return;
+        }
+        try (FileChannel in = FileChannel.open(file.path(), StandardOpenOption.READ);
+                WritableByteChannel out = Channels.newChannel(response.getOutputStream())) {
+            long position = 0;
+            while (position < length) {
+                position += in.transferTo(position, length - position, out);
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import br.com.rafaelvieira.taskmanagement.repository.UserMonthlyBadgeRepository;
 import br.com.rafaelvieira.taskmanagement.repository.UserScoreRepository;
 import br.com.rafaelvieira.taskmanagement.service.MonthlyBadgeService;
 import br.com.rafaelvieira.taskmanagement.service.UserService;
+import br.com.rafaelvieira.taskmanagement.storage.AvatarStore;
 import br.com.rafaelvieira.taskmanagement.web.dto.UserProfileForm;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -90,6 +91,11 @@ public class ProfileController {
             BindingResult result,
             RedirectAttributes ra,
             Model model) {
+        if (form.getAvatar() != null
+                && !form.getAvatar().isEmpty()
+                && !AvatarStore.supports(form.getAvatar().getOriginalFilename())) {
+            result.rejectValue("avatar", "avatar.type", "Envie uma imagem PNG, JPG, GIF ou WebP");
+        }
         if (result.hasErrors()) {
             model.addAttribute("user", userService.getCurrentUser());
             return "profile/edit";
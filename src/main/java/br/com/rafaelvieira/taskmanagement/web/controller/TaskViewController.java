@@ -48,6 +48,7 @@ public class TaskViewController {
     private static final Logger LOG = LoggerFactory.getLogger(TaskViewController.class);
     private static final String REDIRECT_TASKS = "redirect:/tasks";
     private static final String SUCCESS_MESSAGE = "successMessage";
+    private static final int SCHEDULED_DESCRIPTION_LENGTH = 100;
     private final TaskService taskService;
     private final CategoryRepository categoryRepository;
     private final SquadService squadService;
@@ -334,6 +335,11 @@ public class TaskViewController {
                     return a.scheduledStartAt().compareTo(b.scheduledStartAt());
                 });
         model.addAttribute("scheduledTasks", scheduled);
+        model.addAttribute(
+                "scheduledDescriptions",
+                taskService.getDescriptionExcerpts(
+                        scheduled.stream().map(TaskRecord::id).toList(),
+                        SCHEDULED_DESCRIPTION_LENGTH));
     }
 
     @GetMapping("/tasks")
@@ -349,38 +355,44 @@ public class TaskViewController {
                 taskService.searchTasks(filter, pageable, currentUser);
 
         // Sort tasks: IN_PROGRESS and IN_PAUSE first, then by updatedAt desc
+        // (a busca textual já vem ordenada por relevância)
+        boolean textSearch = filter.getQ() != null && !filter.getQ().isBlank();
         java.util.List<TaskRecord> sortedTasks =
-                tasksPage.getContent().stream()
-                        .sorted(
-                                (t1, t2) -> {
-                                    // Priority 1: IN_PROGRESS status
-                                    boolean t1InProgress = t1.status() == TaskStatus.IN_PROGRESS;
-                                    boolean t2InProgress = t2.status() == TaskStatus.IN_PROGRESS;
-                                    if (t1InProgress != t2InProgress) {
-                                        return t1InProgress ? -1 : 1;
-                                    }
-
-                                    // Priority 2: IN_PAUSE status
-                                    boolean t1InPause = t1.status() == TaskStatus.IN_PAUSE;
-                                    boolean t2InPause = t2.status() == TaskStatus.IN_PAUSE;
-                                    if (t1InPause != t2InPause) {
-                                        return t1InPause ? -1 : 1;
-                                    }
-
-                                    // Priority 3: OVERDUE status
-                                    boolean t1Overdue = t1.overdue();
-                                    boolean t2Overdue = t2.overdue();
-                                    if (t1Overdue != t2Overdue) {
-                                        return t1Overdue ? -1 : 1;
-                                    }
-
-                                    // Priority 4: Most recently updated
-                                    if (t1.updatedAt() != null && t2.updatedAt() != null) {
-                                        return t2.updatedAt().compareTo(t1.updatedAt());
-                                    }
-                                    return 0;
-                                })
-                        .toList();
+                textSearch
+                        ? tasksPage.getContent()
+                        : tasksPage.getContent().stream()
+                                .sorted(
+                                        (t1, t2) -> {
+                                            // Priority 1: IN_PROGRESS status
+                                            boolean t1InProgress =
+                                                    t1.status() == TaskStatus.IN_PROGRESS;
+                                            boolean t2InProgress =
+                                                    t2.status() == TaskStatus.IN_PROGRESS;
+                                            if (t1InProgress != t2InProgress) {
+                                                return t1InProgress ? -1 : 1;
+                                            }
+
+                                            // Priority 2: IN_PAUSE status
+                                            boolean t1InPause = t1.status() == TaskStatus.IN_PAUSE;
+                                            boolean t2InPause = t2.status() == TaskStatus.IN_PAUSE;
+                                            if (t1InPause != t2InPause) {
+                                                return t1InPause ? -1 : 1;
+                                            }
+
+                                            // Priority 3: OVERDUE status
+                                            boolean t1Overdue = t1.overdue();
+                                            boolean t2Overdue = t2.overdue();
+                                            if (t1Overdue != t2Overdue) {
+                                                return t1Overdue ? -1 : 1;
+                                            }
+
+                                            // Priority 4: Most recently updated
+                                            if (t1.updatedAt() != null && t2.updatedAt() != null) {
+                                                return t2.updatedAt().compareTo(t1.updatedAt());
+                                            }
+                                            return 0;
+                                        })
+                                .toList();
 
         Page<@NotNull TaskRecord> sortedPage =
                 new org.springframework.data.domain.PageImpl<>(
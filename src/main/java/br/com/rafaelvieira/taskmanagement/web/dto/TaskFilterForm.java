@@ -9,6 +9,9 @@ import lombok.Setter;
 @Setter
 @Getter
 public class TaskFilterForm {
+    /** Texto livre, buscado no título e na descrição (ver {@code TaskSearchRepository}) */
+    private String q;
+
     private TaskStatus status;
     private Priority priority;
     private Long userId;
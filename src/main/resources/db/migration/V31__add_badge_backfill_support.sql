@@ -0,0 +1,18 @@
+-- V31: Suporte ao backfill de selos mensais
+
+-- Índice parcial para contagens de conclusões de tasks de squad por intervalo de completed_at
+CREATE INDEX IF NOT EXISTS idx_tasks_squad_completed_at
+    ON tasks (completed_at, assigned_user_id)
+    WHERE status = 'DONE' AND squad_id IS NOT NULL;
+
+-- Checkpoints do backfill: um registro por (job, mês) já recalculado e commitado
+CREATE TABLE IF NOT EXISTS badge_backfill_checkpoints (
+    job_id VARCHAR(100) NOT NULL,
+    reference_year INTEGER NOT NULL,
+    reference_month INTEGER NOT NULL,
+    users_written INTEGER NOT NULL DEFAULT 0,
+    completed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_badge_backfill_checkpoints PRIMARY KEY (job_id, reference_year, reference_month)
+);
+
+COMMENT ON TABLE badge_backfill_checkpoints IS 'Months already recalculated by a badge backfill job, used to resume interrupted runs';
@@ -0,0 +1,6 @@
+-- V32: Índice para os contadores de tarefas atrasadas / a vencer do usuário
+
+-- Contagens por responsável em janelas de due_date (atrasadas e próximas 48h), só tarefas abertas
+CREATE INDEX IF NOT EXISTS idx_tasks_badges
+    ON tasks (assigned_user_id, due_date)
+    WHERE status NOT IN ('DONE', 'CANCELLED');
@@ -0,0 +1,18 @@
+-- V33: Busca textual das tarefas (título + descrição sem HTML)
+
+-- Documento de busca gerado pelo banco: título com peso A, descrição com as tags removidas com peso B.
+-- Configuração fixa 'portuguese' (to_tsvector com regconfig explícito é IMMUTABLE, exigido em colunas geradas)
+ALTER TABLE tasks
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('portuguese', coalesce(title, '')), 'A')
+                || setweight(
+                    to_tsvector('portuguese',
+                                regexp_replace(coalesce(description, ''), '<[^>]*>', ' ', 'g')),
+                    'B')
+        ) STORED;
+
+-- Índice invertido para o operador @@
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+COMMENT ON COLUMN tasks.search_vector IS 'Full-text document over title and tag-stripped description, maintained by PostgreSQL';
@@ -0,0 +1,158 @@
+-- V34: Descrição rica das tarefas em tabela própria
+--
+-- O HTML da descrição não tem limite de tamanho e era lido junto com cada linha de tasks (listagens,
+-- dashboard, job do timer). Em tabela separada ele só é lido pelas telas de detalhe/edição.
+
+CREATE TABLE IF NOT EXISTS task_descriptions (
+    task_id BIGINT NOT NULL,
+    content TEXT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_task_descriptions PRIMARY KEY (task_id),
+    CONSTRAINT fk_task_descriptions_task FOREIGN KEY (task_id) REFERENCES tasks (id) ON DELETE CASCADE
+);
+
+-- Compressão: lz4 (PostgreSQL 14+ compilado com lz4) é bem mais rápido que o pglz padrão; sem
+-- suporte, a coluna continua com pglz
+DO $$
+BEGIN
+    ALTER TABLE task_descriptions ALTER COLUMN content SET COMPRESSION lz4;
+EXCEPTION
+    WHEN feature_not_supported OR syntax_error OR invalid_parameter_value THEN
+        RAISE NOTICE 'lz4 indisponível, task_descriptions.content mantém a compressão padrão';
+END $$;
+
+-- Comprime/move para o TOAST a partir de ~256 bytes (padrão ~2 kB), pegando descrições médias também
+ALTER TABLE task_descriptions SET (toast_tuple_target = 256);
+
+INSERT INTO task_descriptions (task_id, content, updated_at)
+SELECT id, description, COALESCE(updated_at, created_at)
+FROM tasks
+WHERE description IS NOT NULL AND description <> ''
+ON CONFLICT (task_id) DO NOTHING;
+
+-- ========== Busca textual (V33) ==========
+-- Coluna gerada não enxerga outra tabela: search_vector passa a ser mantida por triggers
+
+DROP INDEX IF EXISTS idx_tasks_search_vector;
+ALTER TABLE tasks DROP COLUMN IF EXISTS search_vector;
+ALTER TABLE tasks ADD COLUMN search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION task_search_document(title TEXT, content TEXT) RETURNS tsvector
+    LANGUAGE sql IMMUTABLE AS
+$$
+SELECT setweight(to_tsvector('portuguese', coalesce(title, '')), 'A')
+           || setweight(
+               to_tsvector('portuguese', regexp_replace(coalesce(content, ''), '<[^>]*>', ' ', 'g')),
+               'B')
+$$;
+
+-- Título alterado (o job do timer grava a linha inteira a cada tick; o WHEN evita recalcular à toa)
+CREATE OR REPLACE FUNCTION tasks_search_vector_refresh() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    NEW.search_vector := task_search_document(
+            NEW.title, (SELECT d.content FROM task_descriptions d WHERE d.task_id = NEW.id));
+    RETURN NEW;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_tasks_search_vector_insert ON tasks;
+CREATE TRIGGER trg_tasks_search_vector_insert
+    BEFORE INSERT ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tasks_search_vector_refresh();
+
+DROP TRIGGER IF EXISTS trg_tasks_search_vector_update ON tasks;
+CREATE TRIGGER trg_tasks_search_vector_update
+    BEFORE UPDATE OF title ON tasks
+    FOR EACH ROW
+    WHEN (OLD.title IS DISTINCT FROM NEW.title)
+    EXECUTE FUNCTION tasks_search_vector_refresh();
+
+-- Descrição gravada ou removida
+CREATE OR REPLACE FUNCTION task_descriptions_search_vector_refresh() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        UPDATE tasks SET search_vector = task_search_document(title, NULL) WHERE id = OLD.task_id;
+        RETURN OLD;
+    END IF;
+    UPDATE tasks SET search_vector = task_search_document(title, NEW.content) WHERE id = NEW.task_id;
+    RETURN NEW;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_task_descriptions_search_vector ON task_descriptions;
+CREATE TRIGGER trg_task_descriptions_search_vector
+    AFTER INSERT OR UPDATE OF content OR DELETE ON task_descriptions
+    FOR EACH ROW EXECUTE FUNCTION task_descriptions_search_vector_refresh();
+
+UPDATE tasks t
+SET search_vector = task_search_document(t.title, t.description);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+-- ========== Views que expunham tasks.description ==========
+
+DROP VIEW IF EXISTS v_tasks_requiring_attention;
+DROP VIEW IF EXISTS v_active_tasks;
+
+ALTER TABLE tasks DROP COLUMN description;
+
+CREATE OR REPLACE VIEW v_active_tasks AS
+SELECT t.id,
+       t.title,
+       d.content  as description,
+       t.status,
+       t.priority,
+       t.created_at,
+       t.updated_at,
+       t.due_date,
+       t.scheduled_start_at,
+       c.name     as category_name,
+       u.username as assigned_to,
+       u.email    as assigned_to_email,
+       CASE
+           WHEN t.due_date IS NOT NULL AND t.due_date < CURRENT_TIMESTAMP AND t.status != 'DONE'
+               THEN true
+           ELSE false
+           END    as is_overdue
+FROM tasks t
+         LEFT JOIN task_descriptions d ON d.task_id = t.id
+         LEFT JOIN categories c ON t.category_id = c.id
+         LEFT JOIN users u ON t.assigned_user_id = u.id
+WHERE t.status IN ('TODO', 'IN_PROGRESS', 'IN_PAUSE');
+
+COMMENT ON VIEW v_active_tasks IS 'View showing all active tasks (including paused) with related information';
+
+CREATE OR REPLACE VIEW v_tasks_requiring_attention AS
+SELECT t.id,
+       t.title,
+       d.content  as description,
+       t.status,
+       t.priority,
+       t.due_date,
+       t.scheduled_start_at,
+       c.name     as category_name,
+       u.username as assigned_to,
+       CASE
+           WHEN t.due_date < CURRENT_TIMESTAMP THEN 'OVERDUE'
+           WHEN t.due_date < (CURRENT_TIMESTAMP + INTERVAL '24 hours') THEN 'DUE_SOON'
+           WHEN t.priority = 'URGENT' THEN 'URGENT'
+           ELSE 'NORMAL'
+           END    as attention_reason
+FROM tasks t
+         LEFT JOIN task_descriptions d ON d.task_id = t.id
+         LEFT JOIN categories c ON t.category_id = c.id
+         LEFT JOIN users u ON t.assigned_user_id = u.id
+WHERE t.status NOT IN ('DONE', 'CANCELLED')
+  AND (
+    t.due_date < (CURRENT_TIMESTAMP + INTERVAL '24 hours')
+        OR t.priority = 'URGENT'
+    );
+
+COMMENT ON VIEW v_tasks_requiring_attention IS 'View showing tasks that need immediate attention (overdue, due soon, or urgent)';
+
+COMMENT ON TABLE task_descriptions IS 'Rich HTML description of a task, read only by detail/edit views';
+COMMENT ON COLUMN tasks.search_vector IS 'Full-text document over title and tag-stripped description, maintained by triggers';
@@ -0,0 +1,15 @@
+-- V35: updated_at nos squads
+--
+-- A ETag das tarefas (TaskChangeStamp) inclui o updated_at das linhas que a resposta junta à task:
+-- categoria e responsável já o têm desde a V1 (trigger update_updated_at_column); o squad passa a
+-- ter também, para que a troca de líder invalide as respostas em cache.
+
+ALTER TABLE squads ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+DROP TRIGGER IF EXISTS update_squads_updated_at ON squads;
+CREATE TRIGGER update_squads_updated_at
+    BEFORE UPDATE ON squads
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
+COMMENT ON COLUMN squads.updated_at IS 'Timestamp when squad was last updated, maintained by trigger';
@@ -120,8 +120,9 @@ async function showConfirmationModal(title, message, type = 'warning') {
 
 // Active Tasks live behavior
 (function () {
-  const grid = document.getElementById("activeGrid");
-  if (!grid) return;
+  // Só roda no dashboard principal (a seção pode começar vazia e receber
+  // cards depois, via diff)
+  if (!document.getElementById("active-tasks-container")) return;
 
   const sticky = new Set(); // keep cards with finished time
 
@@ -130,6 +131,9 @@ async function showConfirmationModal(title, message, type = 'warning') {
     const d = new Date(s);
     return isNaN(d.getTime()) ? null : d;
   };
+  // Relógio do servidor (websocket-client.js), ou o local sem a conexão
+  const serverNow = () =>
+    typeof window.serverNow === "function" ? window.serverNow() : Date.now();
   const fmt = (sec) => {
     sec = Math.max(0, Math.floor(sec));
     const h = String(Math.floor(sec / 3600)).padStart(2, "0");
@@ -147,12 +151,13 @@ async function showConfirmationModal(title, message, type = 'warning') {
     const pomoMin = parseInt(card.dataset.pomoMin || "0", 10);
     const breakMin = parseInt(card.dataset.breakMin || "0", 10);
     const scheduledStart = parseDT(card.dataset.scheduledStart);
-    const now = new Date();
+    const nowTs = serverNow();
+    const now = new Date(nowTs);
 
     // Elapsed calc (supports continuation after extension because baseElapsed retained)
     let elapsed = baseElapsed;
     if (status === "IN_PROGRESS" && mainStart) {
-      elapsed += (Date.now() - mainStart.getTime()) / 1000;
+      elapsed += (nowTs - mainStart.getTime()) / 1000;
     }
     const progress = card.querySelector('[data-role="main-progress"]');
     if (progress && exec > 0) {
@@ -177,7 +182,7 @@ async function showConfirmationModal(title, message, type = 'warning') {
       }
     } else if (status === "IN_PAUSE") {
       if (!until && breakMin > 0) {
-        until = new Date(Date.now() + breakMin * 60000);
+        until = new Date(nowTs + breakMin * 60000);
         card.dataset.pomoUntil = until.toISOString();
       }
     }
@@ -188,7 +193,7 @@ async function showConfirmationModal(title, message, type = 'warning') {
       if (breakRow) breakRow.style.display = "";
       if (breakTimer)
         breakTimer.textContent = until
-          ? fmt((until.getTime() - Date.now()) / 1000)
+          ? fmt((until.getTime() - nowTs) / 1000)
           : "--:--";
     } else {
       // Show pomodoro timer
@@ -196,7 +201,7 @@ async function showConfirmationModal(title, message, type = 'warning') {
       if (breakRow) breakRow.style.display = "none";
       if (pomoTimer)
         pomoTimer.textContent = until
-          ? fmt((until.getTime() - Date.now()) / 1000)
+          ? fmt((until.getTime() - nowTs) / 1000)
           : "--:--";
     }
 
@@ -475,7 +480,10 @@ async function showConfirmationModal(title, message, type = 'warning') {
             showToast("text-bg-success", "✅ Status atualizado!", 4000);
           }
           
-          await refreshDashboard();
+          // Com WebSocket ativo o diff chega por /user/queue/task-state
+          if (!window.wsClient || !window.wsClient.connected) {
+            await refreshDashboard();
+          }
         } catch (e) {
           console.error("💥 Exception during request:", e);
           showToast("text-bg-danger", "❌ Erro: " + e.message);
@@ -513,102 +521,293 @@ async function showConfirmationModal(title, message, type = 'warning') {
     }
   }
 
-  async function refreshDashboard() {
-    console.log("[Dashboard] 🔄 Executando refresh completo do dashboard...");
-    try {
-      // 1. Refresh Active Tasks
-      try {
-        const responseActive = await fetch("/dashboard/active-tasks");
-        if (responseActive.ok) {
-          const html = await responseActive.text();
-          const container = document.getElementById("active-tasks-container");
-          if (container) {
-            container.innerHTML = html;
-            const newGrid = document.getElementById("activeGrid");
-            if (newGrid) {
-              wireActions(newGrid);
-              newGrid.querySelectorAll(".active-card").forEach(updateCard);
-            }
-          }
-        }
-      } catch (e) {
-        console.error("[Dashboard] ❌ Erro ao atualizar active tasks:", e);
-      }
+  // ---- Diffs de estado via STOMP (/user/queue/task-state) ----
+  // Os fragmentos HTML são usados apenas na primeira carga; depois disso o
+  // dashboard aplica os diffs enviados pelo servidor. Só há nova busca de
+  // fragmento quando uma tarefa entra numa tabela onde ainda não aparece.
+  const ACTIVE_STATUSES = ["IN_PROGRESS", "IN_PAUSE", "PENDING", "OVERDUE"];
+  const CLOSED_STATUSES = ["DONE", "CANCELLED"];
+  const sectionReloads = new Set();
+  let sectionReloadTimer = null;
+
+  // LocalDateTime pode chegar como string ISO ou array [y, M, d, h, m, s]
+  const toIso = (v) => {
+    if (!v) return "";
+    if (Array.isArray(v)) {
+      const [y, mo, d, h = 0, mi = 0, se = 0] = v;
+      const p = (n) => String(n).padStart(2, "0");
+      return `${y}-${p(mo)}-${p(d)}T${p(h)}:${p(mi)}:${p(se)}`;
+    }
+    return String(v);
+  };
 
-      // 2. Refresh Scheduled Tasks
-      try {
-        const responseScheduled = await fetch("/dashboard/scheduled-tasks");
-        if (responseScheduled.ok) {
-          const html = await responseScheduled.text();
-          const container = document.getElementById(
-            "scheduled-tasks-container"
-          );
-          if (container) {
-            container.innerHTML = html;
-          }
-        }
-      } catch (e) {
-        console.error("[Dashboard] ❌ Erro ao atualizar scheduled tasks:", e);
+  function isActiveState(d, now) {
+    if (d.type === "TASK_DELETED" || !d.status) return false;
+    if (ACTIVE_STATUSES.includes(d.status)) return true;
+    const scheduled = parseDT(toIso(d.scheduledStartAt));
+    return (
+      d.status === "TODO" &&
+      scheduled !== null &&
+      scheduled <= now &&
+      !!d.executionTimeMinutes &&
+      !!d.pomodoroMinutes
+    );
+  }
+
+  function applyDiffToDataset(card, d) {
+    card.dataset.status = d.status;
+    card.dataset.mainStart = toIso(d.mainStartedAt);
+    card.dataset.mainElapsed = String(d.mainElapsedSeconds ?? 0);
+    card.dataset.pomoUntil = toIso(d.pomodoroUntil);
+    card.dataset.scheduledStart = toIso(d.scheduledStartAt);
+    if (d.executionTimeMinutes != null) card.dataset.exec = d.executionTimeMinutes;
+    if (d.pomodoroMinutes != null) card.dataset.pomoMin = d.pomodoroMinutes;
+    if (d.pomodoroBreakMinutes != null) card.dataset.breakMin = d.pomodoroBreakMinutes;
+
+    const badge = card.querySelector(
+      ".active-card-header > .badge-status:not(.pending-flag):not(.overdue-flag):not(.pending-state-flag)"
+    );
+    if (badge) {
+      badge.className = "badge-status " + d.status.toLowerCase();
+      badge.textContent = d.status;
+    }
+    const titleText = card.querySelector(".active-title-text > span:last-child");
+    if (titleText && d.title) titleText.textContent = d.title;
+  }
+
+  function cardTemplate(d) {
+    const id = esc(d.taskId);
+    const btn = (action, icon, title, extra = "") =>
+      `<button class="btn-icon-sm btn-outline${extra}" data-action="${action}" data-id="${id}" title="${title}"${
+        action === "extend" ? ' style="display: none"' : ""
+      }><i class="bi ${icon}"></i></button>`;
+    return `<div class="active-card" data-task-id="${id}">
+  <div class="active-card-header">
+    <div class="active-title-text"><span>${esc(d.title)}</span></div>
+    <span class="badge-status"></span>
+  </div>
+  <div class="active-timers">
+    <div class="timer-row"><span class="timer-label">Principal</span><span class="timer-value" data-role="main-timer">00:00:00</span></div>
+    <div class="progress progress-compact"><div aria-valuemax="100" aria-valuemin="0" class="progress-bar" data-role="main-progress" role="progressbar" style="width: 0%"></div></div>
+    <div class="timer-row" data-role="pomo-row"><span class="timer-label">Pomodoro</span><span class="timer-value" data-role="pomo-timer">--:--</span></div>
+    <div class="timer-row" data-role="break-row" style="display: none"><span class="timer-label">Intervalo</span><span class="timer-value" data-role="break-timer">--:--</span></div>
+  </div>
+  <div class="active-actions">
+    <a class="btn-icon-sm btn-outline" href="/tasks/${id}" title="Abrir tarefa"><i class="bi bi-box-arrow-up-right"></i></a>
+    ${btn("start", "bi-play-fill", "Iniciar")}
+    ${btn("pause", "bi-pause-fill", "Pausar")}
+    ${btn("extend", "bi-clock-history", "Estender Tempo", " text-warning")}
+    ${btn("cancel", "bi-x-lg", "Cancelar", " text-danger")}
+    ${btn("finish", "bi-check-lg", "Finalizar", " text-success")}
+  </div>
+</div>`;
+  }
+
+  function ensureActiveGrid() {
+    let currentGrid = document.getElementById("activeGrid");
+    if (currentGrid) return currentGrid;
+    const container = document.getElementById("active-tasks-container");
+    if (!container) return null;
+    container.innerHTML = `<div class="active-section">
+  <h2 class="section-title" style="display: flex; align-items: center; gap: 0.5rem">
+    <i class="bi bi-lightning-charge"></i> Em execução agora
+    <span class="badge-status in_progress" style="margin-left: 0.5rem">0</span>
+  </h2>
+  <div class="active-grid-wrapper"><div class="active-grid" id="activeGrid"></div></div>
+</div>`;
+    return document.getElementById("activeGrid");
+  }
+
+  function updateActiveCount() {
+    const currentGrid = document.getElementById("activeGrid");
+    if (!currentGrid) return;
+    const total = currentGrid.querySelectorAll(".active-card").length;
+    if (total === 0) {
+      const section = currentGrid.closest(".active-section");
+      if (section) section.remove();
+      return;
+    }
+    const counter = document.querySelector(".active-section .section-title .badge-status");
+    if (counter) counter.textContent = total;
+  }
+
+  function applyActiveDiff(d, now) {
+    const currentGrid = document.getElementById("activeGrid");
+    let card = currentGrid
+      ? currentGrid.querySelector(`.active-card[data-task-id="${d.taskId}"]`)
+      : null;
+
+    if (!isActiveState(d, now)) {
+      if (card) {
+        sticky.delete(String(d.taskId));
+        card.remove();
+        updateActiveCount();
       }
+      return;
+    }
 
-      // 3. Refresh Overdue Tasks
-      try {
-        const responseOverdue = await fetch("/dashboard/overdue-tasks");
-        if (responseOverdue.ok) {
-          const html = await responseOverdue.text();
-          const tbody = document.getElementById("overdueTableBody");
-          if (tbody) {
-            tbody.outerHTML = html;
-          }
-        }
-      } catch (e) {
-        console.error("[Dashboard] ❌ Erro ao atualizar overdue tasks:", e);
+    if (!card) {
+      const target = ensureActiveGrid();
+      if (!target) return;
+      target.insertAdjacentHTML("afterbegin", cardTemplate(d));
+      card = target.firstElementChild;
+      wireActions(card);
+    }
+    applyDiffToDataset(card, d);
+    updateCard(card);
+    updateActiveCount();
+  }
+
+  function findRow(tbodyId, taskId) {
+    const tbody = document.getElementById(tbodyId);
+    if (!tbody) return null;
+    const btn = tbody.querySelector(`[data-task-id="${taskId}"]`);
+    return btn ? btn.closest("tr") : null;
+  }
+
+  function scheduleSectionReload(name) {
+    sectionReloads.add(name);
+    if (sectionReloadTimer) return;
+    sectionReloadTimer = setTimeout(async () => {
+      const names = [...sectionReloads];
+      sectionReloads.clear();
+      sectionReloadTimer = null;
+      for (const n of names) await reloadSection(n);
+    }, 300);
+  }
+
+  function applyTableDiff(tbodyId, section, d, belongs) {
+    const row = findRow(tbodyId, d.taskId);
+    if (row) {
+      if (!belongs) {
+        row.remove();
+        return;
+      }
+      const badge = row.querySelector(".badge-status");
+      if (badge && d.status) {
+        badge.className = "badge-status " + d.status.toLowerCase();
+        badge.textContent = d.status;
       }
+      const title = row.querySelector(".task-title");
+      if (title && d.title) title.textContent = d.title;
+    } else if (belongs) {
+      scheduleSectionReload(section);
+    }
+  }
 
-      // 4. Refresh Due Today Tasks
-      try {
-        const responseDue = await fetch("/dashboard/due-today-tasks");
-        if (responseDue.ok) {
-          const html = await responseDue.text();
-          const tbody = document.getElementById("dueTodayTableBody");
-          if (tbody) {
-            tbody.outerHTML = html;
+  function applyScheduledDiff(d, belongs) {
+    const container = document.getElementById("scheduled-tasks-container");
+    if (!container) return;
+    const btn = container.querySelector(`.scheduled-card [data-task-id="${d.taskId}"]`);
+    const card = btn ? btn.closest(".scheduled-card") : null;
+    if (card && !belongs) {
+      card.remove();
+      if (!container.querySelector(".scheduled-card")) container.innerHTML = "";
+    } else if (!card && belongs) {
+      scheduleSectionReload("scheduled");
+    }
+  }
+
+  function applyTaskStateDiff(d) {
+    if (!d || d.taskId == null) return;
+    const now = new Date();
+    const deleted = d.type === "TASK_DELETED";
+    const closed = deleted || CLOSED_STATUSES.includes(d.status);
+    const due = parseDT(toIso(d.dueDate));
+    const scheduled = parseDT(toIso(d.scheduledStartAt));
+    const today = now.toDateString();
+
+    applyActiveDiff(d, now);
+
+    const overdue =
+      !closed &&
+      (d.status === "OVERDUE" ||
+        (due !== null && due < now) ||
+        (d.status === "TODO" && scheduled !== null && scheduled < now));
+    applyTableDiff("overdueTableBody", "overdue", d, overdue);
+
+    const dueToday =
+      !deleted &&
+      ((due !== null && due.toDateString() === today) ||
+        (scheduled !== null && scheduled.toDateString() === today));
+    applyTableDiff("dueTodayTableBody", "dueToday", d, dueToday);
+
+    const upcoming = !closed && d.status === "TODO" && scheduled !== null && scheduled > now;
+    applyScheduledDiff(d, upcoming);
+  }
+
+  async function reloadSection(name) {
+    try {
+      if (name === "active") {
+        const response = await fetch("/dashboard/active-tasks");
+        if (!response.ok) return;
+        const container = document.getElementById("active-tasks-container");
+        if (container) {
+          container.innerHTML = await response.text();
+          const newGrid = document.getElementById("activeGrid");
+          if (newGrid) {
+            wireActions(newGrid);
+            newGrid.querySelectorAll(".active-card").forEach(updateCard);
           }
         }
-      } catch (e) {
-        console.error("[Dashboard] ❌ Erro ao atualizar due today tasks:", e);
+      } else if (name === "scheduled") {
+        const response = await fetch("/dashboard/scheduled-tasks");
+        if (!response.ok) return;
+        const container = document.getElementById("scheduled-tasks-container");
+        if (container) container.innerHTML = await response.text();
+      } else if (name === "overdue") {
+        const response = await fetch("/dashboard/overdue-tasks");
+        if (!response.ok) return;
+        const tbody = document.getElementById("overdueTableBody");
+        if (tbody) tbody.outerHTML = await response.text();
+      } else if (name === "dueToday") {
+        const response = await fetch("/dashboard/due-today-tasks");
+        if (!response.ok) return;
+        const tbody = document.getElementById("dueTodayTableBody");
+        if (tbody) tbody.outerHTML = await response.text();
       }
-
-      console.log("[Dashboard] ✅ Refresh completo finalizado");
     } catch (e) {
-      console.error("[Dashboard] ❌ Erro geral no refresh:", e);
+      console.error(`[Dashboard] ❌ Erro ao atualizar seção ${name}:`, e);
     }
   }
 
-    setInterval(() => {
-        const currentGrid = document.getElementById('activeGrid');
-        if (currentGrid) {
-            currentGrid.querySelectorAll('.active-card').forEach(updateCard);
-        }
-    }, 1000);
-
-    // Polling a cada 5s como fallback (apenas se estiver no dashboard)
-    if (document.getElementById('active-tasks-container')) {
-        setInterval(refreshDashboard, 5000);
-        setTimeout(refreshDashboard, 500);
+  // Ressincronização completa: usada apenas após reconexão (diffs perdidos)
+  // ou quando o WebSocket não está disponível
+  async function refreshDashboard() {
+    if (!document.getElementById("active-tasks-container")) return;
+    console.log("[Dashboard] 🔄 Ressincronizando dashboard...");
+    for (const name of ["active", "scheduled", "overdue", "dueToday"]) {
+      await reloadSection(name);
     }
+  }
 
-    // Expor a função de refresh para outros scripts (ex: notifications.js, websocket-client.js)
-    if (typeof window !== 'undefined') {
-        window.refreshDashboard = refreshDashboard;
+  // Primeira carga: os cards vieram renderizados no HTML da página
+  const initialGrid = document.getElementById("activeGrid");
+  if (initialGrid) {
+    wireActions(initialGrid);
+    initialGrid.querySelectorAll(".active-card").forEach(updateCard);
+  }
 
-        // Mantendo compatibilidade com chamadas antigas, se houver
-        window.refreshActiveTasks = refreshDashboard;
-        window.refreshScheduledTasks = refreshDashboard;
-        window.refreshOverdueTasks = refreshDashboard;
-        window.refreshDueTodayTasks = refreshDashboard;
-        window.refreshAllTables = refreshDashboard;
+  // Relógio local dos timers: recalcula a partir dos dados do card, sem rede
+  setInterval(() => {
+    const currentGrid = document.getElementById("activeGrid");
+    if (currentGrid) {
+      currentGrid.querySelectorAll(".active-card").forEach(updateCard);
     }
+  }, 1000);
+
+  // Expor para outros scripts (ex: notifications.js, websocket-client.js)
+  if (typeof window !== "undefined") {
+    window.applyTaskStateDiff = applyTaskStateDiff;
+    window.refreshDashboard = refreshDashboard;
+
+    // Mantendo compatibilidade com chamadas antigas, se houver
+    window.refreshActiveTasks = () => reloadSection("active");
+    window.refreshScheduledTasks = () => reloadSection("scheduled");
+    window.refreshOverdueTasks = () => reloadSection("overdue");
+    window.refreshDueTodayTasks = () => reloadSection("dueToday");
+    window.refreshAllTables = refreshDashboard;
+  }
 })();
 
 // Task Modal
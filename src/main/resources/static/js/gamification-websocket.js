@@ -1,35 +1,24 @@
 /**
  * Gamification WebSocket Client
- * Handles real-time notifications for badges, points, squad invites, and cancellation requests
+ * Handles real-time notifications for badges, points, squad invites, and cancellation requests.
+ * Uses the tab's single STOMP session (window.wsClient from websocket-client.js) instead of
+ * opening a connection of its own.
  */
 
 class GamificationWebSocket {
-    constructor() {
-        this.stompClient = null;
-        this.connected = false;
-        this.subscriptions = [];
+    constructor(realtimeClient) {
+        this.realtimeClient = realtimeClient;
     }
 
     /**
-     * Connect to WebSocket
+     * Register the gamification destinations on the shared session
      */
     connect() {
-        const socket = new SockJS('/ws-task-management');
-        this.stompClient = Stomp.over(socket);
-        
-        // Disable debug logging in production
-        this.stompClient.debug = null;
-
-        this.stompClient.connect({}, (frame) => {
-            console.log('Connected to WebSocket:', frame);
-            this.connected = true;
-            this.subscribeToChannels();
-        }, (error) => {
-            console.error('WebSocket connection error:', error);
-            this.connected = false;
-            // Retry connection after 5 seconds
-            setTimeout(() => this.connect(), 5000);
-        });
+        if (!this.realtimeClient) {
+            console.warn('Gamification: shared WebSocket client not loaded');
+            return;
+        }
+        this.subscribeToChannels();
     }
 
     /**
@@ -37,29 +26,19 @@ class GamificationWebSocket {
      */
     subscribeToChannels() {
         // Subscribe to badge notifications
-        this.subscribe('/user/queue/badges', (message) => {
-            this.handleBadgeEarned(JSON.parse(message.body));
-        });
+        this.subscribe('/user/queue/badges', (data) => this.handleBadgeEarned(data));
 
         // Subscribe to points notifications
-        this.subscribe('/user/queue/points', (message) => {
-            this.handlePointsEarned(JSON.parse(message.body));
-        });
+        this.subscribe('/user/queue/points', (data) => this.handlePointsEarned(data));
 
         // Subscribe to squad invite notifications
-        this.subscribe('/user/queue/squad-invites', (message) => {
-            this.handleSquadInvite(JSON.parse(message.body));
-        });
+        this.subscribe('/user/queue/squad-invites', (data) => this.handleSquadInvite(data));
 
         // Subscribe to cancellation request notifications (for LEADs)
-        this.subscribe('/user/queue/cancel-requests', (message) => {
-            this.handleCancellationRequest(JSON.parse(message.body));
-        });
+        this.subscribe('/user/queue/cancel-requests', (data) => this.handleCancellationRequest(data));
 
         // Subscribe to cancellation decision notifications
-        this.subscribe('/user/queue/cancel-decisions', (message) => {
-            this.handleCancellationDecision(JSON.parse(message.body));
-        });
+        this.subscribe('/user/queue/cancel-decisions', (data) => this.handleCancellationDecision(data));
 
         // Subscribe to squad-specific topics if on squad page
         const squadId = this.getSquadIdFromUrl();
@@ -69,27 +48,19 @@ class GamificationWebSocket {
     }
 
     /**
-     * Subscribe to a channel
+     * Subscribe to a channel (payload already parsed by the shared client)
      */
     subscribe(channel, callback) {
-        if (this.stompClient && this.connected) {
-            const subscription = this.stompClient.subscribe(channel, callback);
-            this.subscriptions.push(subscription);
-            return subscription;
-        }
+        this.realtimeClient.subscribe(channel, callback);
     }
 
     /**
      * Subscribe to squad-specific channels
      */
     subscribeToSquad(squadId) {
-        this.subscribe(`/topic/squad/${squadId}`, (message) => {
-            this.handleSquadUpdate(JSON.parse(message.body));
-        });
+        this.subscribe(`/topic/squad/${squadId}`, (data) => this.handleSquadUpdate(data));
 
-        this.subscribe(`/topic/squad/${squadId}/ranking`, (message) => {
-            this.handleRankingUpdate(JSON.parse(message.body));
-        });
+        this.subscribe(`/topic/squad/${squadId}/ranking`, (data) => this.handleRankingUpdate(data));
     }
 
     /**
@@ -348,34 +319,16 @@ class GamificationWebSocket {
         const match = window.location.pathname.match(/\/squads\/(\d+)/);
         return match ? match[1] : null;
     }
-
-    /**
-     * Disconnect from WebSocket
-     */
-    disconnect() {
-        if (this.stompClient && this.connected) {
-            this.subscriptions.forEach(sub => sub.unsubscribe());
-            this.stompClient.disconnect();
-            this.connected = false;
-        }
-    }
 }
 
-// Initialize WebSocket connection on page load
+// Register on the shared session on page load (websocket-client.js owns the connection)
 let gamificationWS = null;
 
 document.addEventListener('DOMContentLoaded', function() {
-    gamificationWS = new GamificationWebSocket();
+    gamificationWS = new GamificationWebSocket(window.wsClient);
     gamificationWS.connect();
-});
-
-// Disconnect on page unload
-window.addEventListener('beforeunload', function() {
-    if (gamificationWS) {
-        gamificationWS.disconnect();
-    }
+    window.gamificationWS = gamificationWS;
 });
 
 // Export for use in other scripts
 window.GamificationWebSocket = GamificationWebSocket;
-window.gamificationWS = gamificationWS;
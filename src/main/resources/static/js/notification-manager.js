@@ -81,14 +81,31 @@ const NotificationManager = {
   activeToasts: new Map(),
 
   /**
-   * Inicializa o sistema de notificações
+   * Inicializa o sistema de notificações. Badge e fixadas chegam pela sessão
+   * STOMP (applyState); sem ela, o websocket-client.js usa as APIs abaixo.
    */
   init() {
     this.ensureContainer();
-    this.loadStickyNotifications();
     console.log("[NotificationManager] Sistema inicializado");
   },
 
+  /**
+   * Aplica o estado recebido em /app/notifications/state
+   */
+  applyState(state) {
+    if (!state) return;
+    this.updateBadgeCount(state.unreadCount || 0, false);
+    // Não carregar fixadas em páginas de perfil
+    if (window.location.pathname.includes("/profile")) {
+      return;
+    }
+    (state.sticky || []).forEach((notif, index) => {
+      if (!this.activeToasts.has(`toast-${notif.id}`)) {
+        setTimeout(() => this.show(notif), index * 300);
+      }
+    });
+  },
+
   /**
    * Garante que o container de toasts existe
    */
@@ -104,7 +121,7 @@ const NotificationManager = {
   },
 
   /**
-   * Carrega notificações sticky ao iniciar
+   * Carrega notificações sticky pela API (fallback sem STOMP)
    */
   loadStickyNotifications() {
     // Não carregar em páginas de perfil
@@ -523,7 +540,7 @@ const NotificationManager = {
   },
 
   /**
-   * Carrega contagem de não lidas
+   * Carrega contagem de não lidas pela API (fallback sem STOMP)
    */
   loadUnreadCount() {
     fetch("/api/notifications/unread-count")
@@ -575,7 +592,6 @@ const NotificationManager = {
 // Inicializa quando DOM estiver pronto
 document.addEventListener('DOMContentLoaded', () => {
   NotificationManager.init();
-  NotificationManager.loadUnreadCount();
 });
 
 // Expõe globalmente
@@ -585,7 +601,7 @@ window.NotificationManager = NotificationManager;
 window.handleWebSocketNotification = function(data) {
   console.log('[WebSocket] Nova notificação:', data);
   NotificationManager.show(data);
-  
-  // Atualiza badge
+
+  // Atualiza badge (+1; o total vem no estado de /app/notifications/state)
   NotificationManager.updateBadgeCount(1, true);
 };
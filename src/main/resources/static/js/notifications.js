@@ -1,16 +1,12 @@
 const NotificationSystem = {
-  eventSource: null,
 
   init: function () {
     // Don't initialize if notification elements are not present (e.g., on login page)
     if (!document.getElementById("notificationBadge")) {
       return;
     }
-    // Connection is now handled by websocket-client.js
-    this.loadUnreadCount();
+    // Conexão, badge e fixadas vêm da sessão STOMP do websocket-client.js
     this.setupBadge();
-    // Carregar notificações sticky ao iniciar
-    this.loadStickyNotifications();
   },
 
   /**
@@ -48,8 +44,6 @@ const NotificationSystem = {
       });
   },
 
-  // SSE connection removed to avoid duplication with WebSocket
-
   loadUnreadCount: function () {
     fetch("/api/notifications/unread-count")
       .then((response) => {
@@ -242,111 +236,14 @@ const NotificationSystem = {
     });
   },
 
-  initBackgroundRefresh: function () {
-    // Refresh every 10 seconds
-    setInterval(() => {
-      // Only refresh if we are on the dashboard to update KPIs
-      if (window.location.pathname === "/" || window.location.pathname === "") {
-        this.refreshDashboardKPIs();
-      }
-      // Always refresh badge count
-      this.loadUnreadCount();
-    }, 10000);
-  },
-
-  refreshDashboardKPIs: function () {
-    // We can fetch the dashboard HTML and parse out the KPI values
-    // This is a simple way to refresh without a dedicated API
-    fetch(window.location.href)
-      .then((response) => response.text())
-      .then((html) => {
-        const parser = new DOMParser();
-        const doc = parser.parseFromString(html, "text/html");
-
-        // Update KPIs
-        const kpiSelectors = [
-          ".kpi-todo .kpi-value",
-          ".kpi-progress .kpi-value",
-          ".kpi-done .kpi-value",
-          ".kpi-cancelled .kpi-value",
-        ];
-        kpiSelectors.forEach((selector) => {
-          const newVal = doc.querySelector(selector);
-          const currVal = document.querySelector(selector);
-          if (newVal && currVal && newVal.innerText !== currVal.innerText) {
-            currVal.innerText = newVal.innerText;
-            // Add a subtle flash effect
-            currVal.style.color = "var(--primary)";
-            setTimeout(() => (currVal.style.color = ""), 500);
-          }
-        });
-
-        // Update Priority Cards
-        const prioritySelectors = [
-          ".priority-low .priority-value",
-          ".priority-medium .priority-value",
-          ".priority-high .priority-value",
-          ".priority-urgent .priority-value",
-        ];
-        prioritySelectors.forEach((selector) => {
-          const newVal = doc.querySelector(selector);
-          const currVal = document.querySelector(selector);
-          if (newVal && currVal && newVal.innerText !== currVal.innerText) {
-            currVal.innerText = newVal.innerText;
-          }
-        });
-      })
-      .catch((err) => console.error("Background refresh failed", err));
-  },
-
+  /**
+   * Sem sessão STOMP não há diffs: recarrega os fragmentos do dashboard
+   * (respondidos com 304 quando nada mudou), nunca a página inteira.
+   */
   refreshTaskRelatedSections: function (notification) {
-    // Apenas tenta atualizar se estamos na dashboard
-    if (window.location.pathname !== "/" && window.location.pathname !== "")
-      return;
-    // Atualizar seção de tarefas ativas se função global disponível
-    if (typeof window.refreshActiveTasks === "function") {
-      window.refreshActiveTasks();
+    if (typeof window.refreshDashboard === "function") {
+      window.refreshDashboard();
     }
-    // Recarregar KPIs e tabelas específicas via fetch parcial
-    fetch(window.location.href, { cache: "no-store" })
-      .then((r) => r.text())
-      .then((html) => {
-        const parser = new DOMParser();
-        const doc = parser.parseFromString(html, "text/html");
-        const kpiMap = {
-          ".kpi-todo .kpi-value": null,
-          ".kpi-progress .kpi-value": null,
-          ".kpi-done .kpi-value": null,
-          ".kpi-cancelled .kpi-value": null,
-          ".priority-low .priority-value": null,
-          ".priority-medium .priority-value": null,
-          ".priority-high .priority-value": null,
-          ".priority-urgent .priority-value": null,
-        };
-        Object.keys(kpiMap).forEach((sel) => {
-          const newEl = doc.querySelector(sel);
-          const curEl = document.querySelector(sel);
-          if (newEl && curEl && newEl.innerText !== curEl.innerText) {
-            curEl.innerText = newEl.innerText;
-            curEl.style.transition = "color .3s";
-            curEl.style.color = "var(--primary)";
-            setTimeout(() => (curEl.style.color = ""), 600);
-          }
-        });
-        // Atualizar tabela Overdue
-        const newOverdueBody = doc.querySelector("#overdueTableBody");
-        const curOverdueBody = document.querySelector("#overdueTableBody");
-        if (newOverdueBody && curOverdueBody) {
-          curOverdueBody.innerHTML = newOverdueBody.innerHTML;
-        }
-        // Atualizar tabela Due Today
-        const newDueTodayBody = doc.querySelector("#dueTodayTableBody");
-        const curDueTodayBody = document.querySelector("#dueTodayTableBody");
-        if (newDueTodayBody && curDueTodayBody) {
-          curDueTodayBody.innerHTML = newDueTodayBody.innerHTML;
-        }
-      })
-      .catch((err) => console.warn("Falha ao atualizar KPIs/tabelas", err));
   },
 
   getTypeConfig: function (type) {
@@ -857,6 +754,8 @@ document.addEventListener("DOMContentLoaded", () => {
 window.handleWebSocketNotification = function (data) {
   console.log("[NotificationSystem] Recebida via WebSocket:", data);
   
+  // Cada notificação soma 1 ao badge; o total vem no estado de /app/notifications/state
+
   // Prefer NotificationManager for toasts if available (Global consistency)
   if (typeof NotificationManager !== 'undefined' && typeof NotificationManager.show === 'function') {
       NotificationManager.show(data);
@@ -876,8 +775,10 @@ window.handleWebSocketNotification = function (data) {
           NotificationSystem.addNotificationToDropdown(data);
       }
 
-      // Refresh task-related sections
-      if (typeof NotificationSystem.refreshTaskRelatedSections === "function") {
+      // Refresh task-related sections (com WebSocket ativo os cards já são
+      // atualizados pelos diffs de /user/queue/task-state)
+      const liveDiffs = window.wsClient && window.wsClient.connected;
+      if (!liveDiffs && typeof NotificationSystem.refreshTaskRelatedSections === "function") {
           NotificationSystem.refreshTaskRelatedSections(data);
       }
   }
@@ -1,6 +1,8 @@
 /**
  * Squad Dashboard JavaScript
- * Handles real-time timer updates and WebSocket connections for squad dashboard
+ * Handles real-time timer updates and WebSocket connections for squad dashboard.
+ * O painel de tarefas em execução vem renderizado na primeira carga e depois é
+ * atualizado pelos diffs de /topic/squad/{id}/task-state, sem buscar fragmentos.
  */
 
 (function() {
@@ -27,21 +29,15 @@
             timerInterval = null;
         }
 
-        const timerBadges = document.querySelectorAll('.timer-badge');
-        
-        if (timerBadges.length === 0) {
-            return;
-        }
-
-        // Update timers every second
-        timerInterval = setInterval(function() {
-            timerBadges.forEach(function(badge) {
-                updateTimer(badge);
-            });
-        }, 1000);
+        // Update timers every second (re-query: cards entram e saem via diff)
+        timerInterval = setInterval(updateAllTimers, 1000);
 
         // Initial update
-        timerBadges.forEach(function(badge) {
+        updateAllTimers();
+    }
+
+    function updateAllTimers() {
+        document.querySelectorAll('.timer-badge').forEach(function(badge) {
             updateTimer(badge);
         });
     }
@@ -60,10 +56,11 @@
 
         // Parse the started time
         const startTime = new Date(startedAt);
-        const now = new Date();
+        // Relógio do servidor (websocket-client.js), ou o local sem a conexão
+        const now = typeof window.serverNow === 'function' ? window.serverNow() : Date.now();
         
         // Calculate total elapsed time
-        const runningSeconds = Math.floor((now - startTime) / 1000);
+        const runningSeconds = Math.floor((now - startTime.getTime()) / 1000);
         const totalSeconds = elapsed + Math.max(0, runningSeconds);
         
         // Format as HH:MM:SS
@@ -123,6 +120,17 @@
      * Initialize WebSocket connection for real-time updates
      */
     function initWebSocketConnection() {
+        const squadId = getSquadId();
+
+        // Página com o websocket-client.js: usa a sessão única da aba
+        if (window.wsClient && typeof window.wsClient.subscribe === 'function') {
+            if (squadId) {
+                window.wsClient.subscribe('/topic/squad/' + squadId + '/updates', handleSquadUpdate);
+                window.wsClient.subscribe('/topic/squad/' + squadId + '/task-state', handleTaskState);
+            }
+            return;
+        }
+
         // Check if SockJS and Stomp are available
         if (typeof SockJS === 'undefined' || typeof Stomp === 'undefined') {
             console.log('WebSocket libraries not available');
@@ -130,7 +138,7 @@
         }
 
         try {
-            const socket = new SockJS('/ws');
+            const socket = new SockJS('/ws-task-management');
             const stompClient = Stomp.over(socket);
             
             // Disable debug logging in production
@@ -140,14 +148,13 @@
                 console.log('Connected to WebSocket');
                 
                 // Subscribe to squad updates
-                const squadId = getSquadId();
                 if (squadId) {
                     stompClient.subscribe('/topic/squad/' + squadId + '/updates', function(message) {
                         handleSquadUpdate(JSON.parse(message.body));
                     });
                     
-                    stompClient.subscribe('/topic/squad/' + squadId + '/tasks', function(message) {
-                        handleTaskUpdate(JSON.parse(message.body));
+                    stompClient.subscribe('/topic/squad/' + squadId + '/task-state', function(message) {
+                        handleTaskState(JSON.parse(message.body));
                     });
                 }
             }, function(error) {
@@ -180,43 +187,119 @@
     }
 
     /**
-     * Handle task update from WebSocket
+     * Apply a task state diff from WebSocket
      */
-    function handleTaskUpdate(data) {
-        console.log('Task update received:', data);
-        
-        // Update task status in the table if visible
-        if (data.type === 'STATUS_CHANGED') {
-            updateTaskRow(data.taskId, data.status);
+    function handleTaskState(diff) {
+        if (!diff || diff.taskId == null) return;
+
+        if (diff.type === 'TASK_DELETED') {
+            removeActiveTask(diff.taskId);
+            const row = document.getElementById('task-row-' + diff.taskId);
+            if (row) row.remove();
+            return;
         }
-        
-        // Refresh active timers if a task started or stopped
-        if (data.type === 'TIMER_STARTED' || data.type === 'TIMER_STOPPED') {
-            refreshActiveTasks();
+
+        updateTaskRow(diff.taskId, diff.status);
+
+        if (diff.status === 'IN_PROGRESS') {
+            upsertActiveTask(diff);
+        } else {
+            removeActiveTask(diff.taskId);
+        }
+    }
+
+    // LocalDateTime pode chegar como string ISO ou array [y, M, d, h, m, s]
+    function toIso(v) {
+        if (!v) return '';
+        if (Array.isArray(v)) {
+            const p = function(n) { return String(n).padStart(2, '0'); };
+            return v[0] + '-' + p(v[1]) + '-' + p(v[2]) + 'T' + p(v[3] || 0) + ':' + p(v[4] || 0) + ':' + p(v[5] || 0);
         }
+        return String(v);
+    }
+
+    function esc(s) {
+        return String(s == null ? '' : s)
+            .replace(/&/g, '&amp;')
+            .replace(/</g, '&lt;')
+            .replace(/>/g, '&gt;')
+            .replace(/"/g, '&quot;');
+    }
+
+    function activePanelBody() {
+        return document.querySelector('#active-tasks-wrapper .timers-panel .panel-body');
     }
 
     /**
-     * Refresh the active tasks panel
+     * Insere ou atualiza o item do painel de tarefas em execução
      */
-    function refreshActiveTasks() {
-        const squadId = getSquadId();
-        if (!squadId) return;
-
-        fetch(`/squads/${squadId}/dashboard/active-tasks`)
-            .then(response => {
-                if (!response.ok) throw new Error('Network response was not ok');
-                return response.text();
-            })
-            .then(html => {
-                const container = document.getElementById('active-tasks-wrapper');
-                if (container) {
-                    container.innerHTML = html;
-                    // Re-initialize timers for the new elements
-                    initTimers();
-                }
-            })
-            .catch(error => console.error('Error refreshing active tasks:', error));
+    function upsertActiveTask(diff) {
+        const body = activePanelBody();
+        if (!body) return;
+
+        let list = body.querySelector('.timer-list');
+        if (!list) {
+            const empty = body.querySelector('.empty-state-mini');
+            if (empty) empty.remove();
+            list = document.createElement('div');
+            list.className = 'timer-list';
+            body.appendChild(list);
+        }
+
+        let item = list.querySelector('.timer-item[data-task-id="' + diff.taskId + '"]');
+        if (!item) {
+            list.insertAdjacentHTML('afterbegin',
+                '<div class="timer-item" data-task-id="' + esc(diff.taskId) + '">' +
+                '<div class="timer-info"><strong>' + esc(diff.title) + '</strong>' +
+                (diff.assignedUserName
+                    ? '<small><i class="bi bi-person"></i> <span>' + esc(diff.assignedUserName) + '</span></small>'
+                    : '') +
+                '</div>' +
+                '<div class="timer-display">' +
+                '<span class="active-timer timer-badge"><i class="bi bi-stopwatch"></i> <span class="timer-value">00:00:00</span></span>' +
+                '<small>Est: <span>' + esc(diff.executionTimeMinutes || 0) + '</span> min</small>' +
+                '</div></div>');
+            item = list.firstElementChild;
+        }
+
+        const badge = item.querySelector('.timer-badge');
+        if (badge) {
+            badge.setAttribute('data-started', toIso(diff.mainStartedAt));
+            badge.setAttribute('data-elapsed', String(diff.mainElapsedSeconds || 0));
+            updateTimer(badge);
+        }
+        updateActiveCount();
+    }
+
+    function removeActiveTask(taskId) {
+        const item = document.querySelector('#active-tasks-wrapper .timer-item[data-task-id="' + taskId + '"]');
+        if (!item) return;
+        const list = item.parentElement;
+        item.remove();
+        if (list && !list.querySelector('.timer-item')) {
+            list.insertAdjacentHTML('beforebegin',
+                '<div class="empty-state-mini"><i class="bi bi-pause-circle"></i>' +
+                '<p>Nenhuma task em execução no momento</p></div>');
+            list.remove();
+        }
+        updateActiveCount();
+    }
+
+    function updateActiveCount() {
+        const header = document.querySelector('#active-tasks-wrapper .timers-panel .panel-header');
+        if (!header) return;
+        const total = document.querySelectorAll('#active-tasks-wrapper .timer-item').length;
+        let counter = header.querySelector('.panel-badge');
+        if (total === 0) {
+            if (counter) counter.remove();
+            return;
+        }
+        if (!counter) {
+            counter = document.createElement('span');
+            counter.className = 'panel-badge';
+            header.appendChild(counter);
+        }
+        counter.textContent = total;
     }
 
     /**
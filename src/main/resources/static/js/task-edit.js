@@ -1,4 +1,5 @@
 // Task Edit Page JS - Real-time timer updates and Rich Editor initialization
+// O cronômetro roda localmente; o servidor só envia o timer (timer-state) quando o status muda
 (function () {
     'use strict';
 
@@ -132,6 +133,11 @@
         return isNaN(d.getTime()) ? null : d;
     }
 
+    // Relógio do servidor (websocket-client.js), ou o local sem a conexão
+    function nowMs() {
+        return typeof window.serverNow === 'function' ? window.serverNow() : Date.now();
+    }
+
     // Update execution panel timers
     function updateExecPanel() {
         const panel = document.getElementById('execPanel');
@@ -155,9 +161,8 @@
         // Calculate total elapsed time
         let elapsed = mainElapsed;
         if (status === 'IN_PROGRESS' && mainStarted) {
-            const now = new Date();
-            const delta = Math.floor((now - mainStarted) / 1000);
-            elapsed = mainElapsed + delta;
+            const delta = Math.floor((nowMs() - mainStarted.getTime()) / 1000);
+            elapsed = mainElapsed + Math.max(0, delta);
         }
 
         // Update main elapsed timer
@@ -197,8 +202,7 @@
                 // Break mode
                 pomoLabelText.textContent = '☕ Pausa';
                 if (pomoUntil) {
-                    const now = new Date();
-                    const remaining = Math.max(0, Math.floor((pomoUntil - now) / 1000));
+                    const remaining = Math.max(0, Math.floor((pomoUntil.getTime() - nowMs()) / 1000));
                     if (remaining > 0) {
                         const mins = Math.floor(remaining / 60);
                         const secs = remaining % 60;
@@ -215,8 +219,7 @@
                 // Pomodoro mode
                 pomoLabelText.textContent = '🍅 Pomodoro';
                 if (pomoUntil) {
-                    const now = new Date();
-                    const remaining = Math.max(0, Math.floor((pomoUntil - now) / 1000));
+                    const remaining = Math.max(0, Math.floor((pomoUntil.getTime() - nowMs()) / 1000));
                     if (remaining > 0) {
                         const mins = Math.floor(remaining / 60);
                         const secs = remaining % 60;
@@ -237,52 +240,33 @@
         }
     }
 
-    // Fetch updated task data from server
-    async function syncTaskData() {
+    // Aplica o frame de timer enviado pelo servidor (instantes em epoch millis)
+    function applyTimerState(state) {
         const panel = document.getElementById('execPanel');
-        if (!panel) return;
+        if (!panel || String(state.taskId) !== panel.dataset.taskId) return;
 
-        // Get task ID from the form action URL
-        const form = document.querySelector('form[action*="/tasks/"]');
-        if (!form) return;
-        
-        const actionUrl = form.getAttribute('action');
-        const match = actionUrl.match(/\/tasks\/(\d+)/);
-        if (!match) return;
-        
-        const taskId = match[1];
-
-        try {
-            const resp = await fetch(`/api/tasks/${taskId}/elapsed`);
-            if (resp.ok) {
-                const data = await resp.json();
-                // Update panel data attributes with fresh server data
-                if (data.seconds !== undefined) {
-                    panel.dataset.mainElapsed = data.seconds;
-                }
-            }
-        } catch (e) {
-            console.warn('Failed to sync task elapsed time:', e);
-        }
+        panel.dataset.status = state.status;
+        panel.dataset.mainElapsed = String(state.mainElapsedSeconds || 0);
+        panel.dataset.mainStarted = state.mainStartedAt ? new Date(state.mainStartedAt).toISOString() : '';
+        panel.dataset.pomoUntil = state.pomodoroUntil ? new Date(state.pomodoroUntil).toISOString() : '';
+        updateExecPanel();
     }
 
     let timerIntervalId = null;
-    let syncIntervalId = null;
 
     function startTimers() {
         if (timerIntervalId) return;
         
         // Update display every second
         timerIntervalId = setInterval(updateExecPanel, 1000);
-        
-        // Sync with server every 30 seconds
-        syncIntervalId = setInterval(syncTaskData, 30000);
+
+        // Mudanças de status chegam pela sessão STOMP compartilhada
+        if (window.wsClient) {
+            window.wsClient.subscribe('/user/queue/timer-state', applyTimerState);
+        }
         
         // Initial update
         updateExecPanel();
-        
-        // Initial sync after short delay
-        setTimeout(syncTaskData, 500);
     }
 
     function stopTimers() {
@@ -290,10 +274,6 @@
             clearInterval(timerIntervalId);
             timerIntervalId = null;
         }
-        if (syncIntervalId) {
-            clearInterval(syncIntervalId);
-            syncIntervalId = null;
-        }
     }
 
     // Initialize on DOM ready
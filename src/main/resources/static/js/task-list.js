@@ -41,6 +41,11 @@
         return `${m}:${s}`;
     }
 
+    // Relógio do servidor (websocket-client.js), ou o local sem a conexão
+    function nowMs() {
+        return typeof window.serverNow === 'function' ? window.serverNow() : Date.now();
+    }
+
     // --- MAIN TIMER UPDATE FUNCTION (called every second) ---
     function updateAllTimers() {
         const rows = document.querySelectorAll('#taskTableInner .task-list-row');
@@ -72,9 +77,8 @@
                 
                 let elapsed = mainElapsed;
                 if (mainStart) {
-                    const now = new Date();
                     const start = new Date(mainStart);
-                    elapsed = Math.floor((now - start) / 1000) + mainElapsed;
+                    elapsed = Math.max(0, Math.floor((nowMs() - start.getTime()) / 1000)) + mainElapsed;
                 }
                 
                 if (mainTimerEl) {
@@ -101,8 +105,7 @@
                 
                 if (pomoUntil && (status === 'IN_PROGRESS' || status === 'IN_PAUSE')) {
                     const until = new Date(pomoUntil);
-                    const now = new Date();
-                    const remaining = Math.floor((until - now) / 1000);
+                    const remaining = Math.floor((until.getTime() - nowMs()) / 1000);
                     
                     if (remaining > 0) {
                         pomoTimerEl.textContent = formatMS(remaining);
@@ -139,9 +142,8 @@
         
         if (status === 'IN_PROGRESS' && mainStart && !overdue) {
             const targetSec = (execMin + extraMin) * 60;
-            const now = new Date();
             const start = new Date(mainStart);
-            const elapsed = Math.floor((now - start) / 1000) + mainElapsed;
+            const elapsed = Math.floor((nowMs() - start.getTime()) / 1000) + mainElapsed;
             if (elapsed >= targetSec) {
                 icon.classList.add('bi-person-fill');
                 icon.title = 'Tempo concluído';
@@ -198,6 +200,21 @@
         }
     }
 
+    // Frame de timer do servidor (só chega quando o status muda): a linha
+    // troca de cor/ações, então o fragmento da página atual é recarregado
+    function applyTimerState(state) {
+        const row = document.querySelector('#taskTableInner .task-list-row[data-task-id="' + state.taskId + '"]');
+        if (!row) return;
+        if (row.dataset.status !== state.status) {
+            reloadTasksFragment();
+            return;
+        }
+        row.dataset.mainElapsed = String(state.mainElapsedSeconds || 0);
+        row.dataset.mainStart = state.mainStartedAt ? new Date(state.mainStartedAt).toISOString() : '';
+        row.dataset.pomoUntil = state.pomodoroUntil ? new Date(state.pomodoroUntil).toISOString() : '';
+        updateAllTimers();
+    }
+
     // Initialize task list events
     function initTaskList() {
         bindStatusForms();
@@ -397,6 +414,9 @@
         console.log('📋 Task List JS loaded');
         initTaskList();
         startTimerInterval();
+        if (window.wsClient) {
+            window.wsClient.subscribe('/user/queue/timer-state', applyTimerState);
+        }
     });
 
     // Expose functions globally for onclick handlers in HTML and WebSocket updates
@@ -1,7 +1,10 @@
 /**
  * WebSocket Client for Real-time Dashboard Updates
  * Conecta ao servidor via STOMP/WebSocket e recebe atualizações em tempo real
- * Versão: 3.0 (Com polling fallback e refresh agressivo)
+ * Versão: 5.1 (Uma única sessão STOMP por aba; os demais scripts assinam por
+ * wsClient.subscribe e o SSE só entra como fallback. Os cronômetros usam
+ * window.serverNow(), o relógio do servidor corrigido pela diferença recebida
+ * na conexão e em cada frame de /user/queue/timer-state)
  */
 
 class WebSocketClient {
@@ -13,6 +16,73 @@ class WebSocketClient {
         this.maxReconnectAttempts = 15;
         this.pollingInterval = null;
         this.lastUpdateTime = Date.now();
+        this.hasConnectedBefore = false;
+        this.lastKpis = null;
+        this.diffSinceLastUpdate = false;
+        this.handlers = new Map();
+        this.eventSource = null;
+        this.clockOffset = 0;
+
+        this.subscribe('/topic/dashboard', (data) => this.onDashboardUpdate(data));
+        this.subscribe('/user/queue/task-state', (diff) => {
+            this.diffSinceLastUpdate = true;
+            if (typeof window.applyTaskStateDiff === 'function') {
+                window.applyTaskStateDiff(diff);
+            }
+        });
+        this.subscribe('/user/queue/timer-state', (state) => this.syncClock(state.serverTime));
+        this.subscribe('/topic/notifications', (data) => this.onNotificationReceived(data));
+        this.subscribe('/user/queue/notifications', (data) => this.onNotificationReceived(data));
+    }
+
+    /**
+     * Registra um handler para um destino STOMP. Todos os scripts da página
+     * compartilham esta sessão; as assinaturas são refeitas após reconectar.
+     */
+    subscribe(destination, callback) {
+        if (!this.handlers.has(destination)) {
+            this.handlers.set(destination, []);
+            if (this.connected) {
+                this.openSubscription(destination);
+            }
+        }
+        this.handlers.get(destination).push(callback);
+    }
+
+    openSubscription(destination) {
+        this.stompClient.subscribe(destination, (message) => {
+            let data;
+            try {
+                data = JSON.parse(message.body);
+            } catch (e) {
+                console.error(`[WebSocket] Erro ao parsear mensagem de ${destination}:`, e);
+                return;
+            }
+            for (const callback of this.handlers.get(destination) || []) {
+                try {
+                    callback(data);
+                } catch (e) {
+                    console.error(`[WebSocket] Erro no handler de ${destination}:`, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Atualiza a diferença entre o relógio do servidor e o local. A latência
+     * do frame deixa a estimativa levemente atrasada, bem abaixo de 1 segundo.
+     */
+    syncClock(serverTime) {
+        if (typeof serverTime === 'number' && serverTime > 0) {
+            this.clockOffset = serverTime - Date.now();
+        }
+    }
+
+    /**
+     * Agora, no relógio do servidor (epoch millis)
+     */
+    serverNow() {
+        return Date.now() + this.clockOffset;
     }
 
     /**
@@ -25,7 +95,7 @@ class WebSocketClient {
         if (typeof SockJS === 'undefined' || typeof Stomp === 'undefined') {
             console.error('[WebSocket] Bibliotecas SockJS ou Stomp não carregadas!');
             this.updateConnectionStatus('Erro Libs');
-            this.startPollingFallback();
+            this.startFallback();
             return;
         }
 
@@ -43,7 +113,7 @@ class WebSocketClient {
             );
         } catch (e) {
             console.error('[WebSocket] Erro ao criar conexão:', e);
-            this.startPollingFallback();
+            this.startFallback();
         }
     }
 
@@ -55,42 +125,28 @@ class WebSocketClient {
         this.connected = true;
         this.reconnectAttempts = 0;
         this.updateConnectionStatus('Conectado');
-        this.stopPollingFallback();
-
-        // Subscreve ao tópico de atualizações do dashboard
-        this.stompClient.subscribe('/topic/dashboard', (message) => {
-            try {
-                const data = JSON.parse(message.body);
-                this.onDashboardUpdate(data);
-            } catch (e) {
-                console.error('[WebSocket] Erro ao parsear mensagem:', e);
-            }
-        });
+        this.stopFallback();
 
-        // Subscreve ao tópico de notificações (Broadcast)
-        this.stompClient.subscribe('/topic/notifications', (message) => {
-            try {
-                const data = JSON.parse(message.body);
-                this.onNotificationReceived(data);
-            } catch (e) {
-                console.error('[WebSocket] Erro ao parsear notificação broadcast:', e);
-            }
-        });
+        for (const destination of this.handlers.keys()) {
+            this.openSubscription(destination);
+        }
+        console.log('[WebSocket] 📡 Subscrito a:', [...this.handlers.keys()].join(', '));
 
-        // Subscreve à fila de notificações do usuário (Pessoal)
-        this.stompClient.subscribe('/user/queue/notifications', (message) => {
+        // Resposta única desta sessão: total de não lidas e fixadas pendentes
+        this.stompClient.subscribe('/app/notifications/state', (message) => {
             try {
-                const data = JSON.parse(message.body);
-                this.onNotificationReceived(data);
+                this.onNotificationState(JSON.parse(message.body));
             } catch (e) {
-                console.error('[WebSocket] Erro ao parsear notificação pessoal:', e);
+                console.error('[WebSocket] Erro ao parsear estado das notificações:', e);
             }
         });
 
-        console.log('[WebSocket] 📡 Subscrito aos tópicos: /topic/dashboard, /topic/notifications, /user/queue/notifications');
-        
-        // Força refresh imediato após conectar
-        this.forceRefreshAll();
+        // Na primeira conexão a página já veio renderizada; após reconectar,
+        // ressincroniza uma vez porque diffs podem ter sido perdidos
+        if (this.hasConnectedBefore) {
+            this.forceRefreshAll();
+        }
+        this.hasConnectedBefore = true;
     }
 
     /**
@@ -107,9 +163,41 @@ class WebSocketClient {
             this.updateConnectionStatus(`Reconectando...`);
             setTimeout(() => this.connect(), this.reconnectDelay);
         } else {
-            console.warn('[WebSocket] Usando polling fallback...');
-            this.startPollingFallback();
+            console.warn('[WebSocket] Usando fallback (SSE + polling)...');
+            this.startFallback();
+        }
+    }
+
+    /**
+     * Sem STOMP: notificações pelo stream SSE, estado inicial pela API e
+     * KPIs/fragmentos por polling
+     */
+    startFallback() {
+        if (!this.eventSource && typeof EventSource !== 'undefined') {
+            console.log('[WebSocket] 📨 Abrindo stream SSE de notificações...');
+            this.eventSource = new EventSource('/api/notifications/stream');
+            this.eventSource.addEventListener('notification', (event) => {
+                try {
+                    this.onNotificationReceived(JSON.parse(event.data));
+                } catch (e) {
+                    console.error('[WebSocket] Erro ao parsear notificação SSE:', e);
+                }
+            });
+        }
+        if (typeof NotificationManager !== 'undefined') {
+            if (NotificationManager.loadStickyNotifications) NotificationManager.loadStickyNotifications();
+            if (NotificationManager.loadUnreadCount) NotificationManager.loadUnreadCount();
         }
+        this.startPollingFallback();
+    }
+
+    stopFallback() {
+        if (this.eventSource) {
+            this.eventSource.close();
+            this.eventSource = null;
+            console.log('[WebSocket] Stream SSE fechado');
+        }
+        this.stopPollingFallback();
     }
 
     /**
@@ -153,6 +241,8 @@ class WebSocketClient {
                     countHigh: data.countHigh || 0,
                     countUrgent: data.countUrgent || 0
                 });
+                // Sem WebSocket não há diffs: recarrega os fragmentos
+                this.forceRefreshAll();
             }
         } catch (e) {
             console.error('[WebSocket] Erro no polling:', e);
@@ -190,8 +280,16 @@ class WebSocketClient {
                 });
             }
 
-            // Refresh fragmentos HTML
-            this.forceRefreshAll();
+            // Os cards são atualizados pelos diffs de /user/queue/task-state.
+            // Se os KPIs mudaram sem nenhum diff (ex.: tarefas de outros
+            // membros visíveis ao líder), ressincroniza os fragmentos uma vez.
+            const kpis = [data.totalTodo, data.totalInProgress, data.totalDone, data.totalCancelled].join('|');
+            if (this.connected && this.lastKpis !== null && this.lastKpis !== kpis
+                && !this.diffSinceLastUpdate && typeof window.refreshDashboard === 'function') {
+                window.refreshDashboard();
+            }
+            this.lastKpis = kpis;
+            this.diffSinceLastUpdate = false;
 
             // Indicador visual
             this.animateUpdate();
@@ -207,34 +305,21 @@ class WebSocketClient {
         console.log('[WebSocket] 🔄 Iniciando refresh completo do sistema...');
         
         try {
-            // 1. Refresh do Dashboard completo (se disponível)
+            // 1. Refresh do Dashboard completo (cobre todas as seções)
             if (typeof window.refreshDashboard === 'function') {
                 await window.refreshDashboard();
                 console.log('[WebSocket] ✅ Dashboard refreshed');
-            }
-
-            // 2. Refresh de Active Tasks (fallback)
-            if (typeof window.refreshActiveTasks === 'function') {
-                await window.refreshActiveTasks();
-                console.log('[WebSocket] ✅ Active tasks refreshed');
-            }
-
-            // 3. Refresh de Scheduled Tasks
-            if (typeof window.refreshScheduledTasks === 'function') {
-                await window.refreshScheduledTasks();
-                console.log('[WebSocket] ✅ Scheduled tasks refreshed');
-            }
-
-            // 4. Refresh de Overdue Tasks
-            if (typeof window.refreshOverdueTasks === 'function') {
-                await window.refreshOverdueTasks();
-                console.log('[WebSocket] ✅ Overdue tasks refreshed');
-            }
-
-            // 5. Refresh de Due Today Tasks
-            if (typeof window.refreshDueTodayTasks === 'function') {
-                await window.refreshDueTodayTasks();
-                console.log('[WebSocket] ✅ Due today tasks refreshed');
+            } else {
+                // 2-5. Seções individuais (páginas sem o dashboard completo)
+                const sections = [
+                    window.refreshActiveTasks,
+                    window.refreshScheduledTasks,
+                    window.refreshOverdueTasks,
+                    window.refreshDueTodayTasks
+                ];
+                for (const refresh of sections) {
+                    if (typeof refresh === 'function') await refresh();
+                }
             }
 
             // 6. Atualiza gráficos (se disponível)
@@ -243,17 +328,7 @@ class WebSocketClient {
                 console.log('[WebSocket] ✅ Charts refreshed');
             }
 
-            // 7. Recarrega notificações sticky
-            if (typeof NotificationManager !== 'undefined' && NotificationManager.loadStickyNotifications) {
-                NotificationManager.loadStickyNotifications();
-                console.log('[WebSocket] ✅ Sticky notifications reloaded');
-            }
-
-            // 8. Atualiza badge de notificações
-            if (typeof NotificationManager !== 'undefined' && NotificationManager.loadUnreadCount) {
-                NotificationManager.loadUnreadCount();
-                console.log('[WebSocket] ✅ Notification badge updated');
-            }
+            // Notificações: o estado chega por /app/notifications/state a cada conexão
 
             console.log('[WebSocket] ✅ Refresh completo finalizado');
         } catch (error) {
@@ -319,22 +394,30 @@ class WebSocketClient {
     }
 
     /**
-     * Processa notificação recebida
+     * Processa notificação recebida (o frame já traz o total de não lidas)
      */
     onNotificationReceived(data) {
         console.log('[WebSocket] 🔔 Notificação:', data);
         if (typeof window.handleWebSocketNotification === 'function') {
             window.handleWebSocketNotification(data);
         }
-        // Também força refresh ao receber notificação
-        this.forceRefreshAll();
+    }
+
+    /**
+     * Estado inicial das notificações, recebido a cada (re)conexão
+     */
+    onNotificationState(state) {
+        this.syncClock(state.serverTime);
+        if (typeof NotificationManager !== 'undefined' && NotificationManager.applyState) {
+            NotificationManager.applyState(state);
+        }
     }
 
     /**
      * Desconecta do servidor
      */
     disconnect() {
-        this.stopPollingFallback();
+        this.stopFallback();
         if (this.stompClient !== null && this.connected) {
             this.stompClient.disconnect(() => {
                 console.log('[WebSocket] Desconectado');
@@ -345,13 +428,15 @@ class WebSocketClient {
     }
 }
 
-// Instância global
-let wsClient = null;
+// Instância global, criada já na carga do script para que os outros scripts
+// possam assinar destinos antes da conexão
+const wsClient = new WebSocketClient();
+window.wsClient = wsClient;
+window.serverNow = () => wsClient.serverNow();
 
-// Inicializa quando o DOM estiver pronto
+// Conecta quando o DOM estiver pronto
 document.addEventListener('DOMContentLoaded', function () {
-    console.log('[WebSocket] 🚀 Inicializando cliente v3.0...');
-    wsClient = new WebSocketClient();
+    console.log('[WebSocket] 🚀 Inicializando cliente v5.1...');
     wsClient.connect();
 
     // Desconecta quando a página é fechada
@@ -359,6 +444,3 @@ document.addEventListener('DOMContentLoaded', function () {
         if (wsClient) wsClient.disconnect();
     });
 });
-
-// Exporta para uso global
-window.wsClient = wsClient;
@@ -0,0 +1,190 @@
+package br.com.rafaelvieira.taskmanagement.integration.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Testes de integração da V34 (descrição em {@code task_descriptions}): a cópia dos dados de {@code
+ * tasks.description} e os triggers que mantêm o {@code search_vector} quando só a descrição muda.
+ * Rodam o Flyway direto, pois o schema dos demais testes vem do Hibernate.
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@DisplayName("Task Description Migration Integration Tests")
+@Testcontainers
+class TaskDescriptionMigrationIntegrationTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 11, 3, 14, 30);
+
+    @SuppressWarnings("resource")
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("test_db")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static Long userId;
+    private static long richId;
+    private static long emptyId;
+    private static long withoutId;
+
+    /** Grava tasks com a coluna antiga (V33) e só então aplica a V34 */
+    @BeforeAll
+    static void migrate() {
+        DataSource dataSource =
+                new DriverManagerDataSource(
+                        POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).target("33").load().migrate();
+        userId = jdbcTemplate.queryForObject("SELECT min(id) FROM users", Long.class);
+        richId = insertLegacyTask("Planejamento", "<p>Revisar o <b>orçamento</b> anual</p>");
+        emptyId = insertLegacyTask("Vazia", "");
+        withoutId = insertLegacyTask("Sem descrição", null);
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    @Test
+    @DisplayName("Should move non-empty descriptions to task_descriptions and drop the old column")
+    void shouldMoveDescriptions() {
+        assertThat(
+                        jdbcTemplate.queryForList(
+                                "SELECT task_id FROM task_descriptions WHERE task_id IN (?, ?, ?)",
+                                Long.class,
+                                richId,
+                                emptyId,
+                                withoutId))
+                .containsExactly(richId);
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                "SELECT content FROM task_descriptions WHERE task_id = ?",
+                                String.class,
+                                richId))
+                .isEqualTo("<p>Revisar o <b>orçamento</b> anual</p>");
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                "SELECT updated_at FROM task_descriptions WHERE task_id = ?",
+                                LocalDateTime.class,
+                                richId))
+                .isEqualTo(UPDATED_AT);
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                """
+                                SELECT count(*) FROM information_schema.columns
+                                WHERE table_name = 'tasks' AND column_name = 'description'
+                                """,
+                                Integer.class))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should index the migrated description without its HTML tags")
+    void shouldIndexMigratedDescriptions() {
+        assertThat(matches(richId, "orçamento")).isTrue();
+        assertThat(matches(richId, "planejamento")).isTrue();
+        assertThat(matches(richId, "b")).isFalse();
+        assertThat(matches(withoutId, "orçamento")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should refresh search_vector on description-only inserts, updates and deletes")
+    void shouldRefreshSearchVectorOnDescriptionEdits() {
+        long id = insertTask("Sprint");
+        assertThat(matches(id, "cronograma")).isFalse();
+
+        jdbcTemplate.update(
+                "INSERT INTO task_descriptions (task_id, content) VALUES (?, ?)",
+                id,
+                "<p>Montar o cronograma</p>");
+        assertThat(matches(id, "cronograma")).isTrue();
+
+        jdbcTemplate.update(
+                "UPDATE task_descriptions SET content = ? WHERE task_id = ?",
+                "<p>Fechar o escopo</p>",
+                id);
+        assertThat(matches(id, "cronograma")).isFalse();
+        assertThat(matches(id, "escopo")).isTrue();
+
+        jdbcTemplate.update("DELETE FROM task_descriptions WHERE task_id = ?", id);
+        assertThat(matches(id, "escopo")).isFalse();
+        assertThat(matches(id, "sprint")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the description in search_vector when only the title changes")
+    void shouldRefreshSearchVectorOnTitleChange() {
+        long id = insertTask("Sprint");
+        jdbcTemplate.update(
+                "INSERT INTO task_descriptions (task_id, content) VALUES (?, ?)",
+                id,
+                "<p>Montar o cronograma</p>");
+
+        jdbcTemplate.update("UPDATE tasks SET title = ? WHERE id = ?", "Retrospectiva", id);
+
+        assertThat(matches(id, "retrospectiva")).isTrue();
+        assertThat(matches(id, "sprint")).isFalse();
+        assertThat(matches(id, "cronograma")).isTrue();
+    }
+
+    private static boolean matches(long id, String word) {
+        List<Boolean> rows =
+                jdbcTemplate.queryForList(
+                        """
+                        SELECT coalesce(search_vector @@ plainto_tsquery('portuguese', ?), false)
+                        FROM tasks WHERE id = ?
+                        """,
+                        Boolean.class,
+                        word,
+                        id);
+        return rows.getFirst();
+    }
+
+    private static long insertLegacyTask(String title, String description) {
+        return jdbcTemplate.queryForObject(
+                """
+                INSERT INTO tasks (title, description, status, priority, assigned_user_id,
+                                   created_by_id, created_at, updated_at, version,
+                                   main_elapsed_seconds, extra_time_minutes)
+                VALUES (?, ?, 'TODO', 'MEDIUM', ?, ?, ?, ?, 0, 0, 0)
+                RETURNING id
+                """,
+                Long.class,
+                title,
+                description,
+                userId,
+                userId,
+                UPDATED_AT,
+                UPDATED_AT);
+    }
+
+    private static long insertTask(String title) {
+        return jdbcTemplate.queryForObject(
+                """
+                INSERT INTO tasks (title, status, priority, assigned_user_id, created_by_id,
+                                   created_at, updated_at, version, main_elapsed_seconds,
+                                   extra_time_minutes)
+                VALUES (?, 'TODO', 'MEDIUM', ?, ?, now(), now(), 0, 0, 0)
+                RETURNING id
+                """,
+                Long.class,
+                title,
+                userId,
+                userId);
+    }
+}
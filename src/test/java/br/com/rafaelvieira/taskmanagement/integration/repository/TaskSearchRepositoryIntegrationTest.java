@@ -0,0 +1,165 @@
+package br.com.rafaelvieira.taskmanagement.integration.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.rafaelvieira.taskmanagement.repository.TaskSearchRepository;
+import br.com.rafaelvieira.taskmanagement.repository.TaskSearchRepository.Match;
+import br.com.rafaelvieira.taskmanagement.web.dto.TaskFilterForm;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Testes de integração da busca textual sobre o schema das migrations (Flyway): a coluna {@code
+ * search_vector} e seus triggers não existem no schema gerado pelo Hibernate dos demais testes
+ *
+ * @author Rafael Vieira (rafaelrok)
+ * @since 2025-12-01
+ */
+@DisplayName("Task Search Repository Integration Tests")
+@Testcontainers
+class TaskSearchRepositoryIntegrationTest {
+
+    private static final int MAX_CANDIDATES = 1_000;
+
+    @SuppressWarnings("resource")
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("test_db")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private TaskSearchRepository repository;
+    private Long userId;
+
+    @BeforeAll
+    static void migrate() {
+        DataSource dataSource =
+                new DriverManagerDataSource(
+                        POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM tasks");
+        userId = jdbcTemplate.queryForObject("SELECT min(id) FROM users", Long.class);
+        repository = new TaskSearchRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above description matches and break ties by newest")
+    void shouldOrderByRankThenNewest() {
+        long first = insertTask("Deploy", null);
+        long inDescription = insertTask("Revisão", "<p>Planejar o <b>deploy</b></p>");
+        long second = insertTask("Deploy", null);
+
+        Page<Match> page = search("deploy", PageRequest.of(0, 10));
+
+        assertThat(ids(page)).containsExactly(second, first, inDescription);
+        assertThat(page.getContent().getFirst().titleHighlight())
+                .isEqualTo(
+                        TaskSearchRepository.MARK_START + "Deploy" + TaskSearchRepository.MARK_END);
+        assertThat(page.getContent().getLast().snippet())
+                .contains(
+                        TaskSearchRepository.MARK_START + "deploy" + TaskSearchRepository.MARK_END)
+                .doesNotContain("<b>");
+    }
+
+    @Test
+    @DisplayName("Should report the same total on every page, including pages past the end")
+    void shouldKeepTotalAcrossPages() {
+        insertTask("Relatório mensal", null);
+        insertTask("Relatório anual", null);
+        insertTask("Outra tarefa", "<p>Anexar o relatório</p>");
+        insertTask("Sem relação", null);
+
+        Page<Match> first = search("relatório", PageRequest.of(0, 2));
+        Page<Match> last = search("relatório", PageRequest.of(1, 2));
+        Page<Match> beyond = search("relatório", PageRequest.of(5, 2));
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.getTotalElements()).isEqualTo(3);
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(beyond.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should rank only the newest candidates, the same ones on every run")
+    void shouldCapCandidatesDeterministically() {
+        long oldest = insertTask("Orçamento orçamento", "<p>orçamento</p>");
+        jdbcTemplate.update(
+                """
+                WITH created AS (
+                    INSERT INTO tasks (title, status, priority, assigned_user_id, created_by_id,
+                                       created_at, updated_at, version, main_elapsed_seconds,
+                                       extra_time_minutes)
+                    SELECT 'Tarefa ' || g, 'TODO', 'MEDIUM', ?, ?, now(), now(), 0, 0, 0
+                    FROM generate_series(1, ?) g
+                    RETURNING id)
+                INSERT INTO task_descriptions (task_id, content)
+                SELECT id, '<p>Revisar o orçamento</p>' FROM created
+                """,
+                userId,
+                userId,
+                MAX_CANDIDATES);
+
+        Page<Match> first = search("orçamento", PageRequest.of(0, 20));
+        Page<Match> again = search("orçamento", PageRequest.of(0, 20));
+        Page<Match> beyond = search("orçamento", PageRequest.of(MAX_CANDIDATES / 20, 20));
+
+        assertThat(first.getTotalElements()).isEqualTo(MAX_CANDIDATES);
+        assertThat(ids(first)).doesNotContain(oldest);
+        assertThat(ids(again)).isEqualTo(ids(first));
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(beyond.getTotalElements()).isEqualTo(MAX_CANDIDATES);
+    }
+
+    private Page<Match> search(String text, PageRequest pageable) {
+        return repository.search(text, new TaskFilterForm(), null, userId, pageable);
+    }
+
+    private long insertTask(String title, String description) {
+        Long id =
+                jdbcTemplate.queryForObject(
+                        """
+                        INSERT INTO tasks (title, status, priority, assigned_user_id, created_by_id,
+                                           created_at, updated_at, version, main_elapsed_seconds,
+                                           extra_time_minutes)
+                        VALUES (?, 'TODO', 'MEDIUM', ?, ?, now(), now(), 0, 0, 0)
+                        RETURNING id
+                        """,
+                        Long.class,
+                        title,
+                        userId,
+                        userId);
+        if (description != null) {
+            jdbcTemplate.update(
+                    "INSERT INTO task_descriptions (task_id, content) VALUES (?, ?)",
+                    id,
+                    description);
+        }
+        return id;
+    }
+
+    private static List<Long> ids(Page<Match> page) {
+        return page.getContent().stream().map(Match::taskId).toList();
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.Priority;
+import br.com.rafaelvieira.taskmanagement.domain.enums.Role;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.BulkTaskResult;
+import br.com.rafaelvieira.taskmanagement.domain.records.BulkTaskResult.Item;
+import br.com.rafaelvieira.taskmanagement.domain.records.BulkTaskResult.Outcome;
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
+import br.com.rafaelvieira.taskmanagement.repository.TaskBulkRepository;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.service.BulkTaskService;
+import br.com.rafaelvieira.taskmanagement.service.TaskService;
+import br.com.rafaelvieira.taskmanagement.service.UserService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Testes unitários das operações em lote de tarefas
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Bulk Task Service Unit Tests")
+@Tag("unit")
+class BulkTaskServiceTest {
+
+    @Mock private TaskRepository taskRepository;
+
+    @Mock private TaskBulkRepository taskBulkRepository;
+
+    @Mock private TaskService taskService;
+
+    @Mock private UserService userService;
+
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks private BulkTaskService bulkTaskService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).username("dev").role(Role.MEMBER).build();
+        when(userService.getCurrentUser()).thenReturn(user);
+    }
+
+    @Test
+    @DisplayName("Should report each item and write allowed tasks in a single batch")
+    void shouldReportEachItemAndWriteAllowedTasksInOneBatch() {
+        Task allowed = task(1L, TaskStatus.TODO);
+        allowed.setMainStartedAt(LocalDateTime.now().minusMinutes(2));
+        Task forbidden = task(2L, TaskStatus.TODO);
+        Task conflicting = task(3L, TaskStatus.PENDING);
+        when(taskRepository.findAllForBulkByIdIn(List.of(1L, 2L, 3L, 99L)))
+                .thenReturn(List.of(allowed, forbidden, conflicting));
+        when(taskService.canUserModifyTask(user, allowed)).thenReturn(true);
+        when(taskService.canUserModifyTask(user, forbidden)).thenReturn(false);
+        when(taskService.canUserModifyTask(user, conflicting)).thenReturn(true);
+        when(taskBulkRepository.updateStatuses(eq(List.of(allowed, conflicting)), any()))
+                .thenReturn(new int[] {1, 0});
+
+        BulkTaskResult result =
+                bulkTaskService.changeStatus(List.of(1L, 2L, 3L, 1L, 99L), TaskStatus.CANCELLED);
+
+        assertThat(result.requested()).isEqualTo(4);
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(result.items())
+                .extracting(Item::taskId, Item::outcome)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple(1L, Outcome.OK),
+                        org.assertj.core.groups.Tuple.tuple(2L, Outcome.FORBIDDEN),
+                        org.assertj.core.groups.Tuple.tuple(3L, Outcome.CONFLICT),
+                        org.assertj.core.groups.Tuple.tuple(99L, Outcome.NOT_FOUND));
+        assertThat(allowed.getMainStartedAt()).isNull();
+        assertThat(allowed.getMainElapsedSeconds()).isGreaterThanOrEqualTo(120L);
+
+        verify(taskBulkRepository).finishActivePomodoros(eq(List.of(1L)), any());
+        verify(eventPublisher, times(1)).publishEvent(any(TaskChangedEvent.class));
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should skip tasks already in the requested state without writing")
+    void shouldSkipUnchangedTasksWithoutWriting() {
+        Task task = task(1L, TaskStatus.TODO);
+        task.setPriority(Priority.HIGH);
+        when(taskRepository.findAllForBulkByIdIn(List.of(1L))).thenReturn(List.of(task));
+        when(taskService.canUserModifyTask(user, task)).thenReturn(true);
+
+        BulkTaskResult result = bulkTaskService.changePriority(List.of(1L), Priority.HIGH);
+
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+        verify(taskBulkRepository, never()).updatePriorities(anyList(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private Task task(Long id, TaskStatus status) {
+        return Task.builder()
+                .id(id)
+                .title("Task " + id)
+                .status(status)
+                .priority(Priority.MEDIUM)
+                .assignedUser(user)
+                .version(0L)
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.rafaelvieira.taskmanagement.concurrency.DatabaseConcurrencyFilter;
+import br.com.rafaelvieira.taskmanagement.concurrency.DatabaseConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Testes unitários do limite de concorrência de banco aplicado às requisições
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("Database Concurrency Filter Unit Tests")
+@Tag("unit")
+class DatabaseConcurrencyFilterTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(50);
+
+    private SimpleMeterRegistry registry;
+    private DatabaseConcurrencyLimiter limiter;
+    private DatabaseConcurrencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        limiter = new DatabaseConcurrencyLimiter(1, TIMEOUT);
+        filter = new DatabaseConcurrencyFilter(limiter, registry);
+    }
+
+    @Test
+    @DisplayName("Should give up on a permit only after the acquire timeout")
+    void shouldTimeOutWaitingForPermit() throws InterruptedException {
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        long startedAt = System.nanoTime();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(TIMEOUT);
+        limiter.release();
+        assertThat(limiter.available()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 without calling the chain when no permit frees up")
+    void shouldRejectWhenPermitsAreExhausted() throws Exception {
+        assertThat(limiter.tryAcquire()).isTrue();
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(registry.counter("taskmanagement.db.permits.rejected").count()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/css/app.css", "/js/app.js", "/ws/info", "/actuator/health"})
+    @DisplayName("Should let static, WebSocket and actuator paths through without a permit")
+    void shouldSkipExcludedPaths(String path) throws Exception {
+        assertThat(limiter.tryAcquire()).isTrue();
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", path), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(limiter.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the downstream chain throws")
+    void shouldReleasePermitWhenChainThrows() {
+        AtomicBoolean heldDuringChain = new AtomicBoolean();
+
+        assertThatThrownBy(
+                        () ->
+                                filter.doFilter(
+                                        new MockHttpServletRequest("POST", "/tasks"),
+                                        new MockHttpServletResponse(),
+                                        (request, response) -> {
+                                            heldDuringChain.set(limiter.available() == 0);
+                                            throw new ServletException("boom");
+                                        }))
+                .isInstanceOf(ServletException.class);
+
+        assertThat(heldDuringChain).isTrue();
+        assertThat(limiter.available()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hold a permit while a wrapped background task runs and release it after")
+    void shouldReleasePermitAfterWrappedTask() {
+        AtomicBoolean heldDuringTask = new AtomicBoolean();
+
+        limiter.wrap(() -> heldDuringTask.set(limiter.available() == 0)).run();
+
+        assertThat(heldDuringTask).isTrue();
+        assertThat(limiter.available()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.domain.model.Badge;
+import br.com.rafaelvieira.taskmanagement.domain.model.Squad;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.repository.UserBadgeRepository;
+import br.com.rafaelvieira.taskmanagement.repository.UserScoreRepository;
+import br.com.rafaelvieira.taskmanagement.repository.UserScoreRepository.ScoreCounters;
+import br.com.rafaelvieira.taskmanagement.service.BadgeCatalog;
+import br.com.rafaelvieira.taskmanagement.service.GamificationService;
+import br.com.rafaelvieira.taskmanagement.service.GamificationWebSocketService;
+import br.com.rafaelvieira.taskmanagement.service.MonthlyBadgeService;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Testes unitários da pontuação de gamificação
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Gamification Service Unit Tests")
+@Tag("unit")
+class GamificationServiceTest {
+
+    @Mock private UserScoreRepository userScoreRepository;
+
+    @Mock private UserBadgeRepository userBadgeRepository;
+
+    @Mock private BadgeCatalog badgeCatalog;
+
+    @Mock private GamificationWebSocketService webSocketService;
+
+    @Mock private MonthlyBadgeService monthlyBadgeService;
+
+    @InjectMocks private GamificationService gamificationService;
+
+    private User user;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(7L).username("dev").build();
+        LocalDateTime now = LocalDateTime.now();
+        task =
+                Task.builder()
+                        .id(1L)
+                        .squad(Squad.builder().id(3L).build())
+                        .assignedUser(user)
+                        .dueDate(now.plusDays(1))
+                        .completedAt(now)
+                        .build();
+    }
+
+    @Test
+    @DisplayName("Should apply points with a single upsert and award badge on threshold")
+    void shouldAwardBadgeWhenCounterCrossesThreshold() {
+        Badge early5 = Badge.builder().id(11L).code(BadgeCatalog.EARLY_FINISHER_5).build();
+        when(userScoreRepository.incrementCompletion(7L, 20, 1)).thenReturn(counters(80, 7, 5));
+        when(badgeCatalog.findByCode(BadgeCatalog.EARLY_FINISHER_5))
+                .thenReturn(Optional.of(early5));
+        when(userBadgeRepository.findBadgeIdsByUserId(7L)).thenReturn(Set.of());
+        when(userBadgeRepository.insertIfAbsent(eq(7L), eq(11L), any())).thenReturn(1);
+
+        gamificationService.registerTaskCompletion(task);
+
+        verify(webSocketService).notifyPointsEarned(eq(user), eq(20), anyString());
+        verify(webSocketService).notifyBadgeEarned(eq(user), any());
+        verify(userScoreRepository, never()).findByUser(any());
+    }
+
+    @Test
+    @DisplayName("Should award badges still missing past the threshold and skip owned ones")
+    void shouldAwardMissingBadgesPastThreshold() {
+        Badge squad10 = Badge.builder().id(10L).code(BadgeCatalog.SQUAD_COMMITED_10).build();
+        Badge early5 = Badge.builder().id(11L).code(BadgeCatalog.EARLY_FINISHER_5).build();
+        when(userScoreRepository.incrementCompletion(7L, 20, 1)).thenReturn(counters(400, 15, 8));
+        when(badgeCatalog.findByCode(BadgeCatalog.SQUAD_COMMITED_10))
+                .thenReturn(Optional.of(squad10));
+        when(badgeCatalog.findByCode(BadgeCatalog.EARLY_FINISHER_5))
+                .thenReturn(Optional.of(early5));
+        when(userBadgeRepository.findBadgeIdsByUserId(7L)).thenReturn(Set.of(10L));
+        when(userBadgeRepository.insertIfAbsent(eq(7L), eq(11L), any())).thenReturn(1);
+
+        gamificationService.registerTaskCompletion(task);
+
+        verify(userBadgeRepository).findBadgeIdsByUserId(7L);
+        verify(userBadgeRepository, never()).insertIfAbsent(eq(7L), eq(10L), any());
+        verify(webSocketService).notifyBadgeEarned(eq(user), any());
+    }
+
+    @Test
+    @DisplayName("Should skip badge writes when no threshold is crossed")
+    void shouldNotTouchBadgesBelowThreshold() {
+        task.setDueDate(null);
+        when(userScoreRepository.incrementCompletion(7L, 10, 0)).thenReturn(counters(30, 3, 0));
+
+        gamificationService.registerTaskCompletion(task);
+
+        verify(userBadgeRepository, never()).insertIfAbsent(anyLong(), anyLong(), any());
+        verify(userBadgeRepository, never()).findBadgeIdsByUserId(anyLong());
+        verify(userScoreRepository, never()).incrementCompletion(anyLong(), eq(20), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should register score and monthly badge for a completed squad task")
+    void shouldRegisterScoreAndMonthlyBadgeOnCompletion() {
+        when(userScoreRepository.incrementCompletion(7L, 20, 1)).thenReturn(counters(20, 1, 1));
+
+        gamificationService.registerCompletion(task);
+
+        verify(userScoreRepository).incrementCompletion(7L, 20, 1);
+        verify(monthlyBadgeService).registerSquadTaskCompletion(user);
+    }
+
+    @Test
+    @DisplayName("Should ignore completions outside a squad")
+    void shouldIgnoreCompletionsOutsideSquad() {
+        task.setSquad(null);
+
+        gamificationService.registerCompletion(task);
+
+        verify(userScoreRepository, never()).incrementCompletion(anyLong(), anyInt(), anyInt());
+        verify(monthlyBadgeService, never()).registerSquadTaskCompletion(any());
+    }
+
+    private static ScoreCounters counters(int points, int completed, int early) {
+        return new ScoreCounters() {
+            @Override
+            public int getTotalPoints() {
+                return points;
+            }
+
+            @Override
+            public int getTotalTasksCompletedInSquads() {
+                return completed;
+            }
+
+            @Override
+            public int getTotalTasksCompletedEarly() {
+                return early;
+            }
+        };
+    }
+}
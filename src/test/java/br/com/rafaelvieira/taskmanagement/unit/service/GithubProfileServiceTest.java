@@ -0,0 +1,274 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+import br.com.rafaelvieira.taskmanagement.concurrency.CircuitBreaker;
+import br.com.rafaelvieira.taskmanagement.config.ApplicationProperties;
+import br.com.rafaelvieira.taskmanagement.domain.records.GithubProfileResponse;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
+import br.com.rafaelvieira.taskmanagement.service.GithubProfileService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes do proxy de perfis do GitHub contra um servidor HTTP local que imita a API
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("Github Profile Service Unit Tests")
+@Tag("unit")
+class GithubProfileServiceTest {
+
+    private static final String OCTOCAT =
+            "{\"login\":\"octocat\",\"name\":\"The Octocat\",\"public_repos\":8,"
+                    + "\"followers\":100,\"plan\":{\"name\":\"free\"}}";
+    private static final String ETAG = "\"abc123\"";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+    private volatile Responder responder;
+    private MutableClock clock;
+    private ApplicationProperties properties;
+    private GithubProfileService service;
+
+    @FunctionalInterface
+    private interface Responder {
+        void respond(HttpExchange exchange) throws IOException;
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(
+                "/users/",
+                exchange -> {
+                    calls.incrementAndGet();
+                    String etag = exchange.getRequestHeaders().getFirst("If-None-Match");
+                    if (etag != null) {
+                        ifNoneMatch.add(etag);
+                    }
+                    responder.respond(exchange);
+                });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        clock = new MutableClock(Instant.parse("2025-12-01T10:00:00Z"));
+        properties = new ApplicationProperties();
+        properties.getGithub().setBaseUrl("http://localhost:" + server.getAddress().getPort());
+        properties.getGithub().setCacheTtlSeconds(60);
+        properties.getGithub().setNegativeTtlSeconds(30);
+        properties.getGithub().setFailureThreshold(2);
+        properties.getGithub().setOpenSeconds(10);
+        service =
+                new GithubProfileService(
+                        properties, new AppMetrics(new SimpleMeterRegistry()), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should serve cached profile and revalidate it with If-None-Match after the TTL")
+    void shouldCacheAndRevalidateWithEtag() {
+        responder =
+                exchange -> {
+                    if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                        exchange.sendResponseHeaders(304, -1);
+                        exchange.close();
+                    } else {
+                        exchange.getResponseHeaders().add("ETag", ETAG);
+                        send(exchange, 200, OCTOCAT);
+                    }
+                };
+
+        GithubProfileResponse first = service.fetch("octocat").join();
+        GithubProfileResponse cached = service.fetch("OctoCat").join();
+
+        assertThat(first.status()).isEqualTo(200);
+        assertThat(first.body()).contains("\"login\":\"octocat\"").doesNotContain("plan");
+        assertThat(cached).isSameAs(first);
+        assertThat(calls).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(61));
+        GithubProfileResponse revalidated = service.fetch("octocat").join();
+
+        assertThat(calls).hasValue(2);
+        assertThat(ifNoneMatch).containsExactly(ETAG);
+        assertThat(revalidated.body()).isEqualTo(first.body());
+        assertThat(revalidated.isFresh(clock.instant())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should cache unknown users for the negative TTL")
+    void shouldCacheNotFound() {
+        responder = exchange -> send(exchange, 404, "{\"message\":\"Not Found\"}");
+
+        assertThat(service.fetch("ghost").join().status()).isEqualTo(404);
+        assertThat(service.fetch("ghost").join().status()).isEqualTo(404);
+        assertThat(calls).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(31));
+        service.fetch("ghost").join();
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should share one upstream call between concurrent lookups of the same user")
+    void shouldCoalesceConcurrentLookups() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        responder =
+                exchange -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    send(exchange, 200, OCTOCAT);
+                };
+
+        List<CompletableFuture<GithubProfileResponse>> lookups = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            lookups.add(service.fetch("octocat"));
+        }
+        release.countDown();
+
+        assertThat(lookups).allSatisfy(f -> assertThat(f.join().status()).isEqualTo(200));
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should open the circuit after repeated failures and serve the stale profile")
+    void shouldOpenCircuitAndServeStale() {
+        responder = exchange -> send(exchange, 200, OCTOCAT);
+        GithubProfileResponse known = service.fetch("octocat").join();
+        clock.advance(Duration.ofSeconds(61));
+
+        responder = exchange -> send(exchange, 502, "bad gateway");
+        assertThat(service.fetch("octocat").join()).isEqualTo(known);
+        assertThat(service.fetch("other").join().status()).isEqualTo(503);
+        assertThat(service.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int callsWhenOpened = calls.get();
+        assertThat(service.fetch("octocat").join()).isEqualTo(known);
+        assertThat(service.fetch("other").join().status()).isEqualTo(503);
+        assertThat(calls).hasValue(callsWhenOpened);
+
+        clock.advance(Duration.ofSeconds(11));
+        responder = exchange -> send(exchange, 200, OCTOCAT);
+        assertThat(service.fetch("other").join().status()).isEqualTo(200);
+        assertThat(service.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should complete lookups and count a failure when the request cannot be built")
+    void shouldCompleteWhenRequestSetupThrows() throws Exception {
+        properties.getGithub().setToken("bad\ntoken");
+        responder = exchange -> send(exchange, 200, OCTOCAT);
+
+        assertThat(service.fetch("octocat").get(2, TimeUnit.SECONDS).status()).isEqualTo(503);
+        assertThat(service.fetch("octocat").get(2, TimeUnit.SECONDS).status()).isEqualTo(503);
+        assertThat(service.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName(
+            "Should count a probe whose response handling throws as one failure and release it")
+    void shouldReleaseProbeWhenResponseHandlingThrows() throws Exception {
+        AppMetrics metrics = spy(new AppMetrics(new SimpleMeterRegistry()));
+        service.close();
+        service = new GithubProfileService(properties, metrics, clock);
+        responder = exchange -> send(exchange, 502, "bad gateway");
+        service.fetch("a").join();
+        service.fetch("b").join();
+        assertThat(service.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        clock.advance(Duration.ofSeconds(11));
+        responder = exchange -> send(exchange, 200, OCTOCAT);
+        doThrow(new IllegalStateException("registry closed"))
+                .doCallRealMethod()
+                .when(metrics)
+                .countGithubLookup(AppMetrics.GITHUB_FETCHED);
+
+        assertThat(service.fetch("c").get(2, TimeUnit.SECONDS).status()).isEqualTo(503);
+        assertThat(service.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        clock.advance(Duration.ofSeconds(11));
+        int callsAfterProbe = calls.get();
+        assertThat(service.fetch("d").get(2, TimeUnit.SECONDS).status()).isEqualTo(200);
+        assertThat(calls).hasValue(callsAfterProbe + 1);
+        assertThat(service.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
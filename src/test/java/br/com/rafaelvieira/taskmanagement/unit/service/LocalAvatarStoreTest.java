@@ -0,0 +1,144 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.rafaelvieira.taskmanagement.config.ApplicationProperties;
+import br.com.rafaelvieira.taskmanagement.storage.LocalAvatarStore;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Testes unitários do armazenamento local de avatares
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("Local Avatar Store Unit Tests")
+@Tag("unit")
+class LocalAvatarStoreTest {
+
+    /** WebP sem perdas de 1x1 px */
+    private static final String WEBP_1X1 = "UklGRhoAAABXRUJQVlA4TA0AAAAvAAAAEAcQERGIiP4HAA==";
+
+    @TempDir private Path dir;
+    @TempDir private Path legacyDir;
+
+    private final List<Runnable> background = new ArrayList<>();
+    private LocalAvatarStore store;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getStorage().setAvatarsDir(dir.toString());
+        properties.getStorage().setLegacyAvatarsDir(legacyDir.toString());
+        store = new LocalAvatarStore(properties, background::add);
+    }
+
+    @Test
+    @DisplayName("Should store the upload under a content hash and generate thumbnails later")
+    void shouldStoreByHashAndGenerateThumbnails() throws IOException {
+        byte[] png = png(300, 200);
+
+        String url = store.store(new ByteArrayInputStream(png), "Minha Foto.PNG");
+        String thumbnail = store.thumbnailUrl(url, 64);
+
+        assertThat(url).matches("/uploads/avatars/[a-f0-9]{32}\\.png");
+        assertThat(thumbnail).matches("/uploads/avatars/[a-f0-9]{32}-64\\.png");
+        assertThat(Files.readAllBytes(dir.resolve(filename(url)))).isEqualTo(png);
+
+        LocalAvatarStore.AvatarFile pending = store.resolve(filename(thumbnail)).orElseThrow();
+        assertThat(pending.immutable()).isFalse();
+        assertThat(pending.path().getFileName().toString()).isEqualTo(filename(url));
+
+        background.forEach(Runnable::run);
+
+        LocalAvatarStore.AvatarFile ready = store.resolve(filename(thumbnail)).orElseThrow();
+        assertThat(ready.immutable()).isTrue();
+        BufferedImage image = ImageIO.read(ready.path().toFile());
+        assertThat(image.getWidth()).isEqualTo(64);
+        assertThat(image.getHeight()).isEqualTo(64);
+        assertThat(store.resolve(filename(store.thumbnailUrl(url, 256)))).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should generate thumbnails for WebP uploads")
+    void shouldGenerateThumbnailsForWebp() throws IOException {
+        String url =
+                store.store(
+                        new ByteArrayInputStream(Base64.getDecoder().decode(WEBP_1X1)), "a.webp");
+        background.forEach(Runnable::run);
+
+        LocalAvatarStore.AvatarFile thumbnail =
+                store.resolve(filename(store.thumbnailUrl(url, 64))).orElseThrow();
+        assertThat(url).endsWith(".webp");
+        assertThat(thumbnail.immutable()).isTrue();
+        assertThat(ImageIO.read(thumbnail.path().toFile()).getWidth()).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("Should serve pre-hash avatars from the legacy directory")
+    void shouldServeLegacyAvatars() throws IOException {
+        Files.write(legacyDir.resolve("avatar-7-1733011200000.png"), png(10, 10));
+        Files.write(dir.resolve("avatar-8-1733011200000.jpg"), new byte[] {1});
+
+        LocalAvatarStore.AvatarFile legacy =
+                store.resolve("avatar-7-1733011200000.png").orElseThrow();
+        assertThat(legacy.path()).isEqualTo(legacyDir.resolve("avatar-7-1733011200000.png"));
+        assertThat(legacy.immutable()).isFalse();
+        assertThat(legacy.etag()).isEqualTo("\"avatar-7-1733011200000.png\"");
+        assertThat(store.resolve("avatar-8-1733011200000.jpg").orElseThrow().path())
+                .isEqualTo(dir.resolve("avatar-8-1733011200000.jpg"));
+        assertThat(store.resolve("avatar-9-1733011200000.png")).isEmpty();
+        assertThat(store.thumbnailUrl("/uploads/avatars/avatar-7-1733011200000.png", 64))
+                .isEqualTo("/uploads/avatars/avatar-7-1733011200000.png");
+    }
+
+    @Test
+    @DisplayName("Should reuse the same file when the same image is uploaded twice")
+    void shouldDeduplicateIdenticalUploads() throws IOException {
+        byte[] png = png(10, 10);
+
+        String first = store.store(new ByteArrayInputStream(png), "a.png");
+        String second = store.store(new ByteArrayInputStream(png), "b.png");
+
+        assertThat(second).isEqualTo(first);
+        try (var files = Files.list(dir)) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported formats and names outside the store")
+    void shouldRejectUnsupportedAndForeignNames() {
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream(new byte[] {1}), "evil.html"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(store.resolve("../application.yaml")).isEmpty();
+        assertThat(store.thumbnailUrl("https://avatars.githubusercontent.com/u/1", 64))
+                .isEqualTo("https://avatars.githubusercontent.com/u/1");
+    }
+
+    private static String filename(String url) {
+        return url.substring(LocalAvatarStore.URL_PREFIX.length());
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.config.ApplicationProperties;
+import br.com.rafaelvieira.taskmanagement.domain.records.MonthlyCompletionCount;
+import br.com.rafaelvieira.taskmanagement.repository.MonthlyBadgeBackfillRepository;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.service.MonthlyBadgeBackfillRunner;
+import br.com.rafaelvieira.taskmanagement.service.MonthlyBadgeBackfillService;
+import br.com.rafaelvieira.taskmanagement.service.MonthlyBadgeBackfillService.BackfillReport;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Testes unitários do backfill de selos mensais
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Monthly Badge Backfill Unit Tests")
+@Tag("unit")
+class MonthlyBadgeBackfillServiceTest {
+
+    @Mock private TaskRepository taskRepository;
+
+    @Mock private MonthlyBadgeBackfillRepository backfillRepository;
+
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @InjectMocks private MonthlyBadgeBackfillService backfillService;
+
+    @Test
+    @DisplayName("Should resume from checkpoints and read all months with one grouped query")
+    void shouldResumeFromCheckpointsWithSingleGroupedQuery() {
+        when(backfillRepository.findCompletedMonths("job-1"))
+                .thenReturn(Set.of(YearMonth.of(2025, 1)));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(taskRepository.countSquadCompletionsGroupedByUserAndMonth(
+                        LocalDateTime.of(2025, 2, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0)))
+                .thenReturn(
+                        List.of(
+                                new MonthlyCompletionCount(1L, 2025, 2, 12L),
+                                new MonthlyCompletionCount(2L, 2025, 2, 3L),
+                                new MonthlyCompletionCount(1L, 2025, 3, 50L)));
+
+        BackfillReport report =
+                backfillService.backfill("job-1", YearMonth.of(2025, 1), YearMonth.of(2025, 3));
+
+        assertThat(report.monthsProcessed()).isEqualTo(2);
+        assertThat(report.monthsSkipped()).isEqualTo(1);
+        assertThat(report.monthsFailed()).isEmpty();
+        assertThat(report.badgesWritten()).isEqualTo(3);
+        verify(taskRepository, times(1)).countSquadCompletionsGroupedByUserAndMonth(any(), any());
+        verify(backfillRepository, never()).resetMonth(YearMonth.of(2025, 1));
+        verify(backfillRepository).saveCheckpoint("job-1", YearMonth.of(2025, 2), 2);
+        verify(backfillRepository).saveCheckpoint("job-1", YearMonth.of(2025, 3), 1);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should skip the query entirely when every month is checkpointed")
+    void shouldSkipWhenAlreadyCompleted() {
+        when(backfillRepository.findCompletedMonths("job-2"))
+                .thenReturn(Set.of(YearMonth.of(2025, 5)));
+
+        BackfillReport report =
+                backfillService.backfill("job-2", YearMonth.of(2025, 5), YearMonth.of(2025, 5));
+
+        assertThat(report.monthsSkipped()).isEqualTo(1);
+        verify(taskRepository, never()).countSquadCompletionsGroupedByUserAndMonth(any(), any());
+        verify(backfillRepository, never()).upsertBadges(any(), anyBoolean(), anyInt());
+        verify(backfillRepository, never()).saveCheckpoint(eq("job-2"), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should report a month as failed whatever the exception thrown while writing it")
+    void shouldReportUnexpectedFailures() {
+        when(backfillRepository.findCompletedMonths("job-3")).thenReturn(Set.of());
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(taskRepository.countSquadCompletionsGroupedByUserAndMonth(any(), any()))
+                .thenReturn(List.of(new MonthlyCompletionCount(1L, 2025, 6, 4L)));
+        // Leniente: o mesmo método é chamado com o outro mês, que não falha
+        lenient()
+                .doThrow(new IllegalStateException("boom"))
+                .when(backfillRepository)
+                .resetMonth(YearMonth.of(2025, 7));
+
+        BackfillReport report =
+                backfillService.backfill("job-3", YearMonth.of(2025, 6), YearMonth.of(2025, 7));
+
+        assertThat(report.monthsProcessed()).isEqualTo(1);
+        assertThat(report.monthsFailed()).containsExactly(YearMonth.of(2025, 7));
+        assertThat(report.badgesWritten()).isEqualTo(1);
+        verify(backfillRepository, never())
+                .saveCheckpoint(eq("job-3"), eq(YearMonth.of(2025, 7)), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should run the configured range on startup with a job id derived from it")
+    void shouldRunConfiguredRangeOnStartup() {
+        MonthlyBadgeBackfillService service = mock(MonthlyBadgeBackfillService.class);
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getBadgeBackfill().setFrom("2025-01");
+        properties.getBadgeBackfill().setTo("2025-03");
+        when(service.backfill(any(), any(), any()))
+                .thenReturn(new BackfillReport("badges-2025-01-2025-03", 3, 0, List.of(), 9, 1));
+
+        new MonthlyBadgeBackfillRunner(service, properties).run(null);
+
+        verify(service)
+                .backfill("badges-2025-01-2025-03", YearMonth.of(2025, 1), YearMonth.of(2025, 3));
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.repository.UserMonthlyBadgeRepository;
+import br.com.rafaelvieira.taskmanagement.service.MonthlyBadgeService;
+import br.com.rafaelvieira.taskmanagement.service.MonthlyBadgeService.MonthTransitionReport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Testes unitários da virada de mês dos selos mensais
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Monthly Badge Service Unit Tests")
+@Tag("unit")
+class MonthlyBadgeServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 12);
+
+    @Mock private UserMonthlyBadgeRepository monthlyBadgeRepository;
+
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MonthlyBadgeService monthlyBadgeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monthlyBadgeService =
+                new MonthlyBadgeService(
+                        monthlyBadgeRepository, null, null, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should roll the month over in keyset chunks, one transaction per chunk")
+    void shouldRollOverInChunks() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(monthlyBadgeRepository.findStaleCurrentMonthUserIds(2025, 12, 0L, 5_000))
+                .thenReturn(List.of(1L, 2L, 9L));
+        when(monthlyBadgeRepository.findStaleCurrentMonthUserIds(2025, 12, 9L, 5_000))
+                .thenReturn(List.of(12L));
+        when(monthlyBadgeRepository.findStaleCurrentMonthUserIds(2025, 12, 12L, 5_000))
+                .thenReturn(List.of());
+        when(monthlyBadgeRepository.insertMonthBadgesForStaleUsers(2025, 12, 1L, 9L)).thenReturn(3);
+        when(monthlyBadgeRepository.closeStaleCurrentMonthBadges(2025, 12, 1L, 9L)).thenReturn(3);
+        when(monthlyBadgeRepository.insertMonthBadgesForStaleUsers(2025, 12, 12L, 12L))
+                .thenReturn(1);
+        when(monthlyBadgeRepository.closeStaleCurrentMonthBadges(2025, 12, 12L, 12L)).thenReturn(1);
+
+        MonthTransitionReport report = monthlyBadgeService.processMonthTransition(MONTH);
+
+        assertThat(report.chunks()).isEqualTo(2);
+        assertThat(report.badgesCreated()).isEqualTo(4);
+        assertThat(report.badgesClosed()).isEqualTo(4);
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(
+                        meterRegistry
+                                .counter("badges.month.transition.rows", "operation", "created")
+                                .count())
+                .isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("Should be a no-op when the month was already rolled over")
+    void shouldBeIdempotentOnRerun() {
+        when(monthlyBadgeRepository.findStaleCurrentMonthUserIds(
+                        eq(2025), eq(12), eq(0L), anyInt()))
+                .thenReturn(List.of());
+
+        MonthTransitionReport report = monthlyBadgeService.processMonthTransition(MONTH);
+
+        assertThat(report.chunks()).isZero();
+        verify(monthlyBadgeRepository, never())
+                .insertMonthBadgesForStaleUsers(anyInt(), anyInt(), anyLong(), anyLong());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+}
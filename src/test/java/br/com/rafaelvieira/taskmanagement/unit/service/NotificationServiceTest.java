@@ -0,0 +1,92 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.domain.entity.Notification;
+import br.com.rafaelvieira.taskmanagement.domain.enums.NotificationType;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.NotificationUpdateMessage;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
+import br.com.rafaelvieira.taskmanagement.repository.NotificationRepository;
+import br.com.rafaelvieira.taskmanagement.service.TaskBadgeCounterService;
+import br.com.rafaelvieira.taskmanagement.service.UserService;
+import br.com.rafaelvieira.taskmanagement.service.WebSocketService;
+import br.com.rafaelvieira.taskmanagement.service.impl.NotificationServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Testes unitários da criação e do envio de notificações do {@link NotificationServiceImpl}
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("Notification Service Unit Tests")
+@Tag("unit")
+class NotificationServiceTest {
+
+    @Mock private UserService userService;
+
+    @Mock private NotificationRepository notificationRepository;
+
+    @Mock private WebSocketService webSocketService;
+
+    @Mock private TaskBadgeCounterService badgeCounterService;
+
+    private NotificationServiceImpl service;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        service =
+                new NotificationServiceImpl(
+                        userService,
+                        notificationRepository,
+                        webSocketService,
+                        new AppMetrics(new SimpleMeterRegistry()),
+                        badgeCounterService);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("Should push a created notification without counting the unread ones")
+    void shouldPushNotificationWithoutCounting() {
+        User user = User.builder().id(3L).username("ana").build();
+        when(notificationRepository.save(any(Notification.class)))
+                .thenAnswer(
+                        i -> {
+                            Notification saved = i.getArgument(0);
+                            saved.setId(11L);
+                            return saved;
+                        });
+
+        Notification created =
+                service.createNotification(
+                        "Tarefa criada", "Deploy", NotificationType.TASK_CREATED, 5L, user);
+
+        ArgumentCaptor<NotificationUpdateMessage> frame =
+                ArgumentCaptor.forClass(NotificationUpdateMessage.class);
+        verify(webSocketService).sendNotificationToUser(eq("ana"), frame.capture());
+        assertThat(frame.getValue().id()).isEqualTo(created.getId()).isEqualTo(11L);
+        assertThat(frame.getValue().taskId()).isEqualTo(5L);
+        verify(notificationRepository, never()).countByUserAndReadFalse(any(User.class));
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.records.OpenTaskRow;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.service.OpenTaskSnapshot;
+import br.com.rafaelvieira.taskmanagement.service.OpenTaskSnapshot.TimeColumn;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários do snapshot em memória das tarefas abertas
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("Open Task Snapshot Unit Tests")
+@Tag("unit")
+class OpenTaskSnapshotTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 1, 10, 0);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+
+    private OpenTaskSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new OpenTaskSnapshot(taskRepository, new AppMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("Should load open tasks once and scan them by status and due date range")
+    void shouldScanDueDateRange() {
+        when(taskRepository.findOpenTaskRows())
+                .thenReturn(
+                        List.of(
+                                new OpenTaskRow(1L, TaskStatus.TODO, NOW.plusHours(1), null),
+                                new OpenTaskRow(2L, TaskStatus.IN_PROGRESS, NOW.plusHours(3), null),
+                                new OpenTaskRow(3L, TaskStatus.OVERDUE, NOW.plusMinutes(30), null),
+                                new OpenTaskRow(4L, TaskStatus.TODO, null, null),
+                                new OpenTaskRow(5L, TaskStatus.DONE, NOW.plusHours(1), null)));
+        int notOverdue =
+                OpenTaskSnapshot.ALL_OPEN & ~OpenTaskSnapshot.statusMask(TaskStatus.OVERDUE);
+
+        assertThat(scan(notOverdue, TimeColumn.DUE_DATE, NOW, NOW.plusHours(2)))
+                .containsExactly(1L);
+        assertThat(scan(OpenTaskSnapshot.ALL_OPEN, TimeColumn.DUE_DATE, NOW, null))
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(snapshot.size()).isEqualTo(4);
+        verify(taskRepository, times(1)).findOpenTaskRows();
+    }
+
+    @Test
+    @DisplayName("Should update, close and delete tasks from committed changes")
+    void shouldApplyChanges() {
+        when(taskRepository.findOpenTaskRows())
+                .thenReturn(
+                        List.of(new OpenTaskRow(1L, TaskStatus.TODO, null, NOW.minusMinutes(1))));
+        int todo = OpenTaskSnapshot.statusMask(TaskStatus.TODO);
+        assertThat(scan(todo, TimeColumn.SCHEDULED_START, null, NOW)).containsExactly(1L);
+
+        snapshot.apply(new OpenTaskRow(1L, TaskStatus.IN_PROGRESS, null, NOW.minusMinutes(1)));
+        snapshot.apply(new OpenTaskRow(2L, TaskStatus.TODO, null, NOW.minusMinutes(5)));
+        assertThat(scan(todo, TimeColumn.SCHEDULED_START, null, NOW)).containsExactly(2L);
+
+        snapshot.apply(new OpenTaskRow(1L, TaskStatus.DONE, null, null));
+        snapshot.apply(new OpenTaskRow(2L, null, null, null));
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.matches(1L, OpenTaskSnapshot.ALL_OPEN, TimeColumn.DUE_DATE, null, null))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Should replay the changes committed while the snapshot was reloading")
+    void shouldReplayChangesDuringReload() {
+        when(taskRepository.findOpenTaskRows())
+                .thenAnswer(
+                        invocation -> {
+                            // Confirmada depois da leitura das linhas, mas antes da troca
+                            snapshot.apply(new OpenTaskRow(1L, TaskStatus.CANCELLED, null, null));
+                            return List.of(new OpenTaskRow(1L, TaskStatus.TODO, NOW, null));
+                        });
+
+        snapshot.reload();
+
+        assertThat(snapshot.size()).isZero();
+    }
+
+    private List<Long> scan(
+            int statusMask, TimeColumn column, LocalDateTime from, LocalDateTime to) {
+        List<Long> ids = new ArrayList<>();
+        snapshot.forEachBetween(statusMask, column, from, to, ids::add);
+        return ids;
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.event.listener.RealtimeSessionListener;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
+import br.com.rafaelvieira.taskmanagement.service.NotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * Testes unitários do gauge de sessões de tempo real
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("Realtime Session Listener Unit Tests")
+@Tag("unit")
+class RealtimeSessionListenerTest {
+
+    private static final String GAUGE = "taskmanagement.realtime.sessions";
+
+    @Test
+    @DisplayName("Should count STOMP sessions once even when the disconnect repeats")
+    void shouldCountStompSessionsById() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        NotificationService notificationService = mock(NotificationService.class);
+        when(notificationService.countActiveStreams()).thenReturn(2);
+        RealtimeSessionListener listener =
+                new RealtimeSessionListener(new AppMetrics(registry), notificationService);
+
+        listener.onConnected(new SessionConnectedEvent(this, connectedMessage("s1")));
+        listener.onConnected(new SessionConnectedEvent(this, connectedMessage("s2")));
+        SessionDisconnectEvent disconnect =
+                new SessionDisconnectEvent(this, connectedMessage("s1"), "s1", CloseStatus.NORMAL);
+        listener.onDisconnect(disconnect);
+        listener.onDisconnect(disconnect);
+
+        assertThat(registry.get(GAUGE).tag("channel", AppMetrics.CHANNEL_WEBSOCKET).gauge().value())
+                .isEqualTo(1.0);
+        assertThat(registry.get(GAUGE).tag("channel", AppMetrics.CHANNEL_SSE).gauge().value())
+                .isEqualTo(2.0);
+    }
+
+    private static Message<byte[]> connectedMessage(String sessionId) {
+        SimpMessageHeaderAccessor accessor =
+                SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT_ACK);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
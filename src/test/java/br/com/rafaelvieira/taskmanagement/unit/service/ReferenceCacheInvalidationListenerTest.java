@@ -0,0 +1,64 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.config.ApplicationProperties;
+import br.com.rafaelvieira.taskmanagement.domain.model.Category;
+import br.com.rafaelvieira.taskmanagement.event.listener.ReferenceCacheInvalidationListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários da invalidação do cache L2 entre instâncias
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("Reference Cache Invalidation Listener Unit Tests")
+@Tag("unit")
+class ReferenceCacheInvalidationListenerTest {
+
+    private final Cache cache = mock(Cache.class);
+
+    private ReferenceCacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        jakarta.persistence.Cache jpaCache = mock(jakarta.persistence.Cache.class);
+        when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+        when(jpaCache.unwrap(Cache.class)).thenReturn(cache);
+        listener =
+                new ReferenceCacheInvalidationListener(
+                        entityManagerFactory,
+                        null,
+                        new ApplicationProperties(),
+                        "jdbc:postgresql://localhost/test",
+                        "test",
+                        "test");
+    }
+
+    @Test
+    @DisplayName("Should evict the entity and cached query results changed by another node")
+    void shouldEvictEntityChangedByAnotherNode() {
+        listener.onNotification("other-node|" + Category.class.getName() + "|42");
+
+        verify(cache).evictEntityData(Category.class.getName(), 42L);
+        verify(cache).evictDefaultQueryRegion();
+    }
+
+    @Test
+    @DisplayName("Should ignore the notifications published by the same node")
+    void shouldIgnoreOwnNotifications() {
+        listener.onNotification(listener.getNodeId() + "|" + Category.class.getName() + "|42");
+
+        verifyNoInteractions(cache);
+    }
+}
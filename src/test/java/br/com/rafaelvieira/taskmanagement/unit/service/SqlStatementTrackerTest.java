@@ -0,0 +1,123 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.rafaelvieira.taskmanagement.config.ApplicationProperties;
+import br.com.rafaelvieira.taskmanagement.exception.SqlBudgetExceededException;
+import br.com.rafaelvieira.taskmanagement.metrics.SqlScope;
+import br.com.rafaelvieira.taskmanagement.metrics.SqlStatementListener;
+import br.com.rafaelvieira.taskmanagement.metrics.SqlStatementTracker;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários do orçamento de SQL por escopo
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("SQL Statement Tracker Unit Tests")
+@Tag("unit")
+class SqlStatementTrackerTest {
+
+    private ApplicationProperties properties;
+    private SimpleMeterRegistry registry;
+    private SqlStatementTracker tracker;
+    private SqlStatementListener listener;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ApplicationProperties();
+        registry = new SimpleMeterRegistry();
+        tracker = new SqlStatementTracker(properties, registry);
+        listener = new SqlStatementListener(() -> tracker);
+    }
+
+    @Test
+    @DisplayName("Should count statements in the current scope and in enclosing scopes")
+    void shouldCountStatementsInNestedScopes() {
+        try (SqlScope outer = tracker.track("dashboard")) {
+            try (SqlScope request = tracker.begin(SqlStatementTracker.KIND_HTTP, "GET /")) {
+                execute("select * from tasks");
+                execute("select * from users where id = ?");
+                assertThat(request.statements()).isEqualTo(2);
+            }
+            execute("select 1");
+
+            assertThat(outer.statements()).isEqualTo(3);
+            assertThat(outer.capturedStatements())
+                    .containsExactly(
+                            "select * from tasks", "select * from users where id = ?", "select 1");
+        }
+
+        DistributionSummary summary =
+                registry.get("taskmanagement.sql.statements")
+                        .tag("kind", "http")
+                        .tag("name", "GET /")
+                        .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should ignore statements executed outside any scope")
+    void shouldIgnoreStatementsOutsideScope() {
+        execute("select 1");
+
+        try (SqlScope scope = tracker.track("empty")) {
+            assertThat(scope.statements()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail the scope when its statement budget is exceeded in test mode")
+    void shouldFailWhenBudgetExceeded() {
+        properties.getSql().setFailOnExceed(true);
+        properties.getSql().getBudgets().put("TaskTimerJob.tick", 1);
+
+        SqlScope job = tracker.begin(SqlStatementTracker.KIND_JOB, "TaskTimerJob.tick");
+        execute("select * from tasks");
+        execute("update tasks set status = ? where id = ?");
+
+        assertThatThrownBy(job::close)
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("TaskTimerJob.tick executou 2 comandos SQL (orçamento 1)")
+                .hasMessageContaining("update tasks set status = ? where id = ?");
+        assertThat(
+                        registry.get("taskmanagement.sql.budget.exceeded")
+                                .tag("name", "TaskTimerJob.tick")
+                                .counter()
+                                .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should assert statement budget explicitly through the test API")
+    void shouldAssertBudgetThroughTestApi() {
+        try (SqlScope scope = tracker.track("GET /tasks")) {
+            execute("select * from tasks");
+            execute("select * from categories where id = ?");
+            execute("select * from categories where id = ?");
+
+            scope.assertStatementsAtMost(3);
+            assertThatThrownBy(() -> scope.assertStatementsAtMost(2))
+                    .isInstanceOf(SqlBudgetExceededException.class)
+                    .hasMessageContaining("GET /tasks executou 3 comandos SQL (orçamento 2)");
+        }
+    }
+
+    private void execute(String sql) {
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        ExecutionInfo execution = new ExecutionInfo();
+        listener.beforeQuery(execution, queries);
+        listener.afterQuery(execution, queries);
+    }
+}
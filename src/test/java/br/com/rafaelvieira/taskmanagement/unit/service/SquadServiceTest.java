@@ -0,0 +1,177 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.config.CacheConfig;
+import br.com.rafaelvieira.taskmanagement.domain.enums.Role;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Squad;
+import br.com.rafaelvieira.taskmanagement.domain.model.SquadMember;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.MemberMetricsDTO;
+import br.com.rafaelvieira.taskmanagement.domain.records.SquadDashboardDTO;
+import br.com.rafaelvieira.taskmanagement.domain.records.SquadMemberTaskCounts;
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
+import br.com.rafaelvieira.taskmanagement.event.listener.SquadDashboardCacheListener;
+import br.com.rafaelvieira.taskmanagement.repository.SquadMemberRepository;
+import br.com.rafaelvieira.taskmanagement.repository.SquadRepository;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.service.SquadService;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Testes unitários das métricas do dashboard de squad
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("Squad Service Unit Tests")
+@Tag("unit")
+class SquadServiceTest {
+
+    @Mock private SquadRepository squadRepository;
+
+    @Mock private SquadMemberRepository squadMemberRepository;
+
+    @Mock private TaskRepository taskRepository;
+
+    private SquadService squadService;
+
+    private AutoCloseable closeable;
+
+    private User lead;
+    private User member;
+    private Squad squad;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        squadService =
+                new SquadService(
+                        squadRepository,
+                        squadMemberRepository,
+                        null,
+                        taskRepository,
+                        null,
+                        null,
+                        null,
+                        new ConcurrentMapCacheManager(CacheConfig.SQUAD_DASHBOARD_CACHE));
+
+        lead = User.builder().id(1L).username("lead").fullName("Lead").role(Role.LEAD).build();
+        member =
+                User.builder()
+                        .id(2L)
+                        .username("member")
+                        .fullName("Member")
+                        .role(Role.MEMBER)
+                        .build();
+        squad = Squad.builder().id(10L).name("Alpha").lead(lead).build();
+
+        when(squadRepository.findById(10L)).thenReturn(Optional.of(squad));
+        when(squadMemberRepository.existsBySquadAndUser(squad, member)).thenReturn(true);
+        when(squadMemberRepository.findBySquadId(10L))
+                .thenReturn(
+                        List.of(
+                                SquadMember.builder().squad(squad).user(lead).build(),
+                                SquadMember.builder().squad(squad).user(member).build()));
+        when(taskRepository.findActiveTimerTasksBySquadId(10L, TaskStatus.IN_PROGRESS))
+                .thenReturn(List.of());
+        when(taskRepository.countTasksBySquadIdGroupedByAssignee(eq(10L), any()))
+                .thenReturn(
+                        List.of(
+                                new SquadMemberTaskCounts(1L, 3L, 1L, 1L, 1L, 0L),
+                                new SquadMemberTaskCounts(2L, 5L, 2L, 2L, 1L, 1L),
+                                new SquadMemberTaskCounts(null, 2L, 0L, 0L, 2L, 1L)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("Should build lead dashboard from a single grouped query")
+    void shouldBuildLeadDashboardFromGroupedQuery() {
+        SquadDashboardDTO dashboard = squadService.getSquadDashboard(10L, lead);
+
+        assertThat(dashboard.totalTasks()).isEqualTo(10);
+        assertThat(dashboard.completedTasks()).isEqualTo(3);
+        assertThat(dashboard.inProgressTasks()).isEqualTo(3);
+        assertThat(dashboard.todoTasks()).isEqualTo(4);
+        assertThat(dashboard.overdueTasks()).isEqualTo(2);
+        assertThat(dashboard.memberCount()).isEqualTo(2);
+        assertThat(dashboard.memberMetrics())
+                .extracting(MemberMetricsDTO::userId, MemberMetricsDTO::totalTasks)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple(1L, 3),
+                        org.assertj.core.groups.Tuple.tuple(2L, 5));
+
+        verify(taskRepository, never()).findBySquadIdAndAssignedUserId(anyLong(), anyLong());
+        verify(taskRepository, never()).countCompletedBySquadIdAndUserId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should restrict member dashboard to own counts")
+    void shouldRestrictMemberDashboardToOwnCounts() {
+        SquadDashboardDTO dashboard = squadService.getSquadDashboard(10L, member);
+
+        assertThat(dashboard.totalTasks()).isEqualTo(5);
+        assertThat(dashboard.overdueTasks()).isEqualTo(1);
+        assertThat(dashboard.memberMetrics())
+                .singleElement()
+                .satisfies(m -> assertThat(m.completedTasks()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Should reuse cached counts until the squad is evicted")
+    void shouldReuseCachedCountsUntilEvicted() {
+        squadService.getSquadDashboard(10L, lead);
+        squadService.getSquadDashboard(10L, member);
+
+        verify(taskRepository, times(1)).countTasksBySquadIdGroupedByAssignee(eq(10L), any());
+
+        squadService.evictDashboardCache(10L);
+        squadService.getSquadDashboard(10L, lead);
+
+        verify(taskRepository, times(2)).countTasksBySquadIdGroupedByAssignee(eq(10L), any());
+    }
+
+    @Test
+    @DisplayName("Should evict the previous squad when a task moves to another squad")
+    void shouldEvictPreviousSquadOnMove() {
+        squadService.getSquadDashboard(10L, lead);
+        Task moved =
+                Task.builder()
+                        .id(1L)
+                        .status(TaskStatus.TODO)
+                        .squad(Squad.builder().id(20L).build())
+                        .build();
+
+        new SquadDashboardCacheListener(squadService)
+                .onTaskChanged(
+                        TaskChangedEvent.since(
+                                this,
+                                moved,
+                                new TaskChangedEvent.Before(TaskStatus.TODO, 10L, null)));
+        squadService.getSquadDashboard(10L, lead);
+
+        verify(taskRepository, times(2)).countTasksBySquadIdGroupedByAssignee(eq(10L), any());
+    }
+}
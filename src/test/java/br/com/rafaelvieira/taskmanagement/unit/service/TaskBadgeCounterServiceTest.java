@@ -0,0 +1,132 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.config.CacheConfig;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskBadgeCounts;
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
+import br.com.rafaelvieira.taskmanagement.event.listener.TaskBadgeCacheListener;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.service.TaskBadgeCounterService;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Testes unitários dos contadores de tarefas atrasadas / a vencer
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("Task Badge Counter Service Unit Tests")
+@Tag("unit")
+class TaskBadgeCounterServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 1, 10, 0);
+
+    @Mock private TaskRepository taskRepository;
+
+    private TaskBadgeCounterService service;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        service =
+                new TaskBadgeCounterService(
+                        taskRepository,
+                        new ConcurrentMapCacheManager(CacheConfig.TASK_BADGE_CACHE),
+                        clock);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("Should count with indexed queries and reuse the cached counts")
+    void shouldCountOnceAndCache() {
+        when(taskRepository.countOverdueByAssignedUserId(7L, NOW)).thenReturn(3L);
+        when(taskRepository.countDueBetweenByAssignedUserId(7L, NOW, NOW.plusHours(48)))
+                .thenReturn(2L);
+
+        assertThat(service.countsFor(7L)).isEqualTo(new TaskBadgeCounts(3, 2));
+        assertThat(service.countsFor(7L)).isEqualTo(new TaskBadgeCounts(3, 2));
+
+        verify(taskRepository, times(1)).countOverdueByAssignedUserId(7L, NOW);
+        verify(taskRepository, times(1)).countDueBetweenByAssignedUserId(eq(7L), any(), any());
+        assertThat(service.countsFor(null)).isEqualTo(TaskBadgeCounts.EMPTY);
+    }
+
+    @Test
+    @DisplayName("Should recount after a change to one of the user's tasks is committed")
+    void shouldRecountAfterTaskChanged() {
+        when(taskRepository.countOverdueByAssignedUserId(7L, NOW)).thenReturn(1L, 0L);
+        service.countsFor(7L);
+
+        TaskBadgeCacheListener listener = new TaskBadgeCacheListener(service);
+        listener.onTaskChanged(
+                new TaskChangedEvent(
+                        this, 1L, null, 7L, TaskStatus.OVERDUE, TaskStatus.DONE, null, Set.of()));
+
+        assertThat(service.countsFor(7L).overdue()).isZero();
+        verify(taskRepository, times(2)).countOverdueByAssignedUserId(7L, NOW);
+    }
+
+    @Test
+    @DisplayName("Should recount both the previous and the new assignee on reassignment")
+    void shouldRecountPreviousAssigneeOnReassignment() {
+        service.countsFor(7L);
+        service.countsFor(8L);
+        Task task =
+                Task.builder()
+                        .id(1L)
+                        .status(TaskStatus.OVERDUE)
+                        .assignedUser(User.builder().id(8L).build())
+                        .build();
+
+        new TaskBadgeCacheListener(service)
+                .onTaskChanged(
+                        TaskChangedEvent.since(
+                                this,
+                                task,
+                                new TaskChangedEvent.Before(TaskStatus.OVERDUE, null, 7L)));
+        service.countsFor(7L);
+        service.countsFor(8L);
+
+        verify(taskRepository, times(2)).countOverdueByAssignedUserId(7L, NOW);
+        verify(taskRepository, times(2)).countOverdueByAssignedUserId(8L, NOW);
+    }
+
+    @Test
+    @DisplayName("Should ignore changes to tasks without an assignee")
+    void shouldIgnoreUnassignedTasks() {
+        new TaskBadgeCacheListener(service)
+                .onTaskChanged(
+                        new TaskChangedEvent(
+                                this, 1L, null, null, null, TaskStatus.TODO, null, Set.of()));
+
+        verifyNoInteractions(taskRepository);
+    }
+}
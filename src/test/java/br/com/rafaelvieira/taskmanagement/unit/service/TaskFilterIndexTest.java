@@ -0,0 +1,140 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.Priority;
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskFilterRow;
+import br.com.rafaelvieira.taskmanagement.event.TaskChangedEvent;
+import br.com.rafaelvieira.taskmanagement.event.listener.TaskFilterIndexListener;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.service.TaskFilterIndex;
+import br.com.rafaelvieira.taskmanagement.service.TaskFilterIndex.IdPage;
+import br.com.rafaelvieira.taskmanagement.service.TaskFilterIndex.Scope;
+import br.com.rafaelvieira.taskmanagement.web.dto.TaskFilterForm;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários do índice de bitmaps dos filtros da listagem de tarefas
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("Task Filter Index Unit Tests")
+@Tag("unit")
+class TaskFilterIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 1, 10, 0);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+
+    private TaskFilterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskFilterIndex(taskRepository);
+        when(taskRepository.findTaskFilterRows())
+                .thenReturn(
+                        List.of(
+                                row(1L, TaskStatus.TODO, Priority.HIGH, 10L, 1L, NOW),
+                                row(2L, TaskStatus.TODO, Priority.LOW, 10L, 1L, NOW.plusDays(1)),
+                                row(3L, TaskStatus.DONE, Priority.HIGH, 10L, 2L, NOW.plusDays(3)),
+                                row(4L, TaskStatus.TODO, Priority.HIGH, 20L, 2L, null),
+                                row(5L, TaskStatus.TODO, Priority.HIGH, 10L, null, NOW)));
+    }
+
+    @Test
+    @DisplayName("Should stay unavailable until the first load")
+    void shouldBeEmptyBeforeLoad() {
+        assertThat(index.page(new TaskFilterForm(), Scope.assignee(10L), 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should intersect visibility, filters and inclusive due-date days into an id page")
+    void shouldIntersectFilters() {
+        index.reload();
+        TaskFilterForm filter = new TaskFilterForm();
+        filter.setStatus(TaskStatus.TODO);
+        filter.setDueTo(NOW.toLocalDate().plusDays(1));
+
+        assertThat(page(filter, Scope.assignee(10L), 0, 10))
+                .isEqualTo(new IdPage(List.of(1L, 2L, 5L), 3));
+        assertThat(page(filter, Scope.squads(List.of(1L)), 0, 10))
+                .isEqualTo(new IdPage(List.of(1L, 2L), 2));
+
+        filter.setPriority(Priority.HIGH);
+        assertThat(page(filter, Scope.assignee(10L), 0, 10).ids()).containsExactly(1L, 5L);
+        assertThat(page(filter, Scope.assignee(10L), 1, 1)).isEqualTo(new IdPage(List.of(5L), 2));
+        assertThat(page(filter, Scope.assignee(10L), 5, 10)).isEqualTo(new IdPage(List.of(), 2));
+        assertThat(page(filter, Scope.squads(List.of()), 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reindex and remove tasks from committed changes")
+    void shouldApplyChanges() {
+        index.reload();
+        TaskFilterForm todo = new TaskFilterForm();
+        todo.setStatus(TaskStatus.TODO);
+
+        index.apply(row(1L, TaskStatus.IN_PROGRESS, Priority.HIGH, 10L, 1L, NOW));
+        index.apply(row(6L, TaskStatus.TODO, Priority.LOW, 10L, 2L, NOW));
+        index.apply(row(2L, null, null, 10L, 1L, null));
+
+        assertThat(page(todo, Scope.assignee(10L), 0, 10).ids()).containsExactly(5L, 6L);
+        assertThat(page(todo, Scope.squads(List.of(1L)), 0, 10).total()).isZero();
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should reindex from the row carried by TaskChangedEvent, not the client diff")
+    void shouldApplyRowsFromEvents() {
+        index.reload();
+        TaskFilterIndexListener listener = new TaskFilterIndexListener(index);
+        Task task =
+                Task.builder()
+                        .id(1L)
+                        .title("Deploy")
+                        .status(TaskStatus.TODO)
+                        .priority(Priority.LOW)
+                        .assignedUser(User.builder().id(10L).build())
+                        .createdAt(NOW)
+                        .build();
+        TaskFilterForm low = new TaskFilterForm();
+        low.setPriority(Priority.LOW);
+
+        TaskChangedEvent changed = TaskChangedEvent.of(this, task, TaskStatus.TODO);
+        listener.onTaskChanged(changed);
+
+        assertThat(changed.getFilterRow()).isEqualTo(TaskFilterRow.of(task));
+        assertThat(page(low, Scope.assignee(10L), 0, 10).ids()).containsExactly(1L, 2L);
+
+        listener.onTaskChanged(TaskChangedEvent.deleted(this, task));
+
+        assertThat(page(low, Scope.assignee(10L), 0, 10).ids()).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    private IdPage page(TaskFilterForm filter, Scope scope, long offset, int limit) {
+        return index.page(filter, scope, offset, limit).orElseThrow();
+    }
+
+    private static TaskFilterRow row(
+            Long id,
+            TaskStatus status,
+            Priority priority,
+            Long assignedUserId,
+            Long squadId,
+            LocalDateTime dueDate) {
+        return new TaskFilterRow(
+                id, status, priority, 7L, assignedUserId, squadId, NOW.minusDays(1), dueDate);
+    }
+}
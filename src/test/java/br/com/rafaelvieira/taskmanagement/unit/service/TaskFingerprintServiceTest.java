@@ -0,0 +1,121 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.Role;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskChangeStamp;
+import br.com.rafaelvieira.taskmanagement.exception.ResourceNotFoundException;
+import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.security.TaskPermissionResolver;
+import br.com.rafaelvieira.taskmanagement.service.TaskFingerprintService;
+import br.com.rafaelvieira.taskmanagement.service.TaskFingerprintService.Fingerprint;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Testes unitários dos validadores HTTP (ETag/Last-Modified) das tarefas
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("Task Fingerprint Service Unit Tests")
+@Tag("unit")
+class TaskFingerprintServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 1, 10, 0);
+
+    @Mock private TaskRepository taskRepository;
+
+    @Mock private TaskPermissionResolver permissionResolver;
+
+    private TaskFingerprintService service;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        ZoneId zone = ZoneId.systemDefault();
+        service =
+                new TaskFingerprintService(
+                        taskRepository,
+                        permissionResolver,
+                        Clock.fixed(NOW.atZone(zone).toInstant(), zone));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("Should change the task ETag with its version and reject missing tasks")
+    void shouldDeriveTaskEtagFromVersion() {
+        LocalDateTime updatedAt = NOW.minusMinutes(5);
+        when(taskRepository.changeStampById(7L, NOW))
+                .thenReturn(new TaskChangeStamp(1L, 3L, updatedAt, null, 0L, 0L))
+                .thenReturn(new TaskChangeStamp(1L, 4L, updatedAt, null, 0L, 0L));
+        when(taskRepository.changeStampById(8L, NOW)).thenReturn(TaskChangeStamp.EMPTY);
+
+        Fingerprint first = service.ofTask(7L);
+        Fingerprint second = service.ofTask(7L);
+
+        assertThat(first.etag()).startsWith("task-7-");
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+        assertThat(first.lastModified())
+                .isEqualTo(updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        assertThatThrownBy(() -> service.ofTask(8L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should change the task ETag when a joined category, user or squad row changes")
+    void shouldDeriveTaskEtagFromRelatedRows() {
+        LocalDateTime updatedAt = NOW.minusMinutes(5);
+        LocalDateTime renamedAt = NOW.minusMinutes(1);
+        when(taskRepository.changeStampById(7L, NOW))
+                .thenReturn(new TaskChangeStamp(1L, 3L, updatedAt, NOW.minusDays(1), 0L, 0L))
+                .thenReturn(new TaskChangeStamp(1L, 3L, updatedAt, renamedAt, 0L, 0L));
+
+        Fingerprint before = service.ofTask(7L);
+        Fingerprint after = service.ofTask(7L);
+
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(before.lastModified())
+                .isEqualTo(updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        assertThat(after.lastModified())
+                .isEqualTo(renamedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("Should scope the list fingerprint to the user and the current day")
+    void shouldScopeVisibleFingerprintToUser() {
+        User member = User.builder().id(3L).role(Role.MEMBER).build();
+        User lead = User.builder().id(4L).role(Role.LEAD).build();
+        TaskChangeStamp stamp = new TaskChangeStamp(2L, 5L, NOW, null, 1L, 0L);
+        when(taskRepository.changeStampForMember(member, NOW)).thenReturn(stamp);
+        when(permissionResolver.accessOf(lead))
+                .thenReturn(new TaskPermissionResolver.SquadAccess(new long[0], new long[0]));
+
+        Fingerprint memberPrint = service.ofVisibleTasks(member);
+        Fingerprint leadPrint = service.ofVisibleTasks(lead);
+
+        assertThat(memberPrint.etag()).startsWith("u3-m-2025-12-01-").endsWith(stamp.token());
+        assertThat(leadPrint.etag()).startsWith("u4-").endsWith(TaskChangeStamp.EMPTY.token());
+        assertThat(leadPrint.lastModified()).isEqualTo(-1);
+        verify(taskRepository).changeStampForMember(member, NOW);
+        verifyNoMoreInteractions(taskRepository);
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.Role;
+import br.com.rafaelvieira.taskmanagement.domain.model.Squad;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.User;
+import br.com.rafaelvieira.taskmanagement.repository.SquadMemberRepository;
+import br.com.rafaelvieira.taskmanagement.repository.SquadRepository;
+import br.com.rafaelvieira.taskmanagement.security.TaskPermissionResolver;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Testes unitários da resolução de permissões sobre tarefas
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Task Permission Resolver Unit Tests")
+@Tag("unit")
+class TaskPermissionResolverTest {
+
+    @Mock private SquadMemberRepository squadMemberRepository;
+
+    @Mock private SquadRepository squadRepository;
+
+    @InjectMocks private TaskPermissionResolver permissionResolver;
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should load squad memberships once per request for every task check")
+    void shouldLoadMembershipsOncePerRequest() {
+        User member = User.builder().id(7L).username("dev").role(Role.MEMBER).build();
+        when(squadMemberRepository.findSquadIdsByUserId(7L)).thenReturn(List.of(30L, 10L));
+        when(squadRepository.findIdsByLeadId(7L)).thenReturn(List.of());
+
+        List<Task> tasks =
+                List.of(
+                        squadTask(1L, 10L),
+                        squadTask(2L, 20L),
+                        squadTask(3L, 30L),
+                        squadTask(4L, 20L));
+
+        assertThat(tasks)
+                .map(task -> permissionResolver.canModify(member, task))
+                .containsExactly(true, false, true, false);
+        assertThat(tasks).noneMatch(task -> permissionResolver.canDelete(member, task));
+
+        verify(squadMemberRepository, times(1)).findSquadIdsByUserId(7L);
+        verify(squadRepository, times(1)).findIdsByLeadId(7L);
+        verify(squadMemberRepository, never()).existsBySquadAndUser(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should allow leads only on the squads they lead")
+    void shouldAllowLeadOnlyOnLedSquads() {
+        User lead = User.builder().id(3L).username("lead").role(Role.LEAD).build();
+        when(squadMemberRepository.findSquadIdsByUserId(3L)).thenReturn(List.of(20L));
+        when(squadRepository.findIdsByLeadId(3L)).thenReturn(List.of(10L));
+
+        assertThat(permissionResolver.canControlTimer(lead, squadTask(1L, 10L))).isTrue();
+        assertThat(permissionResolver.canControlTimer(lead, squadTask(2L, 20L))).isFalse();
+        assertThat(permissionResolver.accessOf(lead).ledSquadIdList()).containsExactly(10L);
+    }
+
+    private static Task squadTask(Long id, Long squadId) {
+        return Task.builder()
+                .id(id)
+                .title("Task " + id)
+                .squad(Squad.builder().id(squadId).build())
+                .build();
+    }
+}
@@ -19,20 +19,29 @@ import br.com.rafaelvieira.taskmanagement.domain.enums.Role;
 import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
 import br.com.rafaelvieira.taskmanagement.domain.model.Category;
 import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.model.TaskDescription;
 import br.com.rafaelvieira.taskmanagement.domain.model.User;
 import br.com.rafaelvieira.taskmanagement.domain.records.TaskCreateRecord;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskDescriptionExcerpt;
 import br.com.rafaelvieira.taskmanagement.domain.records.TaskRecord;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskSearchHit;
 import br.com.rafaelvieira.taskmanagement.exception.ResourceNotFoundException;
 import br.com.rafaelvieira.taskmanagement.repository.CategoryRepository;
 import br.com.rafaelvieira.taskmanagement.repository.PomodoroSessionRepository;
 import br.com.rafaelvieira.taskmanagement.repository.SquadMemberRepository;
+import br.com.rafaelvieira.taskmanagement.repository.TaskDescriptionRepository;
 import br.com.rafaelvieira.taskmanagement.repository.TaskRepository;
+import br.com.rafaelvieira.taskmanagement.repository.TaskSearchRepository;
 import br.com.rafaelvieira.taskmanagement.repository.UserRepository;
+import br.com.rafaelvieira.taskmanagement.service.GamificationService;
+import br.com.rafaelvieira.taskmanagement.service.TaskFilterIndex;
 import br.com.rafaelvieira.taskmanagement.service.UserService;
 import br.com.rafaelvieira.taskmanagement.service.impl.TaskServiceImpl;
+import br.com.rafaelvieira.taskmanagement.web.dto.TaskFilterForm;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,6 +59,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 /**
  * Testes unitários do serviço Task Service Testando lógica de negócio e interações com o
@@ -77,6 +89,14 @@ class TaskServiceTest {
 
     @Mock private SquadMemberRepository squadMemberRepository;
 
+    @Mock private TaskSearchRepository taskSearchRepository;
+
+    @Mock private TaskDescriptionRepository taskDescriptionRepository;
+
+    @Mock private TaskFilterIndex taskFilterIndex;
+
+    @Mock private GamificationService gamificationService; // conclusão (DONE)
+
     @InjectMocks private TaskServiceImpl taskService;
 
     private AutoCloseable closeable;
@@ -332,6 +352,7 @@ class TaskServiceTest {
         TaskRecord result = taskService.changeTaskStatus(taskId, TaskStatus.DONE);
 
         assertThat(result.status()).as("Updated Status").isEqualTo(TaskStatus.DONE);
+        verify(gamificationService).registerCompletion(task);
         verify(taskRepository, times(1)).findById(taskId);
         verify(taskRepository, times(1)).save(any(Task.class));
     }
@@ -674,4 +695,169 @@ class TaskServiceTest {
             verify(taskRepository, never()).save(any(Task.class));
         }
     }
+
+    @Nested
+    @DisplayName("Full-text Search Tests")
+    class FullTextSearchTests {
+
+        @Test
+        @Order(110)
+        @DisplayName(
+                "Should keep rank order, restrict members to their tasks and escape highlights")
+        void shouldSearchVisibleTasksInRankOrder() {
+            User member = User.builder().id(21L).username("member").role(Role.MEMBER).build();
+            TaskFilterForm filter = new TaskFilterForm();
+            filter.setQ("  deploy  ");
+            filter.setStatus(TaskStatus.TODO);
+            PageRequest pageable = PageRequest.of(0, 20);
+            String start = TaskSearchRepository.MARK_START;
+            String end = TaskSearchRepository.MARK_END;
+            List<TaskSearchRepository.Match> matches =
+                    List.of(
+                            new TaskSearchRepository.Match(
+                                    2L, 0.9, start + "Deploy" + end + " <b>", ""),
+                            new TaskSearchRepository.Match(
+                                    1L,
+                                    0.1,
+                                    "Outro",
+                                    "fazer " + start + "deploy" + end + " &amp;"));
+            when(taskSearchRepository.search("deploy", filter, null, 21L, pageable))
+                    .thenReturn(new PageImpl<>(matches, pageable, 2));
+            when(taskRepository.findAllForSearchByIdIn(List.of(2L, 1L)))
+                    .thenReturn(
+                            List.of(
+                                    Task.builder().id(1L).title("Outro").build(),
+                                    Task.builder().id(2L).title("Deploy <b>").build()));
+
+            Page<TaskSearchHit> page = taskService.searchTasksByText(filter, pageable, member);
+
+            assertThat(page.getTotalElements()).isEqualTo(2);
+            assertThat(page.getContent())
+                    .extracting(hit -> hit.task().id())
+                    .containsExactly(2L, 1L);
+            assertThat(page.getContent().get(0).titleHighlight())
+                    .isEqualTo("<mark>Deploy</mark> &lt;b&gt;");
+            assertThat(page.getContent().get(1).snippet())
+                    .isEqualTo("fazer <mark>deploy</mark> &amp;");
+            assertThat(taskService.searchTasks(filter, pageable, member).getContent())
+                    .extracting(TaskRecord::id)
+                    .containsExactly(2L, 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Filtered Listing Tests")
+    class FilteredListingTests {
+
+        @Test
+        @Order(115)
+        @DisplayName("Should load only the index page, in id order, and keep the index total")
+        void shouldListFilteredTasksFromIndex() {
+            User member = User.builder().id(21L).username("member").role(Role.MEMBER).build();
+            TaskFilterForm filter = new TaskFilterForm();
+            filter.setStatus(TaskStatus.TODO);
+            PageRequest pageable = PageRequest.of(1, 2);
+            when(taskFilterIndex.page(filter, TaskFilterIndex.Scope.assignee(21L), 2L, 2))
+                    .thenReturn(Optional.of(new TaskFilterIndex.IdPage(List.of(3L, 7L), 5)));
+            when(taskRepository.findAllForSearchByIdIn(List.of(3L, 7L)))
+                    .thenReturn(
+                            List.of(
+                                    Task.builder().id(7L).title("Sete").build(),
+                                    Task.builder().id(3L).title("Três").build()));
+
+            Page<TaskRecord> page = taskService.searchTasks(filter, pageable, member);
+
+            assertThat(page.getContent()).extracting(TaskRecord::id).containsExactly(3L, 7L);
+            assertThat(page.getTotalElements()).isEqualTo(5);
+            verify(taskRepository, never()).findVisibleTasksForMember(member);
+        }
+    }
+
+    @Nested
+    @DisplayName("Description Storage Tests")
+    class DescriptionStorageTests {
+
+        @Test
+        @Order(120)
+        @DisplayName("Should load the description only for detail and excerpt it as plain text")
+        void shouldLoadDescriptionSeparately() {
+            when(taskRepository.findById(5L))
+                    .thenReturn(Optional.of(Task.builder().id(5L).title("Detalhe").build()));
+            when(taskDescriptionRepository.findContentByTaskId(5L))
+                    .thenReturn(Optional.of("<p>Conteúdo</p>"));
+            when(taskDescriptionRepository.findExcerptsByTaskIdIn(List.of(5L, 6L), 40))
+                    .thenReturn(
+                            List.of(
+                                    new TaskDescriptionExcerpt(
+                                            5L, "<p>Revisar&nbsp;o <b>deploy</b></p><p>de ho")));
+
+            assertThat(taskService.getTaskById(5L).description()).isEqualTo("<p>Conteúdo</p>");
+            assertThat(taskService.getDescriptionExcerpts(List.of(5L, 6L), 10))
+                    .containsExactly(Map.entry(5L, "Revisar..."));
+        }
+
+        @Test
+        @Order(121)
+        @DisplayName("Should load the descriptions of a REST listing in a single query")
+        void shouldBatchLoadDescriptionsForListing() {
+            when(taskRepository.findAll())
+                    .thenReturn(
+                            List.of(
+                                    Task.builder().id(5L).title("Com descrição").build(),
+                                    Task.builder().id(6L).title("Sem descrição").build()));
+            when(taskDescriptionRepository.findByTaskIdIn(List.of(5L, 6L)))
+                    .thenReturn(
+                            List.of(
+                                    new TaskDescription(
+                                            5L, "<p>Conteúdo</p>", LocalDateTime.now())));
+
+            List<TaskRecord> tasks = taskService.getAllTasks();
+
+            assertThat(tasks)
+                    .extracting(TaskRecord::description)
+                    .containsExactly("<p>Conteúdo</p>", null);
+            verify(taskDescriptionRepository, never()).findContentByTaskId(anyLong());
+        }
+
+        @Test
+        @Order(122)
+        @DisplayName("Should keep the stored description when the update omits it")
+        void shouldKeepDescriptionWhenOmitted() {
+            User admin = User.builder().id(42L).username("admin").role(Role.ADMIN).build();
+            when(userService.getCurrentUser()).thenReturn(admin);
+            when(taskRepository.findById(5L))
+                    .thenReturn(Optional.of(Task.builder().id(5L).title("Antigo").build()));
+            when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+            when(taskDescriptionRepository.findContentByTaskId(5L))
+                    .thenReturn(Optional.of("<p>Conteúdo</p>"));
+
+            TaskRecord result =
+                    taskService.updateTask(
+                            5L, new TaskCreateRecord("Novo", null, null, null, null, null, null));
+
+            assertThat(result.description()).isEqualTo("<p>Conteúdo</p>");
+            verify(taskDescriptionRepository, never()).deleteByTaskId(anyLong());
+            verify(taskDescriptionRepository, never()).save(any(TaskDescription.class));
+        }
+
+        @Test
+        @Order(123)
+        @DisplayName("Should remove the stored description when the update sends it blank")
+        void shouldRemoveDescriptionWhenBlank() {
+            User admin = User.builder().id(42L).username("admin").role(Role.ADMIN).build();
+            when(userService.getCurrentUser()).thenReturn(admin);
+            when(taskRepository.findById(5L))
+                    .thenReturn(Optional.of(Task.builder().id(5L).title("Antigo").build()));
+            when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+            when(taskDescriptionRepository.findContentByTaskId(5L))
+                    .thenReturn(Optional.of("<p>Conteúdo</p>"));
+
+            TaskRecord result =
+                    taskService.updateTask(
+                            5L, new TaskCreateRecord("Novo", " ", null, null, null, null, null));
+
+            assertThat(result.description()).isNull();
+            verify(taskDescriptionRepository).deleteByTaskId(5L);
+        }
+    }
 }
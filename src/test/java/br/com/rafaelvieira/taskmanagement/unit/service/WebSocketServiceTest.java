@@ -0,0 +1,103 @@
+package br.com.rafaelvieira.taskmanagement.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.rafaelvieira.taskmanagement.domain.enums.TaskStatus;
+import br.com.rafaelvieira.taskmanagement.domain.model.Task;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskStateDiff;
+import br.com.rafaelvieira.taskmanagement.domain.records.TaskTimerState;
+import br.com.rafaelvieira.taskmanagement.metrics.AppMetrics;
+import br.com.rafaelvieira.taskmanagement.service.WebSocketService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.JacksonJsonMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Testes unitários do envio STOMP do {@link WebSocketService}
+ *
+ * @author Rafael Vieira
+ * @since 01/12/2025
+ */
+@DisplayName("WebSocket Service Unit Tests")
+@Tag("unit")
+class WebSocketServiceTest {
+
+    private final List<Message<?>> sent = new ArrayList<>();
+
+    private WebSocketService service;
+
+    @BeforeEach
+    void setUp() {
+        SimpMessagingTemplate template =
+                new SimpMessagingTemplate(
+                        (message, timeout) -> {
+                            sent.add(message);
+                            return true;
+                        });
+        template.setMessageConverter(new JacksonJsonMessageConverter());
+        service = new WebSocketService(template, new AppMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("Should serialize the task state once and reuse it for every destination")
+    void shouldEncodeTaskStateOnceForAllDestinations() {
+        Task task = Task.builder().id(5L).title("Deploy").status(TaskStatus.IN_PROGRESS).build();
+
+        service.sendTaskState(
+                3L, List.of("ana", "team/bia"), TaskStateDiff.of(task, TaskStatus.TODO));
+
+        assertThat(sent)
+                .extracting(
+                        message -> SimpMessageHeaderAccessor.getDestination(message.getHeaders()))
+                .containsExactly(
+                        "/topic/squad/3/task-state",
+                        "/user/ana/queue/task-state",
+                        "/user/team%2Fbia/queue/task-state");
+        Object payload = sent.getFirst().getPayload();
+        assertThat(sent).allSatisfy(message -> assertThat(message.getPayload()).isSameAs(payload));
+        assertThat(sent.getFirst().getHeaders().get("contentType"))
+                .hasToString(MimeTypeUtils.APPLICATION_JSON_VALUE);
+        String json = new String((byte[]) payload, StandardCharsets.UTF_8);
+        assertThat(json).startsWith("{\"type\":\"TASK_STATE\",\"taskId\":5").doesNotContain("\n");
+    }
+
+    @Test
+    @DisplayName("Should send the timer state with epoch millis to each user queue")
+    void shouldSendTimerStateWithEpochMillis() {
+        LocalDateTime startedAt = LocalDateTime.of(2025, 12, 1, 9, 30);
+        Task task =
+                Task.builder()
+                        .id(7L)
+                        .status(TaskStatus.IN_PROGRESS)
+                        .mainStartedAt(startedAt)
+                        .mainElapsedSeconds(90L)
+                        .build();
+
+        service.sendTimerState(
+                List.of("ana"), TaskTimerState.of(TaskStateDiff.of(task, TaskStatus.IN_PAUSE)));
+
+        assertThat(SimpMessageHeaderAccessor.getDestination(sent.getFirst().getHeaders()))
+                .isEqualTo("/user/ana/queue/timer-state");
+        long startedAtMillis = startedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String json = new String((byte[]) sent.getFirst().getPayload(), StandardCharsets.UTF_8);
+        assertThat(json)
+                .startsWith(
+                        "{\"type\":\"TIMER_STATE\",\"taskId\":7,\"status\":\"IN_PROGRESS\","
+                                + "\"mainStartedAt\":"
+                                + startedAtMillis
+                                + ",\"mainElapsedSeconds\":90,\"serverTime\":")
+                .doesNotContain("pomodoroUntil");
+    }
+}